@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/lang.runtime as runtime;
 import ballerina/log;
 import ballerina/test;
 import ballerina/http;
@@ -233,3 +234,50 @@ function testHttp2RetryWithServerPush() returns error? {
         test:assertFail(msg = "Found unexpected output type: " + response.message());
     }
 }
+
+isolated int http2HedgingRequestCount = 0;
+
+listener http:Listener http2HedgingTestserviceEndpoint = new(http2HedgingTestPort, { httpVersion: "2.0" });
+
+final http:Client http2HedgingTestClient = check new("http://localhost:" + http2HedgingTestPort.toString(), {
+    retryConfig: {
+        hedge: {
+            delay: 0.5,
+            maxRatio: 1.0
+        }
+    },
+    timeout: 10,
+    httpVersion: "2.0"
+});
+
+service /http2HedgingService on http2HedgingTestserviceEndpoint {
+    // The first request is answered late, so that the hedged request is sent while it is still in flight
+    resource function get .(http:Request request) returns string {
+        int requestCount;
+        lock {
+            http2HedgingRequestCount += 1;
+            requestCount = http2HedgingRequestCount;
+        }
+        if requestCount == 1 {
+            runtime:sleep(5);
+            return "slow";
+        }
+        string|error header = request.getHeader("x-hedge");
+        return header is string ? "fast " + header : "fast";
+    }
+}
+
+//Test hedging when the first request is not answered within the hedge delay
+@test:Config {
+    groups: ["http2RetryClientTest"]
+}
+function testHttp2HedgedRequest() returns error? {
+    http:Response response = check http2HedgingTestClient->get("/http2HedgingService", {"x-hedge": "copied"});
+    test:assertEquals(response.statusCode, 200, msg = "Found unexpected output");
+    assertTextPayload(response.getTextPayload(), "fast copied");
+    int requestCount;
+    lock {
+        requestCount = http2HedgingRequestCount;
+    }
+    test:assertEquals(requestCount, 2, msg = "Found unexpected request count");
+}
@@ -591,6 +591,52 @@ function testRetryBasedOnHttpStatusCodesContinuousFailure() returns error? {
     }
 }
 
+isolated int hedgingRequestCount = 0;
+
+listener http:Listener hedgingTestserviceEndpoint = new(hedgingTestPort);
+
+final http:Client hedgingTestClient = check new("http://localhost:" + hedgingTestPort.toString(), {
+    retryConfig: {
+        hedge: {
+            delay: 0.5,
+            maxRatio: 1.0
+        }
+    },
+    timeout: 10
+});
+
+service /hedgingService on hedgingTestserviceEndpoint {
+    // The first request is answered late, so that the hedged request is sent while it is still in flight
+    resource function get .(http:Request request) returns string {
+        int requestCount;
+        lock {
+            hedgingRequestCount += 1;
+            requestCount = hedgingRequestCount;
+        }
+        if requestCount == 1 {
+            runtime:sleep(5);
+            return "slow";
+        }
+        string|error header = request.getHeader("x-hedge");
+        return header is string ? "fast " + header : "fast";
+    }
+}
+
+//Test hedging when the first request is not answered within the hedge delay
+@test:Config {
+    groups: ["retryClientTest"]
+}
+function testHedgedRequest() returns error? {
+    http:Response response = check hedgingTestClient->get("/hedgingService", {"x-hedge": "copied"});
+    test:assertEquals(response.statusCode, 200, msg = "Found unexpected output");
+    assertTextPayload(response.getTextPayload(), "fast copied");
+    int requestCount;
+    lock {
+        requestCount = hedgingRequestCount;
+    }
+    test:assertEquals(requestCount, 2, msg = "Found unexpected request count");
+}
+
 function externTestMultiPart(int servicePort, string path) returns boolean = @java:Method {
     'class: "io.ballerina.stdlib.http.testutils.ExternRetryMultipartTestutil"
 } external;
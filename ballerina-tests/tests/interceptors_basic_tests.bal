@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/http;
+import ballerina/lang.runtime as runtime;
 import ballerina/test;
 
 final http:Client interceptorsBasicTestsClientEP1 = check new("http://localhost:" + interceptorBasicTestsPort1.toString());
@@ -443,3 +444,51 @@ function testGetRequestInterceptorBasePath() returns error? {
     assertHeaderValue(check res.getHeader("default-request-interceptor"), "true");
     assertHeaderValue(check res.getHeader("last-request-interceptor"), "true");
 }
+
+isolated int admissionInterceptorCount = 0;
+
+service class AdmissionCountingRequestInterceptor {
+    *http:RequestInterceptor;
+
+    resource function 'default [string... path](http:RequestContext ctx) returns http:NextService|error? {
+       lock {
+           admissionInterceptorCount += 1;
+       }
+       return ctx.next();
+    }
+}
+
+final http:Client interceptorAdmissionClientEP = check new("http://localhost:" + interceptorAdmissionTestPort.toString());
+
+listener http:Listener interceptorAdmissionServerEP = new(interceptorAdmissionTestPort);
+
+@http:ServiceConfig {
+    interceptors : [new AdmissionCountingRequestInterceptor()]
+}
+service /admission on interceptorAdmissionServerEP {
+
+    @http:ResourceConfig {
+        admission: {maxInFlightRequests: 1}
+    }
+    resource function get slow() returns string {
+        runtime:sleep(2);
+        return "Response from resource - slow";
+    }
+}
+
+@test:Config{}
+function testResourceAdmissionRejectsBeforeInterceptors() returns error? {
+    future<http:Response|error> admitted = start interceptorAdmissionClientEP->get("/admission/slow");
+    runtime:sleep(0.5);
+
+    http:Response res = check interceptorAdmissionClientEP->get("/admission/slow");
+    test:assertEquals(res.statusCode, 503);
+    assertHeaderValue(check res.getHeader("Retry-After"), "1");
+    lock {
+        test:assertEquals(admissionInterceptorCount, 1, msg = "The rejected request should not reach the interceptor");
+    }
+
+    res = check wait admitted;
+    test:assertEquals(res.statusCode, 200);
+    assertTextPayload(check res.getTextPayload(), "Response from resource - slow");
+}
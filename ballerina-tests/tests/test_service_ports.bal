@@ -176,6 +176,8 @@ const int responseInterceptorNegativeTestPort1 = 9621;
 const int responseInterceptorCallerRespondErrorTestPort = 9622;
 const int requestInterceptorCallerRespondErrorTestPort = 9623;
 const int clientSchemeTestHttpsListenerTestPort = 9624;
+const int interceptorAdmissionTestPort = 9625;
+const int hedgingTestPort = 9626;
 
 //HTTP2
 const int serverPushTestPort1 = 9701;
@@ -185,6 +187,7 @@ const int http2RedirectTestPort2 = 9704;
 const int http2RedirectTestPort3 = 9705;
 const int http2RetryFunctionTestPort1 = 9706;
 const int http2RetryFunctionTestPort2 = 9707;
+const int http2HedgingTestPort = 9708;
 
 
 //HTTP3
@@ -0,0 +1,74 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+
+# Represents the configurations of the cache of credentials already validated by the listener auth handlers.
+#
+# + enabled - Whether the validated credentials are cached
+# + capacity - Maximum number of credentials cached per auth handler
+# + ttl - Time (in seconds) a successfully validated credential is cached. A JWT or an introspected token is never
+#         cached beyond its expiry
+# + negativeTtl - Time (in seconds) a credential which failed the validation is cached
+public type CredentialCacheConfig record {|
+    boolean enabled = true;
+    int capacity = 10000;
+    decimal ttl = 300;
+    decimal negativeTtl = 5;
+|};
+
+configurable CredentialCacheConfig credentialCacheConfig = {};
+
+// The cached validation result of a credential, which is the read-only principal if the validation succeeded or the
+// error message if it failed.
+type CachedCredential (map<anydata> & readonly)|string;
+
+isolated function initCredentialCache(object {} handler, string kind) {
+    externInitCredentialCache(handler, kind, credentialCacheConfig);
+}
+
+isolated function externInitCredentialCache(object {} handler, string kind, CredentialCacheConfig config) =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCredentialCache",
+    name: "init"
+} external;
+
+isolated function lookupCredential(object {} handler, string credential) returns CachedCredential? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCredentialCache",
+    name: "lookup"
+} external;
+
+// Same as `lookupCredential`, but waits for the result if the same credential is being validated concurrently. If `()`
+// is returned, the caller must validate the credential and cache the result with `cacheCredential`.
+isolated function lookupOrWaitCredential(object {} handler, string credential) returns CachedCredential? =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCredentialCache",
+    name: "lookupOrWait"
+} external;
+
+isolated function cacheCredential(object {} handler, string credential, CachedCredential result, int? expTime = ()) =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCredentialCache",
+    name: "put"
+} external;
+
+// Gives up the validation which `lookupOrWaitCredential` handed to the caller, so that the strands waiting for it
+// are released at once and validate the credential themselves.
+isolated function abandonCredential(object {} handler, string credential) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternCredentialCache",
+    name: "abandon"
+} external;
@@ -34,13 +34,13 @@ import ballerina/oauth2;
 # + methodName - The name of the subjected resource
 # + resourcePath - The relative path
 public isolated function authenticateResource(Service serviceRef, string methodName, string[] resourcePath) {
-    ListenerAuthConfig[]? authConfig = getListenerAuthConfig(serviceRef, methodName, resourcePath);
-    if authConfig is () {
+    ResourceAuthHandler[]? authHandlers = getAuthHandlerChain(serviceRef, methodName, resourcePath).handlers;
+    if authHandlers is () {
         return;
     }
     string|HeaderNotFoundError header = getAuthorizationHeader();
     if header is string {
-        Unauthorized|Forbidden? result = tryAuthenticate(<ListenerAuthConfig[]>authConfig, header);
+        Unauthorized|Forbidden? result = tryAuthenticate(authHandlers, header);
         if result is Unauthorized {
             panic error ListenerAuthnError("");
         } else if result is Forbidden {
@@ -51,25 +51,133 @@ public isolated function authenticateResource(Service serviceRef, string methodN
     }
 }
 
+// An auth handler of a resource along with the scopes it should authorize against.
+type ResourceAuthHandler record {|
+    ListenerAuthHandler handler;
+    string|string[]? scopes;
+|};
+
+// The auth handlers of a resource, which is resolved once per resource. The `handlers` are `()` if the resource is
+// not secured.
+type AuthHandlerChain record {|
+    ResourceAuthHandler[]? handlers;
+|};
+
+// Handler instances are shared among resources having the same auth configurations. This is only accessed while
+// resolving the auth handler chains, and not per request.
 isolated map<ListenerAuthHandler> authHandlers = {};
 
-isolated function tryAuthenticate(ListenerAuthConfig[] authConfig, string header) returns Unauthorized|Forbidden? {
+// Resolves the auth handler chains of all the resources of the service. This is called when the service gets attached
+// to the listener, so that the resources get registered with their chains.
+isolated function prepareAuthHandlerChains(Service serviceRef) {
+    foreach string resourceName in getResourceNames(serviceRef) {
+        AuthHandlerChain authHandlerChain = createAuthHandlerChain(getListenerAuthConfig(serviceRef, resourceName));
+        addAuthHandlerChain(serviceRef, resourceName, authHandlerChain);
+    }
+}
+
+isolated function getAuthHandlerChain(Service serviceRef, string methodName, string[] resourcePath)
+                                      returns AuthHandlerChain {
+    AuthHandlerChain? authHandlerChain = externGetAuthHandlerChain(serviceRef);
+    if authHandlerChain is () {
+        // Every resource gets its chain when the service is attached, hence the request is rejected rather than
+        // served unauthenticated if it is missing.
+        string resourceName = getResourceName(methodName, resourcePath);
+        log:printError("Auth handler chain not found for the resource: " + resourceName);
+        panic error ListenerAuthnError("");
+    }
+    return authHandlerChain;
+}
+
+isolated function createAuthHandlerChain(ListenerAuthConfig[]? authConfig) returns AuthHandlerChain {
+    if authConfig is () {
+        return {handlers: ()};
+    }
+    ResourceAuthHandler[] handlers = [];
+    foreach ListenerAuthConfig config in authConfig {
+        ListenerAuthHandler handler;
+        if config is FileUserStoreConfigWithScopes {
+            handler = getOrCreateFileUserStoreHandler(config.fileUserStoreConfig);
+        } else if config is LdapUserStoreConfigWithScopes {
+            handler = getOrCreateLdapUserStoreHandler(config.ldapUserStoreConfig);
+        } else if config is JwtValidatorConfigWithScopes {
+            handler = getOrCreateJwtHandler(config.jwtValidatorConfig);
+        } else {
+            handler = getOrCreateOAuth2Handler(config.oauth2IntrospectionConfig);
+        }
+        handlers.push({handler: handler, scopes: config?.scopes});
+    }
+    return {handlers: handlers};
+}
+
+isolated function getOrCreateFileUserStoreHandler(FileUserStoreConfig config) returns ListenerAuthHandler {
+    lock {
+        string key = config.toString();
+        if authHandlers.hasKey(key) {
+            return authHandlers.get(key);
+        }
+        ListenerFileUserStoreBasicAuthHandler handler = new(config.cloneReadOnly());
+        authHandlers[key] = handler;
+        return handler;
+    }
+}
+
+isolated function getOrCreateLdapUserStoreHandler(LdapUserStoreConfig config) returns ListenerAuthHandler {
+    lock {
+        string key = config.toString();
+        if authHandlers.hasKey(key) {
+            return authHandlers.get(key);
+        }
+        ListenerLdapUserStoreBasicAuthHandler handler = new(config.cloneReadOnly());
+        authHandlers[key] = handler;
+        return handler;
+    }
+}
+
+isolated function getOrCreateJwtHandler(JwtValidatorConfig config) returns ListenerAuthHandler {
+    lock {
+        string key = config.toString();
+        if authHandlers.hasKey(key) {
+            return authHandlers.get(key);
+        }
+        ListenerJwtAuthHandler handler = new(config.cloneReadOnly());
+        authHandlers[key] = handler;
+        return handler;
+    }
+}
+
+isolated function getOrCreateOAuth2Handler(OAuth2IntrospectionConfig config) returns ListenerAuthHandler {
+    lock {
+        string key = config.toString();
+        if authHandlers.hasKey(key) {
+            return authHandlers.get(key);
+        }
+        ListenerOAuth2Handler handler = new(config.cloneReadOnly());
+        authHandlers[key] = handler;
+        return handler;
+    }
+}
+
+isolated function tryAuthenticate(ResourceAuthHandler[] authHandlerChain, string header)
+                                  returns Unauthorized|Forbidden? {
     string scheme = extractScheme(header);
     Unauthorized|Forbidden? authResult = <Unauthorized>{};
-    foreach ListenerAuthConfig config in authConfig {
+    foreach ResourceAuthHandler authHandler in authHandlerChain {
+        ListenerAuthHandler handler = authHandler.handler;
+        string|string[]? scopes = authHandler.scopes;
         if scheme is AUTH_SCHEME_BASIC {
-            if config is FileUserStoreConfigWithScopes {
-                authResult = authenticateWithFileUserStore(config, header);
-            } else if config is LdapUserStoreConfigWithScopes {
-                authResult = authenticateWithLdapUserStoreConfig(config, header);
+            if handler is ListenerFileUserStoreBasicAuthHandler {
+                authResult = authenticateWithFileUserStore(handler, scopes, header);
+            } else if handler is ListenerLdapUserStoreBasicAuthHandler {
+                authResult = authenticateWithLdapUserStoreConfig(handler, scopes, header);
             } else {
                 log:printDebug("Invalid auth configurations for 'Basic' scheme.");
             }
         } else if scheme is AUTH_SCHEME_BEARER {
-            if config is JwtValidatorConfigWithScopes {
-                authResult = authenticateWithJwtValidatorConfig(config, header);
-            } else if config is OAuth2IntrospectionConfigWithScopes {
-                authResult = authenticateWithOAuth2IntrospectionConfig(config, header);
+            if handler is ListenerJwtAuthHandler {
+                authResult = authenticateWithJwtValidatorConfig(handler, scopes, header);
+            } else if handler is ListenerOAuth2Handler {
+                authResult = authenticateWithOAuth2IntrospectionConfig(handler, scopes, header);
             } else {
                 log:printDebug("Invalid auth configurations for 'Bearer' scheme.");
             }
@@ -81,20 +189,9 @@ isolated function tryAuthenticate(ListenerAuthConfig[] authConfig, string header
     return authResult;
 }
 
-isolated function authenticateWithFileUserStore(FileUserStoreConfigWithScopes config, string header)
-                                                returns Unauthorized|Forbidden? {
-    ListenerFileUserStoreBasicAuthHandler handler;
-    lock {
-        string key = config.fileUserStoreConfig.toString();
-        if authHandlers.hasKey(key) {
-            handler = <ListenerFileUserStoreBasicAuthHandler> authHandlers.get(key);
-        } else {
-            handler = new(config.fileUserStoreConfig.cloneReadOnly());
-            authHandlers[key] = handler;
-        }
-    }
+isolated function authenticateWithFileUserStore(ListenerFileUserStoreBasicAuthHandler handler, string|string[]? scopes,
+                                                string header) returns Unauthorized|Forbidden? {
     auth:UserDetails|Unauthorized authn = handler.authenticate(header);
-    string|string[]? scopes = config?.scopes;
     if authn is auth:UserDetails {
         if scopes is string|string[] {
             Forbidden? authz = handler.authorize(authn, scopes);
@@ -105,20 +202,10 @@ isolated function authenticateWithFileUserStore(FileUserStoreConfigWithScopes co
     return authn;
 }
 
-isolated function authenticateWithLdapUserStoreConfig(LdapUserStoreConfigWithScopes config, string header)
+isolated function authenticateWithLdapUserStoreConfig(ListenerLdapUserStoreBasicAuthHandler handler,
+                                                      string|string[]? scopes, string header)
                                                       returns Unauthorized|Forbidden? {
-    ListenerLdapUserStoreBasicAuthHandler handler;
-    lock {
-        string key = config.ldapUserStoreConfig.toString();
-        if authHandlers.hasKey(key) {
-            handler = <ListenerLdapUserStoreBasicAuthHandler> authHandlers.get(key);
-        } else {
-            handler = new(config.ldapUserStoreConfig.cloneReadOnly());
-            authHandlers[key] = handler;
-        }
-    }
     auth:UserDetails|Unauthorized authn = handler->authenticate(header);
-    string|string[]? scopes = config?.scopes;
     if authn is auth:UserDetails {
         if scopes is string|string[] {
             Forbidden? authz = handler->authorize(authn, scopes);
@@ -129,20 +216,9 @@ isolated function authenticateWithLdapUserStoreConfig(LdapUserStoreConfigWithSco
     return authn;
 }
 
-isolated function authenticateWithJwtValidatorConfig(JwtValidatorConfigWithScopes config, string header)
-                                                     returns Unauthorized|Forbidden? {
-    ListenerJwtAuthHandler handler;
-    lock {
-        string key = config.jwtValidatorConfig.toString();
-        if authHandlers.hasKey(key) {
-            handler = <ListenerJwtAuthHandler> authHandlers.get(key);
-        } else {
-            handler = new(config.jwtValidatorConfig.cloneReadOnly());
-            authHandlers[key] = handler;
-        }
-    }
+isolated function authenticateWithJwtValidatorConfig(ListenerJwtAuthHandler handler, string|string[]? scopes,
+                                                     string header) returns Unauthorized|Forbidden? {
     jwt:Payload|Unauthorized authn = handler.authenticate(header);
-    string|string[]? scopes = config?.scopes;
     if authn is jwt:Payload {
         if scopes is string|string[] {
             Forbidden? authz = handler.authorize(authn, scopes);
@@ -156,19 +232,9 @@ isolated function authenticateWithJwtValidatorConfig(JwtValidatorConfigWithScope
     }
 }
 
-isolated function authenticateWithOAuth2IntrospectionConfig(OAuth2IntrospectionConfigWithScopes config, string header)
-                                                            returns Unauthorized|Forbidden? {
-    ListenerOAuth2Handler handler;
-    lock {
-        string key = config.oauth2IntrospectionConfig.toString();
-        if authHandlers.hasKey(key) {
-            handler = <ListenerOAuth2Handler> authHandlers.get(key);
-        } else {
-            handler = new(config.oauth2IntrospectionConfig.cloneReadOnly());
-            authHandlers[key] = handler;
-        }
-    }
-    oauth2:IntrospectionResponse|Unauthorized|Forbidden auth = handler->authorize(header, config?.scopes);
+isolated function authenticateWithOAuth2IntrospectionConfig(ListenerOAuth2Handler handler, string|string[]? scopes,
+                                                            string header) returns Unauthorized|Forbidden? {
+    oauth2:IntrospectionResponse|Unauthorized|Forbidden auth = handler->authorize(header, scopes);
     if auth is oauth2:IntrospectionResponse {
         return;
     } else if auth is Unauthorized || auth is Forbidden {
@@ -178,9 +244,8 @@ isolated function authenticateWithOAuth2IntrospectionConfig(OAuth2IntrospectionC
     }
 }
 
-isolated function getListenerAuthConfig(Service serviceRef, string methodName, string[] resourcePath)
-                                        returns ListenerAuthConfig[]? {
-    ListenerAuthConfig[]|Scopes? resourceAuthConfig = getResourceAuthConfig(serviceRef, methodName, resourcePath);
+isolated function getListenerAuthConfig(Service serviceRef, string resourceName) returns ListenerAuthConfig[]? {
+    ListenerAuthConfig[]|Scopes? resourceAuthConfig = getResourceAuthConfig(serviceRef, resourceName);
     if resourceAuthConfig is ListenerAuthConfig[] {
         return resourceAuthConfig;
     } else if resourceAuthConfig is Scopes {
@@ -212,12 +277,7 @@ isolated function getServiceAuthConfig(Service serviceRef) returns ListenerAuthC
     return serviceConfig?.auth;
 }
 
-isolated function getResourceAuthConfig(Service serviceRef, string methodName, string[] resourcePath)
-                                        returns ListenerAuthConfig[]|Scopes? {
-    string resourceName = "$" + methodName;
-    foreach string path in resourcePath {
-        resourceName += "$" + path;
-    }
+isolated function getResourceAuthConfig(Service serviceRef, string resourceName) returns ListenerAuthConfig[]|Scopes? {
     any resourceAnnotation = getResourceAnnotation(serviceRef, resourceName);
     if resourceAnnotation is () {
         return;
@@ -226,6 +286,14 @@ isolated function getResourceAuthConfig(Service serviceRef, string methodName, s
     return resourceConfig?.auth;
 }
 
+isolated function getResourceName(string methodName, string[] resourcePath) returns string {
+    string resourceName = "$" + methodName;
+    foreach string path in resourcePath {
+        resourceName += "$" + path;
+    }
+    return resourceName;
+}
+
 isolated function getAuthorizationHeader() returns string|HeaderNotFoundError = @java:Method {
     'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternHeaders"
 } external;
@@ -237,3 +305,17 @@ isolated function getCaller() returns Caller = @java:Method {
 isolated function getResourceAnnotation(service object {} serviceType, string resourceName) returns any = @java:Method {
     'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternResource"
 } external;
+
+isolated function getResourceNames(service object {} serviceType) returns string[] = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternResource"
+} external;
+
+isolated function addAuthHandlerChain(service object {} serviceType, string resourceName,
+                                      AuthHandlerChain authHandlerChain) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternResource"
+} external;
+
+isolated function externGetAuthHandlerChain(service object {} serviceType) returns AuthHandlerChain? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternResource",
+    name: "getAuthHandlerChain"
+} external;
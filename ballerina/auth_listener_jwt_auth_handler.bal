@@ -30,6 +30,7 @@ public isolated class ListenerJwtAuthHandler {
     public isolated function init(JwtValidatorConfig config) {
         self.scopeKey = config.scopeKey.cloneReadOnly();
         self.provider = new(config);
+        initCredentialCache(self, "jwt");
     }
 
     # Authenticates with the relevant authentication requirements.
@@ -39,12 +40,25 @@ public isolated class ListenerJwtAuthHandler {
     public isolated function authenticate(Request|Headers|string data) returns jwt:Payload|Unauthorized {
         string|ListenerAuthError credential = extractCredential(data);
         if credential is string {
+            CachedCredential? cached = lookupCredential(self, credential);
+            if cached is jwt:Payload {
+                return cached;
+            } else if cached is string {
+                Unauthorized unauthorized = {
+                    body: cached
+                };
+                return unauthorized;
+            }
             jwt:Payload|jwt:Error details = self.provider.authenticate(credential);
             if details is jwt:Payload {
-                return details;
+                jwt:Payload & readonly payload = details.cloneReadOnly();
+                cacheCredential(self, credential, payload, payload?.exp);
+                return payload;
             } else {
+                string message = buildCompleteErrorMessage(details);
+                cacheCredential(self, credential, message);
                 Unauthorized unauthorized = {
-                    body: buildCompleteErrorMessage(details)
+                    body: message
                 };
                 return unauthorized;
             }
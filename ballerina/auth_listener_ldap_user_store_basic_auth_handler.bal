@@ -26,6 +26,7 @@ public isolated client class ListenerLdapUserStoreBasicAuthHandler {
     # + config - The `http:LdapUserStoreConfig` instance
     public isolated function init(LdapUserStoreConfig config) {
         self.provider = new(config);
+        initCredentialCache(self, "ldapUserStore");
     }
 
     # Authenticates with the relevant authentication requirements.
@@ -35,12 +36,25 @@ public isolated client class ListenerLdapUserStoreBasicAuthHandler {
     remote isolated function authenticate(Request|Headers|string data) returns auth:UserDetails|Unauthorized {
         string|ListenerAuthError credential = extractCredential(data);
         if credential is string {
+            CachedCredential? cached = lookupCredential(self, credential);
+            if cached is auth:UserDetails {
+                return cached;
+            } else if cached is string {
+                Unauthorized unauthorized = {
+                    body: cached
+                };
+                return unauthorized;
+            }
             auth:UserDetails|auth:Error details = self.provider.authenticate(credential);
             if details is auth:UserDetails {
-                return details;
+                auth:UserDetails & readonly userDetails = details.cloneReadOnly();
+                cacheCredential(self, credential, userDetails);
+                return userDetails;
             } else {
+                string message = buildCompleteErrorMessage(details);
+                cacheCredential(self, credential, message);
                 Unauthorized unauthorized = {
-                    body: buildCompleteErrorMessage(details)
+                    body: message
                 };
                 return unauthorized;
             }
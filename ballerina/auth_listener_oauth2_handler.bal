@@ -28,6 +28,7 @@ public isolated client class ListenerOAuth2Handler {
     public isolated function init(OAuth2IntrospectionConfig config) {
         self.scopeKey = config.scopeKey.cloneReadOnly();
         self.provider = new(config);
+        initCredentialCache(self, "oauth2");
     }
 
     # Authorizes with the relevant authentication & authorization requirements.
@@ -41,15 +42,8 @@ public isolated client class ListenerOAuth2Handler {
                                        returns oauth2:IntrospectionResponse|Unauthorized|Forbidden {
         string|ListenerAuthError credential = extractCredential(data);
         if credential is string {
-            oauth2:IntrospectionResponse|oauth2:Error details = self.provider.authorize(credential, optionalParams);
+            oauth2:IntrospectionResponse|string details = self.introspect(credential, optionalParams);
             if details is oauth2:IntrospectionResponse {
-                if !details.active {
-                    Unauthorized unauthorized = {
-                        body: "The provided access-token is not active."
-                    };
-                    return unauthorized;
-                }
-
                 if expectedScopes is () {
                     return details;
                 }
@@ -66,7 +60,7 @@ public isolated client class ListenerOAuth2Handler {
                 return forbidden;
             } else {
                 Unauthorized unauthorized = {
-                    body: buildCompleteErrorMessage(details)
+                    body: details
                 };
                 return unauthorized;
             }
@@ -78,4 +72,37 @@ public isolated client class ListenerOAuth2Handler {
             return unauthorized;
         }
     }
+
+    // Introspects the token, reusing the cached result of an earlier introspection of the same token. Concurrent
+    // introspections of the same token are coalesced into a single call to the introspection server. The optional
+    // parameters may change the result, hence the cache is bypassed when they are present.
+    private isolated function introspect(string credential, map<string>? optionalParams)
+                                         returns oauth2:IntrospectionResponse|string {
+        if optionalParams is () {
+            CachedCredential? cached = lookupOrWaitCredential(self, credential);
+            if cached is oauth2:IntrospectionResponse|string {
+                return cached;
+            }
+            // The strands waiting for this introspection must not be left behind if it panics
+            (oauth2:IntrospectionResponse & readonly)|string|error result = trap self.validate(credential, ());
+            if result is error {
+                abandonCredential(self, credential);
+                panic result;
+            }
+            cacheCredential(self, credential, result, result is string ? () : result?.exp);
+            return result;
+        }
+        return self.validate(credential, optionalParams);
+    }
+
+    private isolated function validate(string credential, map<string>? optionalParams)
+                                       returns (oauth2:IntrospectionResponse & readonly)|string {
+        oauth2:IntrospectionResponse|oauth2:Error details = self.provider.authorize(credential, optionalParams);
+        if details is oauth2:Error {
+            return buildCompleteErrorMessage(details);
+        } else if !details.active {
+            return "The provided access-token is not active.";
+        }
+        return details.cloneReadOnly();
+    }
 }
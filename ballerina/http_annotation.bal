@@ -62,12 +62,14 @@ public annotation HttpServiceConfig ServiceConfig on service;
 # + cors - The cross origin resource sharing configurations for the resource. If not set, the resource will inherit the CORS behaviour of the enclosing service.
 # + transactionInfectable - Allow to participate in the distributed transactions if value is true
 # + auth - Resource auth configurations
+# + admission - Limits the number of requests processed concurrently by the resource
 public type HttpResourceConfig record {|
     string[] consumes = [];
     string[] produces = [];
     CorsConfig cors = {};
     boolean transactionInfectable = true;
     ListenerAuthConfig[]|Scopes auth?;
+    AdmissionConfig admission?;
 |};
 
 # The annotation which is used to configure an HTTP resource.
@@ -0,0 +1,65 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/mime;
+
+# Iterates over the body parts of a multipart request while they are received. Each part has to be consumed before
+# moving to the next one, as the remaining content of a part is discarded when the next part is requested.
+isolated class BodyPartStream {
+
+    isolated function init(Request request) returns ClientError? {
+        return externInitBodyPartStream(self, request);
+    }
+
+    # Reads the headers of the next body part. The content of the part is read from the network through the
+    # byte stream of the returned entity.
+    #
+    # + return - The next body part, `()` if there are no more parts or else an `http:ClientError` if the
+    #            multipart body is malformed
+    public isolated function next() returns record {| mime:Entity value; |}|ClientError? {
+        mime:Entity|ClientError? bodyPart = externGetNextBodyPart(self);
+        if bodyPart is mime:Entity {
+            return {value: bodyPart};
+        }
+        return bodyPart;
+    }
+
+    # Discards the remaining body parts.
+    #
+    # + return - An `http:ClientError` if the stream could not be closed
+    public isolated function close() returns ClientError? {
+        return externCloseBodyPartStream(self);
+    }
+}
+
+isolated function externInitBodyPartStream(BodyPartStream partStream, Request request) returns ClientError? =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternBodyPartStream",
+    name: "init"
+} external;
+
+isolated function externGetNextBodyPart(BodyPartStream partStream) returns mime:Entity|ClientError? =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternBodyPartStream",
+    name: "next"
+} external;
+
+isolated function externCloseBodyPartStream(BodyPartStream partStream) returns ClientError? =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternBodyPartStream",
+    name: "close"
+} external;
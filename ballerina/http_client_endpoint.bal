@@ -403,12 +403,58 @@ public type ClientHttp2Settings record {|
 # + backOffFactor - Multiplier, which increases the retry interval exponentially.
 # + maxWaitInterval - Maximum time of the retry interval in seconds
 # + statusCodes - HTTP response status codes which are considered as failures
+# + jitter - Randomization applied to the retry intervals, so that the clients which saw the same failure do not retry
+#            in lockstep
+# + budget - Configurations for bounding the retries. Retries are not bounded if not set
+# + honorRetryAfter - Whether the `Retry-After` header of a `429` or `503` response is used as the retry interval. The
+#                     response is returned without retrying if the header asks to wait beyond `maxWaitInterval`
+# + hedge - Configurations for hedging the `GET`, `HEAD` and `OPTIONS` requests. Requests are not hedged if not set
 public type RetryConfig record {|
     int count = 0;
     decimal interval = 0;
     float backOffFactor = 0.0;
     decimal maxWaitInterval = 0;
     int[] statusCodes = [];
+    RetryJitter jitter = RETRY_JITTER_NONE;
+    RetryBudgetConfig? budget = ();
+    boolean honorRetryAfter = true;
+    HedgeConfig? hedge = ();
+|};
+
+# Defines the possible randomizations of the retry intervals.
+public type RetryJitter RETRY_JITTER_NONE|RETRY_JITTER_FULL|RETRY_JITTER_DECORRELATED;
+
+# Waits the exponentially increasing interval as it is
+public const RETRY_JITTER_NONE = "NONE";
+# Waits a random time between zero and the exponentially increasing interval
+public const RETRY_JITTER_FULL = "FULL";
+# Waits a random time between `interval` and thrice the previous wait, bounded by `maxWaitInterval`
+public const RETRY_JITTER_DECORRELATED = "DECORRELATED";
+
+# Provides configurations for bounding the retries of a client to a fraction of its requests, so that the retries do
+# not multiply the load of an upstream which is already failing.
+#
+# + maxRatio - Maximum number of retries as a fraction of the requests sent
+# + burst - Maximum number of retries which can be sent in excess of `maxRatio` after a period of no retries
+public type RetryBudgetConfig record {|
+    float maxRatio = 0.1;
+    int burst = 10;
+|};
+
+# Provides configurations for hedging requests. A hedged request is sent again if it is not answered within the hedge
+# delay, the first response received is used and the other request is cancelled.
+#
+# + delay - Time (in seconds) to wait for the response before sending the request again. If not set, the delay is the
+#           `percentile` of the latencies recently observed by the client, and requests are not hedged until enough
+#           latencies are observed
+# + percentile - Percentile of the observed latencies used as the delay when `delay` is not set
+# + maxRatio - Maximum number of hedged requests as a fraction of the requests sent
+# + burst - Maximum number of hedged requests which can be sent in excess of `maxRatio` after a period of no hedging
+public type HedgeConfig record {|
+    decimal? delay = ();
+    float percentile = 95.0;
+    float maxRatio = 0.1;
+    int burst = 10;
 |};
 
 # Provides configurations for facilitating secure communication with a remote HTTP endpoint.
@@ -587,8 +633,19 @@ isolated function createRetryClient(string url, ClientConfiguration configuratio
             interval: retryConfig.interval,
             backOffFactor: retryConfig.backOffFactor,
             maxWaitInterval: retryConfig.maxWaitInterval,
-            statusCodes: retryConfig.statusCodes
+            statusCodes: retryConfig.statusCodes,
+            jitter: retryConfig.jitter,
+            budget: retryConfig.budget,
+            honorRetryAfter: retryConfig.honorRetryAfter,
+            hedge: retryConfig.hedge
         };
+        var cookieConfigVal = configuration.cookieConfig;
+        boolean cookiesEnabled = cookieConfigVal is CookieConfig && cookieConfigVal.enabled;
+        if retryConfig.hedge is HedgeConfig && (configuration.cache.enabled || cookiesEnabled) {
+            // Hedged requests are submitted asynchronously, which bypasses the response cache and the cookie store
+            return error GenericClientError("Hedged requests are not supported along with the response cache or " +
+                "cookies");
+        }
         var httpCookieClient = createCookieClient(url, configuration, cookieStore);
         if httpCookieClient is HttpClient {
             return new RetryClient(url, configuration, retryInferredConfig, httpCookieClient);
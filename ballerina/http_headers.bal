@@ -122,6 +122,9 @@ public const string PRAGMA = "pragma";
 # HTTP header key `proxy-authorization`. Contains the credentials to authenticate a user agent to a proxy serve.
 public const string PROXY_AUTHORIZATION = "proxy-authorization";
 
+# HTTP header key `retry-after`. Indicates how long the client should wait before making a follow-up request.
+public const string RETRY_AFTER = "retry-after";
+
 # HTTP header key `server`. Specifies the details of the origin server.
 public const string SERVER = "server";
 
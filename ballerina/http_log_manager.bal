@@ -25,11 +25,32 @@ configurable boolean traceLogConsole = false;
 # + path - Optional file path to store trace logs
 # + host - Optional socket hostname to publish the trace logs
 # + port - Optional socket port to publish the trace logs
+# + binary - Optional binary trace log configuration, which records sampled connections in memory and writes them
+#            out only when they fail
 public type TraceLogAdvancedConfiguration record {|
     boolean console = false;
     string path?;
     string host?;
     int port?;
+    BinaryTraceLogConfiguration binary?;
+|};
+
+# Represents the binary trace log configuration. Each sampled connection keeps its most recent events in a compact
+# in-memory ring buffer, which is appended to the given file when the connection fails with an error or a 5xx
+# response. The file can be decoded offline with
+# `io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceDecoder`.
+#
+# + path - File path to append the events of failing connections
+# + samplingRate - Fraction of the connections to trace, between 0.0 and 1.0
+# + samplingHeader - Optional name of a request header which forces tracing of the connection carrying it
+# + bufferSize - Number of most recent events kept per traced connection
+# + payloadBytes - Number of leading payload bytes captured per event
+public type BinaryTraceLogConfiguration record {|
+    string path;
+    float samplingRate = 0.1;
+    string samplingHeader?;
+    int bufferSize = 64;
+    int payloadBytes = 64;
 |};
 
 # Represents HTTP access log configuration.
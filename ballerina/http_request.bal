@@ -408,6 +408,17 @@ public class Request {
         }
     }
 
+    # Gets the body parts of a multipart request as a stream. Unlike `Request.getBodyParts()`, the body parts are
+    # parsed while they are received, so that the whole request does not have to be held in memory. The content of
+    # each part has to be read through its byte stream before moving to the next part.
+    #
+    # + return - A stream of body parts or else an `http:ClientError` if the content type is not a composite media
+    #            type or the payload has already been read
+    public isolated function getBodyPartStream() returns stream<mime:Entity, ClientError?>|ClientError {
+        BodyPartStream partStream = check new (self);
+        return new (partStream);
+    }
+
     # Sets a `json` as the payload. If the content-type header is not set then this method set content-type
     # headers with the default content-type, which is `application/json`. Any existing content-type can be
     # overridden by passing the content-type as an optional parameter.
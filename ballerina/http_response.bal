@@ -468,6 +468,37 @@ public class Response {
         self.setEntityAndUpdateContentTypeHeader(entity);
     }
 
+    # Sets a stream as the payload, which is written to the network element by element while it is produced. Each
+    # element ends a chunk unless it is coalesced with the following ones as configured. `string` elements are
+    # written as they are, so that server-sent events can be framed by the producer, and `json` elements are written
+    # as newline-delimited JSON. If the content-type header is not set then this method sets the content-type based
+    # on the element type: `application/octet-stream`, `text/plain` or `application/x-ndjson`.
+    #
+    # + payload - The stream of elements, which needs to be set to the response
+    # + contentType - Content-type to be used with the payload. This is an optional parameter
+    # + config - The configurations for coalescing small elements
+    public isolated function setStreamPayload(stream<byte[], io:Error?>|stream<string, error?>|stream<json, error?> payload,
+            string? contentType = (), *StreamingConfig config) {
+        stream<byte[], io:Error?> byteStream;
+        string defaultContentType;
+        if payload is stream<byte[], io:Error?> {
+            byteStream = payload;
+            defaultContentType = mime:APPLICATION_OCTET_STREAM;
+        } else if payload is stream<string, error?> {
+            byteStream = new (new StringToByteStream(payload));
+            defaultContentType = mime:TEXT_PLAIN;
+        } else {
+            byteStream = new (new JsonToByteStream(payload));
+            defaultContentType = APPLICATION_NDJSON;
+        }
+        string existingContentType = self.getContentType();
+        string? newContentType = contentType is () && existingContentType == "" ? defaultContentType : contentType;
+        mime:Entity entity = self.getEntityWithoutBodyAndHeaders();
+        setByteStream(entity, byteStream, existingContentType, newContentType);
+        self.setEntityAndUpdateContentTypeHeader(entity);
+        externSetStreamingConfig(self, config);
+    }
+
     # Sets the response payload. This method overrides any existing content-type by passing the content-type
     # as an optional parameter. If the content type parameter is not provided then the default value derived
     # from the payload will be used as content-type only when there are no existing content-type header.
@@ -559,6 +590,12 @@ isolated function externSetResEntityAndUpdateContentTypeHeader(Response response
     name: "setEntityAndUpdateContentTypeHeader"
 } external;
 
+isolated function externSetStreamingConfig(Response response, StreamingConfig config) =
+@java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternResponse",
+    name: "setStreamingConfig"
+} external;
+
 isolated function externGetResEntity(Response response) returns mime:Entity|ClientError =
 @java:Method {
     'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternResponse",
@@ -38,7 +38,10 @@ public isolated class Listener {
             httpVersion: config.httpVersion,
             timeout: config.timeout,
             server: config.server,
-            requestLimits: config.requestLimits
+            requestLimits: config.requestLimits,
+            metrics: config.metrics,
+            admission: config.admission,
+            rateLimit: config.rateLimit
         };
         self.interceptors = [new DefaultErrorInterceptor()];
         Interceptor[]? interceptors = config.interceptors;
@@ -80,6 +83,7 @@ public isolated class Listener {
     # + name - Name of the service
     # + return - An `error` if an error occurred during the service attachment process or else `()`
     public isolated function attach(Service httpService, string[]|string? name = ()) returns error? {
+        prepareAuthHandlerChains(httpService);
         return externRegister(self, httpService, name);
     }
 
@@ -166,6 +170,10 @@ public type Local record {|
 #                   disable timeout
 # + server - The server name which should appear as a response header
 # + requestLimits - Configurations associated with inbound request size limits
+# + metrics - Configurations related to the request metrics recorded by the listener
+# + admission - Limits the number of requests processed concurrently by the listener. Not limited by default
+# + rateLimit - Limits the rate of the requests accepted by the listener per client, header value or base path.
+#               Not limited by default
 # + interceptors - An array of interceptor services
 public type ListenerConfiguration record {|
     string host = "0.0.0.0";
@@ -175,6 +183,9 @@ public type ListenerConfiguration record {|
     decimal timeout = DEFAULT_LISTENER_TIMEOUT;
     string? server = ();
     RequestLimitConfigs requestLimits = {};
+    ListenerMetricsConfig metrics = {};
+    AdmissionConfig? admission = ();
+    RateLimitConfig? rateLimit = ();
     Interceptor[] interceptors?;
 |};
 
@@ -189,6 +200,9 @@ public type ListenerConfiguration record {|
 #                   disable timeout
 # + server - The server name which should appear as a response header
 # + requestLimits - Configurations associated with inbound request size limits
+# + metrics - Configurations related to the request metrics recorded by the listener
+# + admission - Limits the number of requests processed concurrently by the listener
+# + rateLimit - Limits the rate of the requests accepted by the listener
 public type InferredListenerConfiguration record {|
     string host;
     ListenerHttp1Settings http1Settings;
@@ -197,6 +211,9 @@ public type InferredListenerConfiguration record {|
     decimal timeout;
     string? server;
     RequestLimitConfigs requestLimits;
+    ListenerMetricsConfig metrics;
+    AdmissionConfig? admission;
+    RateLimitConfig? rateLimit;
 |};
 
 # Provides settings related to HTTP/1.x protocol.
@@ -226,6 +243,62 @@ public type RequestLimitConfigs record {|
     int maxEntityBodySize = -1;
 |};
 
+# Provides the configurations of the request metrics recorded by the listener. The metrics are kept in memory with
+# a small fixed overhead and are readable over JMX and, optionally, in the Prometheus text format.
+#
+# + enabled - Records the request count, in-flight requests, bytes in and out and latency histogram of the listener
+#             and each of its resources
+# + endpointPath - Path on which the listener serves the metrics in the Prometheus text format. The metrics are not
+#                  served over HTTP by default
+public type ListenerMetricsConfig record {|
+    boolean enabled = true;
+    string? endpointPath = ();
+|};
+
+# Provides the configurations of the admission control of a listener or a resource. The requests received while the
+# limit of in-flight requests is reached are rejected right away with a `503 - Service Unavailable` response, without
+# being dispatched.
+#
+# + maxInFlightRequests - Maximum number of requests processed concurrently
+# + adaptive - Adapts the limit to the observed latency. The limit starts from `maxInFlightRequests`, is cut down when
+#              the latency grows as requests start to queue and is raised back while the latency stays low
+# + minInFlightRequests - Lower bound of the limit when it is adaptive
+# + retryAfter - Value (in seconds) of the `Retry-After` header of the rejection responses
+public type AdmissionConfig record {|
+    int maxInFlightRequests;
+    boolean adaptive = false;
+    int minInFlightRequests = 1;
+    int retryAfter = 1;
+|};
+
+# Provides the configurations of the rate limiting of a listener. The requests are grouped by a key and each key gets
+# a token bucket, which refills at `requestsPerSecond` and holds up to `burst` tokens. A request received when the
+# bucket of its key is empty is rejected right away with a `429 - Too Many Requests` response, without being
+# dispatched. The response carries the `Retry-After`, `RateLimit-Limit`, `RateLimit-Remaining` and `RateLimit-Reset`
+# headers.
+#
+# + requestsPerSecond - Rate at which the requests of a key are accepted in the long run
+# + burst - Number of requests of a key accepted at once after it has been idle
+# + key - What the requests are grouped by
+# + header - Name of the header whose value is the key when `key` is `RATE_LIMIT_KEY_HEADER`
+public type RateLimitConfig record {|
+    decimal requestsPerSecond;
+    int burst = 1;
+    RateLimitKey key = RATE_LIMIT_KEY_CLIENT_ADDRESS;
+    string? header = ();
+|};
+
+# Defines the possible values for the key of the rate limiting of a listener.
+public type RateLimitKey RATE_LIMIT_KEY_CLIENT_ADDRESS|RATE_LIMIT_KEY_HEADER|RATE_LIMIT_KEY_BASE_PATH;
+
+# Limits the requests of each client IP address separately
+public const RATE_LIMIT_KEY_CLIENT_ADDRESS = "CLIENT_ADDRESS";
+# Limits the requests of each value of the configured header separately. The requests without the header are limited
+# by the client IP address
+public const RATE_LIMIT_KEY_HEADER = "HEADER";
+# Limits the requests of each first segment of the request path, i.e. of each single-segment base path, separately
+public const RATE_LIMIT_KEY_BASE_PATH = "BASE_PATH";
+
 # Configures the SSL/TLS options to be used for HTTP service.
 #
 # + key - Configurations associated with `crypto:KeyStore` or combination of certificate and (PKCS8) private key of the server
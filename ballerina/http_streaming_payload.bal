@@ -0,0 +1,85 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+
+const APPLICATION_NDJSON = "application/x-ndjson";
+
+# Provides the configurations for writing a streamed response payload. Both bounds are checked whenever an element
+# is written, hence elements held back while the producer pauses are sent with the next element or at the end of the
+# stream. The default values write out every element as soon as it is produced.
+#
+# + coalesceSize - The number of buffered bytes which are written out without waiting for more elements. Values
+#                  larger than the 8 KB write buffer are capped to it. `0` does not bound the size
+# + coalesceWindow - The time in seconds from the first element held back, within which the elements written are
+#                    coalesced with it. The element written after the window ends the chunk. `0` does not bound the
+#                    window
+public type StreamingConfig record {|
+    int coalesceSize = 0;
+    decimal coalesceWindow = 0;
+|};
+
+class StringToByteStream {
+
+    private final stream<string, error?> source;
+
+    isolated function init(stream<string, error?> source) {
+        self.source = source;
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|io:Error? {
+        record {| string value; |}|error? element = self.source.next();
+        if element is record {| string value; |} {
+            return {value: element.value.toBytes()};
+        } else if element is error {
+            return error io:GenericError(element.message(), element);
+        }
+        return;
+    }
+
+    public isolated function close() returns io:Error? {
+        error? result = self.source.close();
+        if result is error {
+            return error io:GenericError(result.message(), result);
+        }
+    }
+}
+
+class JsonToByteStream {
+
+    private final stream<json, error?> source;
+
+    isolated function init(stream<json, error?> source) {
+        self.source = source;
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|io:Error? {
+        record {| json value; |}|error? element = self.source.next();
+        if element is record {| json value; |} {
+            return {value: (element.value.toJsonString() + "\n").toBytes()};
+        } else if element is error {
+            return error io:GenericError(element.message(), element);
+        }
+        return;
+    }
+
+    public isolated function close() returns io:Error? {
+        error? result = self.source.close();
+        if result is error {
+            return error io:GenericError(result.message(), result);
+        }
+    }
+}
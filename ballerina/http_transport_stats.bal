@@ -0,0 +1,80 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the usage of the client connections to a route.
+#
+# + id - Identifier of the route. Clients with different configurations keep separate pools for the same endpoint
+# + scheme - Scheme of the endpoint
+# + host - Host of the endpoint
+# + port - Port of the endpoint
+# + activeConnections - Number of HTTP/1.x connections currently serving a request
+# + idleConnections - Number of HTTP/1.x connections available to be reused
+# + http2Connections - Number of open HTTP/2 connections
+# + http2ActiveStreams - Number of streams currently open over the HTTP/2 connections
+# + borrowCount - Number of connections borrowed from the pool
+# + exhaustedCount - Number of requests which failed to get a connection since the pool was exhausted
+# + meanBorrowWaitTime - Mean time (in seconds) taken to get a connection, including establishing a new one
+# + p99BorrowWaitTime - 99th percentile of the time (in seconds) taken to get a connection
+# + maxBorrowWaitTime - Maximum time (in seconds) taken to get a connection
+public type PoolStats record {|
+    string id;
+    string scheme;
+    string host;
+    int port;
+    int activeConnections;
+    int idleConnections;
+    int http2Connections;
+    int http2ActiveStreams;
+    int borrowCount;
+    int exhaustedCount;
+    decimal meanBorrowWaitTime;
+    decimal p99BorrowWaitTime;
+    decimal maxBorrowWaitTime;
+|};
+
+# Represents the health of an event loop of the HTTP transport. The lag is the delay (in seconds) with which a task
+# scheduled on the event loop every second actually runs, which grows when the event loop is kept busy.
+#
+# + name - Name of the event loop
+# + pendingTasks - Number of tasks waiting to be run by the event loop
+# + lastLag - Lag measured by the latest probe
+# + meanLag - Mean lag of the event loop
+# + p99Lag - 99th percentile of the lag of the event loop
+# + maxLag - Maximum lag of the event loop
+public type EventLoopStats record {|
+    string name;
+    int pendingTasks;
+    decimal lastLag;
+    decimal meanLag;
+    decimal p99Lag;
+    decimal maxLag;
+|};
+
+# Returns the usage of the client connection pools, per route.
+#
+# + return - The connection pool statistics
+public isolated function getPoolStats() returns PoolStats[] = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternTransportMetrics"
+} external;
+
+# Returns the health of the event loops of the HTTP transport.
+#
+# + return - The event loop statistics
+public isolated function getEventLoopStats() returns EventLoopStats[] = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternTransportMetrics"
+} external;
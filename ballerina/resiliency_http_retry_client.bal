@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/lang.runtime as runtime;
 import ballerina/log;
 
@@ -24,12 +25,20 @@ import ballerina/log;
 # + backOffFactor - Multiplier of the retry interval to exponentially increase retry interval
 # + maxWaitInterval - Maximum time of the retry interval in seconds
 # + statusCodes - HTTP response status codes which are considered as failures
+# + jitter - Randomization applied to the retry intervals
+# + budget - Configurations for bounding the retries
+# + honorRetryAfter - Whether the `Retry-After` header of a `429` or `503` response is used as the retry interval
+# + hedge - Configurations for hedging the requests
 type RetryInferredConfig record {|
     int count = 0;
     decimal interval = 0;
     float backOffFactor = 0.0;
     decimal maxWaitInterval = 0;
     int[] statusCodes = [];
+    RetryJitter jitter = RETRY_JITTER_NONE;
+    RetryBudgetConfig? budget = ();
+    boolean honorRetryAfter = true;
+    HedgeConfig? hedge = ();
 |};
 
 # Provides the HTTP remote functions for interacting with an HTTP endpoint. This is created by wrapping the HTTP client
@@ -55,7 +64,7 @@ public client isolated class RetryClient {
                                         HttpClient httpClient) returns ClientError? {
         self.retryInferredConfig = retryInferredConfig.cloneReadOnly();
         self.httpClient = httpClient;
-        return;
+        return externInitRetryClient(self, url, self.retryInferredConfig);
     }
 
     # The `RetryClient.post()` function wraps the underlying HTTP remote functions in a way to provide
@@ -292,12 +301,6 @@ isolated function performRetryAction(string path, Request request, HttpOperation
     int retryCount = retryClient.retryInferredConfig.count;
     decimal interval = retryClient.retryInferredConfig.interval;
     int[] statusCodes = retryClient.retryInferredConfig.statusCodes;
-    //initializeBackOffFactorAndMaxWaitInterval(retryClient);
-    float inputBackOffFactor = retryClient.retryInferredConfig.backOffFactor;
-    float backOffFactor = inputBackOffFactor <= 0.0 ? 1.0 : inputBackOffFactor;
-
-    decimal inputMaxWaitInterval = retryClient.retryInferredConfig.maxWaitInterval;
-    decimal maxWaitInterval = inputMaxWaitInterval == 0D ? 60 : inputMaxWaitInterval;
 
     AllRetryAttemptsFailed retryFailedError = error AllRetryAttemptsFailed("All the retry attempts failed.");
     ClientError httpConnectorErr = retryFailedError;
@@ -308,16 +311,20 @@ isolated function performRetryAction(string path, Request request, HttpOperation
     if binaryPayload is error {
         log:printDebug("Error building payload for request retry: " + binaryPayload.message());
     }
+    // Only the safe methods are hedged, and only without a payload since the request is sent twice concurrently
+    boolean hedged = retryClient.retryInferredConfig.hedge is HedgeConfig && requestAction is safeHttpOperation
+        && binaryPayload is byte[] && binaryPayload.length() == 0;
+    externStartRetryableRequest(retryClient);
 
     while (currentRetryCount < (retryCount + 1)) {
         inRequest = check populateMultipartRequest(inRequest);
-        var backendResponse = invokeEndpoint(path, inRequest, requestAction, httpClient, verb = verb);
+        var backendResponse = hedged ? invokeEndpointWithHedging(path, inRequest, requestAction, retryClient)
+            : invokeEndpoint(path, inRequest, requestAction, httpClient, verb = verb);
+        Response? failedResponse = ();
         if backendResponse is Response {
             int responseStatusCode = backendResponse.statusCode;
             if (statusCodes.indexOf(responseStatusCode) is int) && currentRetryCount < (retryCount) {
-                [interval, currentRetryCount] =
-                                calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
-                                backOffFactor, maxWaitInterval);
+                failedResponse = backendResponse;
             } else {
                 return backendResponse;
             }
@@ -326,44 +333,121 @@ isolated function performRetryAction(string path, Request request, HttpOperation
             if response is Response {
                 int responseStatusCode = response.statusCode;
                 if (statusCodes.indexOf(responseStatusCode) is int) && currentRetryCount < (retryCount) {
-                    [interval, currentRetryCount] =
-                                    calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
-                                    backOffFactor, maxWaitInterval);
+                    failedResponse = response;
                 } else {
                     // We return the HttpFuture object as this is called by submit method.
                     return backendResponse;
                 }
             } else {
-                [interval, currentRetryCount] =
-                                calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
-                                backOffFactor, maxWaitInterval);
                 httpConnectorErr = response;
             }
         } else if backendResponse is ClientError {
-            [interval, currentRetryCount] =
-                            calculateEffectiveIntervalAndRetryCount(retryClient, currentRetryCount, interval,
-                            backOffFactor, maxWaitInterval);
             httpConnectorErr = backendResponse;
         } else {
             panic error ClientError("invalid response type received");
         }
+        if currentRetryCount == retryCount {
+            break;
+        }
+        decimal? retryInterval = getRetryInterval(retryClient, currentRetryCount, interval, failedResponse);
+        if retryInterval is () {
+            // The retry budget is exhausted or the server asked to wait too long, so the failure is returned as it is
+            return failedResponse is Response ? backendResponse : httpConnectorErr;
+        }
+        interval = retryInterval;
+        currentRetryCount += 1;
         runtime:sleep(interval);
     }
     return httpConnectorErr;
 }
 
-isolated function calculateEffectiveIntervalAndRetryCount(RetryClient retryClient, int currentRetryCount,
-        decimal currentDelay, float backOffFactor, decimal maxWaitInterval) returns [decimal, int] {
-    decimal interval = currentDelay;
-    if currentRetryCount != 0 {
-        interval = getWaitTime(backOffFactor, maxWaitInterval, interval);
+// Returns the interval to wait before the next retry, or `()` if the request must not be retried
+isolated function getRetryInterval(RetryClient retryClient, int currentRetryCount, decimal currentInterval,
+                                   Response? failedResponse) returns decimal? {
+    string? retryAfter = ();
+    if failedResponse is Response && retryClient.retryInferredConfig.honorRetryAfter
+            && (failedResponse.statusCode == STATUS_TOO_MANY_REQUESTS
+            || failedResponse.statusCode == STATUS_SERVICE_UNAVAILABLE) {
+        string|HeaderNotFoundError header = failedResponse.getHeader(RETRY_AFTER);
+        if header is string {
+            retryAfter = header;
+        }
     }
-    int retryCount = currentRetryCount + 1;
-    return [interval, retryCount];
+    return externGetRetryInterval(retryClient, currentRetryCount, currentInterval, retryAfter);
 }
 
+// Sends the request and, if it is not answered within the hedge delay and the hedge budget allows, sends it again.
+// The first response received is returned and the other request is cancelled.
+isolated function invokeEndpointWithHedging(string path, Request request, HttpOperation requestAction,
+                                            RetryClient retryClient) returns Response|ClientError {
+    HttpClient httpClient = retryClient.httpClient;
+    decimal? delay = externStartHedgeableRequest(retryClient);
+    // Copied before the request is sent, so that the headers the transport adds are left out
+    Request? hedgeRequest = delay is decimal ? createHedgeRequest(request) : ();
+    HttpFuture primary = check httpClient->submit(requestAction, path, request);
+    if delay is decimal && hedgeRequest is Request {
+        Response|ClientError? response = externAwaitResponse(retryClient, [primary], delay);
+        if response !is () {
+            return response;
+        }
+        if externTryHedge(retryClient) {
+            HttpFuture|ClientError hedge = httpClient->submit(requestAction, path, hedgeRequest);
+            if hedge is HttpFuture {
+                return <Response|ClientError>externAwaitResponse(retryClient, [primary, hedge]);
+            }
+            log:printDebug("Error sending the hedged request: " + hedge.message());
+        }
+    }
+    return <Response|ClientError>externAwaitResponse(retryClient, [primary]);
+}
 
-isolated function getWaitTime(float backOffFactor, decimal maxWaitTime, decimal interval) returns decimal {
-    decimal waitTime = interval * <decimal> backOffFactor;
-    return (waitTime > maxWaitTime) ? maxWaitTime : waitTime;
+// The hedged request is sent while the first one may still be in flight, hence it needs an outbound message of its
+// own. Only requests without a payload are hedged, so the headers are all there is to copy.
+isolated function createHedgeRequest(Request request) returns Request {
+    Request hedgeRequest = new;
+    populateRequestFields(request, hedgeRequest);
+    foreach string headerName in request.getHeaderNames() {
+        string[]|HeaderNotFoundError headerValues = request.getHeaders(headerName);
+        if headerValues is string[] {
+            foreach string headerValue in headerValues {
+                hedgeRequest.addHeader(headerName, headerValue);
+            }
+        }
+    }
+    return hedgeRequest;
 }
+
+isolated function externInitRetryClient(RetryClient retryClient, string url, RetryInferredConfig config)
+        returns ClientError? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryClient",
+    name: "init"
+} external;
+
+isolated function externStartRetryableRequest(RetryClient retryClient) = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryClient",
+    name: "startRequest"
+} external;
+
+// Returns `()` if the request must not be retried
+isolated function externGetRetryInterval(RetryClient retryClient, int retryCount, decimal currentInterval,
+        string? retryAfter) returns decimal? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryClient",
+    name: "getRetryInterval"
+} external;
+
+isolated function externStartHedgeableRequest(RetryClient retryClient) returns decimal? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryClient",
+    name: "startHedgeableRequest"
+} external;
+
+isolated function externTryHedge(RetryClient retryClient) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryClient",
+    name: "tryHedge"
+} external;
+
+// Returns `()` if none of the requests is answered within the timeout
+isolated function externAwaitResponse(RetryClient retryClient, HttpFuture[] httpFutures, decimal? timeout = ())
+        returns Response|ClientError? = @java:Method {
+    'class: "io.ballerina.stdlib.http.api.nativeimpl.ExternRetryClient",
+    name: "awaitResponse"
+} external;
@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.http.compiler;
 
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
@@ -30,8 +31,10 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import static io.ballerina.stdlib.http.compiler.CompilerPluginTestConstants.HTTP_102;
 import static io.ballerina.stdlib.http.compiler.CompilerPluginTestConstants.HTTP_106;
@@ -571,4 +574,27 @@ public class CompilerPluginTest {
                 "which consists of the above types", HTTP_109);
         assertTrue(diagnosticResult, 5, "invalid type of caller param 'host': expected 'http:Caller'", HTTP_111);
     }
+
+    @Test
+    public void testServiceMetadataGeneration() {
+        Package currentPackage = loadPackage("sample_package_25");
+        DiagnosticResult diagnosticResult = currentPackage.runCodeGeneratorPlugins();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Module module = currentPackage.project().currentPackage().getDefaultModule();
+        Optional<String> metadata = module.resourceIds().stream()
+                .map(module::resource)
+                .filter(resource -> resource.name().equals("http_test.sample_25-service-metadata.json"))
+                .map(resource -> new String(resource.content(), StandardCharsets.UTF_8))
+                .findFirst();
+        Assert.assertTrue(metadata.isPresent());
+        Assert.assertTrue(metadata.get().contains("{\"accessor\":\"get\",\"resourcePath\":[\"greeting\",\"*\"]," +
+                "\"paramNames\":[\"name\",\"caller\",\"lang\"],\"paramKinds\":[\"PATH\",\"CALLER\",\"QUERY\"]," +
+                "\"path\":\"/greeting/{name}\",\"pathParamCount\":1}"));
+        Assert.assertTrue(metadata.get().contains("{\"accessor\":\"post\",\"resourcePath\":[\".\"]," +
+                "\"paramNames\":[\"payload\",\"host\"],\"paramKinds\":[\"PAYLOAD\",\"HEADER\"]," +
+                "\"path\":\"/\",\"pathParamCount\":0}"));
+        Assert.assertTrue(metadata.get().contains("{\"accessor\":\"get\",\"resourcePath\":[\"files\",\"**\"]," +
+                "\"paramNames\":[\"paths\",\"req\",\"headers\"],\"paramKinds\":[\"PATH\",\"REQUEST\",\"HEADERS\"]," +
+                "\"path\":\"/files/*\",\"wildcardToken\":\"paths\",\"pathParamCount\":1}"));
+    }
 }
@@ -40,6 +40,7 @@ public class Constants {
     public static final String PAYLOAD_ANNOTATION_TYPE = "HttpPayload";
     public static final String CALLER_ANNOTATION_TYPE = "HttpCallerInfo";
     public static final String HEADER_ANNOTATION_TYPE = "HttpHeader";
+    public static final String INTROSPECTION_DOC_ANNOTATION = "IntrospectionDocConfig";
     public static final String CALLER_ANNOTATION_NAME = "CallerInfo";
     public static final String FIELD_RESPONSE_TYPE = "respondType";
     public static final String RESPOND_METHOD_NAME = "respond";
@@ -63,6 +64,9 @@ public class Constants {
     public static final String INTERCEPT_RESPONSE = "interceptResponse";
     public static final String INTERCEPT_RESPONSE_ERROR = "interceptResponseError";
 
+    public static final String SERVICE_METADATA_FILE_SUFFIX = "-service-metadata.json";
+    public static final int SERVICE_METADATA_VERSION = 1;
+
     public static final String COLON = ":";
     public static final String PLUS = "+";
     public static final String COMMA_WITH_SPACE = ", ";
@@ -39,6 +39,7 @@ public class HttpCompilerPlugin extends CompilerPlugin {
     @Override
     public void init(CompilerPluginContext context) {
         context.addCodeAnalyzer(new HttpServiceAnalyzer());
+        context.addCodeGenerator(new HttpServiceMetadataGenerator());
         getCodeActions().forEach(context::addCodeAction);
     }
 
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.compiler;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.AnnotationSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.ResourceMethodSymbol;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.plugins.GeneratorTask;
+import io.ballerina.projects.plugins.SourceGeneratorContext;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.stdlib.http.compiler.Constants.BALLERINA;
+import static io.ballerina.stdlib.http.compiler.Constants.CALLER_OBJ_NAME;
+import static io.ballerina.stdlib.http.compiler.Constants.HEADER_ANNOTATION_TYPE;
+import static io.ballerina.stdlib.http.compiler.Constants.HEADER_OBJ_NAME;
+import static io.ballerina.stdlib.http.compiler.Constants.HTTP;
+import static io.ballerina.stdlib.http.compiler.Constants.INTROSPECTION_DOC_ANNOTATION;
+import static io.ballerina.stdlib.http.compiler.Constants.PAYLOAD_ANNOTATION_TYPE;
+import static io.ballerina.stdlib.http.compiler.Constants.REQUEST_CONTEXT_OBJ_NAME;
+import static io.ballerina.stdlib.http.compiler.Constants.REQUEST_OBJ_NAME;
+import static io.ballerina.stdlib.http.compiler.Constants.SERVICE_METADATA_FILE_SUFFIX;
+import static io.ballerina.stdlib.http.compiler.Constants.SERVICE_METADATA_VERSION;
+
+/**
+ * Generates the routing metadata of the Http services in each module as a module resource. The runtime uses it to
+ * build the resource tree and the parameter binding plan without re-analysing the resource signatures.
+ */
+public class HttpServiceMetadataGeneratorTask implements GeneratorTask<SourceGeneratorContext> {
+
+    private static final String STAR_IDENTIFIER = "*";
+    private static final String DOUBLE_STAR_IDENTIFIER = "**";
+    private static final String DOT_IDENTIFIER = ".";
+    private static final String SINGLE_SLASH = "/";
+    private static final String DOUBLE_SLASH_REGEX = "(?<!(http:|https:))//";
+    private static final String DOC_NAME_FIELD = "name";
+
+    static final String KIND_PATH = "PATH";
+    static final String KIND_QUERY = "QUERY";
+    static final String KIND_HEADER = "HEADER";
+    static final String KIND_PAYLOAD = "PAYLOAD";
+    static final String KIND_CALLER = "CALLER";
+    static final String KIND_REQUEST = "REQUEST";
+    static final String KIND_HEADERS = "HEADERS";
+    static final String KIND_REQUEST_CONTEXT = "REQUEST_CONTEXT";
+    static final String KIND_ERROR = "ERROR";
+
+    @Override
+    public void generate(SourceGeneratorContext context) {
+        boolean erroneousCompilation = context.compilation().diagnosticResult().diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        if (erroneousCompilation) {
+            return;
+        }
+        Package currentPackage = context.currentPackage();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            SemanticModel semanticModel = context.compilation().getSemanticModel(moduleId);
+            List<String> services = new ArrayList<>();
+            for (DocumentId documentId : module.documentIds()) {
+                ModulePartNode rootNode = module.document(documentId).syntaxTree().rootNode();
+                for (ModuleMemberDeclarationNode member : rootNode.members()) {
+                    if (member.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                        getServiceMetadata(semanticModel, (ServiceDeclarationNode) member).ifPresent(services::add);
+                    }
+                }
+            }
+            if (services.isEmpty()) {
+                continue;
+            }
+            String metadata = "{\"version\":" + SERVICE_METADATA_VERSION + ",\"services\":["
+                    + String.join(",", services) + "]}";
+            String fileName = module.descriptor().org().value() + "." + module.moduleName().toString()
+                    + SERVICE_METADATA_FILE_SUFFIX;
+            context.addResourceFile(metadata.getBytes(StandardCharsets.UTF_8), fileName, moduleId);
+        }
+    }
+
+    private static Optional<String> getServiceMetadata(SemanticModel semanticModel,
+                                                       ServiceDeclarationNode serviceDeclarationNode) {
+        Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceDeclarationNode);
+        if (serviceSymbol.isEmpty() || ((ServiceDeclarationSymbol) serviceSymbol.get()).listenerTypes().stream()
+                .noneMatch(HttpServiceMetadataGeneratorTask::isListenerBelongsToHttpModule)) {
+            return Optional.empty();
+        }
+        List<String> resources = new ArrayList<>();
+        for (Node member : serviceDeclarationNode.members()) {
+            if (member.kind() != SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                continue;
+            }
+            Optional<String> resource = getResourceMetadata(semanticModel, (FunctionDefinitionNode) member);
+            if (resource.isEmpty()) {
+                // Partial metadata is never emitted, the runtime analyses such services by itself.
+                return Optional.empty();
+            }
+            resources.add(resource.get());
+        }
+        StringBuilder service = new StringBuilder("{");
+        getIntrospectionDocName(serviceDeclarationNode).ifPresent(
+                docName -> service.append("\"introspectionDocName\":").append(quote(docName)).append(","));
+        service.append("\"resources\":[").append(String.join(",", resources)).append("]}");
+        return Optional.of(service.toString());
+    }
+
+    private static Optional<String> getResourceMetadata(SemanticModel semanticModel, FunctionDefinitionNode member) {
+        Optional<Symbol> methodSymbol = semanticModel.symbol(member);
+        if (methodSymbol.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> segments = new ArrayList<>();
+        List<String> paramNames = new ArrayList<>();
+        List<String> paramKinds = new ArrayList<>();
+        StringBuilder path = new StringBuilder();
+        String wildcardToken = null;
+        boolean defaultPath = false;
+        for (Node segmentNode : member.relativeResourcePath()) {
+            SyntaxKind kind = segmentNode.kind();
+            if (kind == SyntaxKind.SLASH_TOKEN) {
+                continue;
+            }
+            String segment;
+            if (kind == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM || kind == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                Optional<String> paramName = ((ResourcePathParameterNode) segmentNode).paramName()
+                        .map(token -> unescapeIdentifier(token.text()));
+                if (paramName.isEmpty()) {
+                    return Optional.empty();
+                }
+                paramNames.add(paramName.get());
+                paramKinds.add(KIND_PATH);
+                segment = kind == SyntaxKind.RESOURCE_PATH_REST_PARAM ? DOUBLE_STAR_IDENTIFIER : STAR_IDENTIFIER;
+            } else {
+                segment = unescapeIdentifier(segmentNode.toString().trim());
+            }
+            segments.add(segment);
+            if (defaultPath) {
+                continue;
+            }
+            path.append(SINGLE_SLASH);
+            if (STAR_IDENTIFIER.equals(segment)) {
+                path.append("{").append(paramNames.get(paramNames.size() - 1)).append("}");
+            } else if (DOUBLE_STAR_IDENTIFIER.equals(segment)) {
+                wildcardToken = paramNames.get(paramNames.size() - 1);
+                path.append(STAR_IDENTIFIER);
+            } else if (DOT_IDENTIFIER.equals(segment)) {
+                defaultPath = true;
+            } else {
+                path.append(unescapeAndEncodeValue(segment));
+            }
+        }
+        int pathParamCount = paramNames.size();
+        Optional<List<ParameterSymbol>> params = ((ResourceMethodSymbol) methodSymbol.get()).typeDescriptor()
+                .params();
+        if (params.isPresent()) {
+            for (ParameterSymbol param : params.get()) {
+                Optional<String> paramName = param.getName();
+                if (paramName.isEmpty()) {
+                    return Optional.empty();
+                }
+                paramNames.add(paramName.get());
+                paramKinds.add(getParamKind(param));
+            }
+        }
+
+        StringBuilder resource = new StringBuilder("{");
+        resource.append("\"accessor\":").append(quote(member.functionName().text().trim())).append(",");
+        resource.append("\"resourcePath\":").append(toJsonArray(segments)).append(",");
+        resource.append("\"paramNames\":").append(toJsonArray(paramNames)).append(",");
+        resource.append("\"paramKinds\":").append(toJsonArray(paramKinds)).append(",");
+        resource.append("\"path\":").append(quote(path.toString().replaceAll(DOUBLE_SLASH_REGEX, SINGLE_SLASH)))
+                .append(",");
+        if (wildcardToken != null) {
+            resource.append("\"wildcardToken\":").append(quote(wildcardToken)).append(",");
+        }
+        resource.append("\"pathParamCount\":").append(pathParamCount).append("}");
+        return Optional.of(resource.toString());
+    }
+
+    private static String getParamKind(ParameterSymbol param) {
+        for (AnnotationSymbol annotation : param.annotations()) {
+            Optional<TypeSymbol> annotationType = annotation.typeDescriptor();
+            if (annotationType.isEmpty() || !isHttpModuleMember(annotationType.get())) {
+                continue;
+            }
+            String annotationTypeName = annotationType.get().getName().orElse("");
+            if (PAYLOAD_ANNOTATION_TYPE.equals(annotationTypeName)) {
+                return KIND_PAYLOAD;
+            } else if (HEADER_ANNOTATION_TYPE.equals(annotationTypeName)) {
+                return KIND_HEADER;
+            }
+        }
+        TypeSymbol typeSymbol = param.typeDescriptor();
+        if (typeSymbol.typeKind() == TypeDescKind.ERROR) {
+            return KIND_ERROR;
+        }
+        if (typeSymbol.typeKind() != TypeDescKind.TYPE_REFERENCE) {
+            return KIND_QUERY;
+        }
+        TypeSymbol typeDescriptor = ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor();
+        if (typeDescriptor.typeKind() != TypeDescKind.OBJECT || !isHttpModuleMember(typeDescriptor)) {
+            return KIND_QUERY;
+        }
+        switch (typeDescriptor.getName().orElse("")) {
+            case CALLER_OBJ_NAME:
+                return KIND_CALLER;
+            case REQUEST_OBJ_NAME:
+                return KIND_REQUEST;
+            case HEADER_OBJ_NAME:
+                return KIND_HEADERS;
+            case REQUEST_CONTEXT_OBJ_NAME:
+                return KIND_REQUEST_CONTEXT;
+            default:
+                return KIND_QUERY;
+        }
+    }
+
+    private static Optional<String> getIntrospectionDocName(ServiceDeclarationNode serviceDeclarationNode) {
+        Optional<MetadataNode> metadata = serviceDeclarationNode.metadata();
+        if (metadata.isEmpty()) {
+            return Optional.empty();
+        }
+        for (AnnotationNode annotation : metadata.get().annotations()) {
+            if (!annotation.annotReference().toString().trim().endsWith(INTROSPECTION_DOC_ANNOTATION)
+                    || annotation.annotValue().isEmpty()) {
+                continue;
+            }
+            for (MappingFieldNode field : annotation.annotValue().get().fields()) {
+                if (field.kind() != SyntaxKind.SPECIFIC_FIELD) {
+                    continue;
+                }
+                SpecificFieldNode specificField = (SpecificFieldNode) field;
+                Optional<ExpressionNode> value = specificField.valueExpr();
+                if (DOC_NAME_FIELD.equals(specificField.fieldName().toString().trim()) && value.isPresent()
+                        && value.get().kind() == SyntaxKind.STRING_LITERAL) {
+                    String literal = ((BasicLiteralNode) value.get()).literalToken().text();
+                    return Optional.of(literal.substring(1, literal.length() - 1).trim());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isListenerBelongsToHttpModule(TypeSymbol listenerType) {
+        if (listenerType.typeKind() == TypeDescKind.UNION) {
+            return ((UnionTypeSymbol) listenerType).memberTypeDescriptors().stream()
+                    .filter(typeDescriptor -> typeDescriptor instanceof TypeReferenceTypeSymbol)
+                    .anyMatch(HttpServiceMetadataGeneratorTask::isHttpModuleMember);
+        }
+        if (listenerType.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            return isHttpModuleMember(((TypeReferenceTypeSymbol) listenerType).typeDescriptor());
+        }
+        return false;
+    }
+
+    private static boolean isHttpModuleMember(TypeSymbol typeSymbol) {
+        Optional<ModuleSymbol> module = typeSymbol.getModule();
+        return module.isPresent() && HTTP.equals(module.get().getName().orElse(""))
+                && BALLERINA.equals(module.get().id().orgName());
+    }
+
+    private static String unescapeIdentifier(String identifier) {
+        return identifier.startsWith("'") ? identifier.substring(1) : identifier;
+    }
+
+    /**
+     * Mirrors the runtime path segment normalisation so that the generated path matches the dispatcher's view.
+     */
+    private static String unescapeAndEncodeValue(String segment) {
+        if (!segment.contains("\\")) {
+            return segment;
+        }
+        try {
+            return URLEncoder.encode(segment.replace("\\", ""), StandardCharsets.UTF_8.name())
+                    .replaceAll("\\+", "%20");
+        } catch (UnsupportedEncodingException e) {
+            return segment;
+        }
+    }
+
+    private static String toJsonArray(List<String> values) {
+        List<String> quoted = new ArrayList<>(values.size());
+        for (String value : values) {
+            quoted.add(quote(value));
+        }
+        return "[" + String.join(",", quoted) + "]";
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
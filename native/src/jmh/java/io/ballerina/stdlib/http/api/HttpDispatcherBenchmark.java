@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the service lookup done by {@link HttpDispatcher#findService} for every inbound request of a listener
+ * with several attached services. The services are registered with stubbed service objects, hence only the base
+ * path matching and the request property updates are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpDispatcherBenchmark {
+
+    private static final BObject STUB_SERVICE = (BObject) Proxy.newProxyInstance(
+            HttpDispatcherBenchmark.class.getClassLoader(), new Class[]{BObject.class}, (proxy, method, args) -> null);
+    private static final String[] BASE_PATHS = {
+            "/", "/health", "/metrics", "/admin", "/catalog", "/api/v1/orders", "/api/v1/customers", "/api/v2/orders"
+    };
+
+    @Param({"SPECIFIC", "DEFAULT", "MATRIX_PARAMS"})
+    private String path;
+
+    private HTTPServicesRegistry servicesRegistry;
+    private HttpCarbonMessage inboundRequest;
+    private String requestPath;
+
+    @Setup
+    public void setup() {
+        Map<String, HttpService> servicesByBasePath = new ConcurrentHashMap<>();
+        List<String> sortedServiceURIs = new CopyOnWriteArrayList<>();
+        for (String basePath : BASE_PATHS) {
+            servicesByBasePath.put(basePath, new HttpService(STUB_SERVICE, basePath));
+            sortedServiceURIs.add(basePath);
+        }
+        sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        servicesRegistry = new HTTPServicesRegistry();
+        servicesRegistry.getServicesMapByHost().put(HttpConstants.DEFAULT_HOST,
+                new HTTPServicesRegistry.ServicesMapHolder(servicesByBasePath, sortedServiceURIs));
+
+        switch (path) {
+            case "SPECIFIC":
+                requestPath = "/api/v2/orders/1001/items?expand=true";
+                break;
+            case "MATRIX_PARAMS":
+                requestPath = "/api/v1/customers;region=eu/42;view=full";
+                break;
+            default:
+                requestPath = "/unknown/resource";
+                break;
+        }
+        inboundRequest = new HttpCarbonMessage(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET,
+                                                                      requestPath));
+        inboundRequest.setHeader(HttpHeaderNames.HOST.toString(), "localhost:9090");
+    }
+
+    @Benchmark
+    public HttpService findService() {
+        inboundRequest.setProperty(MessageProperty.TO, requestPath);
+        return HttpDispatcher.findService(servicesRegistry, inboundRequest, false);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.service.signature;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.api.HttpConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per request cost of the string switch based signature binding with the binder plan compiled by the
+ * {@link ParamHandler} over representative resource signatures. The signature objects are stubbed and their creation
+ * cost is modelled with {@link Blackhole#consumeCPU(long)} so that the benchmark isolates the binding overhead and the
+ * effect of creating the caller, request and request context only on demand.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParamBindingBenchmark {
+
+    private static final long OBJECT_CREATION_TOKENS = 64;
+    private static final BObject STUB_OBJECT = (BObject) Proxy.newProxyInstance(
+            ParamBindingBenchmark.class.getClassLoader(), new Class[]{BObject.class}, (proxy, method, args) -> null);
+
+    @Param({"NO_PARAMS", "CALLER", "REQUEST_HEADERS", "CALLER_REQUEST_CONTEXT"})
+    private String signature;
+
+    private List<NonRecurringParam> legacyParams;
+    private ParamBinder[] binders;
+    private int paramFeedLength;
+
+    @Setup
+    public void setup() {
+        legacyParams = new ArrayList<>();
+        switch (signature) {
+            case "CALLER":
+                legacyParams.add(new NonRecurringParam(0, HttpConstants.CALLER));
+                break;
+            case "REQUEST_HEADERS":
+                legacyParams.add(new NonRecurringParam(0, HttpConstants.REQUEST));
+                legacyParams.add(new NonRecurringParam(1, HttpConstants.HEADERS));
+                break;
+            case "CALLER_REQUEST_CONTEXT":
+                legacyParams.add(new NonRecurringParam(0, HttpConstants.CALLER));
+                legacyParams.add(new NonRecurringParam(1, HttpConstants.REQUEST));
+                legacyParams.add(new NonRecurringParam(2, HttpConstants.REQUEST_CONTEXT));
+                break;
+            default:
+                break;
+        }
+        binders = new ParamBinder[legacyParams.size()];
+        for (int i = 0; i < binders.length; i++) {
+            binders[i] = ParamBinders.forNonRecurringParam(legacyParams.get(i));
+        }
+        paramFeedLength = legacyParams.size() * 2;
+    }
+
+    @Benchmark
+    public Object[] stringSwitchBinding() {
+        StubBindingContext context = new StubBindingContext();
+        // The caller and the request context used to be created for every request
+        BObject caller = context.createCaller();
+        BObject requestCtx = context.createRequestContext();
+        BObject inRequest = null;
+        Object[] paramFeed = new Object[paramFeedLength];
+        for (Parameter param : legacyParams) {
+            int index = ((NonRecurringParam) param).getIndex();
+            switch (param.getTypeName()) {
+                case HttpConstants.CALLER:
+                    paramFeed[index++] = caller;
+                    break;
+                case HttpConstants.REQUEST_CONTEXT:
+                    paramFeed[index++] = requestCtx;
+                    break;
+                case HttpConstants.REQUEST:
+                    if (inRequest == null) {
+                        inRequest = context.createRequest();
+                    }
+                    paramFeed[index++] = inRequest;
+                    break;
+                case HttpConstants.HEADERS:
+                    if (inRequest == null) {
+                        inRequest = context.createRequest();
+                    }
+                    paramFeed[index++] = context.createHeaders(inRequest);
+                    break;
+                default:
+                    break;
+            }
+            paramFeed[index] = true;
+        }
+        return paramFeed;
+    }
+
+    @Benchmark
+    public Object[] compiledBinderPlan() {
+        StubBindingContext context = new StubBindingContext();
+        Object[] paramFeed = new Object[paramFeedLength];
+        for (ParamBinder binder : binders) {
+            binder.bind(context, paramFeed);
+        }
+        return paramFeed;
+    }
+
+    /**
+     * A binding context which models the cost of creating the Ballerina signature objects.
+     */
+    private static class StubBindingContext extends BindingContext {
+
+        StubBindingContext() {
+            super(null, false);
+        }
+
+        @Override
+        public BObject createHeaders(BObject request) {
+            return createObject();
+        }
+
+        @Override
+        protected BObject createCaller() {
+            return createObject();
+        }
+
+        @Override
+        protected BObject createRequest() {
+            return createObject();
+        }
+
+        @Override
+        protected BObject createRequestContext() {
+            return createObject();
+        }
+
+        @Override
+        protected BError createInterceptorError() {
+            return null;
+        }
+
+        private static BObject createObject() {
+            Blackhole.consumeCPU(OBJECT_CREATION_TOKENS);
+            return STUB_OBJECT;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the TLS connects per second which a client achieves against a local listener. The fresh context variant
+ * builds the client context for every connection like the transport used to, so each connect reads the trusted
+ * certificates and negotiates a full handshake. The cached variant takes the context from the
+ * {@link ClientSSLContextCache} and resumes the session of the earlier connections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientHandshakeBenchmark {
+
+    private static final String HOST = "localhost";
+
+    private SelfSignedCertificate certificate;
+    private NioEventLoopGroup serverGroup;
+    private NioEventLoopGroup clientGroup;
+    private Channel serverChannel;
+    private int port;
+    private SSLConfig sslConfig;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        certificate = new SelfSignedCertificate(HOST);
+        SslContext serverContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                .build();
+        serverGroup = new NioEventLoopGroup(1);
+        clientGroup = new NioEventLoopGroup(1);
+        serverChannel = new ServerBootstrap().group(serverGroup).channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(serverContext.newHandler(channel.alloc()));
+                    }
+                }).bind(HOST, 0).sync().channel();
+        port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+        sslConfig = new SSLConfig();
+        sslConfig.setClientTrustCertificates(certificate.certificate());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        serverChannel.close().sync();
+        clientGroup.shutdownGracefully().sync();
+        serverGroup.shutdownGracefully().sync();
+        certificate.delete();
+    }
+
+    @Benchmark
+    public boolean freshContextPerConnection() throws Exception {
+        return connect(new SSLHandlerFactory(sslConfig).createHttpTLSContextForClient());
+    }
+
+    @Benchmark
+    public boolean cachedContext() throws Exception {
+        return connect(sslConfig.getClientSSLContextCache().getCertsContext());
+    }
+
+    private boolean connect(SslContext clientContext) throws Exception {
+        Channel channel = new Bootstrap().group(clientGroup).channel(NioSocketChannel.class)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(clientContext.newHandler(channel.alloc(), HOST, port));
+                    }
+                }).connect(HOST, port).sync().channel();
+        try {
+            return channel.pipeline().get(SslHandler.class).handshakeFuture().sync().isSuccess();
+        } finally {
+            channel.close().sync();
+        }
+    }
+}
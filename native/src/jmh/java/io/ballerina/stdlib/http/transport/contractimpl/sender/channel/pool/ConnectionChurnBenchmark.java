@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the target channel pool operations of short lived inbound connections which relay a few requests each to
+ * the same upstream route. The per source pool variant creates and closes an object pool per inbound connection like
+ * the listener used to, while the other borrows from the free list of the event loop. Run with {@code -prof gc} to
+ * compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionChurnBenchmark {
+
+    @Param({"1", "10"})
+    private int requestsPerConnection;
+
+    private NioEventLoopGroup eventLoop;
+    private GenericObjectPool globalPool;
+    private GenericObjectPool.Config config;
+    private EventLoopTargetChannelPool eventLoopPool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HttpRoute route = new HttpRoute("http", "localhost", 9090, 0);
+        eventLoop = new NioEventLoopGroup(1);
+        config = new GenericObjectPool.Config();
+        globalPool = new GenericObjectPool(new BasePoolableObjectFactory() {
+            @Override
+            public Object makeObject() {
+                EmbeddedChannel channel = new EmbeddedChannel();
+                TargetChannel targetChannel = new TargetChannel(null, channel.newSucceededFuture(), route, null);
+                targetChannel.setChannel(channel);
+                return targetChannel;
+            }
+        }, config);
+        PoolableTargetChannelFactory channelFactory = new PoolableTargetChannelFactory(eventLoop,
+                NioSocketChannel.class, route, null, null, null);
+        eventLoopPool = new EventLoopTargetChannelPool(globalPool, channelFactory, eventLoop.next(),
+                                                       NioSocketChannel.class, config.maxIdle,
+                                                       config.minEvictableIdleTimeMillis, () -> { });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        globalPool.close();
+        eventLoop.shutdownGracefully();
+    }
+
+    @Benchmark
+    public Object perSourceConnectionPool() throws Exception {
+        GenericObjectPool sourcePool = new GenericObjectPool(new BasePoolableObjectFactory() {
+            @Override
+            public Object makeObject() throws Exception {
+                return globalPool.borrowObject();
+            }
+
+            @Override
+            public void destroyObject(Object targetChannel) throws Exception {
+                globalPool.returnObject(targetChannel);
+            }
+        }, config);
+        Object targetChannel = null;
+        for (int i = 0; i < requestsPerConnection; i++) {
+            targetChannel = sourcePool.borrowObject();
+            sourcePool.returnObject(targetChannel);
+        }
+        sourcePool.close();
+        return targetChannel;
+    }
+
+    @Benchmark
+    public Object eventLoopFreeList() throws Exception {
+        TargetChannel targetChannel = null;
+        for (int i = 0; i < requestsPerConnection; i++) {
+            targetChannel = eventLoopPool.borrowChannel();
+            eventLoopPool.releaseChannel(targetChannel);
+        }
+        return targetChannel;
+    }
+}
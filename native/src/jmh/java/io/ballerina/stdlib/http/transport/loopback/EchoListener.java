@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.loopback;
+
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Echoes the request payload from a worker thread, the way a service which returns its payload would.
+ */
+class EchoListener implements HttpConnectorListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EchoListener.class);
+
+    private final ExecutorService workers;
+
+    EchoListener(ExecutorService workers) {
+        this.workers = workers;
+    }
+
+    @Override
+    public void onMessage(HttpCarbonMessage httpRequest) {
+        workers.execute(() -> {
+            HttpCarbonMessage httpResponse =
+                    new HttpCarbonResponse(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+            httpResponse.setHttpStatusCode(HttpResponseStatus.OK.code());
+            copyHeader(httpRequest, httpResponse, HttpHeaderNames.CONTENT_TYPE.toString());
+            copyHeader(httpRequest, httpResponse, HttpHeaderNames.CONTENT_LENGTH.toString());
+            HttpContent httpContent;
+            do {
+                httpContent = httpRequest.getHttpContent();
+                httpResponse.addHttpContent(httpContent);
+            } while (!(httpContent instanceof LastHttpContent));
+            try {
+                httpRequest.respond(httpResponse);
+            } catch (ServerConnectorException e) {
+                LOG.error("Error occurred while sending the echo response", e);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        LOG.error("Error occurred in the loopback listener", throwable);
+    }
+
+    static void copyHeader(HttpCarbonMessage from, HttpCarbonMessage to, String name) {
+        String value = from.getHeader(name);
+        if (value != null) {
+            to.setHeader(name, value);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.loopback;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A closed loop load generator. Each connection sends the next request as soon as the response of the previous one
+ * arrives, like the JMeter threads of the load tests, and records the latencies into its own histogram while the
+ * measurement window is open. Responses other than 200 and connection failures are counted as errors.
+ */
+class LoadGenerator implements AutoCloseable {
+
+    static final String THREAD_NAME_PREFIX = "loopback-load-generator";
+    private static final int MAX_CONTENT_LENGTH = 16 * 1024 * 1024;
+
+    private final NioEventLoopGroup group;
+    private final List<ConnectionHandler> handlers = new ArrayList<>();
+    private final List<Channel> channels = new ArrayList<>();
+    private final byte[] payload;
+    private final String host;
+    private final int port;
+    private volatile boolean running = true;
+    private volatile boolean measuring;
+
+    LoadGenerator(int threads, String host, int port, byte[] payload) {
+        this.group = new NioEventLoopGroup(threads, new DefaultThreadFactory(THREAD_NAME_PREFIX));
+        this.host = host;
+        this.port = port;
+        this.payload = payload;
+    }
+
+    void start(int connections) throws InterruptedException {
+        for (int i = 0; i < connections; i++) {
+            ConnectionHandler handler = new ConnectionHandler();
+            Bootstrap bootstrap = new Bootstrap()
+                    .group(group)
+                    .channel(NioSocketChannel.class)
+                    .option(ChannelOption.TCP_NODELAY, true)
+                    .handler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel channel) {
+                            channel.pipeline().addLast(new HttpClientCodec(),
+                                                       new HttpObjectAggregator(MAX_CONTENT_LENGTH), handler);
+                        }
+                    });
+            handlers.add(handler);
+            channels.add(bootstrap.connect(host, port).sync().channel());
+        }
+    }
+
+    void startMeasuring() {
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        measuring = false;
+    }
+
+    /**
+     * Collects the results of all the connections on their event loops. Called after the measurement window is
+     * closed, when the connections no longer record.
+     *
+     * @return the results of the requests completed within the measurement window
+     * @throws InterruptedException if interrupted while waiting for an event loop
+     */
+    Result collect() throws InterruptedException {
+        Result result = new Result();
+        for (ConnectionHandler handler : handlers) {
+            if (handler.channel != null) {
+                handler.channel.eventLoop().submit(() -> result.add(handler)).await();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        for (Channel channel : channels) {
+            channel.close().syncUninterruptibly();
+        }
+        group.shutdownGracefully(0, 5, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    /**
+     * Drives the requests of a single connection. All the state is confined to the event loop of the connection.
+     */
+    private class ConnectionHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long errors;
+        private long receivedBytes;
+        private volatile Channel channel;
+        private long sentAt;
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            channel = ctx.channel();
+            sendRequest(ctx);
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+            if (measuring) {
+                latencies.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt));
+                receivedBytes += response.content().readableBytes();
+                if (!HttpResponseStatus.OK.equals(response.status())) {
+                    errors++;
+                }
+            }
+            if (running) {
+                sendRequest(ctx);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            if (measuring) {
+                errors++;
+            }
+            ctx.close();
+        }
+
+        private void sendRequest(ChannelHandlerContext ctx) {
+            FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST,
+                                                                 LoopbackBenchmark.REQUEST_PATH,
+                                                                 Unpooled.wrappedBuffer(payload));
+            request.headers().set(HttpHeaderNames.HOST, host + ":" + port);
+            request.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.TEXT_PLAIN);
+            request.headers().set(HttpHeaderNames.CONTENT_LENGTH, payload.length);
+            sentAt = System.nanoTime();
+            ctx.writeAndFlush(request);
+        }
+    }
+
+    /**
+     * The latencies, errors and received bytes of the connections.
+     */
+    static class Result {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long errors;
+        private long receivedBytes;
+
+        private void add(ConnectionHandler handler) {
+            latencies.add(handler.latencies);
+            errors += handler.errors;
+            receivedBytes += handler.receivedBytes;
+        }
+
+        LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        long getErrors() {
+            return errors;
+        }
+
+        long getReceivedBytes() {
+            return receivedBytes;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.loopback;
+
+import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
+import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the transport end to end within a single process over the loopback interface: a listener, a plain Netty echo
+ * backend for the passthrough scenarios and a closed loop load generator. For each scenario it reports the throughput,
+ * the latency distribution and the allocation rate of the listener side threads, and appends a row to a CSV file laid
+ * out like the {@code summary.csv} files of the load tests. Unlike the load tests it needs neither a cluster nor
+ * JMeter, so the numbers of two builds can be compared on a developer machine.
+ *
+ * <p>Arguments: {@code --scenarios <name,...>}, {@code --duration <seconds>}, {@code --warmup <seconds>},
+ * {@code --connections <count>}, {@code --payload <bytes>} and {@code --output <csv file>}.
+ */
+public class LoopbackBenchmark {
+
+    static final String HOST = "127.0.0.1";
+    static final String REQUEST_PATH = "/loopback";
+
+    private static final PrintStream OUT = System.out;
+    private static final String WORKER_THREAD_NAME_PREFIX = "loopback-worker";
+    private static final String CSV_HEADER = "Label,# Samples,Average (us),Median (us),90% Line (us),95% Line (us)," +
+            "99% Line (us),Min (us),Max (us),Std. Dev. (us),Error %,Throughput,Received KB/sec,Allocation MB/sec," +
+            "Allocation Bytes/request,Date,Payload,Users";
+
+    /**
+     * The scenarios, named after the load tests they stand in for.
+     */
+    enum Scenario {
+        H1C_ECHO("h1c_echo", false),
+        H1C_H1C_PASSTHROUGH("h1c_h1c_passthrough", true);
+
+        private final String label;
+        private final boolean needsBackend;
+
+        Scenario(String label, boolean needsBackend) {
+            this.label = label;
+            this.needsBackend = needsBackend;
+        }
+
+        static Scenario fromLabel(String label) {
+            for (Scenario scenario : values()) {
+                if (scenario.label.equals(label)) {
+                    return scenario;
+                }
+            }
+            throw new IllegalArgumentException("Unknown scenario: " + label + ", expected one of " +
+                                                       Arrays.toString(Arrays.stream(values())
+                                                                               .map(s -> s.label).toArray()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String label : options.getOrDefault("scenarios", "h1c_echo,h1c_h1c_passthrough").split(",")) {
+            scenarios.add(Scenario.fromLabel(label.trim()));
+        }
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int connections = Integer.parseInt(options.getOrDefault("connections", "60"));
+        int payloadSize = Integer.parseInt(options.getOrDefault("payload", "50"));
+        Path output = Paths.get(options.getOrDefault("output", "loopback-summary.csv"));
+
+        byte[] payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'x');
+        List<String> rows = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            OUT.printf("Running %s with %d connections and a %d byte payload for %d s after a %d s warm up%n",
+                       scenario.label, connections, payloadSize, duration, warmup);
+            String row = run(scenario, payload, connections, warmup, duration);
+            OUT.println(CSV_HEADER);
+            OUT.println(row);
+            rows.add(row);
+        }
+        writeResults(output, rows);
+        OUT.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static String run(Scenario scenario, byte[] payload, int connections, int warmup, int duration)
+            throws Exception {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ExecutorService workers = Executors.newFixedThreadPool(processors * 2,
+                                                               new DefaultThreadFactory(WORKER_THREAD_NAME_PREFIX));
+        HttpWsConnectorFactory connectorFactory = new DefaultHttpWsConnectorFactory();
+        EchoBackend backend = scenario.needsBackend ? new EchoBackend(Math.max(1, processors / 2)) : null;
+        ServerConnector serverConnector = null;
+        try {
+            HttpConnectorListener listener;
+            if (backend != null) {
+                HttpClientConnector clientConnector = connectorFactory.createHttpClientConnector(
+                        new HashMap<>(), new SenderConfiguration());
+                listener = new PassthroughListener(workers, clientConnector, backend.getPort());
+            } else {
+                listener = new EchoListener(workers);
+            }
+            ListenerConfiguration listenerConfiguration = new ListenerConfiguration();
+            listenerConfiguration.setHost(HOST);
+            listenerConfiguration.setPort(getFreePort());
+            serverConnector = connectorFactory.createServerConnector(
+                    new ServerBootstrapConfiguration(new HashMap<>()), listenerConfiguration);
+            ServerConnectorFuture serverConnectorFuture = serverConnector.start();
+            serverConnectorFuture.setHttpConnectorListener(listener);
+            serverConnectorFuture.sync();
+
+            try (LoadGenerator generator = new LoadGenerator(Math.max(1, processors / 2), HOST,
+                                                             listenerConfiguration.getPort(), payload)) {
+                generator.start(connections);
+                TimeUnit.SECONDS.sleep(warmup);
+
+                Map<Long, Long> allocatedAtStart = getListenerAllocatedBytes();
+                long startTime = System.nanoTime();
+                generator.startMeasuring();
+                TimeUnit.SECONDS.sleep(duration);
+                generator.stopMeasuring();
+                double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+                long allocatedBytes = getAllocatedSince(allocatedAtStart);
+
+                return toCsvRow(scenario, generator.collect(), elapsedSeconds, allocatedBytes, payload.length,
+                                connections);
+            }
+        } finally {
+            if (serverConnector != null) {
+                serverConnector.stop();
+            }
+            connectorFactory.shutdown();
+            workers.shutdownNow();
+            if (backend != null) {
+                backend.close();
+            }
+        }
+    }
+
+    private static String toCsvRow(Scenario scenario, LoadGenerator.Result result, double elapsedSeconds,
+                                   long allocatedBytes, int payloadSize, int connections) {
+        LatencyHistogram latencies = result.getLatencies();
+        long samples = latencies.getCount();
+        double errorPercentage = samples == 0 ? 0 : 100.0 * result.getErrors() / samples;
+        return String.format(Locale.ROOT, "%s,%d,%.0f,%d,%d,%d,%d,%d,%d,%.2f,%.2f%%,%.1f,%.1f,%.1f,%d,%d,%d,%d",
+                             scenario.label, samples, latencies.getMean(), latencies.getPercentile(50),
+                             latencies.getPercentile(90), latencies.getPercentile(95), latencies.getPercentile(99),
+                             latencies.getMin(), latencies.getMax(), latencies.getStdDev(), errorPercentage,
+                             samples / elapsedSeconds, result.getReceivedBytes() / 1024.0 / elapsedSeconds,
+                             allocatedBytes / 1024.0 / 1024.0 / elapsedSeconds,
+                             samples == 0 ? 0 : allocatedBytes / samples,
+                             System.currentTimeMillis() / 1000, payloadSize, connections);
+    }
+
+    /**
+     * Reads the bytes allocated so far by the threads of the listener, the client connector and the workers. The
+     * load generator and the backend run in the same process but are left out, as they are not part of the code
+     * being measured.
+     */
+    private static Map<Long, Long> getListenerAllocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Long, Long> allocatedBytes = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (name.startsWith(LoadGenerator.THREAD_NAME_PREFIX) || name.startsWith(EchoBackend.THREAD_NAME_PREFIX)
+                    || thread == Thread.currentThread()) {
+                continue;
+            }
+            long bytes = threadMXBean.getThreadAllocatedBytes(thread.getId());
+            if (bytes >= 0) {
+                allocatedBytes.put(thread.getId(), bytes);
+            }
+        }
+        return allocatedBytes;
+    }
+
+    private static long getAllocatedSince(Map<Long, Long> allocatedAtStart) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : getListenerAllocatedBytes().entrySet()) {
+            total += entry.getValue() - allocatedAtStart.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private static void writeResults(Path output, List<String> rows) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(output)) {
+            lines.add(CSV_HEADER);
+        }
+        lines.addAll(rows);
+        Files.write(output, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected arguments of the form --<option> <value>, found: " +
+                                                           args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.loopback;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Relays the request to the echo backend through a shared client connector and relays the backend response back, the
+ * way a passthrough service does.
+ */
+class PassthroughListener implements HttpConnectorListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PassthroughListener.class);
+
+    private final ExecutorService workers;
+    private final HttpClientConnector clientConnector;
+    private final int backendPort;
+
+    PassthroughListener(ExecutorService workers, HttpClientConnector clientConnector, int backendPort) {
+        this.workers = workers;
+        this.clientConnector = clientConnector;
+        this.backendPort = backendPort;
+    }
+
+    @Override
+    public void onMessage(HttpCarbonMessage httpRequest) {
+        workers.execute(() -> {
+            httpRequest.setProperty(Constants.HTTP_HOST, LoopbackBenchmark.HOST);
+            httpRequest.setProperty(Constants.HTTP_PORT, backendPort);
+            clientConnector.send(httpRequest).setHttpConnectorListener(new HttpConnectorListener() {
+                @Override
+                public void onMessage(HttpCarbonMessage httpResponse) {
+                    workers.execute(() -> respond(httpRequest, httpResponse));
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    HttpCarbonMessage errorResponse = new HttpCarbonResponse(
+                            new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.BAD_GATEWAY));
+                    errorResponse.setHttpStatusCode(HttpResponseStatus.BAD_GATEWAY.code());
+                    String message = String.valueOf(throwable.getMessage());
+                    errorResponse.addHttpContent(new DefaultLastHttpContent(
+                            Unpooled.wrappedBuffer(message.getBytes(StandardCharsets.UTF_8))));
+                    respond(httpRequest, errorResponse);
+                }
+            });
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        LOG.error("Error occurred in the loopback listener", throwable);
+    }
+
+    private static void respond(HttpCarbonMessage httpRequest, HttpCarbonMessage httpResponse) {
+        try {
+            httpRequest.respond(httpResponse);
+        } catch (ServerConnectorException e) {
+            LOG.error("Error occurred while relaying the backend response", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how an entity body travels through the {@link BlockingEntityCollector} of a message: reading an inbound
+ * body through the {@link HttpMessageDataStreamer} input stream, writing an outbound body through its output stream
+ * and counting the length of a body the way the client does before sending it. The body is split into chunks of the
+ * size the HTTP decoder produces. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityBodyBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"64", "4096", "65536"})
+    private int payloadSize;
+
+    private byte[] payload;
+    private byte[] readBuffer;
+    private ByteBufAllocator allocator;
+
+    @Setup
+    public void setup() {
+        payload = new byte[payloadSize];
+        ThreadLocalRandom.current().nextBytes(payload);
+        readBuffer = new byte[CHUNK_SIZE];
+        allocator = PooledByteBufAllocator.DEFAULT;
+    }
+
+    @Benchmark
+    public long readThroughDataStreamer() throws IOException {
+        HttpCarbonMessage message = createMessageWithBody();
+        long total = 0;
+        try (InputStream inputStream = new HttpMessageDataStreamer(message).getInputStream()) {
+            int read;
+            while ((read = inputStream.read(readBuffer)) != -1) {
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long writeThroughDataStreamer() throws IOException {
+        HttpCarbonMessage message = createMessage();
+        try (OutputStream outputStream = new HttpMessageDataStreamer(message, allocator).getOutputStream()) {
+            outputStream.write(payload);
+        }
+        return drain(message);
+    }
+
+    @Benchmark
+    public long countThroughCollector() {
+        HttpCarbonMessage message = createMessageWithBody();
+        long length = message.countMessageLengthTill(Long.MAX_VALUE);
+        drain(message);
+        return length;
+    }
+
+    private HttpCarbonMessage createMessage() {
+        return new HttpCarbonMessage(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/echo"));
+    }
+
+    private HttpCarbonMessage createMessageWithBody() {
+        HttpCarbonMessage message = createMessage();
+        int offset = 0;
+        while (payload.length - offset > CHUNK_SIZE) {
+            message.addHttpContent(new DefaultHttpContent(Unpooled.wrappedBuffer(payload, offset, CHUNK_SIZE)));
+            offset += CHUNK_SIZE;
+        }
+        message.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(payload, offset,
+                                                                                payload.length - offset)));
+        return message;
+    }
+
+    private static long drain(HttpCarbonMessage message) {
+        long total = 0;
+        HttpContent httpContent;
+        do {
+            httpContent = message.getHttpContent();
+            total += httpContent.content().readableBytes();
+            httpContent.release();
+        } while (!(httpContent instanceof LastHttpContent));
+        return total;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the property accesses which the transport and the dispatcher perform for an inbound request. The legacy
+ * variant stores them in a string keyed map like the message used to, while the others use the well known property
+ * slots through the typed and the string keyed views. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagePropertyBenchmark {
+
+    private static final Object VALUE = new Object();
+    private static final String URI = "/hello/greeting?name=ballerina";
+    private static final MessageProperty[] INBOUND_PROPERTIES = {
+            MessageProperty.POOLED_BYTE_BUFFER_FACTORY, MessageProperty.CHNL_HNDLR_CTX, MessageProperty.SRC_HANDLER,
+            MessageProperty.LISTENER_PORT, MessageProperty.LISTENER_INTERFACE_ID, MessageProperty.PROTOCOL,
+            MessageProperty.IS_SECURED_CONNECTION, MessageProperty.LOCAL_ADDRESS, MessageProperty.REMOTE_ADDRESS,
+            MessageProperty.TO, MessageProperty.MUTUAL_SSL_HANDSHAKE_RESULT, MessageProperty.BASE_64_ENCODED_CERT
+    };
+    private static final MessageProperty[] DISPATCH_PROPERTIES = {
+            MessageProperty.RAW_URI, MessageProperty.MATRIX_PARAMS, MessageProperty.BASE_PATH,
+            MessageProperty.SUB_PATH, MessageProperty.QUERY_STR, MessageProperty.RAW_QUERY_STR,
+            MessageProperty.RESOURCE_ARGS, MessageProperty.REQUEST_CONTEXT, MessageProperty.CALLER
+    };
+    private static final MessageProperty[] DISPATCH_READS = {
+            MessageProperty.TO, MessageProperty.LOCAL_ADDRESS, MessageProperty.INTERCEPTOR_SERVICES_REGISTRIES,
+            MessageProperty.INTERCEPTORS, MessageProperty.SUB_PATH, MessageProperty.RAW_QUERY_STR,
+            MessageProperty.RESOURCE_ARGS, MessageProperty.MATRIX_PARAMS, MessageProperty.INTERCEPTOR_SERVICE_ERROR,
+            MessageProperty.REQUEST_CONTEXT, MessageProperty.CALLER, MessageProperty.PROTOCOL,
+            MessageProperty.REMOTE_ADDRESS, MessageProperty.ENTITY_OBJ
+    };
+
+    private static HttpCarbonMessage newMessage() {
+        return new HttpCarbonRequest(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, URI));
+    }
+
+    @Benchmark
+    public void legacyPropertyMap(Blackhole blackhole) {
+        HttpCarbonMessage message = newMessage();
+        Map<String, Object> properties = new HashMap<>(Constants.HTTP_CARBON_MESSAGE_PROPERTIES_MAP_DEFAULT_SIZE);
+        for (MessageProperty property : INBOUND_PROPERTIES) {
+            properties.put(property.getKey(), VALUE);
+        }
+        for (MessageProperty property : DISPATCH_PROPERTIES) {
+            properties.put(property.getKey(), VALUE);
+        }
+        for (MessageProperty property : DISPATCH_READS) {
+            blackhole.consume(properties.get(property.getKey()));
+        }
+        blackhole.consume(message);
+    }
+
+    @Benchmark
+    public void typedPropertySlots(Blackhole blackhole) {
+        HttpCarbonMessage message = newMessage();
+        for (MessageProperty property : INBOUND_PROPERTIES) {
+            message.setProperty(property, VALUE);
+        }
+        for (MessageProperty property : DISPATCH_PROPERTIES) {
+            message.setProperty(property, VALUE);
+        }
+        for (MessageProperty property : DISPATCH_READS) {
+            blackhole.consume(message.getProperty(property));
+        }
+        blackhole.consume(message);
+    }
+
+    @Benchmark
+    public void stringKeyedView(Blackhole blackhole) {
+        HttpCarbonMessage message = newMessage();
+        for (MessageProperty property : INBOUND_PROPERTIES) {
+            message.setProperty(property.getKey(), VALUE);
+        }
+        for (MessageProperty property : DISPATCH_PROPERTIES) {
+            message.setProperty(property.getKey(), VALUE);
+        }
+        for (MessageProperty property : DISPATCH_READS) {
+            blackhole.consume(message.getProperty(property.getKey()));
+        }
+        blackhole.consume(message);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.uri;
+
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+import io.ballerina.stdlib.http.uri.parser.DataElement;
+import io.ballerina.stdlib.http.uri.parser.DataReturnAgent;
+import io.ballerina.stdlib.http.uri.parser.Literal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the resource lookup in the URI template tree of a service with a mix of literal, path parameter and rest
+ * parameter resources. The data elements only hold the template so that the benchmark isolates the tree traversal
+ * and the path parameter extraction.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class URITemplateBenchmark {
+
+    private static final String[] TEMPLATES = {
+            "/",
+            "/health",
+            "/orders",
+            "/orders/{orderId}",
+            "/orders/{orderId}/items",
+            "/orders/{orderId}/items/{itemId}",
+            "/customers/{customerId}",
+            "/customers/{customerId}/orders/{orderId}",
+            "/catalog/products/{productId}/reviews",
+            "/files/*"
+    };
+
+    @Param({"LITERAL", "PATH_PARAMS", "REST_PARAM", "NOT_FOUND"})
+    private String path;
+
+    private URITemplate<String, Object> uriTemplate;
+    private String requestPath;
+
+    @Setup
+    public void setup() throws URITemplateException, UnsupportedEncodingException {
+        uriTemplate = new URITemplate<>(new Literal<>(new TemplateDataElement(), "/"));
+        for (String template : TEMPLATES) {
+            uriTemplate.parse(template, template, TemplateDataElement::new);
+        }
+        switch (path) {
+            case "LITERAL":
+                requestPath = "/catalog/products/1234/reviews";
+                break;
+            case "PATH_PARAMS":
+                requestPath = "/customers/42/orders/1001";
+                break;
+            case "REST_PARAM":
+                requestPath = "/files/reports/2022/summary.pdf";
+                break;
+            default:
+                requestPath = "/orders/1001/shipments";
+                break;
+        }
+    }
+
+    @Benchmark
+    public String matchResource() {
+        return uriTemplate.matches(requestPath, new HttpResourceArguments(), null);
+    }
+
+    /**
+     * A data element which holds the template a node was created for.
+     */
+    private static class TemplateDataElement implements DataElement<String, Object> {
+
+        private String template;
+
+        @Override
+        public void setData(String data) {
+            this.template = data;
+        }
+
+        @Override
+        public boolean hasData() {
+            return template != null;
+        }
+
+        @Override
+        public boolean getData(Object inboundMessage, DataReturnAgent<String> dataReturnAgent) {
+            if (template == null) {
+                return false;
+            }
+            dataReturnAgent.setData(template);
+            return true;
+        }
+    }
+}
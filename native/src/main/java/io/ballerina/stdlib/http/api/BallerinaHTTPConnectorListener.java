@@ -22,12 +22,24 @@ import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
+import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler;
 import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetricsRegistry;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.AdmissionController;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.CharsetUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,8 +53,6 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.SERVER_C
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_METHOD;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_URL;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_PROTOCOL;
-import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTORS;
-import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTOR_SERVICES_REGISTRIES;
 
 /**
  * HTTP connector listener for Ballerina.
@@ -51,12 +61,14 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     private static final Logger log = LoggerFactory.getLogger(BallerinaHTTPConnectorListener.class);
     protected static final String HTTP_RESOURCE = "httpResource";
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
 
     protected final HTTPServicesRegistry httpServicesRegistry;
     protected final List<HTTPInterceptorServicesRegistry> httpInterceptorServicesRegistries;
 
     protected final BMap endpointConfig;
     protected final Object listenerLevelInterceptors;
+    private final String metricsEndpointPath;
 
     public BallerinaHTTPConnectorListener(HTTPServicesRegistry httpServicesRegistry,
                                           List<HTTPInterceptorServicesRegistry> httpInterceptorServicesRegistries,
@@ -65,16 +77,30 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         this.httpServicesRegistry = httpServicesRegistry;
         this.endpointConfig = endpointConfig;
         this.listenerLevelInterceptors = interceptors;
+        this.metricsEndpointPath = getMetricsEndpointPath(endpointConfig);
     }
 
     @Override
     public void onMessage(HttpCarbonMessage inboundMessage) {
-        if (Objects.isNull(inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES))) {
-            setTargetServiceToInboundMsg(inboundMessage);
+        // The transport answers HTTP/1.x scrapes itself, hence only pipelined and HTTP/2 ones reach here
+        if (metricsEndpointPath != null && isMetricsRequest(inboundMessage)) {
+            serveRequestMetrics(inboundMessage);
+            return;
+        }
+        HttpService targetService = null;
+        if (Objects.isNull(inboundMessage.getProperty(MessageProperty.INTERCEPTOR_SERVICES_REGISTRIES))) {
+            targetService = setTargetServiceToInboundMsg(inboundMessage);
         }
 
         List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries =
-                (List<HTTPInterceptorServicesRegistry>) inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES);
+                (List<HTTPInterceptorServicesRegistry>) inboundMessage.getProperty(
+                        MessageProperty.INTERCEPTOR_SERVICES_REGISTRIES);
+
+        if (targetService != null && targetService.isAdmissionControlled()
+                && hasRequestInterceptors(interceptorServicesRegistries)
+                && !admitBeforeInterceptors(targetService, inboundMessage)) {
+            return;
+        }
 
         try {
             if (executeInterceptorServices(interceptorServicesRegistries, inboundMessage)) {
@@ -90,7 +116,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         if (inboundMessage.isInterceptorError()) {
             HttpRequestInterceptorUnitCallback callback = new HttpRequestInterceptorUnitCallback(inboundMessage,
                                                           httpServicesRegistry.getRuntime(), this);
-            callback.returnErrorResponse(inboundMessage.getProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR));
+            callback.returnErrorResponse(inboundMessage.getProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR));
         } else {
             try {
                 executeMainResourceOnMessage(inboundMessage);
@@ -104,8 +130,8 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     private boolean executeInterceptorServices(List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries,
                                                HttpCarbonMessage inboundMessage) {
-        int interceptorServiceIndex = inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX)
-                == null ? 0 : (int)  inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX);
+        int interceptorServiceIndex = inboundMessage.getProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX)
+                == null ? 0 : (int)  inboundMessage.getProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX);
         while (interceptorServiceIndex < interceptorServicesRegistries.size()) {
             InterceptorResource interceptorResource;
             HTTPInterceptorServicesRegistry interceptorServicesRegistry = interceptorServicesRegistries.
@@ -126,9 +152,9 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             interceptorServiceIndex += 1;
 
             if (interceptorResource != null) {
-                inboundMessage.removeProperty(HttpConstants.WAIT_FOR_FULL_REQUEST);
-                inboundMessage.setProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorServiceIndex);
-                inboundMessage.setProperty(HttpConstants.INTERCEPTOR_SERVICE, true);
+                inboundMessage.removeProperty(MessageProperty.WAIT_FOR_FULL_REQUEST);
+                inboundMessage.setProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX, interceptorServiceIndex);
+                inboundMessage.setProperty(MessageProperty.INTERCEPTOR_SERVICE, true);
                 extractPropertiesAndStartInterceptorResourceExecution(inboundMessage, interceptorResource,
                         interceptorServicesRegistry);
                 return true;
@@ -139,10 +165,11 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     private boolean checkForInterceptorDataBinding(HttpCarbonMessage inboundMessage, int interceptorServiceIndex,
                                                    InterceptorResource interceptorResource) {
-        if (HttpDispatcher.shouldDiffer(interceptorResource) && inboundMessage.isAccessedInNonInterceptorService()) {
-            inboundMessage.setProperty(HttpConstants.WAIT_FOR_FULL_REQUEST, true);
-            inboundMessage.setProperty(HttpConstants.INTERCEPTOR_SERVICE, true);
-            inboundMessage.setProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorServiceIndex);
+        if (HttpDispatcher.shouldDiffer(interceptorResource) && inboundMessage.isAccessedInNonInterceptorService()
+                && !inboundMessage.isLastHttpContentArrived()) {
+            inboundMessage.setProperty(MessageProperty.WAIT_FOR_FULL_REQUEST, true);
+            inboundMessage.setProperty(MessageProperty.INTERCEPTOR_SERVICE, true);
+            inboundMessage.setProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX, interceptorServiceIndex);
             inboundMessage.removeInboundContentListener();
             return true;
         }
@@ -154,11 +181,45 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         log.warn("Error in HTTP server connector: {}", throwable.getMessage());
     }
 
+    private static boolean hasRequestInterceptors(List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries) {
+        for (HTTPInterceptorServicesRegistry interceptorServicesRegistry : interceptorServicesRegistries) {
+            if (HttpConstants.REQUEST_INTERCEPTOR.equals(interceptorServicesRegistry.getServicesType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Admits a request to its resource before the request interceptors run, so that a rejected request starts no
+     * interceptor strand. The admission is released with the response, whether an interceptor or the resource
+     * sends it, and is kept even if an interceptor changes the request so that it reaches another resource.
+     */
+    private boolean admitBeforeInterceptors(HttpService targetService, HttpCarbonMessage inboundMessage) {
+        HttpResource httpResource = ResourceDispatcher.peekResource(targetService, inboundMessage);
+        AdmissionController admissionController = httpResource != null ? httpResource.getAdmissionController() : null;
+        if (admissionController == null || inboundMessage.getHttp3MessageStateContext() != null
+                || inboundMessage.admitToResource(admissionController)) {
+            return true;
+        }
+        rejectRequest(inboundMessage, admissionController.getRetryAfter());
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     protected void extractPropertiesAndStartResourceExecution(HttpCarbonMessage inboundMessage,
                                                               HttpResource httpResource) {
+        AdmissionController admissionController = httpResource.getAdmissionController();
+        // HTTP/3 streams don't report their completion yet, hence they are not accounted for
+        if (admissionController != null && inboundMessage.getHttp3MessageStateContext() == null
+                && !inboundMessage.admitToResource(admissionController)) {
+            rejectRequest(inboundMessage, admissionController.getRetryAfter());
+            return;
+        }
         boolean isTransactionInfectable = httpResource.isTransactionInfectable();
         Map<String, Object> properties = collectRequestProperties(inboundMessage, isTransactionInfectable);
+        // Lets the desugared auth code of the resource find the auth handler chain resolved for it
+        properties.put(HttpConstants.CURRENT_RESOURCE, httpResource);
         Object[] signatureParams = HttpDispatcher.getSignatureParameters(httpResource, inboundMessage, endpointConfig);
 
         if (ObserveUtils.isObservabilityEnabled()) {
@@ -169,14 +230,17 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             inboundMessage.getHeaders().forEach(entry -> httpHeaders.put(entry.getKey(), entry.getValue()));
             observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, httpHeaders);
             observerContext.addTag(TAG_KEY_HTTP_METHOD, inboundMessage.getHttpMethod());
-            observerContext.addTag(TAG_KEY_PROTOCOL, (String) inboundMessage.getProperty(HttpConstants.PROTOCOL));
+            observerContext.addTag(TAG_KEY_PROTOCOL, (String) inboundMessage.getProperty(MessageProperty.PROTOCOL));
             observerContext.addTag(TAG_KEY_HTTP_URL, httpResource.getAbsoluteResourcePath());
             properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, observerContext);
             inboundMessage.setProperty(HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY, observerContext);
         }
+        RequestMetrics listenerMetrics = inboundMessage.getListenerMetrics();
+        if (listenerMetrics != null) {
+            inboundMessage.setResourceMetrics(httpResource.getRequestMetrics(listenerMetrics));
+        }
         Runtime runtime = httpServicesRegistry.getRuntime();
-        Callback callback = new HttpCallableUnitCallback(inboundMessage, runtime, httpResource.getReturnMediaType(),
-                            httpResource.getResponseCacheConfig());
+        Callback callback = new HttpCallableUnitCallback(inboundMessage, runtime, httpResource, endpointConfig);
         BObject service = httpResource.getParentService().getBalService();
         String resourceName = httpResource.getName();
         if (service.getType().isIsolated() && service.getType().isIsolated(resourceName)) {
@@ -190,14 +254,65 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static String getMetricsEndpointPath(BMap endpointConfig) {
+        if (endpointConfig == null) {
+            return null;
+        }
+        BMap<BString, Object> metricsConfig =
+                (BMap<BString, Object>) endpointConfig.getMapValue(HttpConstants.LISTENER_METRICS);
+        if (metricsConfig == null || !metricsConfig.getBooleanValue(HttpConstants.LISTENER_METRICS_ENABLED)) {
+            return null;
+        }
+        BString endpointPath = metricsConfig.getStringValue(HttpConstants.LISTENER_METRICS_ENDPOINT_PATH);
+        return endpointPath != null ? endpointPath.getValue() : null;
+    }
+
+    private boolean isMetricsRequest(HttpCarbonMessage inboundMessage) {
+        String requestUrl = inboundMessage.getRequestUrl();
+        if (requestUrl == null || !requestUrl.startsWith(metricsEndpointPath)
+                || !HttpConstants.HTTP_METHOD_GET.equals(inboundMessage.getHttpMethod())) {
+            return false;
+        }
+        return requestUrl.length() == metricsEndpointPath.length()
+                || requestUrl.charAt(metricsEndpointPath.length()) == '?';
+    }
+
+    private static void serveRequestMetrics(HttpCarbonMessage inboundMessage) {
+        String metrics = RequestMetricsRegistry.getInstance().toPrometheusText();
+        HttpCarbonMessage response = HttpUtil.createHttpCarbonMessage(false);
+        response.waitAndReleaseAllEntities();
+        response.addHttpContent(new DefaultLastHttpContent(
+                Unpooled.wrappedBuffer(metrics.getBytes(CharsetUtil.UTF_8))));
+        response.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), PROMETHEUS_CONTENT_TYPE);
+        response.setHttpStatusCode(200);
+        PipeliningHandler.sendPipelinedResponse(inboundMessage, response);
+        discardEntityBody(inboundMessage);
+    }
+
+    private static void rejectRequest(HttpCarbonMessage inboundMessage, long retryAfter) {
+        HttpCarbonMessage response = HttpUtil.createHttpCarbonMessage(false);
+        response.waitAndReleaseAllEntities();
+        response.addHttpContent(new DefaultLastHttpContent());
+        response.setHeader(HttpHeaderNames.RETRY_AFTER.toString(), String.valueOf(retryAfter));
+        response.setHttpStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        PipeliningHandler.sendPipelinedResponse(inboundMessage, response);
+        discardEntityBody(inboundMessage);
+    }
+
+    private static void discardEntityBody(HttpCarbonMessage inboundMessage) {
+        // The body may still be arriving, hence it is released as it does rather than waited for on the event loop
+        inboundMessage.getHttpContentAsync().setMessageListener(HttpContent::release);
+    }
+
     protected boolean accessed(HttpCarbonMessage inboundMessage) {
         return inboundMessage.getProperty(HTTP_RESOURCE) != null;
     }
 
     private Map<String, Object> collectRequestProperties(HttpCarbonMessage inboundMessage, boolean isInfectable) {
         Map<String, Object> properties = new HashMap<>();
-        if (inboundMessage.getProperty(HttpConstants.SRC_HANDLER) != null) {
-            Object srcHandler = inboundMessage.getProperty(HttpConstants.SRC_HANDLER);
+        if (inboundMessage.getProperty(MessageProperty.SRC_HANDLER) != null) {
+            Object srcHandler = inboundMessage.getProperty(MessageProperty.SRC_HANDLER);
             properties.put(HttpConstants.SRC_HANDLER, srcHandler);
         }
         String txnId = inboundMessage.getHeader(HttpConstants.HEADER_X_XID);
@@ -214,7 +329,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             properties.put(RuntimeConstants.TRANSACTION_URL, registerAtUrl);
             properties.put(RuntimeConstants.TRANSACTION_INFO, trxInfo);
         }
-        properties.put(HttpConstants.REMOTE_ADDRESS, inboundMessage.getProperty(HttpConstants.REMOTE_ADDRESS));
+        properties.put(HttpConstants.REMOTE_ADDRESS, inboundMessage.getProperty(MessageProperty.REMOTE_ADDRESS));
         properties.put(HttpConstants.ORIGIN_HOST, inboundMessage.getHeader(HttpConstants.ORIGIN_HOST));
         properties.put(HttpConstants.POOLED_BYTE_BUFFER_FACTORY,
                        inboundMessage.getHeader(HttpConstants.POOLED_BYTE_BUFFER_FACTORY));
@@ -226,6 +341,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
                                                                          InterceptorResource resource,
                                                                          HTTPInterceptorServicesRegistry registry) {
         Map<String, Object> properties = collectRequestProperties(inboundMessage, true);
+        properties.put(HttpConstants.CURRENT_RESOURCE, resource);
         Object[] signatureParams = HttpDispatcher.getSignatureParameters(resource, inboundMessage, endpointConfig);
 
         Runtime runtime = registry.getRuntime();
@@ -233,7 +349,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         BObject service = resource.getParentService().getBalService();
         String resourceName = resource.getName();
 
-        inboundMessage.removeProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
+        inboundMessage.removeProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR);
 
         if (service.getType().isIsolated() && service.getType().isIsolated(resourceName)) {
             runtime.invokeMethodAsyncConcurrently(service, resourceName, null,
@@ -249,17 +365,18 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
     protected void executeMainResourceOnMessage(HttpCarbonMessage inboundMessage) {
         HttpResource httpResource;
         if (accessed(inboundMessage)) {
-            inboundMessage.removeProperty(HttpConstants.WAIT_FOR_FULL_REQUEST);
+            inboundMessage.removeProperty(MessageProperty.WAIT_FOR_FULL_REQUEST);
             httpResource = (HttpResource) inboundMessage.getProperty(HTTP_RESOURCE);
             extractPropertiesAndStartResourceExecution(inboundMessage, httpResource);
             return;
         }
         httpResource = HttpDispatcher.findResource(httpServicesRegistry, inboundMessage);
         // Checking whether main resource has data-binding and if we already executed an interceptor resource
-        // we skip getting the full request
-        if (HttpDispatcher.shouldDiffer(httpResource) && inboundMessage.isAccessedInNonInterceptorService()) {
+        // we skip getting the full request. Small requests arrive here already complete, hence need not wait
+        if (HttpDispatcher.shouldDiffer(httpResource) && inboundMessage.isAccessedInNonInterceptorService()
+                && !inboundMessage.isLastHttpContentArrived()) {
             inboundMessage.setProperty(HTTP_RESOURCE, httpResource);
-            inboundMessage.setProperty(HttpConstants.WAIT_FOR_FULL_REQUEST, true);
+            inboundMessage.setProperty(MessageProperty.WAIT_FOR_FULL_REQUEST, true);
             //Removes inbound content listener since data binding waits for all contents to be received
             //before executing its logic.
             inboundMessage.removeInboundContentListener();
@@ -267,7 +384,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         }
         try {
             if (httpResource != null) {
-                inboundMessage.removeProperty(HttpConstants.INTERCEPTOR_SERVICE);
+                inboundMessage.removeProperty(MessageProperty.INTERCEPTOR_SERVICE);
                 extractPropertiesAndStartResourceExecution(inboundMessage, httpResource);
             }
         } catch (BallerinaConnectorException ex) {
@@ -292,20 +409,23 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         }
     }
 
-    private void setTargetServiceToInboundMsg(HttpCarbonMessage inboundMessage) {
-        inboundMessage.setProperty(INTERCEPTOR_SERVICES_REGISTRIES, httpInterceptorServicesRegistries);
-        inboundMessage.setProperty(INTERCEPTORS, listenerLevelInterceptors);
+    private HttpService setTargetServiceToInboundMsg(HttpCarbonMessage inboundMessage) {
+        inboundMessage.setProperty(MessageProperty.INTERCEPTOR_SERVICES_REGISTRIES, httpInterceptorServicesRegistries);
+        inboundMessage.setProperty(MessageProperty.INTERCEPTORS, listenerLevelInterceptors);
         try {
             HttpService targetService = HttpDispatcher.findService(httpServicesRegistry, inboundMessage, true);
-            inboundMessage.setProperty(HttpConstants.TARGET_SERVICE, targetService.getBalService());
+            inboundMessage.setProperty(MessageProperty.TARGET_SERVICE, targetService.getBalService());
             if (targetService.hasInterceptors()) {
-                inboundMessage.setProperty(INTERCEPTORS, targetService.getBalInterceptorServicesArray());
-                inboundMessage.setProperty(INTERCEPTOR_SERVICES_REGISTRIES,
+                inboundMessage.setProperty(MessageProperty.INTERCEPTORS,
+                                           targetService.getBalInterceptorServicesArray());
+                inboundMessage.setProperty(MessageProperty.INTERCEPTOR_SERVICES_REGISTRIES,
                                            targetService.getInterceptorServicesRegistries());
             }
+            return targetService;
         } catch (Exception e) {
-            inboundMessage.setProperty(HttpConstants.TARGET_SERVICE, HttpUtil.createHttpError(e.getMessage(),
+            inboundMessage.setProperty(MessageProperty.TARGET_SERVICE, HttpUtil.createHttpError(e.getMessage(),
                     HttpErrorType.GENERIC_LISTENER_ERROR));
+            return null;
         }
     }
 }
@@ -48,6 +48,7 @@ public class HTTPServicesRegistry {
     protected Map<String, HttpService> servicesByBasePath;
     protected List<String> sortedServiceURIs;
     private Runtime runtime;
+    private String listenerId;
 
     /**
      * Get ServiceInfo instance for given interface and base path.
@@ -116,6 +117,9 @@ public class HTTPServicesRegistry {
                                                    "have the same basePath : '" + basePath + errorMessage));
         }
         servicesByBasePath.put(basePath, httpService);
+        if (listenerId != null) {
+            httpService.getResources().forEach(resource -> resource.registerAdmissionMBean(listenerId));
+        }
         if (logger.isDebugEnabled()) {
             logger.debug(String.format("Service deployed : %s with context %s", service.getType().getName(), basePath));
         }
@@ -153,6 +157,15 @@ public class HTTPServicesRegistry {
         this.runtime = runtime;
     }
 
+    /**
+     * Sets the id of the listener the services are attached to, which names the JMX beans of their resources.
+     *
+     * @param listenerId id of the listener
+     */
+    public void setListenerId(String listenerId) {
+        this.listenerId = listenerId;
+    }
+
     public Map<String, ServicesMapHolder> getServicesMapByHost() {
         return this.servicesMapByHost;
     }
@@ -199,8 +212,11 @@ public class HTTPServicesRegistry {
             logger.error(basePath + " service is not attached to the listener");
             return;
         }
-        servicesByBasePath.remove(basePath);
+        HttpService registeredService = servicesByBasePath.remove(basePath);
         sortedServiceURIs.remove(basePath);
+        if (listenerId != null) {
+            registeredService.getResources().forEach(resource -> resource.unRegisterAdmissionMBean(listenerId));
+        }
         if (logger.isDebugEnabled()) {
             logger.debug(String.format("Service detached : %s with context %s", service.getType().getName(), basePath));
         }
@@ -27,6 +27,7 @@ import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY;
 import static java.lang.System.err;
@@ -37,28 +38,51 @@ import static java.lang.System.err;
  * @since 0.94
  */
 public class HttpCallableUnitCallback implements Callback {
-    private final BObject caller;
+    private BObject caller;
     private final Runtime runtime;
     private final String returnMediaType;
     private final BMap cacheConfig;
+    private final HttpResource httpResource;
+    private final BMap endpointConfig;
     private HttpCarbonMessage requestMessage;
     private static final String ILLEGAL_FUNCTION_INVOKED = "illegal return: response has already been sent";
 
     HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime, String returnMediaType,
                              BMap cacheConfig) {
+        this(requestMessage, runtime, null, null, returnMediaType, cacheConfig);
+    }
+
+    HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime, HttpResource httpResource,
+                             BMap endpointConfig) {
+        this(requestMessage, runtime, httpResource, endpointConfig, httpResource.getReturnMediaType(),
+             httpResource.getResponseCacheConfig());
+    }
+
+    private HttpCallableUnitCallback(HttpCarbonMessage requestMessage, Runtime runtime, HttpResource httpResource,
+                                     BMap endpointConfig, String returnMediaType, BMap cacheConfig) {
         this.requestMessage = requestMessage;
-        this.caller = getCaller(requestMessage);
         this.runtime = runtime;
+        this.httpResource = httpResource;
+        this.endpointConfig = endpointConfig;
         this.returnMediaType = returnMediaType;
         this.cacheConfig = cacheConfig;
     }
 
-    private BObject getCaller(HttpCarbonMessage requestMessage) {
-        BObject caller = requestMessage.getProperty(HttpConstants.CALLER) == null ?
-                         ValueCreatorUtils.createCallerObject(requestMessage) :
-                         (BObject) requestMessage.getProperty(HttpConstants.CALLER);
-        caller.addNativeData(HttpConstants.TRANSPORT_MESSAGE, requestMessage);
-        requestMessage.setProperty(HttpConstants.CALLER, caller);
+    // The caller is created only when the resource returns, unless it was already bound to the resource signature
+    private BObject getCaller() {
+        if (caller != null) {
+            return caller;
+        }
+        BObject httpCaller = (BObject) requestMessage.getProperty(MessageProperty.CALLER);
+        if (httpResource != null && (httpCaller == null ||
+                httpCaller.getNativeData(HttpConstants.HTTP_SERVICE) != httpResource.getParentService())) {
+            httpCaller = HttpDispatcher.getCaller(httpResource, requestMessage, endpointConfig);
+        } else if (httpCaller == null) {
+            httpCaller = ValueCreatorUtils.createCallerObject(requestMessage);
+        }
+        httpCaller.addNativeData(HttpConstants.TRANSPORT_MESSAGE, requestMessage);
+        requestMessage.setProperty(MessageProperty.CALLER, httpCaller);
+        caller = httpCaller;
         return caller;
     }
 
@@ -114,7 +138,7 @@ public class HttpCallableUnitCallback implements Callback {
             }
         };
         runtime.invokeMethodAsyncSequentially(
-                caller, methodName, null, ModuleUtils.getNotifySuccessMetaData(),
+                getCaller(), methodName, null, ModuleUtils.getNotifySuccessMetaData(),
                 returnCallback, null, PredefinedTypes.TYPE_NULL, paramFeed);
     }
 
@@ -138,7 +162,7 @@ public class HttpCallableUnitCallback implements Callback {
     }
 
     public void invokeErrorInterceptors(BError error, boolean printError) {
-        requestMessage.setProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR, error);
+        requestMessage.setProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR, error);
         if (printError) {
             error.printStackTrace();
         }
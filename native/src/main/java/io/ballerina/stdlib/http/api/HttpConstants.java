@@ -221,6 +221,7 @@ public class HttpConstants {
     public static final String TRANSPORT_HANDLE = "transport_handle";
     public static final String TRANSPORT_PUSH_PROMISE = "transport_push_promise";
     public static final String MESSAGE_OUTPUT_STREAM = "message_output_stream";
+    public static final String RESPONSE_STREAMING_CONFIG = "response_streaming_config";
     public static final String HTTP_SESSION = "http_session";
     public static final String MUTUAL_SSL_HANDSHAKE_RECORD = "MutualSslHandshake";
 
@@ -278,6 +279,8 @@ public class HttpConstants {
     public static final BString RESPONSE_SERVER_FIELD = StringUtils.fromString("server");
     public static final BString RESOLVED_REQUESTED_URI_FIELD = StringUtils.fromString("resolvedRequestedURI");
     public static final BString RESPONSE_CACHE_CONTROL_FIELD = StringUtils.fromString("cacheControl");
+    public static final BString STREAMING_CONFIG_COALESCE_SIZE = StringUtils.fromString("coalesceSize");
+    public static final BString STREAMING_CONFIG_COALESCE_WINDOW = StringUtils.fromString("coalesceWindow");
     public static final String IN_RESPONSE_RECEIVED_TIME_FIELD = "receivedTime";
 
     //PushPromise struct field names
@@ -312,6 +315,11 @@ public class HttpConstants {
     public static final BString HTTP_LOG_FILE_PATH = StringUtils.fromString("path");
     public static final BString HTTP_TRACE_LOG_HOST = StringUtils.fromString("host");
     public static final BString HTTP_TRACE_LOG_PORT = StringUtils.fromString("port");
+    public static final BString HTTP_TRACE_LOG_BINARY = StringUtils.fromString("binary");
+    public static final BString HTTP_TRACE_LOG_SAMPLING_RATE = StringUtils.fromString("samplingRate");
+    public static final BString HTTP_TRACE_LOG_SAMPLING_HEADER = StringUtils.fromString("samplingHeader");
+    public static final BString HTTP_TRACE_LOG_BUFFER_SIZE = StringUtils.fromString("bufferSize");
+    public static final BString HTTP_TRACE_LOG_PAYLOAD_BYTES = StringUtils.fromString("payloadBytes");
     public static final BString HTTP_LOGGING_PROTOCOL = StringUtils.fromString("HTTP");
 
     // ResponseCacheControl struct field names
@@ -433,6 +441,7 @@ public class HttpConstants {
 
     //Client Endpoint (CallerActions)
     public static final String CLIENT_ENDPOINT_SERVICE_URI = "url";
+    public static final String CLIENT_ENDPOINT_REQUEST_TARGET = "requestTarget";
     public static final String CLIENT_ENDPOINT_CONFIG = "config";
     public static final int CLIENT_ENDPOINT_CONFIG_INDEX = 0;
     public static final int CLIENT_ENDPOINT_URL_INDEX = 0;
@@ -452,6 +461,23 @@ public class HttpConstants {
     public static final BString HTTP2_SETTINGS = StringUtils.fromString("http2Settings");
     public static final BString REQUEST_LIMITS = StringUtils.fromString("requestLimits");
     public static final BString RESPONSE_LIMITS = StringUtils.fromString("responseLimits");
+    public static final BString LISTENER_METRICS = StringUtils.fromString("metrics");
+    public static final BString LISTENER_METRICS_ENABLED = StringUtils.fromString("enabled");
+    public static final BString LISTENER_METRICS_ENDPOINT_PATH = StringUtils.fromString("endpointPath");
+
+    //Admission control field names
+    public static final BString ADMISSION = StringUtils.fromString("admission");
+    public static final BString ADMISSION_MAX_IN_FLIGHT_REQUESTS = StringUtils.fromString("maxInFlightRequests");
+    public static final BString ADMISSION_MIN_IN_FLIGHT_REQUESTS = StringUtils.fromString("minInFlightRequests");
+    public static final BString ADMISSION_ADAPTIVE = StringUtils.fromString("adaptive");
+    public static final BString ADMISSION_RETRY_AFTER = StringUtils.fromString("retryAfter");
+
+    //Rate limit field names
+    public static final BString RATE_LIMIT = StringUtils.fromString("rateLimit");
+    public static final BString RATE_LIMIT_REQUESTS_PER_SECOND = StringUtils.fromString("requestsPerSecond");
+    public static final BString RATE_LIMIT_BURST = StringUtils.fromString("burst");
+    public static final BString RATE_LIMIT_KEY = StringUtils.fromString("key");
+    public static final BString RATE_LIMIT_HEADER = StringUtils.fromString("header");
 
     //Connection Throttling field names
     public static final String CONNECTION_THROTTLING_STRUCT_REFERENCE = "connectionThrottling";
@@ -494,6 +520,19 @@ public class HttpConstants {
     public static final String CLIENT_EP_RETRY = "retry";
     public static final String RETRY_COUNT = "count";
     public static final String RETRY_INTERVAL = "intervalInMillis";
+    public static final String RETRY_POLICY = "RETRY_POLICY";
+    public static final BString RETRY_CONFIG_INTERVAL = StringUtils.fromString("interval");
+    public static final BString RETRY_BACK_OFF_FACTOR = StringUtils.fromString("backOffFactor");
+    public static final BString RETRY_MAX_WAIT_INTERVAL = StringUtils.fromString("maxWaitInterval");
+    public static final BString RETRY_JITTER = StringUtils.fromString("jitter");
+    public static final BString RETRY_BUDGET = StringUtils.fromString("budget");
+    public static final BString BUDGET_MAX_RATIO = StringUtils.fromString("maxRatio");
+    public static final BString BUDGET_BURST = StringUtils.fromString("burst");
+    public static final String HEDGE_POLICY = "HEDGE_POLICY";
+    public static final String HEDGE_OUTCOME = "HEDGE_OUTCOME";
+    public static final BString RETRY_HEDGE = StringUtils.fromString("hedge");
+    public static final BString HEDGE_DELAY = StringUtils.fromString("delay");
+    public static final BString HEDGE_PERCENTILE = StringUtils.fromString("percentile");
 
     public static final BString SERVICE_ENDPOINT_PROTOCOL_FIELD = StringUtils.fromString("protocol");
     public static final BString CALLER_PRESENT_FIELD = StringUtils.fromString("present");
@@ -512,6 +551,38 @@ public class HttpConstants {
     //WebSocket Related constants for WebSocket upgrade
     public static final String NATIVE_DATA_WEBSOCKET_CONNECTION_MANAGER = "NATIVE_DATA_WEBSOCKET_CONNECTION_MANAGER";
 
+    //Declarative auth related constants
+    public static final String AUTH_HANDLER_CHAINS = "AUTH_HANDLER_CHAINS";
+    public static final String CURRENT_RESOURCE = "CURRENT_RESOURCE";
+    public static final String CREDENTIAL_CACHE = "CREDENTIAL_CACHE";
+    public static final BString CREDENTIAL_CACHE_ENABLED = StringUtils.fromString("enabled");
+    public static final BString CREDENTIAL_CACHE_CAPACITY = StringUtils.fromString("capacity");
+    public static final BString CREDENTIAL_CACHE_TTL = StringUtils.fromString("ttl");
+    public static final BString CREDENTIAL_CACHE_NEGATIVE_TTL = StringUtils.fromString("negativeTtl");
+
+    //Transport metrics related constants
+    public static final String POOL_STATS_RECORD = "PoolStats";
+    public static final BString POOL_STATS_ID = StringUtils.fromString("id");
+    public static final BString POOL_STATS_SCHEME = StringUtils.fromString("scheme");
+    public static final BString POOL_STATS_HOST = StringUtils.fromString("host");
+    public static final BString POOL_STATS_PORT = StringUtils.fromString("port");
+    public static final BString POOL_STATS_ACTIVE = StringUtils.fromString("activeConnections");
+    public static final BString POOL_STATS_IDLE = StringUtils.fromString("idleConnections");
+    public static final BString POOL_STATS_HTTP2_CONNECTIONS = StringUtils.fromString("http2Connections");
+    public static final BString POOL_STATS_HTTP2_STREAMS = StringUtils.fromString("http2ActiveStreams");
+    public static final BString POOL_STATS_BORROWS = StringUtils.fromString("borrowCount");
+    public static final BString POOL_STATS_EXHAUSTED = StringUtils.fromString("exhaustedCount");
+    public static final BString POOL_STATS_MEAN_WAIT = StringUtils.fromString("meanBorrowWaitTime");
+    public static final BString POOL_STATS_P99_WAIT = StringUtils.fromString("p99BorrowWaitTime");
+    public static final BString POOL_STATS_MAX_WAIT = StringUtils.fromString("maxBorrowWaitTime");
+    public static final String EVENT_LOOP_STATS_RECORD = "EventLoopStats";
+    public static final BString EVENT_LOOP_STATS_NAME = StringUtils.fromString("name");
+    public static final BString EVENT_LOOP_STATS_PENDING_TASKS = StringUtils.fromString("pendingTasks");
+    public static final BString EVENT_LOOP_STATS_LAST_LAG = StringUtils.fromString("lastLag");
+    public static final BString EVENT_LOOP_STATS_MEAN_LAG = StringUtils.fromString("meanLag");
+    public static final BString EVENT_LOOP_STATS_P99_LAG = StringUtils.fromString("p99Lag");
+    public static final BString EVENT_LOOP_STATS_MAX_LAG = StringUtils.fromString("maxLag");
+
     public static final int REQUEST_STRUCT_INDEX = 1;
     public static final boolean DIRTY_REQUEST = true;
     public static final String NO_ENTITY_BODY = "NO_ENTITY_BODY";
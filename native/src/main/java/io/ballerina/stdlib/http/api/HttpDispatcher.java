@@ -19,39 +19,27 @@
 package io.ballerina.stdlib.http.api;
 
 import io.ballerina.runtime.api.creators.ErrorCreator;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.stdlib.http.api.service.signature.AllHeaderParams;
-import io.ballerina.stdlib.http.api.service.signature.AllQueryParams;
+import io.ballerina.stdlib.http.api.service.signature.BindingContext;
 import io.ballerina.stdlib.http.api.service.signature.NonRecurringParam;
-import io.ballerina.stdlib.http.api.service.signature.ParamHandler;
 import io.ballerina.stdlib.http.api.service.signature.Parameter;
-import io.ballerina.stdlib.http.api.service.signature.PayloadParam;
 import io.ballerina.stdlib.http.api.service.signature.RemoteMethodParamHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.uri.URIUtil;
 import io.netty.handler.codec.http.HttpHeaderNames;
 
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
-import java.net.URLDecoder;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static io.ballerina.runtime.api.TypeTags.ARRAY_TAG;
 import static io.ballerina.stdlib.http.api.HttpConstants.DEFAULT_HOST;
-import static io.ballerina.stdlib.http.api.HttpConstants.EXTRA_PATH_INDEX;
-import static io.ballerina.stdlib.http.api.service.signature.ParamUtils.castParam;
-import static io.ballerina.stdlib.http.api.service.signature.ParamUtils.castParamArray;
 
 /**
  * {@code HttpDispatcher} is responsible for dispatching incoming http requests to the correct resource.
@@ -75,11 +63,11 @@ public class HttpDispatcher {
                 sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
-                String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
+                String localAddress = inboundReqMsg.getProperty(MessageProperty.LOCAL_ADDRESS).toString();
                 throw new BallerinaConnectorException("no service has registered for listener : " + localAddress);
             }
 
-            String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
+            String rawUri = (String) inboundReqMsg.getProperty(MessageProperty.TO);
             Map<String, Map<String, String>> matrixParams = new HashMap<>();
             String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
 
@@ -97,9 +85,9 @@ public class HttpDispatcher {
             HttpService service = servicesOnInterface.get(basePath);
             if (!forInterceptors) {
                 setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
-                inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
-                inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-                inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+                inboundReqMsg.setProperty(MessageProperty.RAW_URI, rawUri);
+                inboundReqMsg.setProperty(MessageProperty.TO, uriWithoutMatrixParams);
+                inboundReqMsg.setProperty(MessageProperty.MATRIX_PARAMS, matrixParams);
             }
             return service;
         } catch (Exception e) {
@@ -124,7 +112,7 @@ public class HttpDispatcher {
                 sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
-                String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
+                String localAddress = inboundReqMsg.getProperty(MessageProperty.LOCAL_ADDRESS).toString();
                 throw new BallerinaConnectorException("no service has registered for listener : " + localAddress);
             }
 
@@ -134,13 +122,13 @@ public class HttpDispatcher {
                 return services[0];
             }
 
-            String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
-            inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
+            String rawUri = (String) inboundReqMsg.getProperty(MessageProperty.TO);
+            inboundReqMsg.setProperty(MessageProperty.RAW_URI, rawUri);
             Map<String, Map<String, String>> matrixParams = new HashMap<>();
             String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
 
-            inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-            inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+            inboundReqMsg.setProperty(MessageProperty.TO, uriWithoutMatrixParams);
+            inboundReqMsg.setProperty(MessageProperty.MATRIX_PARAMS, matrixParams);
 
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
@@ -163,11 +151,11 @@ public class HttpDispatcher {
 
     private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
         String subPath = URIUtil.getSubPath(requestUri.getRawPath(), basePath);
-        inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
-        inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
-        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestUri.getQuery());
+        inboundReqMsg.setProperty(MessageProperty.BASE_PATH, basePath);
+        inboundReqMsg.setProperty(MessageProperty.SUB_PATH, subPath);
+        inboundReqMsg.setProperty(MessageProperty.QUERY_STR, requestUri.getQuery());
         //store query params comes with request as it is
-        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestUri.getRawQuery());
+        inboundReqMsg.setProperty(MessageProperty.RAW_QUERY_STR, requestUri.getRawQuery());
     }
 
     public static URI getValidatedURI(String uriStr) {
@@ -188,7 +176,7 @@ public class HttpDispatcher {
      * @return matching resource.
      */
     public static HttpResource findResource(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundMessage) {
-        String protocol = (String) inboundMessage.getProperty(HttpConstants.PROTOCOL);
+        String protocol = (String) inboundMessage.getProperty(MessageProperty.PROTOCOL);
         if (protocol == null) {
             throw new BallerinaConnectorException("protocol not defined in the incoming request");
         }
@@ -210,7 +198,7 @@ public class HttpDispatcher {
 
     public static InterceptorResource findInterceptorResource(HTTPInterceptorServicesRegistry servicesRegistry,
                                                               HttpCarbonMessage inboundMessage) {
-        String protocol = (String) inboundMessage.getProperty(HttpConstants.PROTOCOL);
+        String protocol = (String) inboundMessage.getProperty(MessageProperty.PROTOCOL);
         if (protocol == null) {
             throw new BallerinaConnectorException("protocol not defined in the incoming request");
         }
@@ -234,7 +222,7 @@ public class HttpDispatcher {
                                                         HttpCarbonMessage httpCarbonMessage) {
         BObject requestCtx = getRequestCtx(httpCarbonMessage);
         populatePropertiesForResponsePath(httpCarbonMessage, requestCtx);
-        BError error = (BError) httpCarbonMessage.getProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
+        BError error = (BError) httpCarbonMessage.getProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR);
         RemoteMethodParamHandler paramHandler = service.getRemoteMethodParamHandler();
         int sigParamCount = paramHandler.getParamCount();
         Object[] paramFeed = new Object[sigParamCount * 2];
@@ -273,8 +261,8 @@ public class HttpDispatcher {
 
     private static void populatePropertiesForResponsePath(HttpCarbonMessage httpCarbonMessage, BObject requestCtx) {
         requestCtx.addNativeData(HttpConstants.INTERCEPTOR_SERVICE, true);
-        int interceptorId = httpCarbonMessage.getProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX) == null
-                ? 0 : (int) httpCarbonMessage.getProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX) + 1;
+        int interceptorId = httpCarbonMessage.getProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX) == null
+                ? 0 : (int) httpCarbonMessage.getProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX) + 1;
         requestCtx.addNativeData(HttpConstants.RESPONSE_INTERCEPTOR_INDEX, interceptorId);
         requestCtx.addNativeData(HttpConstants.INTERCEPTOR_SERVICE_TYPE,
                                  HttpConstants.RESPONSE_INTERCEPTOR);
@@ -283,87 +271,26 @@ public class HttpDispatcher {
 
     public static Object[] getSignatureParameters(Resource resource, HttpCarbonMessage httpCarbonMessage,
                                                   BMap<BString, Object> endpointConfig) {
-        BObject inRequest = null;
+        ResourceBindingContext context = new ResourceBindingContext(resource, httpCarbonMessage, endpointConfig);
         // Getting the same caller, request context and entity object to pass through interceptor services
-        BObject requestCtx = getRequestCtx(httpCarbonMessage);
-        populatePropertiesForRequestPath(resource, httpCarbonMessage, requestCtx);
-        BObject entityObj = (BObject) httpCarbonMessage.getProperty(HttpConstants.ENTITY_OBJ);
-        BError error = (BError) httpCarbonMessage.getProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
-        BObject httpCaller = getCaller(resource, httpCarbonMessage, endpointConfig);
-        ParamHandler paramHandler = resource.getParamHandler();
-        int sigParamCount = resource.getBalResource().getParameterTypes().length;
-        Object[] paramFeed = new Object[sigParamCount * 2];
-        int pathParamCount = paramHandler.getPathParamTokenLength();
-        boolean treatNilableAsOptional = resource.isTreatNilableAsOptional();
-        // Path params are located initially in the signature before the other user provided signature params
-        if (pathParamCount != 0) {
-            // populate path params
-            HttpResourceArguments resourceArgumentValues =
-                    (HttpResourceArguments) httpCarbonMessage.getProperty(HttpConstants.RESOURCE_ARGS);
-            updateWildcardToken(resource.getWildcardToken(), pathParamCount - 1, resourceArgumentValues.getMap());
-            populatePathParams(resource, paramFeed, resourceArgumentValues, pathParamCount);
+        if (resource instanceof InterceptorResource || hasInterceptors(httpCarbonMessage)) {
+            context.getRequestContext();
         }
-        // Following was written assuming that they are validated
-        for (Parameter param : paramHandler.getOtherParamList()) {
-            String typeName = param.getTypeName();
-            switch (typeName) {
-                case HttpConstants.CALLER:
-                    int index = ((NonRecurringParam) param).getIndex();
-                    httpCaller.set(HttpConstants.CALLER_PRESENT_FIELD, true);
-                    paramFeed[index++] = httpCaller;
-                    paramFeed[index] = true;
-                    break;
-                case HttpConstants.REQUEST_CONTEXT:
-                    index = ((NonRecurringParam) param).getIndex();
-                    paramFeed[index++] = requestCtx;
-                    paramFeed[index] = true;
-                    break;
-                case HttpConstants.STRUCT_GENERIC_ERROR:
-                    if (error == null) {
-                        error = createError();
-                    }
-                    index = ((NonRecurringParam) param).getIndex();
-                    paramFeed[index++] = error;
-                    paramFeed[index] = true;
-                    break;
-                case HttpConstants.REQUEST:
-                    if (inRequest == null) {
-                        inRequest = createRequest(httpCarbonMessage, entityObj);
-                    }
-                    index = ((NonRecurringParam) param).getIndex();
-                    paramFeed[index++] = inRequest;
-                    paramFeed[index] = true;
-                    break;
-                case HttpConstants.HEADERS:
-                    if (inRequest == null) {
-                        inRequest = createRequest(httpCarbonMessage, entityObj);
-                    }
-                    index = ((NonRecurringParam) param).getIndex();
-                    paramFeed[index++] = createHeadersObject(inRequest);
-                    paramFeed[index] = true;
-                    break;
-                case HttpConstants.QUERY_PARAM:
-                    ((AllQueryParams) param).populateFeed(httpCarbonMessage, paramHandler, paramFeed,
-                                                          treatNilableAsOptional);
-                    break;
-                case HttpConstants.HEADER_PARAM:
-                    ((AllHeaderParams) param).populateFeed(httpCarbonMessage, paramFeed, treatNilableAsOptional);
-                    break;
-                case HttpConstants.PAYLOAD_PARAM:
-                    if (inRequest == null) {
-                        inRequest = createRequest(httpCarbonMessage, entityObj);
-                    }
-                    ((PayloadParam) param).populateFeed(inRequest, httpCarbonMessage, paramFeed);
-                    break;
-                default:
-                    break;
-            }
+        Object[] paramFeed = resource.getParamHandler().bindParams(context);
+        if (resource instanceof InterceptorResource) {
+            // The request interceptor callback responds through the caller of the inbound message
+            context.getCaller();
         }
         return paramFeed;
     }
 
+    private static boolean hasInterceptors(HttpCarbonMessage httpCarbonMessage) {
+        Object registries = httpCarbonMessage.getProperty(MessageProperty.INTERCEPTOR_SERVICES_REGISTRIES);
+        return registries instanceof List && !((List<?>) registries).isEmpty();
+    }
+
     private static BObject getRequestCtx(HttpCarbonMessage httpCarbonMessage) {
-        BObject requestCtx = (BObject) httpCarbonMessage.getProperty(HttpConstants.REQUEST_CONTEXT);
+        BObject requestCtx = (BObject) httpCarbonMessage.getProperty(MessageProperty.REQUEST_CONTEXT);
         return requestCtx != null ? requestCtx : createRequestContext(httpCarbonMessage);
     }
 
@@ -374,8 +301,8 @@ public class HttpDispatcher {
         } else {
             requestCtx.addNativeData(HttpConstants.INTERCEPTOR_SERVICE, false);
         }
-        int interceptorId = httpCarbonMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) == null
-                ? 0 : (int) httpCarbonMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) - 1;
+        int interceptorId = httpCarbonMessage.getProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX) == null
+                ? 0 : (int) httpCarbonMessage.getProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX) - 1;
         requestCtx.addNativeData(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorId);
         requestCtx.addNativeData(HttpConstants.REQUEST_CONTEXT_NEXT, false);
         requestCtx.addNativeData(HttpConstants.INTERCEPTOR_SERVICE_TYPE,
@@ -392,24 +319,24 @@ public class HttpDispatcher {
 
     static BObject getCaller(Resource resource, HttpCarbonMessage httpCarbonMessage,
                              BMap<BString, Object> endpointConfig) {
-        final BObject httpCaller = httpCarbonMessage.getProperty(HttpConstants.CALLER) == null ?
+        final BObject httpCaller = httpCarbonMessage.getProperty(MessageProperty.CALLER) == null ?
                 ValueCreatorUtils.createCallerObject(httpCarbonMessage) :
-                (BObject) httpCarbonMessage.getProperty(HttpConstants.CALLER);
+                (BObject) httpCarbonMessage.getProperty(MessageProperty.CALLER);
         HttpUtil.enrichHttpCallerWithConnectionInfo(httpCaller, httpCarbonMessage, resource, endpointConfig);
         HttpUtil.enrichHttpCallerWithNativeData(httpCaller, httpCarbonMessage, endpointConfig);
-        httpCarbonMessage.setProperty(HttpConstants.CALLER, httpCaller);
+        httpCarbonMessage.setProperty(MessageProperty.CALLER, httpCaller);
         return httpCaller;
     }
 
     static BObject createRequestContext(HttpCarbonMessage httpCarbonMessage) {
         BObject requestContext = ValueCreatorUtils.createRequestContextObject();
-        BArray interceptors = httpCarbonMessage.getProperty(HttpConstants.INTERCEPTORS) instanceof BArray ?
-                              (BArray) httpCarbonMessage.getProperty(HttpConstants.INTERCEPTORS) : null;
+        BArray interceptors = httpCarbonMessage.getProperty(MessageProperty.INTERCEPTORS) instanceof BArray ?
+                              (BArray) httpCarbonMessage.getProperty(MessageProperty.INTERCEPTORS) : null;
         requestContext.addNativeData(HttpConstants.INTERCEPTORS, interceptors);
         requestContext.addNativeData(HttpConstants.TARGET_SERVICE, httpCarbonMessage.getProperty(
-                                     HttpConstants.TARGET_SERVICE));
+                                     MessageProperty.TARGET_SERVICE));
         requestContext.addNativeData(HttpConstants.REQUEST_CONTEXT_NEXT, false);
-        httpCarbonMessage.setProperty(HttpConstants.REQUEST_CONTEXT, requestContext);
+        httpCarbonMessage.setProperty(MessageProperty.REQUEST_CONTEXT, requestContext);
         return requestContext;
     }
 
@@ -417,60 +344,60 @@ public class HttpDispatcher {
         return ErrorCreator.createError(StringUtils.fromString("new error"));
     }
 
-    private static Object createHeadersObject(BObject inRequest) {
+    private static BObject createHeadersObject(BObject inRequest) {
         BObject headers = ValueCreatorUtils.createHeadersObject();
         headers.set(HttpConstants.HEADER_REQUEST_FIELD, inRequest);
         return headers;
     }
 
-    private static void populatePathParams(Resource resource, Object[] paramFeed,
-                                           HttpResourceArguments resourceArgumentValues, int pathParamCount) {
-
-        String[] pathParamTokens = Arrays.copyOfRange(resource.getBalResource().getParamNames(), 0, pathParamCount);
-        int actualSignatureParamIndex = 0;
-        for (String paramName : pathParamTokens) {
-            String argumentValue = resourceArgumentValues.getMap().get(paramName).get(actualSignatureParamIndex);
-            try {
-                argumentValue = URLDecoder.decode(argumentValue, "UTF-8");
-            } catch (UnsupportedEncodingException e) {
-                // we can simply ignore and send the value to application and let the
-                // application deal with the value.
-            }
-            int paramIndex = actualSignatureParamIndex * 2;
-            Type pathParamType = resource.getBalResource().getParameterTypes()[actualSignatureParamIndex++];
-
-            try {
-                if (pathParamType.getTag() == ARRAY_TAG) {
-                    int elementTypeTag = ((ArrayType) pathParamType).getElementType().getTag();
-                    String[] segments = argumentValue.substring(1).split(HttpConstants.SINGLE_SLASH);
-                    paramFeed[paramIndex++] = castParamArray(elementTypeTag, segments);
-                } else {
-                    paramFeed[paramIndex++] = castParam(pathParamType.getTag(), argumentValue);
-                }
-                paramFeed[paramIndex] = true;
-            } catch (Exception ex) {
-                throw new BallerinaConnectorException("Error in casting path param : " + ex.getMessage());
-            }
-        }
+    public static boolean shouldDiffer(Resource resource) {
+        return (resource != null && resource.getParamHandler().isPayloadBindingRequired());
     }
 
-    private static void updateWildcardToken(String wildcardToken, int wildCardIndex,
-                                            Map<String, Map<Integer, String>> arguments) {
-        if (wildcardToken == null) {
-            return;
+    /**
+     * Creates the signature objects of a resource on demand for the compiled parameter binders.
+     */
+    private static final class ResourceBindingContext extends BindingContext {
+
+        private final Resource resource;
+        private final BMap<BString, Object> endpointConfig;
+
+        ResourceBindingContext(Resource resource, HttpCarbonMessage inboundMessage,
+                               BMap<BString, Object> endpointConfig) {
+            super(inboundMessage, resource.isTreatNilableAsOptional());
+            this.resource = resource;
+            this.endpointConfig = endpointConfig;
         }
-        String wildcardPathSegment = arguments.get(HttpConstants.EXTRA_PATH_INFO).get(EXTRA_PATH_INDEX);
-        if (arguments.containsKey(wildcardToken)) {
-            Map<Integer, String> indexValueMap = arguments.get(wildcardToken);
-            indexValueMap.put(wildCardIndex, wildcardPathSegment);
-        } else {
-            arguments.put(wildcardToken, Collections.singletonMap(wildCardIndex, wildcardPathSegment));
+
+        @Override
+        public BObject createHeaders(BObject request) {
+            return createHeadersObject(request);
         }
-    }
 
+        @Override
+        protected BObject createCaller() {
+            return HttpDispatcher.getCaller(resource, getInboundMessage(), endpointConfig);
+        }
 
-    public static boolean shouldDiffer(Resource resource) {
-        return (resource != null && resource.getParamHandler().isPayloadBindingRequired());
+        @Override
+        protected BObject createRequest() {
+            HttpCarbonMessage inboundMessage = getInboundMessage();
+            return HttpDispatcher.createRequest(inboundMessage,
+                                                (BObject) inboundMessage.getProperty(MessageProperty.ENTITY_OBJ));
+        }
+
+        @Override
+        protected BObject createRequestContext() {
+            BObject requestCtx = getRequestCtx(getInboundMessage());
+            populatePropertiesForRequestPath(resource, getInboundMessage(), requestCtx);
+            return requestCtx;
+        }
+
+        @Override
+        protected BError createInterceptorError() {
+            BError error = (BError) getInboundMessage().getProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR);
+            return error != null ? error : createError();
+        }
     }
 
     private HttpDispatcher() {
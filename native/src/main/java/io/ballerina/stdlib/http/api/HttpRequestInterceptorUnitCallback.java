@@ -27,6 +27,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 
 /**
  * {@code HttpRequestInterceptorUnitCallback} is the responsible for acting on notifications received from Ballerina
@@ -46,9 +47,9 @@ public class HttpRequestInterceptorUnitCallback implements Callback {
                                        BallerinaHTTPConnectorListener ballerinaHTTPConnectorListener) {
         this.runtime = runtime;
         this.requestMessage = requestMessage;
-        this.requestCtx = (BObject) requestMessage.getProperty(HttpConstants.REQUEST_CONTEXT);
+        this.requestCtx = (BObject) requestMessage.getProperty(MessageProperty.REQUEST_CONTEXT);
         this.ballerinaHTTPConnectorListener = ballerinaHTTPConnectorListener;
-        this.caller = (BObject) requestMessage.getProperty(HttpConstants.CALLER);
+        this.caller = (BObject) requestMessage.getProperty(MessageProperty.CALLER);
     }
 
     @Override
@@ -72,7 +73,7 @@ public class HttpRequestInterceptorUnitCallback implements Callback {
     }
 
     public void invokeErrorInterceptors(BError error, boolean printError) {
-        requestMessage.setProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR, error);
+        requestMessage.setProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR, error);
         if (printError) {
             error.printStackTrace();
         }
@@ -118,7 +119,7 @@ public class HttpRequestInterceptorUnitCallback implements Callback {
 
     private void validateResponseAndProceed(Object result) {
         int interceptorId = getRequestInterceptorId();
-        requestMessage.setProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX, interceptorId);
+        requestMessage.setProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX, interceptorId);
         BArray interceptors = (BArray) requestCtx.getNativeData(HttpConstants.INTERCEPTORS);
         boolean nextCalled = (boolean) requestCtx.getNativeData(HttpConstants.REQUEST_CONTEXT_NEXT);
 
@@ -207,6 +208,6 @@ public class HttpRequestInterceptorUnitCallback implements Callback {
 
     private int getRequestInterceptorId() {
         return Math.max((int) requestCtx.getNativeData(HttpConstants.REQUEST_INTERCEPTOR_INDEX),
-                (int) requestMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX));
+                (int) requestMessage.getProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX));
     }
 }
@@ -21,12 +21,19 @@ import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.IdentifierUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
+import io.ballerina.stdlib.http.api.service.metadata.ResourceMetadata;
 import io.ballerina.stdlib.http.api.service.signature.ParamHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetricsRegistry;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.AdmissionController;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,10 +43,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.management.ObjectName;
+
 import static io.ballerina.stdlib.http.api.HttpConstants.ANN_NAME_RESOURCE_CONFIG;
+import static io.ballerina.stdlib.http.api.HttpConstants.AUTH_HANDLER_CHAINS;
 import static io.ballerina.stdlib.http.api.HttpConstants.SINGLE_SLASH;
 import static io.ballerina.stdlib.http.api.HttpUtil.checkConfigAnnotationAvailability;
 
@@ -76,11 +87,20 @@ public class HttpResource implements Resource {
     private String returnMediaType;
     private BMap cacheConfig;
     private boolean treatNilableAsOptional;
+    private ResourceMetadata resourceMetadata;
+    private volatile BMap authHandlerChain;
+    private volatile RequestMetrics requestMetrics;
+    private AdmissionController admissionController;
 
     protected HttpResource(MethodType resource, HttpService parentService) {
+        this(resource, parentService, null);
+    }
+
+    private HttpResource(MethodType resource, HttpService parentService, ResourceMetadata resourceMetadata) {
         this.balResource = resource;
         this.parentService = parentService;
         this.producesSubTypes = new ArrayList<>();
+        this.resourceMetadata = resourceMetadata;
         if (balResource instanceof ResourceMethodType) {
             this.populateResourcePath();
             this.populateMethod();
@@ -137,6 +157,12 @@ public class HttpResource implements Resource {
     }
 
     private void populateResourcePath() {
+        if (resourceMetadata != null) {
+            this.path = resourceMetadata.getPath();
+            this.wildcardToken = resourceMetadata.getWildcardToken();
+            this.pathParamCount = resourceMetadata.getPathParamCount();
+            return;
+        }
         ResourceMethodType resourceFunctionType = getBalResource();
         String[] paths = resourceFunctionType.getResourcePath();
         StringBuilder resourcePath = new StringBuilder();
@@ -217,13 +243,26 @@ public class HttpResource implements Resource {
         this.treatNilableAsOptional = treatNilableAsOptional;
     }
 
+    public BMap getAuthHandlerChain() {
+        return authHandlerChain;
+    }
+
+    public void setAuthHandlerChain(BMap authHandlerChain) {
+        this.authHandlerChain = authHandlerChain;
+    }
+
     @Override
     public boolean isTreatNilableAsOptional() {
         return treatNilableAsOptional;
     }
 
     public static HttpResource buildHttpResource(MethodType resource, HttpService httpService) {
-        HttpResource httpResource = new HttpResource(resource, httpService);
+        return buildHttpResource(resource, httpService, null);
+    }
+
+    public static HttpResource buildHttpResource(MethodType resource, HttpService httpService,
+                                                 ResourceMetadata resourceMetadata) {
+        HttpResource httpResource = new HttpResource(resource, httpService, resourceMetadata);
         BMap resourceConfigAnnotation = getResourceConfigAnnotation(resource);
 
         if (checkConfigAnnotationAvailability(resourceConfigAnnotation)) {
@@ -234,12 +273,32 @@ public class HttpResource implements Resource {
             httpResource.setCorsHeaders(CorsHeaders.buildCorsHeaders(resourceConfigAnnotation.getMapValue(CORS_FIELD)));
             httpResource
                     .setTransactionInfectable(resourceConfigAnnotation.getBooleanValue(TRANSACTION_INFECTABLE_FIELD));
+            httpResource.setAdmissionConfig(
+                    (BMap<BString, Object>) resourceConfigAnnotation.getMapValue(HttpConstants.ADMISSION));
         }
         processResourceCors(httpResource, httpService);
+        httpResource.setAuthHandlerChain(getPreparedAuthHandlerChain(resource, httpService));
         httpResource.prepareAndValidateSignatureParams();
         return httpResource;
     }
 
+    /**
+     * Get the auth handler chain which was prepared for the given resource when the service got attached.
+     *
+     * @param resource    The resource
+     * @param httpService The parent service
+     * @return the auth handler chain or null if it was not prepared
+     */
+    @SuppressWarnings("unchecked")
+    private static BMap getPreparedAuthHandlerChain(MethodType resource, HttpService httpService) {
+        BObject service = httpService.getBalService();
+        if (service == null || service.getNativeData(AUTH_HANDLER_CHAINS) == null) {
+            return null;
+        }
+        Map<String, BMap> authHandlerChains = (Map<String, BMap>) service.getNativeData(AUTH_HANDLER_CHAINS);
+        return authHandlerChains.get(IdentifierUtils.decodeIdentifier(resource.getName()));
+    }
+
     /**
      * Get the `BMap` resource configuration of the given resource.
      *
@@ -285,7 +344,8 @@ public class HttpResource implements Resource {
     }
 
     private void prepareAndValidateSignatureParams() {
-        paramHandler = new ParamHandler(getBalResource(), this.pathParamCount);
+        paramHandler = new ParamHandler(getBalResource(), this.pathParamCount, this.wildcardToken,
+                                        this.resourceMetadata);
     }
 
     @Override
@@ -328,6 +388,65 @@ public class HttpResource implements Resource {
         return cacheConfig;
     }
 
+    /**
+     * Returns the metrics of this resource on the listener of the given metrics. They are looked up once and kept
+     * here, a service being attached to a single listener in the common case.
+     *
+     * @param listenerMetrics metrics of the listener which received the request
+     * @return the resource metrics
+     */
+    public RequestMetrics getRequestMetrics(RequestMetrics listenerMetrics) {
+        RequestMetrics metrics = requestMetrics;
+        if (metrics == null || !metrics.getListener().equals(listenerMetrics.getListener())) {
+            String method = methods == null ? HttpConstants.DEFAULT_HTTP_METHOD : methods.get(0);
+            metrics = RequestMetricsRegistry.getInstance().getResourceMetrics(listenerMetrics.getListener(),
+                                                                              method + " " + getAbsoluteResourcePath());
+            requestMetrics = metrics;
+        }
+        return metrics;
+    }
+
+    private void setAdmissionConfig(BMap<BString, Object> admissionConfig) {
+        if (admissionConfig == null) {
+            return;
+        }
+        admissionController = new AdmissionController(HttpUtil.getAdmissionConfig(admissionConfig));
+    }
+
+    /**
+     * Exposes the admission control of this resource over JMX, named after the listener the service is attached to.
+     *
+     * @param listenerId id of the listener
+     */
+    void registerAdmissionMBean(String listenerId) {
+        if (admissionController != null) {
+            MBeanRegistrar.getInstance().registerMBean(admissionController, AdmissionController.MBEAN_CATEGORY,
+                                                       getAdmissionMBeanName(listenerId));
+        }
+    }
+
+    void unRegisterAdmissionMBean(String listenerId) {
+        if (admissionController != null) {
+            MBeanRegistrar.getInstance().unRegisterMBean(AdmissionController.MBEAN_CATEGORY,
+                                                         getAdmissionMBeanName(listenerId));
+        }
+    }
+
+    private String getAdmissionMBeanName(String listenerId) {
+        String method = methods == null ? HttpConstants.DEFAULT_HTTP_METHOD : methods.get(0);
+        String hostName = parentService.getHostName();
+        // Services of a listener can only share a base path under different host names
+        String service = HttpConstants.DEFAULT_HOST.equals(hostName) ? "" : hostName + " ";
+        return ObjectName.quote(listenerId + " " + service + method + " " + getAbsoluteResourcePath());
+    }
+
+    /**
+     * @return the admission control of this resource, null if it is not configured
+     */
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
     protected String getAbsoluteResourcePath() {
         return (parentService.getBasePath() + getPath()).replaceAll("/+", SINGLE_SLASH);
     }
@@ -29,6 +29,7 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.api.nativeimpl.connection.Respond;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 
 /**
  * {@code HttpResponseInterceptorUnitCallback} is the responsible for acting on notifications received from Ballerina
@@ -48,7 +49,7 @@ public class HttpResponseInterceptorUnitCallback implements Callback {
     public HttpResponseInterceptorUnitCallback(HttpCarbonMessage requestMessage, BObject caller, BObject response,
                                                Environment env, DataContext dataContext, Runtime runtime) {
         this.requestMessage = requestMessage;
-        this.requestCtx = (BObject) requestMessage.getProperty(HttpConstants.REQUEST_CONTEXT);
+        this.requestCtx = (BObject) requestMessage.getProperty(MessageProperty.REQUEST_CONTEXT);
         this.caller = caller;
         this.response = response;
         this.environment = env;
@@ -72,7 +73,7 @@ public class HttpResponseInterceptorUnitCallback implements Callback {
     }
 
     private void invokeErrorInterceptors(BError error, boolean printError) {
-        requestMessage.setProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR, error);
+        requestMessage.setProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR, error);
         if (printError) {
             error.printStackTrace();
         }
@@ -104,7 +105,7 @@ public class HttpResponseInterceptorUnitCallback implements Callback {
 
     private void validateResponseAndProceed(Object result) {
         int interceptorId = getResponseInterceptorId();
-        requestMessage.setProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX, interceptorId);
+        requestMessage.setProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX, interceptorId);
         BArray interceptors = (BArray) requestCtx.getNativeData(HttpConstants.INTERCEPTORS);
 
         if (alreadyResponded()) {
@@ -112,7 +113,7 @@ public class HttpResponseInterceptorUnitCallback implements Callback {
         }
 
         if (result == null) {
-            requestMessage.setProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX, -1);
+            requestMessage.setProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX, -1);
             sendResponseToNextService();
             return;
         }
@@ -158,7 +159,7 @@ public class HttpResponseInterceptorUnitCallback implements Callback {
 
     private int getResponseInterceptorId() {
         return Math.min((int) requestCtx.getNativeData(HttpConstants.RESPONSE_INTERCEPTOR_INDEX),
-                        (int) requestMessage.getProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX));
+                        (int) requestMessage.getProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX));
     }
 
     public void returnErrorResponse(BError error) {
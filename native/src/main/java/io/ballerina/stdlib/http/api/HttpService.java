@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.ServiceType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
@@ -30,6 +31,8 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
+import io.ballerina.stdlib.http.api.service.metadata.ServiceMetadata;
+import io.ballerina.stdlib.http.api.service.metadata.ServiceMetadataRegistry;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
 import io.ballerina.stdlib.http.uri.URITemplate;
@@ -80,6 +83,7 @@ public class HttpService implements Service {
     private String mediaTypeSubtypePrefix;
     private String introspectionResourcePath;
     private boolean treatNilableAsOptional = true;
+    private boolean admissionControlled;
     private List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries;
     private BArray balInterceptorServicesArray;
 
@@ -230,21 +234,30 @@ public class HttpService implements Service {
         } else {
             httpService.setHostName(HttpConstants.DEFAULT_HOST);
         }
-        processResources(httpService);
+        processResources(httpService, ServiceMetadataRegistry.getServiceMetadata(service).orElse(null));
         httpService.setAllAllowedMethods(DispatcherUtil.getAllResourceMethods(httpService));
+        httpService.admissionControlled = httpService.getResources().stream()
+                .anyMatch(resource -> resource.getAdmissionController() != null);
         return httpService;
     }
 
-    private static void processResources(HttpService httpService) {
+    private static void processResources(HttpService httpService, ServiceMetadata serviceMetadata) {
         List<HttpResource> httpResources = new ArrayList<>();
         for (MethodType resource : ((ServiceType) httpService.getBalService().getType()).getResourceMethods()) {
             if (!SymbolFlags.isFlagOn(resource.getFlags(), SymbolFlags.RESOURCE)) {
                 continue;
             }
-            updateResourceTree(httpService, httpResources, HttpResource.buildHttpResource(resource, httpService));
+            // Compiler generated metadata, when available, saves re-deriving the path and the parameter kinds
+            updateResourceTree(httpService, httpResources, HttpResource.buildHttpResource(resource, httpService,
+                    serviceMetadata == null ? null : serviceMetadata.getResource((ResourceMethodType) resource)));
         }
 
-        httpService.getIntrospectionDocName().ifPresent(openApiDocName -> {
+        Optional<String> introspectionDocName = serviceMetadata == null ? Optional.empty() :
+                serviceMetadata.getIntrospectionDocName();
+        if (introspectionDocName.isEmpty()) {
+            introspectionDocName = httpService.getIntrospectionDocName();
+        }
+        introspectionDocName.ifPresent(openApiDocName -> {
             String filePath = "resources/ballerina/http/" + openApiDocName + ".json";
             URL resourceUrl = HttpIntrospectionResource.class.getClassLoader().getResource(filePath);
             if (Objects.nonNull(resourceUrl)) {
@@ -376,6 +389,13 @@ public class HttpService implements Service {
         }
     }
 
+    /**
+     * @return true if any resource of this service has admission control
+     */
+    public boolean isAdmissionControlled() {
+        return admissionControlled;
+    }
+
     public boolean hasInterceptors() {
         return Objects.nonNull(this.getInterceptorServicesRegistries()) &&
                 !this.getInterceptorServicesRegistries().isEmpty();
@@ -48,6 +48,7 @@ import io.ballerina.stdlib.http.api.service.endpoint.Register;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.HttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.contract.config.AdmissionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ForwardedExtensionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
@@ -55,6 +56,7 @@ import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.Parameter;
 import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.config.RateLimitConfig;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.SslConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
@@ -68,6 +70,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolC
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.io.utils.IOConstants;
 import io.ballerina.stdlib.io.utils.IOUtils;
 import io.ballerina.stdlib.mime.util.EntityBodyChannel;
@@ -219,7 +222,7 @@ public class HttpUtil {
             ((HttpHeaders) messageObj.getNativeData(HTTP_HEADERS)).set(HttpHeaderNames.CONTENT_TYPE.toString(),
                                                                                      contentType);
         }
-        httpCarbonMessage.setProperty(HttpConstants.ENTITY_OBJ, entityObj);
+        httpCarbonMessage.setProperty(MessageProperty.ENTITY_OBJ, entityObj);
         messageObj.set(isRequest ? REQUEST_ENTITY_FIELD : RESPONSE_ENTITY_FIELD, entityObj);
         messageObj.addNativeData(IS_BODY_BYTE_CHANNEL_ALREADY_SET, checkEntityBodyAvailability(entityObj));
         if (updateAllHeaders) {
@@ -253,7 +256,7 @@ public class HttpUtil {
         if (entityHeadersRequired) {
             populateEntityHeaders(messageObj, entity);
         }
-        httpCarbonMessage.setProperty(HttpConstants.ENTITY_OBJ, entity);
+        httpCarbonMessage.setProperty(MessageProperty.ENTITY_OBJ, entity);
         return entity;
     }
 
@@ -271,7 +274,7 @@ public class HttpUtil {
                 .getCarbonMsg(messageObj, HttpUtil.createHttpCarbonMessage(request));
         String contentType = httpCarbonMessage.getHeader(HttpHeaderNames.CONTENT_TYPE.toString());
         // Checking whether the call comes after an interceptor service execution
-        if (httpCarbonMessage.getProperty(HttpConstants.ENTITY_OBJ) != null) {
+        if (httpCarbonMessage.getProperty(MessageProperty.ENTITY_OBJ) != null) {
             messageObj.set(request ? REQUEST_ENTITY_FIELD : RESPONSE_ENTITY_FIELD, entityObj);
             messageObj.addNativeData(IS_BODY_BYTE_CHANNEL_ALREADY_SET, true);
             // TODO : Have to check whether we need to set this
@@ -691,7 +694,7 @@ public class HttpUtil {
         mutualSslRecord.put(HttpConstants.REQUEST_MUTUAL_SSL_HANDSHAKE_STATUS,
                             fromString((String) inboundRequestMsg.getProperty(HttpConstants.MUTUAL_SSL_RESULT)));
         mutualSslRecord.put(HttpConstants.MUTUAL_SSL_CERTIFICATE,
-                            fromString((String) inboundRequestMsg.getProperty(HttpConstants.BASE_64_ENCODED_CERT)));
+                            fromString((String) inboundRequestMsg.getProperty(MessageProperty.BASE_64_ENCODED_CERT)));
         inboundRequest.set(HttpConstants.REQUEST_MUTUAL_SSL_HANDSHAKE_FIELD, mutualSslRecord);
 
         enrichWithInboundRequestInfo(inboundRequest, inboundRequestMsg);
@@ -729,7 +732,7 @@ public class HttpUtil {
         inboundRequestObj.set(HttpConstants.REQUEST_VERSION_FIELD,
                               fromString(inboundRequestMsg.getHttpVersion()));
         HttpResourceArguments resourceArgValues = (HttpResourceArguments) inboundRequestMsg.getProperty(
-                HttpConstants.RESOURCE_ARGS);
+                MessageProperty.RESOURCE_ARGS);
         if (resourceArgValues != null && resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO) != null) {
             Map<Integer, String> extraPath = resourceArgValues.getMap().get(HttpConstants.EXTRA_PATH_INFO);
             inboundRequestObj.set(HttpConstants.REQUEST_EXTRA_PATH_INFO_FIELD, fromString(extraPath.get(0)));
@@ -758,7 +761,7 @@ public class HttpUtil {
      */
     public static void enrichHttpCallerWithConnectionInfo(BObject httpCaller, HttpCarbonMessage inboundMsg,
                                                           Resource resource, BMap config) {
-        Object remoteSocketAddress = inboundMsg.getProperty(HttpConstants.REMOTE_ADDRESS);
+        Object remoteSocketAddress = inboundMsg.getProperty(MessageProperty.REMOTE_ADDRESS);
         httpCaller.set(HttpConstants.SERVICE_ENDPOINT_CONFIG_FIELD, config);
         httpCaller.addNativeData(HttpConstants.HTTP_SERVICE, resource.getParentService());
         httpCaller.addNativeData(HttpConstants.REMOTE_SOCKET_ADDRESS, remoteSocketAddress);
@@ -1151,7 +1154,7 @@ public class HttpUtil {
         if (observerContext != null) {
             HttpUtil.injectHeaders(message, ObserveUtils.getContextProperties(observerContext));
             observerContext.addTag(TAG_KEY_HTTP_METHOD, message.getHttpMethod());
-            observerContext.getSpan().addTag(TAG_KEY_HTTP_URL, String.valueOf(message.getProperty(HttpConstants.TO)));
+            observerContext.getSpan().addTag(TAG_KEY_HTTP_URL, String.valueOf(message.getProperty(MessageProperty.TO)));
             observerContext.addTag(TAG_KEY_PEER_ADDRESS,
                        message.getProperty(PROPERTY_HTTP_HOST) + ":" + message.getProperty(PROPERTY_HTTP_PORT));
             // Add HTTP Status Code tag. The HTTP status code will be set using the response message.
@@ -1478,6 +1481,20 @@ public class HttpUtil {
         BString serverName = endpointConfig.getStringValue(HttpConstants.SERVER_NAME);
         listenerConfiguration.setServerHeader(serverName != null ? serverName.getValue() : getServerName());
 
+        BMap<BString, Object> metricsConfig =
+                (BMap<BString, Object>) endpointConfig.getMapValue(HttpConstants.LISTENER_METRICS);
+        boolean requestMetricsEnabled =
+                metricsConfig != null && metricsConfig.getBooleanValue(HttpConstants.LISTENER_METRICS_ENABLED);
+        listenerConfiguration.setRequestMetricsEnabled(requestMetricsEnabled);
+        if (requestMetricsEnabled) {
+            BString endpointPath = metricsConfig.getStringValue(HttpConstants.LISTENER_METRICS_ENDPOINT_PATH);
+            listenerConfiguration.setMetricsEndpointPath(endpointPath != null ? endpointPath.getValue() : null);
+        }
+        listenerConfiguration.setAdmissionConfig(
+                getAdmissionConfig((BMap<BString, Object>) endpointConfig.getMapValue(HttpConstants.ADMISSION)));
+        listenerConfiguration.setRateLimitConfig(
+                getRateLimitConfig((BMap<BString, Object>) endpointConfig.getMapValue(HttpConstants.RATE_LIMIT)));
+
         if (sslConfig != null) {
             return setSslConfig(sslConfig, listenerConfiguration);
         }
@@ -1536,6 +1553,72 @@ public class HttpUtil {
         }
     }
 
+    /**
+     * Creates the transport admission control configuration from the given Ballerina configuration.
+     *
+     * @param admissionConfig the `http:AdmissionConfig` record
+     * @return the admission control configuration, null if the given configuration is nil
+     */
+    public static AdmissionConfig getAdmissionConfig(BMap<BString, Object> admissionConfig) {
+        if (admissionConfig == null) {
+            return null;
+        }
+        long maxInFlightRequests = admissionConfig.getIntValue(HttpConstants.ADMISSION_MAX_IN_FLIGHT_REQUESTS);
+        if (maxInFlightRequests <= 0 || maxInFlightRequests > Integer.MAX_VALUE) {
+            throw new BallerinaConnectorException(
+                    "Invalid configuration found for maxInFlightRequests : " + maxInFlightRequests);
+        }
+        long minInFlightRequests = admissionConfig.getIntValue(HttpConstants.ADMISSION_MIN_IN_FLIGHT_REQUESTS);
+        if (minInFlightRequests <= 0 || minInFlightRequests > maxInFlightRequests) {
+            throw new BallerinaConnectorException(
+                    "Invalid configuration found for minInFlightRequests : " + minInFlightRequests);
+        }
+        long retryAfter = admissionConfig.getIntValue(HttpConstants.ADMISSION_RETRY_AFTER);
+        if (retryAfter < 0) {
+            throw new BallerinaConnectorException("Invalid configuration found for retryAfter : " + retryAfter);
+        }
+        AdmissionConfig config = new AdmissionConfig();
+        config.setMaxInFlightRequests((int) maxInFlightRequests);
+        config.setMinInFlightRequests((int) minInFlightRequests);
+        config.setAdaptive(admissionConfig.getBooleanValue(HttpConstants.ADMISSION_ADAPTIVE));
+        config.setRetryAfter(retryAfter);
+        return config;
+    }
+
+    /**
+     * Creates the transport rate limit configuration from the given Ballerina configuration.
+     *
+     * @param rateLimitConfig the `http:RateLimitConfig` record
+     * @return the rate limit configuration, null if the given configuration is nil
+     */
+    public static RateLimitConfig getRateLimitConfig(BMap<BString, Object> rateLimitConfig) {
+        if (rateLimitConfig == null) {
+            return null;
+        }
+        double requestsPerSecond =
+                ((BDecimal) rateLimitConfig.get(HttpConstants.RATE_LIMIT_REQUESTS_PER_SECOND)).floatValue();
+        if (requestsPerSecond <= 0) {
+            throw new BallerinaConnectorException(
+                    "Invalid configuration found for requestsPerSecond : " + requestsPerSecond);
+        }
+        long burst = rateLimitConfig.getIntValue(HttpConstants.RATE_LIMIT_BURST);
+        if (burst <= 0 || burst > Integer.MAX_VALUE) {
+            throw new BallerinaConnectorException("Invalid configuration found for burst : " + burst);
+        }
+        RateLimitConfig.Key key =
+                RateLimitConfig.Key.valueOf(rateLimitConfig.getStringValue(HttpConstants.RATE_LIMIT_KEY).getValue());
+        BString header = rateLimitConfig.getStringValue(HttpConstants.RATE_LIMIT_HEADER);
+        if (key == RateLimitConfig.Key.HEADER && (header == null || header.getValue().isBlank())) {
+            throw new BallerinaConnectorException("Invalid configuration found for header : " + header);
+        }
+        RateLimitConfig config = new RateLimitConfig();
+        config.setRequestsPerSecond(requestsPerSecond);
+        config.setBurst((int) burst);
+        config.setKey(key);
+        config.setHeaderName(header != null ? header.getValue().trim() : null);
+        return config;
+    }
+
     public static void setInboundMgsSizeValidationConfig(long maxInitialLineLength, long maxHeaderSize,
                                                          long maxEntityBodySize,
                                                          InboundMsgSizeValidationConfig sizeValidationConfig) {
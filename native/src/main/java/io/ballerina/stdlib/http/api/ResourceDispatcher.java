@@ -20,13 +20,17 @@ package io.ballerina.stdlib.http.api;
 
 import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.uri.DispatcherUtil;
+import io.ballerina.stdlib.http.uri.URIUtil;
 import io.ballerina.stdlib.http.uri.URITemplateException;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 
+import java.util.HashMap;
+
 /**
  * Resource level dispatchers handler for HTTP protocol.
  */
@@ -35,7 +39,7 @@ public class ResourceDispatcher {
     public static Resource findResource(Service service, HttpCarbonMessage inboundRequest) {
 
         String method = inboundRequest.getHttpMethod();
-        String subPath = (String) inboundRequest.getProperty(HttpConstants.SUB_PATH);
+        String subPath = (String) inboundRequest.getProperty(MessageProperty.SUB_PATH);
         subPath = sanitizeSubPath(subPath);
         HttpResourceArguments resourceArgumentValues = new HttpResourceArguments();
         try {
@@ -45,7 +49,7 @@ public class ResourceDispatcher {
                 return null;
             }
             if (resource != null) {
-                inboundRequest.setProperty(HttpConstants.RESOURCE_ARGS, resourceArgumentValues);
+                inboundRequest.setProperty(MessageProperty.RESOURCE_ARGS, resourceArgumentValues);
                 inboundRequest.setProperty(HttpConstants.RESOURCES_CORS, resource.getCorsHeaders());
                 return resource;
             } else {
@@ -54,7 +58,7 @@ public class ResourceDispatcher {
                 } else {
                     inboundRequest.setHttpStatusCode(404);
                     throw new BallerinaConnectorException("no matching resource found for path : "
-                            + inboundRequest.getProperty(HttpConstants.TO) + " , method : " + method);
+                            + inboundRequest.getProperty(MessageProperty.TO) + " , method : " + method);
                 }
                 return null;
             }
@@ -63,6 +67,36 @@ public class ResourceDispatcher {
         }
     }
 
+    /**
+     * Finds the resource a request would be dispatched to without leaving anything on the request, so that it is
+     * known before the request interceptors run. The request is dispatched again once they have.
+     *
+     * @param service        the service the request is dispatched to
+     * @param inboundRequest the request
+     * @return the resource, or null for OPTIONS requests and requests that match no resource
+     */
+    public static HttpResource peekResource(HttpService service, HttpCarbonMessage inboundRequest) {
+        // OPTIONS requests leave their allowed methods on the request while they are matched
+        if (HttpConstants.HTTP_METHOD_OPTIONS.equals(inboundRequest.getHttpMethod())) {
+            return null;
+        }
+        Integer statusCode = inboundRequest.getHttpStatusCode();
+        try {
+            String uri = URIUtil.extractMatrixParams((String) inboundRequest.getProperty(MessageProperty.TO),
+                                                     new HashMap<>());
+            String subPath = URIUtil.getSubPath(HttpDispatcher.getValidatedURI(uri).getRawPath(),
+                                                service.getBasePath());
+            Resource resource = service.getUriTemplate().matches(sanitizeSubPath(subPath),
+                                                                 new HttpResourceArguments(), inboundRequest);
+            return resource instanceof HttpResource ? (HttpResource) resource : null;
+        } catch (Exception e) {
+            return null;
+        } finally {
+            // A failed match records the status of its error response, which is left to the actual dispatch
+            inboundRequest.setHttpStatusCode(statusCode);
+        }
+    }
+
     private static String sanitizeSubPath(String subPath) {
         if ("/".equals(subPath)) {
             return subPath;
@@ -78,14 +112,14 @@ public class ResourceDispatcher {
         HttpCarbonMessage response = HttpUtil.createHttpCarbonMessage(false);
         if (cMsg.getHeader(HttpHeaderNames.ALLOW.toString()) != null) {
             response.setHeader(HttpHeaderNames.ALLOW.toString(), cMsg.getHeader(HttpHeaderNames.ALLOW.toString()));
-        } else if (service.getBasePath().equals(cMsg.getProperty(HttpConstants.TO))
+        } else if (service.getBasePath().equals(cMsg.getProperty(MessageProperty.TO))
                 && !service.getAllAllowedMethods().isEmpty()) {
             response.setHeader(HttpHeaderNames.ALLOW.toString(),
                                DispatcherUtil.concatValues(service.getAllAllowedMethods(), false));
         } else {
             cMsg.setHttpStatusCode(404);
             throw new BallerinaConnectorException("no matching resource found for path : "
-                    + cMsg.getProperty(HttpConstants.TO) + " , method : " + "OPTIONS");
+                    + cMsg.getProperty(MessageProperty.TO) + " , method : " + "OPTIONS");
         }
         CorsHeaderGenerator.process(cMsg, response, false);
         String introspectionResourcePathHeaderValue = service.getIntrospectionResourcePathHeaderValue();
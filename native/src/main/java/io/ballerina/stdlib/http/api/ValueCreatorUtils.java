@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.mime.util.MimeUtil;
 
 import java.net.InetSocketAddress;
@@ -57,7 +58,7 @@ public class ValueCreatorUtils {
         BMap<BString, Object> remote = ValueCreatorUtils.createHTTPRecordValue(HttpConstants.REMOTE);
         BMap<BString, Object> local = ValueCreatorUtils.createHTTPRecordValue(HttpConstants.LOCAL);
 
-        Object remoteSocketAddress = inboundMsg.getProperty(HttpConstants.REMOTE_ADDRESS);
+        Object remoteSocketAddress = inboundMsg.getProperty(MessageProperty.REMOTE_ADDRESS);
         if (remoteSocketAddress instanceof InetSocketAddress) {
             InetSocketAddress inetSocketAddress = (InetSocketAddress) remoteSocketAddress;
             BString remoteHost = fromString(inetSocketAddress.getHostString());
@@ -66,7 +67,7 @@ public class ValueCreatorUtils {
             remote.put(HttpConstants.REMOTE_PORT_FIELD, remotePort);
         }
 
-        Object localSocketAddress = inboundMsg.getProperty(HttpConstants.LOCAL_ADDRESS);
+        Object localSocketAddress = inboundMsg.getProperty(MessageProperty.LOCAL_ADDRESS);
         if (localSocketAddress instanceof InetSocketAddress) {
             InetSocketAddress inetSocketAddress = (InetSocketAddress) localSocketAddress;
             String localHost = inetSocketAddress.getHostName();
@@ -75,7 +76,7 @@ public class ValueCreatorUtils {
             local.put(HttpConstants.LOCAL_PORT_FIELD, localPort);
         }
         return ValueCreator.createObjectValue(ModuleUtils.getHttpPackage(), HttpConstants.CALLER,
-                remote, local, fromString((String) inboundMsg.getProperty(HttpConstants.PROTOCOL)));
+                remote, local, fromString((String) inboundMsg.getProperty(MessageProperty.PROTOCOL)));
     }
 
     static BObject createHeadersObject() {
@@ -49,6 +49,7 @@ import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.ballerina.stdlib.http.transport.message.ResponseHandle;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
@@ -84,21 +85,31 @@ public abstract class AbstractHTTPAction {
     private static final Logger logger = LoggerFactory.getLogger(AbstractHTTPAction.class);
 
     private static final String CACHE_BALLERINA_VERSION;
+    private static final String USER_AGENT;
     private static final String WHITESPACE = " ";
     static {
         CACHE_BALLERINA_VERSION = System.getProperty(BALLERINA_VERSION);
+        USER_AGENT = CACHE_BALLERINA_VERSION != null ? "ballerina/" + CACHE_BALLERINA_VERSION : "ballerina";
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(String serviceUri, BMap config, String path,
+    protected static HttpCarbonMessage createOutboundRequestMsg(RequestTarget target, BMap config, String path,
                                                                 BObject request) {
         HttpCarbonMessage requestMsg = HttpUtil.getCarbonMsg(request, HttpUtil.createHttpCarbonMessage(true));
         HttpUtil.checkEntityAvailability(request);
         HttpUtil.enrichOutboundMessage(requestMsg, request);
-        prepareOutboundRequest(serviceUri, path, requestMsg, isNoEntityBodyRequest(request));
+        prepareOutboundRequest(target, path, requestMsg, isNoEntityBodyRequest(request));
         handleAcceptEncodingHeader(requestMsg, getCompressionConfigFromEndpointConfig(config));
         return requestMsg;
     }
 
+    protected static RequestTarget getRequestTarget(BObject httpClient) {
+        Object target = httpClient.getNativeData(HttpConstants.CLIENT_ENDPOINT_REQUEST_TARGET);
+        if (target != null) {
+            return (RequestTarget) target;
+        }
+        return RequestTarget.compile((String) httpClient.getNativeData(HttpConstants.CLIENT_ENDPOINT_SERVICE_URI));
+    }
+
     static String getCompressionConfigFromEndpointConfig(BMap clientEndpointConfig) {
         return clientEndpointConfig.get(ANN_CONFIG_ATTR_COMPRESSION).toString();
     }
@@ -115,7 +126,7 @@ public abstract class AbstractHTTPAction {
         }
     }
 
-    static void prepareOutboundRequest(String serviceUri, String path, HttpCarbonMessage outboundRequest,
+    static void prepareOutboundRequest(RequestTarget target, String path, HttpCarbonMessage outboundRequest,
                                        Boolean nonEntityBodyReq) {
         TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
         if (trxResourceManager.isInTransaction()) {
@@ -125,11 +136,24 @@ public abstract class AbstractHTTPAction {
             outboundRequest.setHeader(HttpConstants.HEADER_X_INFO_RECORD,
                     getTrxInfoRecordJson(transactionLocalContext.getInfoRecord()));
         }
+        if (target.accepts(path)) {
+            // The base URL is parsed once per client, so only the resource path is processed here
+            outboundRequest.setProperty(Constants.HTTP_HOST, target.getHost());
+            outboundRequest.setProperty(Constants.HTTP_PORT, target.getPort());
+            outboundRequest.setProperty(MessageProperty.TO, target.getRequestPath(path));
+            outboundRequest.setProperty(MessageProperty.PROTOCOL, target.getProtocol());
+            outboundRequest.setProperty(HttpConstants.NO_ENTITY_BODY, nonEntityBodyReq);
+            HttpHeaders headers = outboundRequest.getHeaders();
+            headers.set(HttpHeaderNames.HOST, target.getHostHeader());
+            setOutboundUserAgent(headers);
+            removeConnectionHeader(headers);
+            return;
+        }
         try {
-            String uri = getServiceUri(serviceUri) + path;
+            String uri = getServiceUri(target.getServiceUri()) + path;
             URL url = new URL(encodeWhitespacesInUri(uri));
 
-            int port = getOutboundReqPort(url);
+            int port = RequestTarget.getPort(url);
             String host = url.getHost();
 
             setOutboundReqProperties(outboundRequest, url, port, host, nonEntityBodyReq);
@@ -145,7 +169,7 @@ public abstract class AbstractHTTPAction {
     }
 
     private static String getServiceUri(String serviceUri) {
-        if (serviceUri.isEmpty()) {
+        if (serviceUri == null || serviceUri.isEmpty()) {
             throw HttpUtil.createHttpError("service URI is not defined correctly.", HttpErrorType.GENERIC_CLIENT_ERROR);
         }
         return serviceUri;
@@ -172,9 +196,9 @@ public abstract class AbstractHTTPAction {
         outboundRequest.setProperty(Constants.HTTP_PORT, port);
 
         String outboundReqPath = getOutboundReqPath(url);
-        outboundRequest.setProperty(HttpConstants.TO, outboundReqPath);
+        outboundRequest.setProperty(MessageProperty.TO, outboundReqPath);
 
-        outboundRequest.setProperty(HttpConstants.PROTOCOL, url.getProtocol());
+        outboundRequest.setProperty(MessageProperty.PROTOCOL, url.getProtocol());
         outboundRequest.setProperty(HttpConstants.NO_ENTITY_BODY, nonEntityBodyReq);
     }
 
@@ -229,15 +253,8 @@ public abstract class AbstractHTTPAction {
     }
 
     private static void setOutboundUserAgent(HttpHeaders headers) {
-        String userAgent;
-        if (CACHE_BALLERINA_VERSION != null) {
-            userAgent = "ballerina/" + CACHE_BALLERINA_VERSION;
-        } else {
-            userAgent = "ballerina";
-        }
-
         if (!headers.contains(HttpHeaderNames.USER_AGENT)) { // If User-Agent is not already set from program
-            headers.set(HttpHeaderNames.USER_AGENT, userAgent);
+            headers.set(HttpHeaderNames.USER_AGENT, USER_AGENT);
         }
     }
 
@@ -250,16 +267,6 @@ public abstract class AbstractHTTPAction {
         return toPath;
     }
 
-    private static int getOutboundReqPort(URL url) {
-        int port = 80;
-        if (url.getPort() != -1) {
-            port = url.getPort();
-        } else if (url.getProtocol().equalsIgnoreCase(HttpConstants.PROTOCOL_HTTPS)) {
-            port = 443;
-        }
-        return port;
-    }
-
     protected static void executeNonBlockingAction(DataContext dataContext, boolean async) {
         HttpCarbonMessage outboundRequestMsg = dataContext.getOutboundRequest();
 
@@ -267,22 +274,22 @@ public abstract class AbstractHTTPAction {
         checkDirtiness(dataContext, outboundRequestMsg);
 
         if (Objects.nonNull(dataContext.getEnvironment().getStrandLocal(HttpConstants.MAIN_STRAND))) {
-            Object sourceHandler = outboundRequestMsg.getProperty(HttpConstants.SRC_HANDLER);
+            Object sourceHandler = outboundRequestMsg.getProperty(MessageProperty.SRC_HANDLER);
             if (sourceHandler == null) {
 
-                outboundRequestMsg.setProperty(HttpConstants.SRC_HANDLER,
+                outboundRequestMsg.setProperty(MessageProperty.SRC_HANDLER,
                         dataContext.getEnvironment().getStrandLocal(HttpConstants.SRC_HANDLER));
             }
         }
 
-        Object poolableByteBufferFactory = outboundRequestMsg.getProperty(HttpConstants.POOLED_BYTE_BUFFER_FACTORY);
+        Object poolableByteBufferFactory = outboundRequestMsg.getProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY);
         if (poolableByteBufferFactory == null) {
-            outboundRequestMsg.setProperty(HttpConstants.POOLED_BYTE_BUFFER_FACTORY,
+            outboundRequestMsg.setProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY,
                     dataContext.getEnvironment().getStrandLocal(HttpConstants.POOLED_BYTE_BUFFER_FACTORY));
         }
-        Object remoteAddress = outboundRequestMsg.getProperty(HttpConstants.REMOTE_ADDRESS);
+        Object remoteAddress = outboundRequestMsg.getProperty(MessageProperty.REMOTE_ADDRESS);
         if (remoteAddress == null) {
-            outboundRequestMsg.setProperty(HttpConstants.REMOTE_ADDRESS,
+            outboundRequestMsg.setProperty(MessageProperty.REMOTE_ADDRESS,
                     dataContext.getEnvironment().getStrandLocal(HttpConstants.REMOTE_ADDRESS));
         }
         outboundRequestMsg.setProperty(HttpConstants.ORIGIN_HOST,
@@ -410,7 +417,7 @@ public abstract class AbstractHTTPAction {
     private static HttpMessageDataStreamer getHttpMessageDataStreamer(HttpCarbonMessage outboundRequestMsg) {
         final HttpMessageDataStreamer outboundMsgDataStreamer;
         final PooledDataStreamerFactory pooledDataStreamerFactory = (PooledDataStreamerFactory)
-                outboundRequestMsg.getProperty(HttpConstants.POOLED_BYTE_BUFFER_FACTORY);
+                outboundRequestMsg.getProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY);
         if (pooledDataStreamerFactory != null) {
             outboundMsgDataStreamer = pooledDataStreamerFactory.createHttpDataStreamer(outboundRequestMsg);
         } else {
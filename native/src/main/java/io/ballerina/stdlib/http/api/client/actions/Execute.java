@@ -30,7 +30,6 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import java.util.Locale;
 
 import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_CONFIG;
-import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 
 /**
  * {@code Execute} action can be used to invoke execute a http call with any httpVerb.
@@ -38,24 +37,24 @@ import static io.ballerina.stdlib.http.api.HttpConstants.CLIENT_ENDPOINT_SERVICE
 public class Execute extends AbstractHTTPAction {
     @SuppressWarnings("unchecked")
     public static Object execute(Environment env, BObject httpClient, BString verb, BString path, BObject requestObj) {
-        String url = (String) httpClient.getNativeData(CLIENT_ENDPOINT_SERVICE_URI);
+        RequestTarget target = getRequestTarget(httpClient);
         BMap<BString, Object> config = (BMap<BString, Object>) httpClient.getNativeData(CLIENT_ENDPOINT_CONFIG);
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
-        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(config, url, verb.getValue(), path.getValue(),
-                                                                        requestObj);
+        HttpCarbonMessage outboundRequestMsg = createOutboundRequestMsg(config, target, verb.getValue(),
+                                                                        path.getValue(), requestObj);
         DataContext dataContext = new DataContext(env, clientConnector, requestObj, outboundRequestMsg);
         executeNonBlockingAction(dataContext, false);
         return null;
     }
 
-    protected static HttpCarbonMessage createOutboundRequestMsg(BMap<BString, Object> config, String serviceUri,
+    protected static HttpCarbonMessage createOutboundRequestMsg(BMap<BString, Object> config, RequestTarget target,
                                                                 String httpVerb, String path, BObject requestObj) {
         HttpCarbonMessage outboundRequestMsg = HttpUtil
                 .getCarbonMsg(requestObj, HttpUtil.createHttpCarbonMessage(true));
 
         HttpUtil.checkEntityAvailability(requestObj);
         HttpUtil.enrichOutboundMessage(outboundRequestMsg, requestObj);
-        prepareOutboundRequest(serviceUri, path, outboundRequestMsg, isNoEntityBodyRequest(requestObj));
+        prepareOutboundRequest(target, path, outboundRequestMsg, isNoEntityBodyRequest(requestObj));
 
         String verb = "";
         if (!httpVerb.isEmpty()) {
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.actions;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * {@code RequestTarget} holds the parts of a client base URL which stay the same for every request, so that they are
+ * parsed once when the client is created rather than on each invocation. Only the resource path is processed per
+ * request.
+ *
+ * @since 2.3.0
+ */
+public class RequestTarget {
+
+    private static final char QUERY_SEPARATOR = '?';
+    private static final char FRAGMENT_SEPARATOR = '#';
+    private static final char PATH_SEPARATOR = '/';
+    private static final char WHITESPACE = ' ';
+    private static final String ENCODED_WHITESPACE = "%20";
+
+    private final String serviceUri;
+    private final boolean precompiled;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String hostHeader;
+    private final String basePath;
+
+    private RequestTarget(String serviceUri, URL url) {
+        this.serviceUri = serviceUri;
+        this.precompiled = url != null;
+        if (url == null) {
+            this.protocol = null;
+            this.host = null;
+            this.port = -1;
+            this.hostHeader = null;
+            this.basePath = null;
+            return;
+        }
+        this.protocol = url.getProtocol();
+        this.host = url.getHost();
+        this.port = getPort(url);
+        this.hostHeader = port == 80 || port == 443 ? host : host + ":" + port;
+        this.basePath = url.getPath();
+    }
+
+    /**
+     * Parses the given base URL of a client. A URL which carries a query, a fragment or whitespace cannot be
+     * combined with a resource path by plain concatenation, so such targets fall back to parsing the complete URL
+     * on each request.
+     *
+     * @param serviceUri the base URL of the client
+     * @return the request target
+     */
+    public static RequestTarget compile(String serviceUri) {
+        if (serviceUri == null || serviceUri.isEmpty() || serviceUri.indexOf(QUERY_SEPARATOR) >= 0 ||
+                serviceUri.indexOf(FRAGMENT_SEPARATOR) >= 0 || hasWhitespace(serviceUri)) {
+            return new RequestTarget(serviceUri, null);
+        }
+        try {
+            return new RequestTarget(serviceUri, new URL(serviceUri));
+        } catch (MalformedURLException e) {
+            return new RequestTarget(serviceUri, null);
+        }
+    }
+
+    static int getPort(URL url) {
+        int port = 80;
+        if (url.getPort() != -1) {
+            port = url.getPort();
+        } else if (url.getProtocol().equalsIgnoreCase(HttpConstants.PROTOCOL_HTTPS)) {
+            port = 443;
+        }
+        return port;
+    }
+
+    private static boolean hasWhitespace(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) <= WHITESPACE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the given resource path can be appended to the precompiled base URL. An empty base path
+     * followed by a path which does not start with a separator would change the authority of the URL, hence it
+     * goes through the full URL parsing.
+     *
+     * @param path the resource path of the request
+     * @return true if {@link #getRequestPath(String)} can be used for the path
+     */
+    boolean accepts(String path) {
+        if (!precompiled) {
+            return false;
+        }
+        if (!basePath.isEmpty() || path.isEmpty()) {
+            return true;
+        }
+        char first = path.charAt(0);
+        return first == PATH_SEPARATOR || first == QUERY_SEPARATOR;
+    }
+
+    /**
+     * Builds the request path, including the query, by appending the given resource path to the base path. The
+     * result is the same as the path and query of the URL parsed from the concatenated string.
+     *
+     * @param path the resource path of the request
+     * @return the path and the query to be sent in the request line
+     */
+    String getRequestPath(String path) {
+        int length = path.length();
+        boolean hasWhitespace = path.indexOf(WHITESPACE) >= 0;
+        if (hasWhitespace) {
+            // Matches the trimming done when the whole URL is encoded
+            while (length > 0 && path.charAt(length - 1) <= WHITESPACE) {
+                length--;
+            }
+        }
+        int end = path.indexOf(FRAGMENT_SEPARATOR);
+        if (end < 0 || end > length) {
+            end = length;
+        }
+        if (hasWhitespace) {
+            StringBuilder builder = new StringBuilder(basePath.length() + end + 16).append(basePath);
+            for (int i = 0; i < end; i++) {
+                char c = path.charAt(i);
+                if (c == WHITESPACE) {
+                    builder.append(ENCODED_WHITESPACE);
+                } else {
+                    builder.append(c);
+                }
+            }
+            return builder.toString();
+        }
+        if (basePath.isEmpty()) {
+            return end == path.length() ? path : path.substring(0, end);
+        }
+        if (end == 0) {
+            return basePath;
+        }
+        return new StringBuilder(basePath.length() + end).append(basePath).append(path, 0, end).toString();
+    }
+
+    String getServiceUri() {
+        return serviceUri;
+    }
+
+    String getProtocol() {
+        return protocol;
+    }
+
+    String getHost() {
+        return host;
+    }
+
+    int getPort() {
+        return port;
+    }
+
+    String getHostHeader() {
+        return hostHeader;
+    }
+}
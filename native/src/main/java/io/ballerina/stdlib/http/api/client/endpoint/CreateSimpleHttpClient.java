@@ -25,6 +25,7 @@ import io.ballerina.stdlib.http.api.HttpConnectionManager;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.client.actions.RequestTarget;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
@@ -128,6 +129,7 @@ public class CreateSimpleHttpClient {
                     .createHttpClientConnector(properties, senderConfiguration, poolManager);
             httpClient.addNativeData(HttpConstants.CLIENT, httpClientConnector);
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_SERVICE_URI, urlString);
+            httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_REQUEST_TARGET, RequestTarget.compile(urlString));
             httpClient.addNativeData(HttpConstants.CLIENT_ENDPOINT_CONFIG, clientEndpointConfig);
             return null;
         } catch (Exception ex) {
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.LatencyRecorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code HedgePolicy} decides when a retry client sends a hedged request, i.e. a second request for an invocation
+ * which has not been answered within the hedge delay. The delay is either fixed or a percentile of the latencies the
+ * client observed recently, and the hedged requests are bounded by a {@link RequestBudget}.
+ * <p>
+ * Latencies are recorded in windows of {@link #WINDOW_NANOS}. The delay is estimated from the last complete window,
+ * falling back to the current one, and only once a window holds {@link #MIN_SAMPLES} latencies, since hedging on a
+ * poor estimate does more harm than not hedging at all.
+ *
+ * @since 2.3.0
+ */
+public class HedgePolicy {
+
+    static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+    static final int MIN_SAMPLES = 20;
+
+    private final long fixedDelayNanos;
+    private final double percentile;
+    private final RequestBudget budget;
+    private final RetryClientStats stats;
+    private final AtomicReference<LatencyWindow> window;
+
+    /**
+     * @param fixedDelayNanos the hedge delay, or -1 to derive it from the observed latencies
+     * @param percentile      percentile of the observed latencies used as the delay, between 0 and 100
+     * @param budget          budget of the hedged requests
+     * @param stats           statistics the hedged requests are reported to
+     * @param now             current time in nanoseconds
+     */
+    public HedgePolicy(long fixedDelayNanos, double percentile, RequestBudget budget, RetryClientStats stats,
+                       long now) {
+        this.fixedDelayNanos = fixedDelayNanos;
+        this.percentile = percentile;
+        this.budget = budget;
+        this.stats = stats;
+        this.window = new AtomicReference<>(new LatencyWindow(now, null));
+    }
+
+    /**
+     * Accounts for a new invocation and returns how long to wait for its response before hedging it.
+     *
+     * @param now current time in nanoseconds
+     * @return the hedge delay in nanoseconds, -1 if the invocation must not be hedged
+     */
+    public long startInvocation(long now) {
+        budget.deposit();
+        if (fixedDelayNanos >= 0) {
+            return fixedDelayNanos;
+        }
+        LatencyWindow current = getWindow(now);
+        LatencyRecorder previous = current.previous;
+        if (previous != null && previous.getCount() >= MIN_SAMPLES) {
+            return previous.getPercentileNanos(percentile);
+        }
+        if (current.recorder.getCount() >= MIN_SAMPLES) {
+            return current.recorder.getPercentileNanos(percentile);
+        }
+        return -1;
+    }
+
+    /**
+     * Records the time a request took to get its response.
+     *
+     * @param latencyNanos the latency in nanoseconds
+     * @param now          current time in nanoseconds
+     */
+    public void recordLatency(long latencyNanos, long now) {
+        getWindow(now).recorder.record(latencyNanos);
+    }
+
+    /**
+     * Withdraws a hedged request from the budget.
+     *
+     * @return true if the hedged request can be sent
+     */
+    public boolean tryHedge() {
+        if (budget.tryWithdraw()) {
+            stats.recordHedgedRequest();
+            return true;
+        }
+        stats.recordHedgeBudgetExhausted();
+        return false;
+    }
+
+    /**
+     * Records that a hedged request was answered before the request it hedged.
+     */
+    public void recordHedgeWin() {
+        stats.recordHedgeWin();
+    }
+
+    private LatencyWindow getWindow(long now) {
+        LatencyWindow current = window.get();
+        long elapsed = now - current.start;
+        if (elapsed < WINDOW_NANOS) {
+            return current;
+        }
+        // A window older than two periods holds nothing recent enough to keep
+        LatencyWindow next = new LatencyWindow(now, elapsed < 2 * WINDOW_NANOS ? current.recorder : null);
+        return window.compareAndSet(current, next) ? next : window.get();
+    }
+
+    private static class LatencyWindow {
+
+        private final long start;
+        private final LatencyRecorder recorder = new LatencyRecorder();
+        private final LatencyRecorder previous;
+
+        LatencyWindow(long start, LatencyRecorder previous) {
+            this.start = start;
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code RequestBudget} is a token bucket bounding the requests a client sends on top of the ones it is asked to send,
+ * such as retries or hedged requests, to a fraction of the latter. Every request deposits that fraction of a token and
+ * every extra request withdraws a whole one, so the budget refills with the traffic rather than with time. Tokens are
+ * counted in thousandths in a single atomic counter.
+ *
+ * @since 2.3.0
+ */
+public class RequestBudget {
+
+    static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio fraction of a token deposited per request
+     * @param burst number of tokens the budget holds at most, which is also what it starts with
+     */
+    public RequestBudget(double ratio, long burst) {
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = Math.max(1, burst) * TOKEN;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Deposits the share of a request, unless the budget is already full.
+     */
+    public void deposit() {
+        if (deposit <= 0) {
+            return;
+        }
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * Withdraws a token for an extra request.
+     *
+     * @return true if the budget held a whole token
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    public double getTokens() {
+        return (double) balance.get() / TOKEN;
+    }
+}
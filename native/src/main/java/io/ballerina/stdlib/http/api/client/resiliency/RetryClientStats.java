@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.ObjectName;
+
+/**
+ * {@code RetryClientStats} aggregates the statistics of all the retry clients of one target URL. The statistics are
+ * exposed over JMX under the RetryClient category.
+ *
+ * @since 2.3.0
+ */
+public class RetryClientStats implements RetryClientStatsMBean {
+
+    private static final String MBEAN_CATEGORY = "RetryClient";
+    private static final Map<String, RetryClientStats> STATS = new ConcurrentHashMap<>();
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retryBudgetExhausted = new LongAdder();
+    private final LongAdder hedgedRequests = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder hedgeBudgetExhausted = new LongAdder();
+
+    /**
+     * Returns the statistics of the given target, registering them over JMX on first use.
+     *
+     * @param url URL of the target
+     * @return the statistics
+     */
+    public static RetryClientStats getInstance(String url) {
+        return STATS.computeIfAbsent(url, key -> {
+            RetryClientStats stats = new RetryClientStats();
+            MBeanRegistrar.getInstance().registerMBean(stats, MBEAN_CATEGORY, ObjectName.quote(key));
+            return stats;
+        });
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordRetryBudgetExhausted() {
+        retryBudgetExhausted.increment();
+    }
+
+    void recordHedgedRequest() {
+        hedgedRequests.increment();
+    }
+
+    void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    void recordHedgeBudgetExhausted() {
+        hedgeBudgetExhausted.increment();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getRetryBudgetExhaustedCount() {
+        return retryBudgetExhausted.sum();
+    }
+
+    @Override
+    public long getHedgedRequestCount() {
+        return hedgedRequests.sum();
+    }
+
+    @Override
+    public long getHedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    @Override
+    public long getHedgeBudgetExhaustedCount() {
+        return hedgeBudgetExhausted.sum();
+    }
+}
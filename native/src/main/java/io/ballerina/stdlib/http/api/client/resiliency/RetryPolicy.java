@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code RetryPolicy} computes how long a retry client waits before each retry, and whether it may retry at all. The
+ * interval grows exponentially and is optionally randomized, so that the clients which saw the same failure do not
+ * retry in lockstep. A {@code Retry-After} header takes precedence over the computed interval, and the retries can be
+ * bounded by a {@link RequestBudget}.
+ *
+ * @since 2.3.0
+ */
+public class RetryPolicy {
+
+    /**
+     * Randomization applied to the retry intervals.
+     */
+    public enum Jitter {
+        /**
+         * The exponentially increasing interval is used as it is.
+         */
+        NONE,
+        /**
+         * A random interval between zero and the exponentially increasing one.
+         */
+        FULL,
+        /**
+         * A random interval between the initial interval and thrice the previous one, bounded by the maximum interval.
+         */
+        DECORRELATED
+    }
+
+    private static final int DECORRELATION_FACTOR = 3;
+
+    private final long intervalNanos;
+    private final double backOffFactor;
+    private final long maxWaitNanos;
+    private final Jitter jitter;
+    private final RequestBudget budget;
+    private final RetryClientStats stats;
+
+    /**
+     * @param intervalNanos the interval before the first retry
+     * @param backOffFactor multiplier of the interval for each further retry
+     * @param maxWaitNanos  the maximum interval
+     * @param jitter        randomization applied to the intervals
+     * @param budget        budget of the retries, null if the retries are not bounded
+     * @param stats         statistics the retries are reported to
+     */
+    public RetryPolicy(long intervalNanos, double backOffFactor, long maxWaitNanos, Jitter jitter,
+                       RequestBudget budget, RetryClientStats stats) {
+        this.intervalNanos = intervalNanos;
+        this.backOffFactor = backOffFactor;
+        this.maxWaitNanos = maxWaitNanos;
+        this.jitter = jitter;
+        this.budget = budget;
+        this.stats = stats;
+    }
+
+    /**
+     * Accounts for a new invocation, which earns its share of the retry budget.
+     */
+    public void startInvocation() {
+        if (budget != null) {
+            budget.deposit();
+        }
+    }
+
+    /**
+     * Returns how long to wait before the next retry of an invocation.
+     *
+     * @param retryCount      number of retries already made for the invocation
+     * @param previousNanos   interval waited before the previous retry, ignored for the first retry
+     * @param retryAfterNanos interval asked by the {@code Retry-After} header of the failed response, -1 if none
+     * @param random          source of the jitter
+     * @return the interval in nanoseconds, -1 if the invocation must not be retried as the budget is exhausted or the
+     * server asked to wait beyond the maximum interval
+     */
+    public long nextInterval(int retryCount, long previousNanos, long retryAfterNanos, Random random) {
+        if (retryAfterNanos > maxWaitNanos) {
+            return -1;
+        }
+        if (budget != null && !budget.tryWithdraw()) {
+            stats.recordRetryBudgetExhausted();
+            return -1;
+        }
+        stats.recordRetry();
+        if (retryAfterNanos >= 0) {
+            return retryAfterNanos;
+        }
+        switch (jitter) {
+            case FULL:
+                return (long) (random.nextDouble() * getBackOffInterval(retryCount));
+            case DECORRELATED:
+                long previous = retryCount == 0 ? intervalNanos : previousNanos;
+                double upper = Math.max(intervalNanos, (double) previous * DECORRELATION_FACTOR);
+                return (long) Math.min(maxWaitNanos, intervalNanos + random.nextDouble() * (upper - intervalNanos));
+            default:
+                return getBackOffInterval(retryCount);
+        }
+    }
+
+    private long getBackOffInterval(int retryCount) {
+        if (retryCount == 0) {
+            return intervalNanos;
+        }
+        return (long) Math.min(maxWaitNanos, intervalNanos * Math.pow(backOffFactor, retryCount));
+    }
+
+    /**
+     * Parses the value of a {@code Retry-After} header, which is either a number of seconds or an HTTP date.
+     *
+     * @param value     the header value
+     * @param nowMillis current time in milliseconds since the epoch
+     * @return the interval asked in nanoseconds, -1 if the value is invalid
+     */
+    public static long parseRetryAfter(String value, long nowMillis) {
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds >= 0 ? TimeUnit.SECONDS.toNanos(seconds) : -1;
+        } catch (NumberFormatException e) {
+            try {
+                long dateMillis = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                        .toEpochMilli();
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(0, dateMillis - nowMillis));
+            } catch (DateTimeParseException ex) {
+                return -1;
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpAccessLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.HttpTraceLogFormatter;
 import io.ballerina.stdlib.http.api.logging.formatters.JsonLogFormatter;
+import io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -39,9 +40,14 @@ import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_ACCESS_LOG_ENABLED
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_CONSOLE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_LOG_FILE_PATH;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_BINARY;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_BUFFER_SIZE;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_ENABLED;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_HOST;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_PAYLOAD_BYTES;
 import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_PORT;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_SAMPLING_HEADER;
+import static io.ballerina.stdlib.http.api.HttpConstants.HTTP_TRACE_LOG_SAMPLING_RATE;
 
 /**
  * Java util logging manager for ballerina which overrides the readConfiguration method to replace placeholders
@@ -119,10 +125,27 @@ public class HttpLogManager extends LogManager {
             }
         }
 
+        // The binary mode records sampled connections without formatting anything, hence the text logger level is
+        // left untouched
+        boolean binaryTraceLogsEnabled = false;
+        BMap binaryConfig = traceLogAdvancedConfig.getMapValue(HTTP_TRACE_LOG_BINARY);
+        if (binaryConfig != null) {
+            BString samplingHeader = binaryConfig.getStringValue(HTTP_TRACE_LOG_SAMPLING_HEADER);
+            BinaryTraceConfig.configure(binaryConfig.getStringValue(HTTP_LOG_FILE_PATH).getValue(),
+                                        binaryConfig.getFloatValue(HTTP_TRACE_LOG_SAMPLING_RATE),
+                                        samplingHeader != null ? samplingHeader.getValue() : null,
+                                        binaryConfig.getIntValue(HTTP_TRACE_LOG_BUFFER_SIZE).intValue(),
+                                        binaryConfig.getIntValue(HTTP_TRACE_LOG_PAYLOAD_BYTES).intValue());
+            binaryTraceLogsEnabled = true;
+        }
+
         if (traceLogsEnabled) {
             httpTraceLogger.setLevel(Level.FINEST);
+        }
+        if (traceLogsEnabled || binaryTraceLogsEnabled) {
             System.setProperty(HTTP_TRACE_LOG_ENABLED, "true");
-            stdErr.println("ballerina: " + protocol + " trace log enabled");
+            stdErr.println("ballerina: " + protocol + " trace log enabled" +
+                                   (binaryTraceLogsEnabled ? " (binary)" : ""));
         }
     }
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.api.HttpErrorType;
+import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.ValueCreatorUtils;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MultipartStreamReader;
+import io.ballerina.stdlib.mime.util.EntityBodyChannel;
+import io.ballerina.stdlib.mime.util.EntityHeaderHandler;
+import io.ballerina.stdlib.mime.util.EntityWrapper;
+import io.ballerina.stdlib.mime.util.HeaderUtil;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+import static io.ballerina.runtime.api.utils.StringUtils.fromStringArray;
+import static io.ballerina.runtime.api.utils.StringUtils.fromStringSet;
+import static io.ballerina.stdlib.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
+import static io.ballerina.stdlib.mime.util.MimeConstants.HEADERS_MAP_FIELD;
+import static io.ballerina.stdlib.mime.util.MimeConstants.HEADER_NAMES_ARRAY_FIELD;
+import static io.ballerina.stdlib.mime.util.MimeConstants.IS_BODY_BYTE_CHANNEL_ALREADY_SET;
+import static io.ballerina.stdlib.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
+
+/**
+ * Native functions of the body part stream which parses an inbound multipart request as it is received.
+ *
+ * @since 2.3.0
+ */
+public class ExternBodyPartStream {
+
+    private static final String MULTIPART_STREAM_READER = "MULTIPART_STREAM_READER";
+    private static final String ERROR_MESSAGE = "Error occurred while retrieving body parts from the request";
+
+    public static Object init(BObject partStream, BObject requestObj) {
+        HttpCarbonMessage inboundRequest = (HttpCarbonMessage) requestObj.getNativeData(
+                HttpConstants.TRANSPORT_MESSAGE);
+        if (inboundRequest == null || Boolean.TRUE.equals(requestObj.getNativeData(IS_BODY_BYTE_CHANNEL_ALREADY_SET))) {
+            return HttpUtil.createHttpError(ERROR_MESSAGE + ": payload is already read or not an inbound payload",
+                                            HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        String contentType = inboundRequest.getHeader(HttpHeaderNames.CONTENT_TYPE.toString());
+        if (contentType == null || !contentType.toLowerCase(Locale.ENGLISH).startsWith(MULTIPART_AS_PRIMARY_TYPE)) {
+            return HttpUtil.createHttpError(ERROR_MESSAGE + ": content type is not a composite media type",
+                                            HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        String boundary = HeaderUtil.extractBoundaryParameter(contentType);
+        if (boundary == null) {
+            return HttpUtil.createHttpError(ERROR_MESSAGE + ": boundary parameter is not found",
+                                            HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        requestObj.addNativeData(IS_BODY_BYTE_CHANNEL_ALREADY_SET, true);
+        partStream.addNativeData(MULTIPART_STREAM_READER, new MultipartStreamReader(inboundRequest, boundary));
+        return null;
+    }
+
+    public static Object next(BObject partStream) {
+        MultipartStreamReader reader = (MultipartStreamReader) partStream.getNativeData(MULTIPART_STREAM_READER);
+        try {
+            MultipartStreamReader.Part part = reader.nextPart();
+            if (part == null) {
+                return null;
+            }
+            return createBodyPart(part);
+        } catch (IOException e) {
+            reader.close();
+            return HttpUtil.createHttpError(ERROR_MESSAGE + ": " + e.getMessage(),
+                                            HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+    }
+
+    public static Object close(BObject partStream) {
+        MultipartStreamReader reader = (MultipartStreamReader) partStream.getNativeData(MULTIPART_STREAM_READER);
+        reader.close();
+        return null;
+    }
+
+    private static BObject createBodyPart(MultipartStreamReader.Part part) {
+        BObject bodyPart = ValueCreatorUtils.createEntityObject();
+        HttpHeaders httpHeaders = part.getHeaders();
+        BMap<BString, Object> headers = EntityHeaderHandler.getNewHeaderMap();
+        for (String key : httpHeaders.names()) {
+            String[] values = httpHeaders.getAll(key).toArray(new String[0]);
+            headers.put(fromString(key.toLowerCase(Locale.getDefault())), fromStringArray(values));
+        }
+        bodyPart.set(HEADERS_MAP_FIELD, headers);
+        Set<String> distinctNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        distinctNames.addAll(httpHeaders.names());
+        bodyPart.set(HEADER_NAMES_ARRAY_FIELD, fromStringSet(distinctNames));
+        bodyPart.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(new EntityBodyChannel(part.getContent())));
+        return bodyPart;
+    }
+
+    private ExternBodyPartStream() {}
+}
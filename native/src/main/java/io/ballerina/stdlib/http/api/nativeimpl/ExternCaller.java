@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 
 /**
  * Extern functions related to HTTP caller.
@@ -32,7 +33,7 @@ public class ExternCaller {
 
     public static BObject getCaller(Environment env) {
         HttpCarbonMessage inboundMessage = (HttpCarbonMessage) env.getStrandLocal(HttpConstants.INBOUND_MESSAGE);
-        return (BObject) inboundMessage.getProperty(HttpConstants.CALLER);
+        return (BObject) inboundMessage.getProperty(MessageProperty.CALLER);
     }
 
     private ExternCaller() {}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.util.CredentialCache;
+import io.ballerina.stdlib.http.api.util.CredentialCacheStats;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.CREDENTIAL_CACHE;
+import static io.ballerina.stdlib.http.api.HttpConstants.CREDENTIAL_CACHE_CAPACITY;
+import static io.ballerina.stdlib.http.api.HttpConstants.CREDENTIAL_CACHE_ENABLED;
+import static io.ballerina.stdlib.http.api.HttpConstants.CREDENTIAL_CACHE_NEGATIVE_TTL;
+import static io.ballerina.stdlib.http.api.HttpConstants.CREDENTIAL_CACHE_TTL;
+
+/**
+ * Utilities related to the cache of validated credentials of the listener auth handlers.
+ *
+ * @since 2.3.0
+ */
+public class ExternCredentialCache {
+
+    private static final long MAX_TTL_NANOS = TimeUnit.DAYS.toNanos(365);
+
+    public static void init(BObject handler, BString kind, BMap<BString, Object> config) {
+        if (!config.getBooleanValue(CREDENTIAL_CACHE_ENABLED)) {
+            return;
+        }
+        int capacity = config.getIntValue(CREDENTIAL_CACHE_CAPACITY).intValue();
+        long ttl = toNanos((BDecimal) config.get(CREDENTIAL_CACHE_TTL));
+        long negativeTtl = toNanos((BDecimal) config.get(CREDENTIAL_CACHE_NEGATIVE_TTL));
+        if (capacity <= 0 || (ttl <= 0 && negativeTtl <= 0)) {
+            return;
+        }
+        handler.addNativeData(CREDENTIAL_CACHE, new CredentialCache(capacity, ttl, negativeTtl,
+                                                                     CredentialCacheStats.getInstance(
+                                                                             kind.getValue())));
+    }
+
+    public static Object lookup(BObject handler, BString credential) {
+        CredentialCache cache = (CredentialCache) handler.getNativeData(CREDENTIAL_CACHE);
+        if (cache == null) {
+            return null;
+        }
+        CredentialCache.Entry entry = cache.get(credential.getValue());
+        return entry != null ? entry.getValue() : null;
+    }
+
+    public static Object lookupOrWait(Environment env, BObject handler, BString credential) {
+        CredentialCache cache = (CredentialCache) handler.getNativeData(CREDENTIAL_CACHE);
+        if (cache == null) {
+            return null;
+        }
+        CompletableFuture<CredentialCache.Entry> validation = new CompletableFuture<>();
+        Object outcome = cache.getOrWait(credential.getValue(), validation::complete);
+        if (outcome != CredentialCache.PENDING) {
+            return outcome != null ? ((CredentialCache.Entry) outcome).getValue() : null;
+        }
+        Future balFuture = env.markAsync();
+        // A validation abandoned by its owner leaves the waiter to validate the credential itself
+        validation.thenAccept(entry -> balFuture.complete(entry != null ? entry.getValue() : null));
+        return null;
+    }
+
+    public static void abandon(BObject handler, BString credential) {
+        CredentialCache cache = (CredentialCache) handler.getNativeData(CREDENTIAL_CACHE);
+        if (cache == null) {
+            return;
+        }
+        cache.abandon(credential.getValue());
+    }
+
+    public static void put(BObject handler, BString credential, Object value, Object expTime) {
+        CredentialCache cache = (CredentialCache) handler.getNativeData(CREDENTIAL_CACHE);
+        if (cache == null) {
+            return;
+        }
+        long expiryMillis = expTime != null ? TimeUnit.SECONDS.toMillis((Long) expTime) : -1;
+        cache.put(credential.getValue(), value, value instanceof BString, expiryMillis);
+    }
+
+    private static long toNanos(BDecimal seconds) {
+        return (long) Math.min(seconds.floatValue() * TimeUnit.SECONDS.toNanos(1), MAX_TTL_NANOS);
+    }
+
+    private ExternCredentialCache() {}
+}
@@ -29,6 +29,7 @@ import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.uri.URIUtil;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
 
@@ -69,7 +70,7 @@ public class ExternRequest {
             HttpCarbonMessage httpCarbonMessage = (HttpCarbonMessage) requestObj
                     .getNativeData(HttpConstants.TRANSPORT_MESSAGE);
             BMap<BString, Object> params = ValueCreator.createMapValue(mapType);
-            Object rawQueryString = httpCarbonMessage.getProperty(HttpConstants.RAW_QUERY_STR);
+            Object rawQueryString = httpCarbonMessage.getProperty(MessageProperty.RAW_QUERY_STR);
             if (rawQueryString != null) {
                 URIUtil.populateQueryParamMap((String) rawQueryString, params);
             }
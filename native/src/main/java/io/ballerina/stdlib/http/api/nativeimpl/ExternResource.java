@@ -18,12 +18,23 @@
 
 package io.ballerina.stdlib.http.api.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ResourceMethodType;
 import io.ballerina.runtime.api.types.ServiceType;
 import io.ballerina.runtime.api.utils.IdentifierUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.api.HttpResource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.AUTH_HANDLER_CHAINS;
 
 /**
  * Utilities related to HTTP resource.
@@ -53,5 +64,60 @@ public class ExternResource {
         return null;
     }
 
+    /**
+     * Returns the decoded names of the resources of the provided service.
+     *
+     * @param service service object
+     * @return resource names
+     */
+    public static BArray getResourceNames(BObject service) {
+        ResourceMethodType[] functions = ((ServiceType) service.getType()).getResourceMethods();
+        BString[] resourceNames = new BString[functions.length];
+        for (int i = 0; i < functions.length; i++) {
+            resourceNames[i] = StringUtils.fromString(IdentifierUtils.decodeIdentifier(functions[i].getName()));
+        }
+        return ValueCreator.createArrayValue(resourceNames);
+    }
+
+    /**
+     * Keeps the auth handler chain prepared for a resource while attaching the service, so that it can be picked up
+     * when the resource is registered in the listener.
+     *
+     * @param service          service object
+     * @param resourceName     decoded resource name
+     * @param authHandlerChain auth handler chain of the resource
+     */
+    @SuppressWarnings("unchecked")
+    public static void addAuthHandlerChain(BObject service, BString resourceName, BMap<BString, Object>
+            authHandlerChain) {
+        Map<String, BMap> authHandlerChains = (Map<String, BMap>) service.getNativeData(AUTH_HANDLER_CHAINS);
+        if (authHandlerChains == null) {
+            authHandlerChains = new ConcurrentHashMap<>();
+            service.addNativeData(AUTH_HANDLER_CHAINS, authHandlerChains);
+        }
+        authHandlerChains.put(resourceName.getValue(), authHandlerChain);
+    }
+
+    /**
+     * Returns the auth handler chain of the resource that is being executed.
+     *
+     * @param env     current environment
+     * @param service service object
+     * @return auth handler chain or null if the resource is not known
+     */
+    public static Object getAuthHandlerChain(Environment env, BObject service) {
+        HttpResource httpResource = getCurrentResource(env, service);
+        return httpResource != null ? httpResource.getAuthHandlerChain() : null;
+    }
+
+    private static HttpResource getCurrentResource(Environment env, BObject service) {
+        Object httpResource = env.getStrandLocal(HttpConstants.CURRENT_RESOURCE);
+        if (httpResource instanceof HttpResource &&
+                ((HttpResource) httpResource).getParentService().getBalService() == service) {
+            return (HttpResource) httpResource;
+        }
+        return null;
+    }
+
     private ExternResource() {}
 }
@@ -18,7 +18,10 @@
 
 package io.ballerina.stdlib.http.api.nativeimpl;
 
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpUtil;
 
 /**
@@ -52,5 +55,9 @@ public class ExternResponse {
         HttpUtil.setEntity(responseObj, entityObj, false, false);
     }
 
+    public static void setStreamingConfig(BObject responseObj, BMap<BString, Object> streamingConfig) {
+        responseObj.addNativeData(HttpConstants.RESPONSE_STREAMING_CONFIG, streamingConfig);
+    }
+
     private ExternResponse() {}
 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.HttpErrorType;
+import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.api.client.resiliency.HedgePolicy;
+import io.ballerina.stdlib.http.api.client.resiliency.RequestBudget;
+import io.ballerina.stdlib.http.api.client.resiliency.RetryClientStats;
+import io.ballerina.stdlib.http.api.client.resiliency.RetryPolicy;
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.OutboundMsgHolder;
+import io.ballerina.stdlib.http.transport.message.FullHttpMessageListener;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.ResponseHandle;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.BUDGET_BURST;
+import static io.ballerina.stdlib.http.api.HttpConstants.BUDGET_MAX_RATIO;
+import static io.ballerina.stdlib.http.api.HttpConstants.HEDGE_DELAY;
+import static io.ballerina.stdlib.http.api.HttpConstants.HEDGE_OUTCOME;
+import static io.ballerina.stdlib.http.api.HttpConstants.HEDGE_PERCENTILE;
+import static io.ballerina.stdlib.http.api.HttpConstants.HEDGE_POLICY;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_BACK_OFF_FACTOR;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_BUDGET;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_CONFIG_INTERVAL;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_HEDGE;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_JITTER;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_MAX_WAIT_INTERVAL;
+import static io.ballerina.stdlib.http.api.HttpConstants.RETRY_POLICY;
+import static io.ballerina.stdlib.http.api.HttpConstants.TRANSPORT_HANDLE;
+
+/**
+ * Utilities related to the retries and the hedged requests of the retry client.
+ *
+ * @since 2.3.0
+ */
+public class ExternRetryClient {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExternRetryClient.class);
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+    private static final long DEFAULT_MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    @SuppressWarnings("unchecked")
+    public static Object init(BObject retryClient, BString url, BMap<BString, Object> config) {
+        RetryClientStats stats = RetryClientStats.getInstance(url.getValue());
+        BDecimal interval = (BDecimal) config.get(RETRY_CONFIG_INTERVAL);
+        double backOffFactor = config.getFloatValue(RETRY_BACK_OFF_FACTOR);
+        BDecimal maxWaitInterval = (BDecimal) config.get(RETRY_MAX_WAIT_INTERVAL);
+        if (interval.floatValue() < 0) {
+            return createConfigError(RETRY_CONFIG_INTERVAL, interval);
+        }
+        if (maxWaitInterval.floatValue() < 0) {
+            return createConfigError(RETRY_MAX_WAIT_INTERVAL, maxWaitInterval);
+        }
+        RequestBudget budget = null;
+        Object budgetConfig = config.get(RETRY_BUDGET);
+        if (budgetConfig instanceof BMap) {
+            BMap<BString, Object> budgetMap = (BMap<BString, Object>) budgetConfig;
+            BString invalidField = getInvalidBudgetField(budgetMap);
+            if (invalidField != null) {
+                return createConfigError(invalidField, budgetMap.get(invalidField));
+            }
+            budget = createBudget(budgetMap);
+        }
+        long maxWaitNanos = maxWaitInterval.floatValue() == 0 ? DEFAULT_MAX_WAIT_NANOS : toNanos(maxWaitInterval);
+        RetryPolicy.Jitter jitter = RetryPolicy.Jitter.valueOf(config.getStringValue(RETRY_JITTER).getValue());
+        retryClient.addNativeData(RETRY_POLICY, new RetryPolicy(toNanos(interval),
+                                                                backOffFactor <= 0 ? 1.0 : backOffFactor,
+                                                                maxWaitNanos, jitter, budget, stats));
+
+        Object hedge = config.get(RETRY_HEDGE);
+        if (!(hedge instanceof BMap)) {
+            return null;
+        }
+        BMap<BString, Object> hedgeConfig = (BMap<BString, Object>) hedge;
+        Object delay = hedgeConfig.get(HEDGE_DELAY);
+        double percentile = hedgeConfig.getFloatValue(HEDGE_PERCENTILE);
+        if (delay != null && ((BDecimal) delay).floatValue() < 0) {
+            return createConfigError(HEDGE_DELAY, delay);
+        }
+        if (!(percentile > 0 && percentile <= 100)) {
+            return createConfigError(HEDGE_PERCENTILE, percentile);
+        }
+        BString invalidField = getInvalidBudgetField(hedgeConfig);
+        if (invalidField != null) {
+            return createConfigError(invalidField, hedgeConfig.get(invalidField));
+        }
+        RequestBudget hedgeBudget = createBudget(hedgeConfig);
+        long delayNanos = delay != null ? toNanos((BDecimal) delay) : -1;
+        retryClient.addNativeData(HEDGE_POLICY, new HedgePolicy(delayNanos, percentile, hedgeBudget, stats,
+                                                                System.nanoTime()));
+        return null;
+    }
+
+    public static void startRequest(BObject retryClient) {
+        RetryPolicy policy = (RetryPolicy) retryClient.getNativeData(RETRY_POLICY);
+        if (policy != null) {
+            policy.startInvocation();
+        }
+    }
+
+    /**
+     * Returns how long to wait before retrying an invocation.
+     *
+     * @param retryClient     the retry client
+     * @param retryCount      number of retries already made for the invocation
+     * @param currentInterval interval waited before the previous retry
+     * @param retryAfter      value of the {@code Retry-After} header of the failed response, null if none
+     * @return the interval in seconds, or null if the invocation must not be retried
+     */
+    public static Object getRetryInterval(BObject retryClient, long retryCount, BDecimal currentInterval,
+                                          Object retryAfter) {
+        RetryPolicy policy = (RetryPolicy) retryClient.getNativeData(RETRY_POLICY);
+        if (policy == null) {
+            return currentInterval;
+        }
+        long retryAfterNanos = retryAfter != null ?
+                RetryPolicy.parseRetryAfter(((BString) retryAfter).getValue(), System.currentTimeMillis()) : -1;
+        long intervalNanos = policy.nextInterval((int) retryCount, toNanos(currentInterval), retryAfterNanos,
+                                                 ThreadLocalRandom.current());
+        return intervalNanos >= 0 ? toSeconds(intervalNanos) : null;
+    }
+
+    /**
+     * Accounts for an invocation to be hedged.
+     *
+     * @param retryClient the retry client
+     * @return the delay in seconds after which the invocation is hedged, or null if it must not be hedged
+     */
+    public static Object startHedgeableRequest(BObject retryClient) {
+        HedgePolicy policy = (HedgePolicy) retryClient.getNativeData(HEDGE_POLICY);
+        long delayNanos = policy != null ? policy.startInvocation(System.nanoTime()) : -1;
+        return delayNanos >= 0 ? toSeconds(delayNanos) : null;
+    }
+
+    public static boolean tryHedge(BObject retryClient) {
+        HedgePolicy policy = (HedgePolicy) retryClient.getNativeData(HEDGE_POLICY);
+        return policy != null && policy.tryHedge();
+    }
+
+    /**
+     * Waits for the first response of the given invocations and cancels the others. If none of them succeeds, the
+     * error of the last one to fail is returned.
+     *
+     * @param env         the environment
+     * @param retryClient the retry client
+     * @param httpFutures the futures of the invocations, the first one being the hedged invocation if there are many
+     * @param timeout     time in seconds to wait for a response, or null to wait until all the invocations complete
+     * @return null, as the response, the error or null on timeout is returned asynchronously
+     */
+    public static Object awaitResponse(Environment env, BObject retryClient, BArray httpFutures, Object timeout) {
+        HedgePolicy policy = (HedgePolicy) retryClient.getNativeData(HEDGE_POLICY);
+        int count = httpFutures.size();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<HttpCarbonMessage>[] outcomes = new CompletableFuture[count];
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            outcomes[i] = getOutcome((BObject) httpFutures.getRefValue(i), policy);
+            outcomes[i].whenComplete((response, throwable) -> {
+                if (throwable == null || failures.incrementAndGet() == count) {
+                    first.complete(index);
+                }
+            });
+        }
+        if (timeout != null && !first.isDone()) {
+            ScheduledFuture<?> timer = TIMER.schedule(() -> first.complete(-1), toNanos((BDecimal) timeout),
+                                                      TimeUnit.NANOSECONDS);
+            first.thenRun(() -> timer.cancel(false));
+        }
+        Future balFuture = env.markAsync();
+        first.thenAccept(winner -> {
+            if (winner < 0) {
+                balFuture.complete(null);
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                if (i != winner) {
+                    cancel((BObject) httpFutures.getRefValue(i), outcomes[i]);
+                }
+            }
+            if (winner > 0 && policy != null) {
+                policy.recordHedgeWin();
+            }
+            outcomes[winner].whenComplete((response, throwable) -> {
+                if (throwable == null) {
+                    balFuture.complete(HttpUtil.createResponseStruct(response));
+                } else {
+                    balFuture.complete(HttpUtil.createHttpError(throwable.getMessage()));
+                }
+            });
+        });
+        return null;
+    }
+
+    // The response of an invocation is taken from the transport only once, since it may have to be awaited more than
+    // once, first until the hedge delay and then along with the hedged invocation.
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<HttpCarbonMessage> getOutcome(BObject httpFuture, HedgePolicy policy) {
+        CompletableFuture<HttpCarbonMessage> outcome =
+                (CompletableFuture<HttpCarbonMessage>) httpFuture.getNativeData(HEDGE_OUTCOME);
+        if (outcome != null) {
+            return outcome;
+        }
+        CompletableFuture<HttpCarbonMessage> newOutcome = new CompletableFuture<>();
+        httpFuture.addNativeData(HEDGE_OUTCOME, newOutcome);
+        long start = System.nanoTime();
+        getOutboundMsgHolder(httpFuture).getResponseFuture().setHttpConnectorListener(new HttpConnectorListener() {
+            @Override
+            public void onMessage(HttpCarbonMessage response) {
+                if (policy != null) {
+                    long now = System.nanoTime();
+                    policy.recordLatency(now - start, now);
+                }
+                newOutcome.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                newOutcome.completeExceptionally(throwable);
+            }
+        });
+        return newOutcome;
+    }
+
+    // A response which arrives regardless of the cancellation is discarded, so that its connection can be reused
+    private static void cancel(BObject httpFuture, CompletableFuture<HttpCarbonMessage> outcome) {
+        outcome.thenAccept(response -> response.getFullHttpCarbonMessage().addListener(
+                new FullHttpMessageListener() {
+                    @Override
+                    public void onComplete(HttpCarbonMessage message) {
+                        message.waitAndReleaseAllEntities();
+                    }
+
+                    @Override
+                    public void onError(Exception error) {
+                        LOG.debug("Error while discarding the response of a cancelled request", error);
+                    }
+                }));
+        if (!outcome.isDone()) {
+            getOutboundMsgHolder(httpFuture).cancel();
+        }
+    }
+
+    private static OutboundMsgHolder getOutboundMsgHolder(BObject httpFuture) {
+        ResponseHandle responseHandle = (ResponseHandle) httpFuture.getNativeData(TRANSPORT_HANDLE);
+        if (responseHandle == null) {
+            throw HttpUtil.createHttpError("invalid http handle");
+        }
+        return responseHandle.getOutboundMsgHolder();
+    }
+
+    // Returns the field of a retry or hedge budget configuration whose value is invalid, or null if there is none
+    private static BString getInvalidBudgetField(BMap<BString, Object> config) {
+        if (!(config.getFloatValue(BUDGET_MAX_RATIO) >= 0)) {
+            return BUDGET_MAX_RATIO;
+        }
+        if (config.getIntValue(BUDGET_BURST) < 1) {
+            return BUDGET_BURST;
+        }
+        return null;
+    }
+
+    private static RequestBudget createBudget(BMap<BString, Object> config) {
+        return new RequestBudget(config.getFloatValue(BUDGET_MAX_RATIO), config.getIntValue(BUDGET_BURST));
+    }
+
+    private static Object createConfigError(BString field, Object value) {
+        return HttpUtil.createHttpError("invalid retry configuration found for " + field + " : " + value,
+                                        HttpErrorType.GENERIC_CLIENT_ERROR);
+    }
+
+    private static long toNanos(BDecimal seconds) {
+        return (long) (seconds.floatValue() * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static BDecimal toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos).movePointLeft(9));
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer =
+                new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory("http-hedge-timer", true));
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private ExternRetryClient() {}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.nativeimpl;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.http.api.ValueCreatorUtils;
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.ConnectionPoolStats;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.EventLoopStats;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.LatencyRecorder;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.PoolUsage;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.TransportMetrics;
+
+import java.math.BigDecimal;
+
+import static io.ballerina.stdlib.http.api.HttpConstants.EVENT_LOOP_STATS_LAST_LAG;
+import static io.ballerina.stdlib.http.api.HttpConstants.EVENT_LOOP_STATS_MAX_LAG;
+import static io.ballerina.stdlib.http.api.HttpConstants.EVENT_LOOP_STATS_MEAN_LAG;
+import static io.ballerina.stdlib.http.api.HttpConstants.EVENT_LOOP_STATS_NAME;
+import static io.ballerina.stdlib.http.api.HttpConstants.EVENT_LOOP_STATS_P99_LAG;
+import static io.ballerina.stdlib.http.api.HttpConstants.EVENT_LOOP_STATS_PENDING_TASKS;
+import static io.ballerina.stdlib.http.api.HttpConstants.EVENT_LOOP_STATS_RECORD;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_ACTIVE;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_BORROWS;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_EXHAUSTED;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_HOST;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_HTTP2_CONNECTIONS;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_HTTP2_STREAMS;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_ID;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_IDLE;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_MAX_WAIT;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_MEAN_WAIT;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_P99_WAIT;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_PORT;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_RECORD;
+import static io.ballerina.stdlib.http.api.HttpConstants.POOL_STATS_SCHEME;
+
+/**
+ * Utilities to read the health statistics of the transport, i.e. the client connection pools and the event loops.
+ *
+ * @since 2.3.0
+ */
+public class ExternTransportMetrics {
+
+    private static final ArrayType POOL_STATS_ARRAY_TYPE = TypeCreator.createArrayType(
+            TypeCreator.createRecordType(POOL_STATS_RECORD, ModuleUtils.getHttpPackage(), 0, false, 0));
+    private static final ArrayType EVENT_LOOP_STATS_ARRAY_TYPE = TypeCreator.createArrayType(
+            TypeCreator.createRecordType(EVENT_LOOP_STATS_RECORD, ModuleUtils.getHttpPackage(), 0, false, 0));
+
+    public static BArray getPoolStats() {
+        BArray statsArray = ValueCreator.createArrayValue(POOL_STATS_ARRAY_TYPE);
+        int index = 0;
+        for (ConnectionPoolStats stats : TransportMetrics.getInstance().getConnectionPoolStats()) {
+            HttpRoute route = stats.getRoute();
+            PoolUsage usage = stats.getUsage();
+            LatencyRecorder borrowWait = stats.getBorrowWait();
+            BMap<BString, Object> record = ValueCreatorUtils.createHTTPRecordValue(POOL_STATS_RECORD);
+            record.put(POOL_STATS_ID, StringUtils.fromString(route.toString()));
+            record.put(POOL_STATS_SCHEME, StringUtils.fromString(route.getScheme()));
+            record.put(POOL_STATS_HOST, StringUtils.fromString(route.getHost()));
+            record.put(POOL_STATS_PORT, (long) route.getPort());
+            record.put(POOL_STATS_ACTIVE, (long) usage.getActiveConnections());
+            record.put(POOL_STATS_IDLE, (long) usage.getIdleConnections());
+            record.put(POOL_STATS_HTTP2_CONNECTIONS, (long) usage.getHttp2Connections());
+            record.put(POOL_STATS_HTTP2_STREAMS, (long) usage.getHttp2ActiveStreams());
+            record.put(POOL_STATS_BORROWS, borrowWait.getCount());
+            record.put(POOL_STATS_EXHAUSTED, stats.getExhaustedCount());
+            record.put(POOL_STATS_MEAN_WAIT, toSeconds(mean(borrowWait)));
+            record.put(POOL_STATS_P99_WAIT, toSeconds(borrowWait.getPercentileNanos(99)));
+            record.put(POOL_STATS_MAX_WAIT, toSeconds(borrowWait.getMaxNanos()));
+            statsArray.add(index++, record);
+        }
+        return statsArray;
+    }
+
+    public static BArray getEventLoopStats() {
+        BArray statsArray = ValueCreator.createArrayValue(EVENT_LOOP_STATS_ARRAY_TYPE);
+        int index = 0;
+        for (EventLoopStats stats : TransportMetrics.getInstance().getEventLoopStats()) {
+            LatencyRecorder lag = stats.getLag();
+            BMap<BString, Object> record = ValueCreatorUtils.createHTTPRecordValue(EVENT_LOOP_STATS_RECORD);
+            record.put(EVENT_LOOP_STATS_NAME, StringUtils.fromString(stats.getName()));
+            record.put(EVENT_LOOP_STATS_PENDING_TASKS, (long) stats.getPendingTasks());
+            record.put(EVENT_LOOP_STATS_LAST_LAG, toSeconds(stats.getLastLagNanos()));
+            record.put(EVENT_LOOP_STATS_MEAN_LAG, toSeconds(mean(lag)));
+            record.put(EVENT_LOOP_STATS_P99_LAG, toSeconds(lag.getPercentileNanos(99)));
+            record.put(EVENT_LOOP_STATS_MAX_LAG, toSeconds(lag.getMaxNanos()));
+            statsArray.add(index++, record);
+        }
+        return statsArray;
+    }
+
+    private static long mean(LatencyRecorder recorder) {
+        long count = recorder.getCount();
+        return count == 0 ? 0 : recorder.getSumNanos() / count;
+    }
+
+    private static BDecimal toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos).movePointLeft(9));
+    }
+
+    private ExternTransportMetrics() {
+    }
+}
@@ -38,6 +38,7 @@ import io.ballerina.stdlib.http.api.client.caching.ResponseCacheControlObj;
 import io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipelinedResponse;
 import io.ballerina.stdlib.http.api.util.CacheUtils;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.slf4j.Logger;
@@ -46,7 +47,6 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
-import static io.ballerina.stdlib.http.api.HttpConstants.INTERCEPTOR_SERVICES_REGISTRIES;
 import static io.ballerina.stdlib.http.api.HttpConstants.OBSERVABILITY_CONTEXT_PROPERTY;
 import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_CACHE_CONTROL_FIELD;
 import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_STATUS_CODE_FIELD;
@@ -66,7 +66,7 @@ public class Respond extends ConnectionAction {
     public static Object nativeRespondError(Environment env, BObject connectionObj, BObject outboundResponseObj,
                                             BError error) {
         HttpCarbonMessage inboundRequest = HttpUtil.getCarbonMsg(connectionObj, null);
-        inboundRequest.setProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR, error);
+        inboundRequest.setProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR, error);
         return nativeRespondWithDataCtx(env, connectionObj, outboundResponseObj, new DataContext(env, inboundRequest));
     }
 
@@ -179,7 +179,8 @@ public class Respond extends ConnectionAction {
                                                     BObject outboundResponseObj, BObject callerObj,
                                                     DataContext dataContext) {
         List<HTTPInterceptorServicesRegistry> interceptorServicesRegistries =
-                (List<HTTPInterceptorServicesRegistry>) inboundMessage.getProperty(INTERCEPTOR_SERVICES_REGISTRIES);
+                (List<HTTPInterceptorServicesRegistry>) inboundMessage.getProperty(
+                        MessageProperty.INTERCEPTOR_SERVICES_REGISTRIES);
         if (interceptorServicesRegistries.isEmpty()) {
             return false;
         }
@@ -191,7 +192,7 @@ public class Respond extends ConnectionAction {
             if (!interceptorServicesRegistry.getServicesType().equals(
                     inboundMessage.getResponseInterceptorServiceState())) {
                 interceptorServiceIndex -= 1;
-                inboundMessage.setProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX, interceptorServiceIndex);
+                inboundMessage.setProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX, interceptorServiceIndex);
                 continue;
             }
 
@@ -203,7 +204,7 @@ public class Respond extends ConnectionAction {
                 }
 
                 interceptorServiceIndex -= 1;
-                inboundMessage.setProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX, interceptorServiceIndex);
+                inboundMessage.setProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX, interceptorServiceIndex);
                 startInterceptResponseMethod(inboundMessage, outboundResponseObj, callerObj, service, env,
                         interceptorServicesRegistry, dataContext);
                 return true;
@@ -214,16 +215,17 @@ public class Respond extends ConnectionAction {
         if (inboundMessage.isInterceptorError()) {
             HttpResponseInterceptorUnitCallback callback = new HttpResponseInterceptorUnitCallback(inboundMessage,
                     callerObj, outboundResponseObj, env, dataContext, null);
-            callback.sendFailureResponse((BError) inboundMessage.getProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR));
+            callback.sendFailureResponse(
+                    (BError) inboundMessage.getProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR));
         }
         return false;
     }
 
     private static int getResponseInterceptorIndex(HttpCarbonMessage inboundMessage, int interceptorsCount) {
-        if (inboundMessage.getProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX) != null) {
-            return (int) inboundMessage.getProperty(HttpConstants.RESPONSE_INTERCEPTOR_INDEX);
-        } else if (inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) != null) {
-            return (int) inboundMessage.getProperty(HttpConstants.REQUEST_INTERCEPTOR_INDEX) - 1;
+        if (inboundMessage.getProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX) != null) {
+            return (int) inboundMessage.getProperty(MessageProperty.RESPONSE_INTERCEPTOR_INDEX);
+        } else if (inboundMessage.getProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX) != null) {
+            return (int) inboundMessage.getProperty(MessageProperty.REQUEST_INTERCEPTOR_INDEX) - 1;
         } else {
             return interceptorsCount - 1;
         }
@@ -240,7 +242,7 @@ public class Respond extends ConnectionAction {
         Callback callback = new HttpResponseInterceptorUnitCallback(inboundMessage, callerObj,
                 outboundResponseObj, env, dataContext, runtime);
 
-        inboundMessage.removeProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR);
+        inboundMessage.removeProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR);
         String methodName = service.getServiceType().equals(HttpConstants.RESPONSE_ERROR_INTERCEPTOR)
                             ? HttpConstants.INTERCEPT_RESPONSE_ERROR : HttpConstants.INTERCEPT_RESPONSE;
 
@@ -22,8 +22,11 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.DataContext;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
@@ -32,6 +35,7 @@ import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpMessageDataStreamer;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
 import io.ballerina.stdlib.mime.util.HeaderUtil;
@@ -53,6 +57,7 @@ import static io.ballerina.stdlib.mime.util.MimeConstants.SERIALIZATION_ERROR;
 public class ResponseWriter {
 
     private static final Logger log = LoggerFactory.getLogger(ResponseWriter.class);
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
 
     /**
      * Send outbound response to destination.
@@ -78,7 +83,7 @@ public class ResponseWriter {
         HttpConnectorListener outboundResStatusConnectorListener =
                 new ResponseWriter.HttpResponseConnectorListener(dataContext, outboundMsgDataStreamer);
         outboundRespStatusFuture.setHttpConnectorListener(outboundResStatusConnectorListener);
-        OutputStream messageOutputStream = outboundMsgDataStreamer.getOutputStream();
+        OutputStream messageOutputStream = getMessageOutputStream(outboundResponse, outboundMsgDataStreamer);
         if (entityObj != null) {
             if (boundaryString != null) {
                 serializeMultiparts(dataContext.getEnvironment(), boundaryString, entityObj, messageOutputStream);
@@ -143,6 +148,28 @@ public class ResponseWriter {
         }
     }
 
+    /**
+     * Get the output stream to serialize the response payload into. A response with a streamed payload writes each
+     * element out as it is produced, instead of waiting for a full buffer.
+     *
+     * @param outboundResponse        Represents ballerina response
+     * @param outboundMsgDataStreamer Represents the data streamer of the native response
+     * @return the output stream of the response payload
+     */
+    @SuppressWarnings("unchecked")
+    private static OutputStream getMessageOutputStream(BObject outboundResponse,
+                                                       HttpMessageDataStreamer outboundMsgDataStreamer) {
+        Object streamingConfig = outboundResponse.getNativeData(HttpConstants.RESPONSE_STREAMING_CONFIG);
+        if (streamingConfig == null) {
+            return outboundMsgDataStreamer.getOutputStream();
+        }
+        BMap<BString, Object> config = (BMap<BString, Object>) streamingConfig;
+        long coalesceSize = config.getIntValue(HttpConstants.STREAMING_CONFIG_COALESCE_SIZE);
+        double coalesceWindow = ((BDecimal) config.get(HttpConstants.STREAMING_CONFIG_COALESCE_WINDOW)).floatValue();
+        return outboundMsgDataStreamer.getFlushingOutputStream((int) Math.min(coalesceSize, Integer.MAX_VALUE),
+                                                               (long) (coalesceWindow * NANOS_PER_SECOND));
+    }
+
     /**
      * Get the response data streamer that should be used for serializing data.
      *
@@ -152,7 +179,7 @@ public class ResponseWriter {
     static HttpMessageDataStreamer getResponseDataStreamer(HttpCarbonMessage outboundResponse) {
         final HttpMessageDataStreamer outboundMsgDataStreamer;
         final PooledDataStreamerFactory pooledDataStreamerFactory = (PooledDataStreamerFactory)
-                outboundResponse.getProperty(HttpConstants.POOLED_BYTE_BUFFER_FACTORY);
+                outboundResponse.getProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY);
         if (pooledDataStreamerFactory != null) {
             outboundMsgDataStreamer = pooledDataStreamerFactory.createHttpDataStreamer(outboundResponse);
         } else {
@@ -21,7 +21,7 @@ package io.ballerina.stdlib.http.api.nativeimpl.pipelining;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpPipeliningListener;
 import io.netty.channel.ChannelHandlerContext;
 
-import static io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler.executePipeliningLogic;
+import static io.ballerina.stdlib.http.api.nativeimpl.pipelining.PipeliningHandler.sendNextPipelinedResponse;
 
 /**
  * Listener to trigger pipelining logic. This is to be used only on the pipelined responses that are already
@@ -33,6 +33,6 @@ public class PipelineResponseListener implements HttpPipeliningListener {
 
     @Override
     public void onLastHttpContentSent(ChannelHandlerContext sourceContext) {
-        executePipeliningLogic(sourceContext, null);
+        sendNextPipelinedResponse(sourceContext);
     }
 }
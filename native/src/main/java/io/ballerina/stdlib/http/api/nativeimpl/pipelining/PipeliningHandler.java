@@ -19,18 +19,20 @@
 package io.ballerina.stdlib.http.api.nativeimpl.pipelining;
 
 import io.ballerina.stdlib.http.api.BallerinaConnectorException;
+import io.ballerina.stdlib.http.api.HttpErrorType;
+import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.api.nativeimpl.connection.ResponseWriter;
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.PipeliningSequencer;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpPipeliningFuture;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Queue;
-
 import static io.ballerina.stdlib.http.api.HttpUtil.sendOutboundResponse;
 
 /**
@@ -69,7 +71,9 @@ public class PipeliningHandler {
     }
 
     /**
-     * Executes pipelining logic.
+     * Executes pipelining logic. If the response is next in line and the connection is idle, it is written right away
+     * on the calling thread. Otherwise it is handed over to the event loop of the connection to be parked until its
+     * turn comes.
      *
      * @param sourceContext     Represents channel handler context
      * @param pipelinedResponse Represents pipelined response
@@ -77,42 +81,90 @@ public class PipeliningHandler {
      */
     public static HttpResponseFuture executePipeliningLogic(ChannelHandlerContext sourceContext,
                                                             PipelinedResponse pipelinedResponse) {
-        HttpResponseFuture responseFuture = null;
+        PipeliningSequencer<PipelinedResponse> sequencer = getSequencer(sourceContext);
+        if (sequencer.tryClaim(pipelinedResponse.getSequenceId())) {
+            return writePipelinedResponse(pipelinedResponse);
+        }
+        sourceContext.channel().eventLoop().execute(() -> queuePipelinedResponse(sourceContext, pipelinedResponse));
+        return null;
+    }
 
-        synchronized (sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get()) {
-            Queue<PipelinedResponse> responseQueue = sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get();
-            if (thresholdReached(sourceContext, responseQueue)) {
-                return null;
-            }
-            if (pipelinedResponse != null) {
-                responseQueue.add(pipelinedResponse);
-            }
-            while (!responseQueue.isEmpty()) {
-                long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
-                final PipelinedResponse queuedPipelinedResponse = responseQueue.peek();
-                long currentSequenceNumber = queuedPipelinedResponse.getSequenceId();
-                if (currentSequenceNumber != nextSequenceNumber) {
-                    break;
-                }
-                responseQueue.remove();
-                //IMPORTANT: Do not increment the nextSequenceNumber after 'sendOutboundResponseRobust()' or
-                //'sendOutboundResponse()' under any circumstance.  nextSequenceNumber should be updated only
-                //when the last http content of this message has been written to the socket because in case if
-                //one response has delayed http contents, there's a good chance that the contents of another
-                //response will be sent out before its turn.
-                if (queuedPipelinedResponse.getDataContext() != null &&
-                        queuedPipelinedResponse.getOutboundResponseObj() != null) {
-                    ResponseWriter.sendResponseRobust(queuedPipelinedResponse.getDataContext(),
-                                                      queuedPipelinedResponse.getInboundRequestMsg(),
-                                                      queuedPipelinedResponse.getOutboundResponseObj(),
-                                                      queuedPipelinedResponse.getOutboundResponseMsg());
-                } else {
-                    responseFuture = sendOutboundResponse(queuedPipelinedResponse.getInboundRequestMsg(),
-                            queuedPipelinedResponse.getOutboundResponseMsg());
-                }
+    /**
+     * Sends out the queued response which is next in line, if it is ready. This is called on the event loop of the
+     * connection once the last http content of the previous response has been written.
+     *
+     * @param sourceContext Represents channel handler context
+     */
+    static void sendNextPipelinedResponse(ChannelHandlerContext sourceContext) {
+        PipelinedResponse nextPipelinedResponse = getSequencer(sourceContext).claimNext();
+        if (nextPipelinedResponse != null) {
+            dispatchPipelinedResponse(sourceContext, nextPipelinedResponse);
+        }
+    }
+
+    private static void queuePipelinedResponse(ChannelHandlerContext sourceContext,
+                                               PipelinedResponse pipelinedResponse) {
+        PipeliningSequencer<PipelinedResponse> sequencer = getSequencer(sourceContext);
+        if (thresholdReached(sourceContext, sequencer)) {
+            return;
+        }
+        if (sequencer.isServed(pipelinedResponse.getSequenceId())) {
+            discardPipelinedResponse(sourceContext, pipelinedResponse);
+            return;
+        }
+        PipelinedResponse claimedResponse = sequencer.offer(pipelinedResponse.getSequenceId(), pipelinedResponse);
+        if (claimedResponse != null) {
+            dispatchPipelinedResponse(sourceContext, claimedResponse);
+        }
+    }
+
+    private static void dispatchPipelinedResponse(ChannelHandlerContext sourceContext,
+                                                  PipelinedResponse pipelinedResponse) {
+        EventExecutorGroup pipeliningExecutor = sourceContext.channel().attr(Constants.PIPELINING_EXECUTOR).get();
+        //IMPORTANT:Pipelining logic should never be executed in an I/O thread as it might lead to I/O
+        //thread blocking scenarios in outbound trottling. Here, the response is written in a thread that
+        //belongs to the pipelining thread pool.
+        pipeliningExecutor.execute(() -> writePipelinedResponse(pipelinedResponse));
+    }
+
+    /**
+     * Releases a response whose turn has already passed, e.g. a second response to the same request, and fails the
+     * respond call which produced it. The content is released off the I/O thread as it may still be arriving.
+     */
+    private static void discardPipelinedResponse(ChannelHandlerContext sourceContext,
+                                                 PipelinedResponse pipelinedResponse) {
+        log.warn("Pipelined response {} arrived after its turn hence discarding it.",
+                 pipelinedResponse.getSequenceId());
+        EventExecutorGroup pipeliningExecutor = sourceContext.channel().attr(Constants.PIPELINING_EXECUTOR).get();
+        pipeliningExecutor.execute(() -> {
+            pipelinedResponse.getOutboundResponseMsg().waitAndReleaseAllEntities();
+            if (pipelinedResponse.getDataContext() != null) {
+                pipelinedResponse.getDataContext().notifyOutboundResponseStatus(HttpUtil.createHttpError(
+                        "Response has already been sent for the request", HttpErrorType.GENERIC_LISTENER_ERROR));
             }
-            return responseFuture;
+        });
+    }
+
+    private static HttpResponseFuture writePipelinedResponse(PipelinedResponse pipelinedResponse) {
+        //IMPORTANT: Do not increment the nextSequenceNumber after 'sendOutboundResponseRobust()' or
+        //'sendOutboundResponse()' under any circumstance.  nextSequenceNumber should be updated only
+        //when the last http content of this message has been written to the socket because in case if
+        //one response has delayed http contents, there's a good chance that the contents of another
+        //response will be sent out before its turn.
+        if (pipelinedResponse.getDataContext() != null && pipelinedResponse.getOutboundResponseObj() != null) {
+            ResponseWriter.sendResponseRobust(pipelinedResponse.getDataContext(),
+                                              pipelinedResponse.getInboundRequestMsg(),
+                                              pipelinedResponse.getOutboundResponseObj(),
+                                              pipelinedResponse.getOutboundResponseMsg());
+            return null;
         }
+        return sendOutboundResponse(pipelinedResponse.getInboundRequestMsg(),
+                                    pipelinedResponse.getOutboundResponseMsg());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PipeliningSequencer<PipelinedResponse> getSequencer(ChannelHandlerContext sourceContext) {
+        return sourceContext.channel().attr(Constants.PIPELINING_SEQUENCER).get();
     }
 
     /**
@@ -132,21 +184,15 @@ public class PipeliningHandler {
      * out of memory issues.
      *
      * @param sourceContext Represents channel handler context
-     * @param responseQueue Represents pipelined response queue
+     * @param sequencer     Represents the pipelined response sequencer of the connection
      * @return a boolean indicating whether the maximum queued response count is reached
      */
     private static boolean thresholdReached(ChannelHandlerContext sourceContext,
-                                            Queue<PipelinedResponse> responseQueue) {
-        long maxQueuedResponses = sourceContext.channel()
-                .attr(Constants.MAX_RESPONSES_ALLOWED_TO_BE_QUEUED).get();
-        if (Constants.UNBOUNDED_RESPONSE_QUEUE == maxQueuedResponses) {
-            return false;
-        }
-
-        if (responseQueue.size() > maxQueuedResponses) {
+                                            PipeliningSequencer<PipelinedResponse> sequencer) {
+        if (sequencer.thresholdReached()) {
             sourceContext.channel().close();
             log.warn("Threshold {} for pipelined response queue reached hence closing the connection.",
-                    maxQueuedResponses);
+                    sequencer.getMaxQueuedResponses());
             return true;
         }
         return false;
@@ -28,6 +28,7 @@ import io.ballerina.stdlib.http.api.HTTPServicesRegistry;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
 
 import java.util.Arrays;
 import java.util.List;
@@ -44,6 +45,10 @@ public class Register extends AbstractHttpNativeFunction {
             HTTPServicesRegistry httpServicesRegistry = getHttpServicesRegistry(serviceEndpoint);
             Runtime runtime = env.getRuntime();
             httpServicesRegistry.setRuntime(runtime);
+            ServerConnector serverConnector = getServerConnector(serviceEndpoint);
+            if (serverConnector != null) {
+                httpServicesRegistry.setListenerId(serverConnector.getConnectorID());
+            }
             String basePath = getBasePath(serviceName);
             httpServicesRegistry.registerService(runtime, service, basePath);
         } catch (BError ex) {
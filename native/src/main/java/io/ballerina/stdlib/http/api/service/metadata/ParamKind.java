@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.service.metadata;
+
+/**
+ * {@code ParamKind} is the compile time classification of a resource parameter.
+ *
+ * @since 2.3.0
+ */
+public enum ParamKind {
+    PATH,
+    QUERY,
+    HEADER,
+    PAYLOAD,
+    CALLER,
+    REQUEST,
+    HEADERS,
+    REQUEST_CONTEXT,
+    ERROR;
+
+    /**
+     * Checks whether the parameter carries an http annotation which is needed to bind it.
+     *
+     * @return true if the parameter is an annotated header or payload parameter
+     */
+    public boolean isAnnotated() {
+        return this == HEADER || this == PAYLOAD;
+    }
+}
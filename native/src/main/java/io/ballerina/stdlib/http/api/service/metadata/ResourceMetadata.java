@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.service.metadata;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * {@code ResourceMetadata} holds the routing and binding details of a resource which were computed by the compiler
+ * plugin.
+ *
+ * @since 2.3.0
+ */
+public class ResourceMetadata {
+
+    private final String accessor;
+    private final String[] resourcePath;
+    private final String[] paramNames;
+    private final ParamKind[] paramKinds;
+    private final String path;
+    private final String wildcardToken;
+    private final int pathParamCount;
+
+    private ResourceMetadata(String accessor, String[] resourcePath, String[] paramNames, ParamKind[] paramKinds,
+                             String path, String wildcardToken, int pathParamCount) {
+        this.accessor = accessor;
+        this.resourcePath = resourcePath;
+        this.paramNames = paramNames;
+        this.paramKinds = paramKinds;
+        this.path = path;
+        this.wildcardToken = wildcardToken;
+        this.pathParamCount = pathParamCount;
+    }
+
+    static ResourceMetadata fromJson(JsonObject resource) {
+        String[] paramNames = toStringArray(resource.getAsJsonArray("paramNames"));
+        String[] kinds = toStringArray(resource.getAsJsonArray("paramKinds"));
+        if (paramNames.length != kinds.length) {
+            throw new IllegalArgumentException("parameter kinds do not match the parameters");
+        }
+        ParamKind[] paramKinds = new ParamKind[kinds.length];
+        for (int i = 0; i < kinds.length; i++) {
+            paramKinds[i] = ParamKind.valueOf(kinds[i]);
+        }
+        JsonElement wildcardToken = resource.get("wildcardToken");
+        return new ResourceMetadata(resource.get("accessor").getAsString(),
+                                    toStringArray(resource.getAsJsonArray("resourcePath")), paramNames, paramKinds,
+                                    resource.get("path").getAsString(),
+                                    wildcardToken == null ? null : wildcardToken.getAsString(),
+                                    resource.get("pathParamCount").getAsInt());
+    }
+
+    private static String[] toStringArray(JsonArray array) {
+        String[] values = new String[array.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = array.get(i).getAsString();
+        }
+        return values;
+    }
+
+    String getKey() {
+        return getKey(accessor, resourcePath);
+    }
+
+    static String getKey(String accessor, String[] resourcePath) {
+        return accessor.toLowerCase(Locale.ROOT) + " " + String.join("/", resourcePath);
+    }
+
+    /**
+     * Checks whether this metadata was generated for the given resource. A mismatch indicates stale metadata.
+     *
+     * @param resource the runtime resource
+     * @return true if the metadata describes the given resource
+     */
+    boolean matches(ResourceMethodType resource) {
+        return accessor.equalsIgnoreCase(resource.getAccessor())
+                && Arrays.equals(resourcePath, resource.getResourcePath())
+                && Arrays.equals(paramNames, resource.getParamNames())
+                && paramNames.length == resource.getParameterTypes().length;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getWildcardToken() {
+        return wildcardToken;
+    }
+
+    public int getPathParamCount() {
+        return pathParamCount;
+    }
+
+    public ParamKind getParamKind(int index) {
+        return paramKinds[index];
+    }
+}
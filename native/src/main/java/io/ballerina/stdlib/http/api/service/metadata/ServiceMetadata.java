@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.service.metadata;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code ServiceMetadata} holds the compiler generated metadata of a service declaration.
+ *
+ * @since 2.3.0
+ */
+public class ServiceMetadata {
+
+    private final String introspectionDocName;
+    private final Map<String, ResourceMetadata> resources;
+
+    private ServiceMetadata(String introspectionDocName, Map<String, ResourceMetadata> resources) {
+        this.introspectionDocName = introspectionDocName;
+        this.resources = resources;
+    }
+
+    static ServiceMetadata fromJson(JsonObject service) {
+        Map<String, ResourceMetadata> resources = new HashMap<>();
+        for (JsonElement element : service.getAsJsonArray("resources")) {
+            ResourceMetadata resource = ResourceMetadata.fromJson(element.getAsJsonObject());
+            resources.put(resource.getKey(), resource);
+        }
+        JsonElement docName = service.get("introspectionDocName");
+        return new ServiceMetadata(docName == null ? null : docName.getAsString(), resources);
+    }
+
+    /**
+     * Checks whether the metadata describes exactly the given resource methods.
+     *
+     * @param resourceMethods the resource methods of the runtime service type
+     * @return true if every resource has matching metadata and no extra entries exist
+     */
+    boolean matches(MethodType[] resourceMethods) {
+        int resourceCount = 0;
+        for (MethodType method : resourceMethods) {
+            if (!SymbolFlags.isFlagOn(method.getFlags(), SymbolFlags.RESOURCE)) {
+                continue;
+            }
+            resourceCount++;
+            if (getResource((ResourceMethodType) method) == null) {
+                return false;
+            }
+        }
+        return resourceCount == resources.size();
+    }
+
+    /**
+     * Gets the metadata of the given resource.
+     *
+     * @param resource the runtime resource
+     * @return the matching metadata or null if there is none
+     */
+    public ResourceMetadata getResource(ResourceMethodType resource) {
+        ResourceMetadata metadata = resources.get(ResourceMetadata.getKey(resource.getAccessor(),
+                                                                          resource.getResourcePath()));
+        return metadata != null && metadata.matches(resource) ? metadata : null;
+    }
+
+    public Optional<String> getIntrospectionDocName() {
+        return Optional.ofNullable(introspectionDocName);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.service.metadata;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.values.BObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code ServiceMetadataRegistry} loads the service metadata generated by the compiler plugin. The metadata of a
+ * module is read once and cached. Services without matching metadata are analysed at runtime as before.
+ *
+ * @since 2.3.0
+ */
+public class ServiceMetadataRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceMetadataRegistry.class);
+
+    private static final String METADATA_RESOURCE_PATH = "resources/ballerina/http/";
+    private static final String METADATA_FILE_SUFFIX = "-service-metadata.json";
+    private static final int METADATA_VERSION = 1;
+
+    private static final Map<String, List<ServiceMetadata>> MODULE_METADATA = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the compiler generated metadata of the given service.
+     *
+     * @param service the service object
+     * @return the metadata if present, up to date with the service type and not shared with another service shape
+     */
+    public static Optional<ServiceMetadata> getServiceMetadata(BObject service) {
+        ObjectType serviceType = service.getType();
+        if (!(serviceType instanceof ServiceType) || serviceType.getPackage() == null) {
+            return Optional.empty();
+        }
+        Module module = serviceType.getPackage();
+        List<ServiceMetadata> candidates = MODULE_METADATA.computeIfAbsent(
+                module.getOrg() + "." + module.getName(), ServiceMetadataRegistry::loadModuleMetadata);
+        ServiceMetadata match = null;
+        for (ServiceMetadata candidate : candidates) {
+            if (!candidate.matches(((ServiceType) serviceType).getResourceMethods())) {
+                continue;
+            }
+            if (match != null) {
+                // Services with identical resources may still bind their parameters differently, e.g. a header
+                // parameter in one is a query parameter in the other, hence they are left to the runtime analysis.
+                return Optional.empty();
+            }
+            match = candidate;
+        }
+        if (match == null && !candidates.isEmpty() && log.isDebugEnabled()) {
+            log.debug("Service metadata is stale for service type: '" + serviceType.getName() + "'");
+        }
+        return Optional.ofNullable(match);
+    }
+
+    private static List<ServiceMetadata> loadModuleMetadata(String moduleKey) {
+        String filePath = METADATA_RESOURCE_PATH + moduleKey + METADATA_FILE_SUFFIX;
+        try (InputStream inputStream = ServiceMetadataRegistry.class.getClassLoader().getResourceAsStream(filePath)) {
+            if (inputStream == null) {
+                return Collections.emptyList();
+            }
+            try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                JsonObject metadata = new JsonParser().parse(reader).getAsJsonObject();
+                if (metadata.get("version").getAsInt() != METADATA_VERSION) {
+                    return Collections.emptyList();
+                }
+                List<ServiceMetadata> services = new ArrayList<>();
+                for (JsonElement service : metadata.getAsJsonArray("services")) {
+                    services.add(ServiceMetadata.fromJson(service.getAsJsonObject()));
+                }
+                return services;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Ignoring unreadable service metadata in path: '" + filePath + "'", e);
+            return Collections.emptyList();
+        }
+    }
+
+    private ServiceMetadataRegistry() {
+    }
+}
@@ -31,6 +31,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.http.api.BallerinaConnectorException;
 import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -69,7 +70,7 @@ public class AllQueryParams implements Parameter {
     public void populateFeed(HttpCarbonMessage httpCarbonMessage, ParamHandler paramHandler, Object[] paramFeed,
                              boolean treatNilableAsOptional) {
         BMap<BString, Object> urlQueryParams = paramHandler
-                .getQueryParams(httpCarbonMessage.getProperty(HttpConstants.RAW_QUERY_STR));
+                .getQueryParams(httpCarbonMessage.getProperty(MessageProperty.RAW_QUERY_STR));
         for (QueryParam queryParam : this.getAllQueryParams()) {
             String token = queryParam.getToken();
             int index = queryParam.getIndex();
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.service.signature;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+
+/**
+ * {@code {@link BindingContext }} holds the per request state shared by the {@link ParamBinder}s of a resource. The
+ * caller, request, request context and interceptor error objects are created only when a binder asks for them and are
+ * reused by the subsequent binders of the same request.
+ *
+ * @since 2.3.0
+ */
+public abstract class BindingContext {
+
+    private final HttpCarbonMessage inboundMessage;
+    private final boolean treatNilableAsOptional;
+    private BObject caller;
+    private BObject request;
+    private BObject requestContext;
+    private BError interceptorError;
+
+    protected BindingContext(HttpCarbonMessage inboundMessage, boolean treatNilableAsOptional) {
+        this.inboundMessage = inboundMessage;
+        this.treatNilableAsOptional = treatNilableAsOptional;
+    }
+
+    public HttpCarbonMessage getInboundMessage() {
+        return inboundMessage;
+    }
+
+    public boolean isTreatNilableAsOptional() {
+        return treatNilableAsOptional;
+    }
+
+    public BObject getCaller() {
+        if (caller == null) {
+            caller = createCaller();
+        }
+        return caller;
+    }
+
+    public BObject getRequest() {
+        if (request == null) {
+            request = createRequest();
+        }
+        return request;
+    }
+
+    public BObject getRequestContext() {
+        if (requestContext == null) {
+            requestContext = createRequestContext();
+        }
+        return requestContext;
+    }
+
+    public BError getInterceptorError() {
+        if (interceptorError == null) {
+            interceptorError = createInterceptorError();
+        }
+        return interceptorError;
+    }
+
+    /**
+     * Creates a new `http:Headers` object which is backed by the given request.
+     *
+     * @param request the inbound request object
+     * @return the headers object
+     */
+    public abstract BObject createHeaders(BObject request);
+
+    protected abstract BObject createCaller();
+
+    protected abstract BObject createRequest();
+
+    protected abstract BObject createRequestContext();
+
+    protected abstract BError createInterceptorError();
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.service.signature;
+
+/**
+ * {@code {@link ParamBinder }} populates the argument feed of a single resource signature parameter. The binders of
+ * a resource are compiled once by the {@link ParamHandler} and executed in order for each inbound request.
+ *
+ * @since 2.3.0
+ */
+public interface ParamBinder {
+
+    /**
+     * Populates the value and the `is-provided` flag of the parameter in the given feed.
+     *
+     * @param context   the per request binding context which lazily creates the shared signature objects
+     * @param paramFeed the argument feed passed to the resource function
+     */
+    void bind(BindingContext context, Object[] paramFeed);
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.service.signature;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.http.api.HttpConstants;
+
+/**
+ * {@code {@link ParamBinders }} contains the specialized {@link ParamBinder} implementations of the resource
+ * signature parameter kinds.
+ *
+ * @since 2.3.0
+ */
+public final class ParamBinders {
+
+    static ParamBinder forNonRecurringParam(NonRecurringParam param) {
+        int index = param.getIndex();
+        switch (param.getTypeName()) {
+            case HttpConstants.CALLER:
+                return new CallerBinder(index);
+            case HttpConstants.REQUEST_CONTEXT:
+                return new RequestContextBinder(index);
+            case HttpConstants.STRUCT_GENERIC_ERROR:
+                return new InterceptorErrorBinder(index);
+            case HttpConstants.REQUEST:
+                return new RequestBinder(index);
+            case HttpConstants.HEADERS:
+                return new HeadersBinder(index);
+            default:
+                throw new IllegalStateException("unsupported signature parameter: " + param.getTypeName());
+        }
+    }
+
+    /**
+     * Binds a parameter which occurs only once in the signature and takes a single value.
+     */
+    abstract static class NonRecurringParamBinder implements ParamBinder {
+
+        private final int index;
+
+        NonRecurringParamBinder(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void bind(BindingContext context, Object[] paramFeed) {
+            paramFeed[index] = getValue(context);
+            paramFeed[index + 1] = true;
+        }
+
+        abstract Object getValue(BindingContext context);
+    }
+
+    /**
+     * Binds the `http:Caller` parameter.
+     */
+    static final class CallerBinder extends NonRecurringParamBinder {
+
+        CallerBinder(int index) {
+            super(index);
+        }
+
+        @Override
+        Object getValue(BindingContext context) {
+            BObject caller = context.getCaller();
+            caller.set(HttpConstants.CALLER_PRESENT_FIELD, true);
+            return caller;
+        }
+    }
+
+    /**
+     * Binds the `http:RequestContext` parameter.
+     */
+    static final class RequestContextBinder extends NonRecurringParamBinder {
+
+        RequestContextBinder(int index) {
+            super(index);
+        }
+
+        @Override
+        Object getValue(BindingContext context) {
+            return context.getRequestContext();
+        }
+    }
+
+    /**
+     * Binds the `error` parameter of the interceptor services.
+     */
+    static final class InterceptorErrorBinder extends NonRecurringParamBinder {
+
+        InterceptorErrorBinder(int index) {
+            super(index);
+        }
+
+        @Override
+        Object getValue(BindingContext context) {
+            return context.getInterceptorError();
+        }
+    }
+
+    /**
+     * Binds the `http:Request` parameter.
+     */
+    static final class RequestBinder extends NonRecurringParamBinder {
+
+        RequestBinder(int index) {
+            super(index);
+        }
+
+        @Override
+        Object getValue(BindingContext context) {
+            return context.getRequest();
+        }
+    }
+
+    /**
+     * Binds the `http:Headers` parameter.
+     */
+    static final class HeadersBinder extends NonRecurringParamBinder {
+
+        HeadersBinder(int index) {
+            super(index);
+        }
+
+        @Override
+        Object getValue(BindingContext context) {
+            return context.createHeaders(context.getRequest());
+        }
+    }
+
+    /**
+     * Binds all the query parameters of the signature.
+     */
+    static final class QueryParamsBinder implements ParamBinder {
+
+        private final AllQueryParams queryParams;
+        private final ParamHandler paramHandler;
+
+        QueryParamsBinder(AllQueryParams queryParams, ParamHandler paramHandler) {
+            this.queryParams = queryParams;
+            this.paramHandler = paramHandler;
+        }
+
+        @Override
+        public void bind(BindingContext context, Object[] paramFeed) {
+            queryParams.populateFeed(context.getInboundMessage(), paramHandler, paramFeed,
+                                     context.isTreatNilableAsOptional());
+        }
+    }
+
+    /**
+     * Binds all the header parameters of the signature.
+     */
+    static final class HeaderParamsBinder implements ParamBinder {
+
+        private final AllHeaderParams headerParams;
+
+        HeaderParamsBinder(AllHeaderParams headerParams) {
+            this.headerParams = headerParams;
+        }
+
+        @Override
+        public void bind(BindingContext context, Object[] paramFeed) {
+            headerParams.populateFeed(context.getInboundMessage(), paramFeed, context.isTreatNilableAsOptional());
+        }
+    }
+
+    /**
+     * Binds the payload parameter of the signature.
+     */
+    static final class PayloadBinder implements ParamBinder {
+
+        private final PayloadParam payloadParam;
+
+        PayloadBinder(PayloadParam payloadParam) {
+            this.payloadParam = payloadParam;
+        }
+
+        @Override
+        public void bind(BindingContext context, Object[] paramFeed) {
+            payloadParam.populateFeed(context.getRequest(), context.getInboundMessage(), paramFeed);
+        }
+    }
+
+    private ParamBinders() {
+    }
+}
@@ -36,6 +36,8 @@ import io.ballerina.stdlib.http.api.HttpConstants;
 import io.ballerina.stdlib.http.api.HttpErrorType;
 import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.api.nativeimpl.ModuleUtils;
+import io.ballerina.stdlib.http.api.service.metadata.ParamKind;
+import io.ballerina.stdlib.http.api.service.metadata.ResourceMetadata;
 import io.ballerina.stdlib.http.uri.URIUtil;
 
 import java.io.UnsupportedEncodingException;
@@ -70,6 +72,8 @@ public class ParamHandler {
     private NonRecurringParam interceptorErrorParam = null;
     private AllQueryParams queryParams = new AllQueryParams();
     private AllHeaderParams headerParams = new AllHeaderParams();
+    private ParamBinder[] binders;
+    private final ResourceMetadata resourceMetadata;
 
     private static final String PARAM_ANNOT_PREFIX = "$param$.";
     private static final MapType MAP_TYPE = TypeCreator.createMapType(
@@ -86,12 +90,42 @@ public class ParamHandler {
             + ANN_NAME_CACHE;
 
     public ParamHandler(ResourceMethodType resource, int pathParamCount) {
+        this(resource, pathParamCount, null);
+    }
+
+    public ParamHandler(ResourceMethodType resource, int pathParamCount, String wildcardToken) {
+        this(resource, pathParamCount, wildcardToken, null);
+    }
+
+    public ParamHandler(ResourceMethodType resource, int pathParamCount, String wildcardToken,
+                        ResourceMetadata resourceMetadata) {
         this.resource = resource;
+        this.resourceMetadata = resourceMetadata;
         this.pathParamCount = pathParamCount;
         this.paramTypes = resource.getParameterTypes();
         populatePathParamTokens(resource, pathParamCount);
         populatePayloadAndHeaderParamTokens(resource);
         validateSignatureParams();
+        compileBinders(wildcardToken);
+    }
+
+    private void compileBinders(String wildcardToken) {
+        List<ParamBinder> binderList = new ArrayList<>();
+        if (pathParamTokens.length != 0) {
+            binderList.add(new PathParamsBinder(resource, pathParamTokens, wildcardToken));
+        }
+        for (Parameter param : otherParamList) {
+            if (param instanceof NonRecurringParam) {
+                binderList.add(ParamBinders.forNonRecurringParam((NonRecurringParam) param));
+            } else if (param instanceof AllQueryParams) {
+                binderList.add(new ParamBinders.QueryParamsBinder((AllQueryParams) param, this));
+            } else if (param instanceof AllHeaderParams) {
+                binderList.add(new ParamBinders.HeaderParamsBinder((AllHeaderParams) param));
+            } else if (param instanceof PayloadParam) {
+                binderList.add(new ParamBinders.PayloadBinder((PayloadParam) param));
+            }
+        }
+        this.binders = binderList.toArray(new ParamBinder[0]);
     }
 
     private void populatePathParamTokens(ResourceMethodType resource, int pathParamCount) {
@@ -108,7 +142,8 @@ public class ParamHandler {
         }
         for (int index = pathParamCount; index < paramTypes.length; index++) {
             Type parameterType = resource.getParameterTypes()[index];
-            String typeName = parameterType.toString();
+            String typeName = resourceMetadata == null ? parameterType.toString() :
+                    getTypeName(resourceMetadata.getParamKind(index));
             switch (typeName) {
                 case REQUEST_CONTEXT_TYPE:
                     if (this.requestContextParam == null) {
@@ -174,8 +209,31 @@ public class ParamHandler {
         }
     }
 
+    private static String getTypeName(ParamKind paramKind) {
+        switch (paramKind) {
+            case CALLER:
+                return CALLER_TYPE;
+            case REQUEST:
+                return REQ_TYPE;
+            case HEADERS:
+                return HEADERS_TYPE;
+            case REQUEST_CONTEXT:
+                return REQUEST_CONTEXT_TYPE;
+            case ERROR:
+                return HttpConstants.STRUCT_GENERIC_ERROR;
+            default:
+                // Payload, header and query params are resolved by the parameter name
+                return paramKind.name();
+        }
+    }
+
     private void populatePayloadAndHeaderParamTokens(ResourceMethodType balResource) {
-        for (String paramName : balResource.getParamNames()) {
+        String[] paramNames = balResource.getParamNames();
+        for (int index = 0; index < paramNames.length; index++) {
+            String paramName = paramNames[index];
+            if (resourceMetadata != null && !resourceMetadata.getParamKind(index).isAnnotated()) {
+                continue;
+            }
             BMap annotations = (BMap) balResource.getAnnotation(StringUtils.fromString(PARAM_ANNOT_PREFIX + paramName));
             if (annotations == null) {
                 continue;
@@ -322,6 +380,21 @@ public class ParamHandler {
         return pathParamTokens.length;
     }
 
+    /**
+     * Runs the binders compiled for the resource signature in order and returns the populated argument feed, which
+     * holds a value and an `is-provided` flag per parameter.
+     *
+     * @param context the per request binding context
+     * @return the argument feed of the resource function
+     */
+    public Object[] bindParams(BindingContext context) {
+        Object[] paramFeed = new Object[paramTypes.length * 2];
+        for (ParamBinder binder : binders) {
+            binder.bind(context, paramFeed);
+        }
+        return paramFeed;
+    }
+
     /**
      * Gets the map of query params for given raw query string.
      *
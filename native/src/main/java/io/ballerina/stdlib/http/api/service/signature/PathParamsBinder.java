@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.service.signature;
+
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.stdlib.http.api.BallerinaConnectorException;
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.api.HttpResourceArguments;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.TypeTags.ARRAY_TAG;
+import static io.ballerina.stdlib.http.api.HttpConstants.EXTRA_PATH_INDEX;
+import static io.ballerina.stdlib.http.api.service.signature.ParamUtils.castParam;
+import static io.ballerina.stdlib.http.api.service.signature.ParamUtils.castParamArray;
+
+/**
+ * {@code {@link PathParamsBinder }} binds the path parameters which are located initially in the signature before the
+ * other user provided signature params. The parameter tokens and the type tags are resolved once at the service
+ * registration.
+ *
+ * @since 2.3.0
+ */
+public class PathParamsBinder implements ParamBinder {
+
+    private final String[] pathParamTokens;
+    private final int[] typeTags;
+    private final int[] elementTypeTags;
+    private final String wildcardToken;
+
+    PathParamsBinder(ResourceMethodType resource, String[] pathParamTokens, String wildcardToken) {
+        this.pathParamTokens = pathParamTokens.clone();
+        this.wildcardToken = wildcardToken;
+        this.typeTags = new int[pathParamTokens.length];
+        this.elementTypeTags = new int[pathParamTokens.length];
+        Type[] parameterTypes = resource.getParameterTypes();
+        for (int i = 0; i < pathParamTokens.length; i++) {
+            Type pathParamType = parameterTypes[i];
+            typeTags[i] = pathParamType.getTag();
+            if (typeTags[i] == ARRAY_TAG) {
+                elementTypeTags[i] = ((ArrayType) pathParamType).getElementType().getTag();
+            }
+        }
+    }
+
+    @Override
+    public void bind(BindingContext context, Object[] paramFeed) {
+        HttpResourceArguments resourceArgumentValues =
+                (HttpResourceArguments) context.getInboundMessage().getProperty(MessageProperty.RESOURCE_ARGS);
+        Map<String, Map<Integer, String>> arguments = resourceArgumentValues.getMap();
+        updateWildcardToken(arguments);
+        for (int i = 0; i < pathParamTokens.length; i++) {
+            String argumentValue = URLDecoder.decode(arguments.get(pathParamTokens[i]).get(i), StandardCharsets.UTF_8);
+            int paramIndex = i * 2;
+            try {
+                if (typeTags[i] == ARRAY_TAG) {
+                    String[] segments = argumentValue.substring(1).split(HttpConstants.SINGLE_SLASH);
+                    paramFeed[paramIndex] = castParamArray(elementTypeTags[i], segments);
+                } else {
+                    paramFeed[paramIndex] = castParam(typeTags[i], argumentValue);
+                }
+                paramFeed[paramIndex + 1] = true;
+            } catch (Exception ex) {
+                throw new BallerinaConnectorException("Error in casting path param : " + ex.getMessage());
+            }
+        }
+    }
+
+    private void updateWildcardToken(Map<String, Map<Integer, String>> arguments) {
+        if (wildcardToken == null) {
+            return;
+        }
+        int wildCardIndex = pathParamTokens.length - 1;
+        String wildcardPathSegment = arguments.get(HttpConstants.EXTRA_PATH_INFO).get(EXTRA_PATH_INDEX);
+        if (arguments.containsKey(wildcardToken)) {
+            Map<Integer, String> indexValueMap = arguments.get(wildcardToken);
+            indexValueMap.put(wildCardIndex, wildcardPathSegment);
+        } else {
+            arguments.put(wildcardToken, Collections.singletonMap(wildCardIndex, wildcardPathSegment));
+        }
+    }
+}
@@ -30,6 +30,7 @@ import io.ballerina.stdlib.http.api.HttpUtil;
 import io.ballerina.stdlib.http.api.service.signature.builder.AbstractPayloadBuilder;
 import io.ballerina.stdlib.http.api.service.signature.converter.JsonToRecordConverter;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.mime.util.EntityBodyHandler;
 
 import java.util.ArrayList;
@@ -157,7 +158,7 @@ public class PayloadParam implements Parameter {
         try {
             AbstractPayloadBuilder payloadBuilder = getBuilder(httpCarbonMessage, payloadType);
             index = payloadBuilder.build(inRequestEntity, this.readonly, paramFeed, index);
-            httpCarbonMessage.setProperty(HttpConstants.ENTITY_OBJ, inRequestEntity);
+            httpCarbonMessage.setProperty(MessageProperty.ENTITY_OBJ, inRequestEntity);
             return index;
         } catch (BError ex) {
             httpCarbonMessage.setHttpStatusCode(Integer.parseInt(HttpConstants.HTTP_BAD_REQUEST));
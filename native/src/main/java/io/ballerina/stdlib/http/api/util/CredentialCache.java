@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@code CredentialCache} is a bounded cache of credentials which have already been validated by a listener auth
+ * handler. Entries are keyed by the SHA-256 digest of the credential, so the credential itself is never retained.
+ * <p>
+ * A successful validation is kept for the configured TTL, but never beyond the expiry of the credential. A failed
+ * validation is kept for a shorter negative TTL. Callers which validate against a remote server can use
+ * {@link #getOrWait(String, Consumer)} so that concurrent validations of the same credential are coalesced into one.
+ *
+ * @since 2.3.0
+ */
+public class CredentialCache {
+
+    /**
+     * Returned by {@link #getOrWait(String, Consumer)} when the credential is being validated by another caller.
+     */
+    public static final Object PENDING = new Object();
+
+    private static final long PENDING_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(CredentialCache::createDigest);
+
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final CredentialCacheStats stats;
+
+    public CredentialCache(int capacity, long ttlNanos, long negativeTtlNanos, CredentialCacheStats stats) {
+        this.capacity = capacity;
+        this.ttlNanos = ttlNanos;
+        this.negativeTtlNanos = negativeTtlNanos;
+        this.stats = stats;
+    }
+
+    /**
+     * Returns the cached validation result of the credential.
+     *
+     * @param credential the credential
+     * @return the cached entry or null if the caller has to validate the credential
+     */
+    public Entry get(String credential) {
+        Object current = entries.get(digest(credential));
+        if (current instanceof Entry && !((Entry) current).isExpired(System.nanoTime())) {
+            stats.recordHit(((Entry) current).isFailure());
+            return (Entry) current;
+        }
+        stats.recordMiss();
+        return null;
+    }
+
+    /**
+     * Returns the cached validation result of the credential. If the credential is already being validated by
+     * another caller, the waiter is notified with the result of that validation instead.
+     *
+     * @param credential the credential
+     * @param waiter     the consumer to be notified when the ongoing validation completes. It is notified with null if
+     *                   the validation is abandoned, in which case the waiter has to validate the credential itself
+     * @return the cached entry, {@link #PENDING} if the waiter is going to be notified, or null if the caller has to
+     * validate the credential and either {@link #put(String, Object, boolean, long)} the result or
+     * {@link #abandon(String)} the validation
+     */
+    public Object getOrWait(String credential, Consumer<Entry> waiter) {
+        String key = digest(credential);
+        Object current = entries.get(key);
+        if (current instanceof Entry && !((Entry) current).isExpired(System.nanoTime())) {
+            stats.recordHit(((Entry) current).isFailure());
+            return current;
+        }
+        Object[] outcome = new Object[1];
+        entries.compute(key, (k, existing) -> {
+            long now = System.nanoTime();
+            if (existing instanceof Entry && !((Entry) existing).isExpired(now)) {
+                outcome[0] = existing;
+                return existing;
+            }
+            if (existing instanceof Pending && !((Pending) existing).isStale(now)) {
+                ((Pending) existing).waiters.add(waiter);
+                outcome[0] = PENDING;
+                return existing;
+            }
+            // Take over a validation which never completed, so that its waiters are notified by this caller
+            Pending pending = new Pending(now);
+            if (existing instanceof Pending) {
+                pending.waiters.addAll(((Pending) existing).waiters);
+            }
+            return pending;
+        });
+        if (outcome[0] == PENDING) {
+            stats.recordCoalesced();
+        } else if (outcome[0] != null) {
+            stats.recordHit(((Entry) outcome[0]).isFailure());
+        } else {
+            stats.recordMiss();
+        }
+        return outcome[0];
+    }
+
+    /**
+     * Caches the validation result of the credential and notifies the callers waiting for it.
+     *
+     * @param credential   the credential
+     * @param value        the authenticated principal or the failure
+     * @param failure      whether the validation failed
+     * @param expiryMillis the expiry of the credential as epoch milliseconds or -1 if it does not expire
+     */
+    public void put(String credential, Object value, boolean failure, long expiryMillis) {
+        long ttl = failure ? negativeTtlNanos : ttlNanos;
+        if (expiryMillis >= 0) {
+            ttl = Math.min(ttl, TimeUnit.MILLISECONDS.toNanos(expiryMillis - System.currentTimeMillis()));
+        }
+        Entry entry = new Entry(value, failure, System.nanoTime() + ttl);
+        String key = digest(credential);
+        Object previous = ttl > 0 ? entries.put(key, entry) : entries.remove(key);
+        if (previous instanceof Pending) {
+            for (Consumer<Entry> waiter : ((Pending) previous).waiters) {
+                waiter.accept(entry);
+            }
+        }
+        if (entries.size() > capacity) {
+            evict();
+        }
+    }
+
+    /**
+     * Gives up a validation which {@link #getOrWait(String, Consumer)} handed to the caller, e.g. because the caller
+     * failed before it could put the result. The callers waiting for it are released at once.
+     *
+     * @param credential the credential
+     */
+    public void abandon(String credential) {
+        String key = digest(credential);
+        Object current = entries.get(key);
+        if (current instanceof Pending && entries.remove(key, current)) {
+            for (Consumer<Entry> waiter : ((Pending) current).waiters) {
+                waiter.accept(null);
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes the expired entries and, if the cache is still full, arbitrary entries until a tenth of the capacity
+     * is free, so that the sweep is not repeated on every put.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        int target = capacity - capacity / 10;
+        Iterator<Map.Entry<String, Object>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Object value = iterator.next().getValue();
+            if (value instanceof Entry && ((Entry) value).isExpired(now)) {
+                iterator.remove();
+            }
+        }
+        iterator = entries.entrySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            if (iterator.next().getValue() instanceof Entry) {
+                iterator.remove();
+                stats.recordEviction();
+            }
+        }
+    }
+
+    private static String digest(String credential) {
+        MessageDigest messageDigest = SHA_256.get();
+        messageDigest.reset();
+        return Base64.getEncoder().encodeToString(messageDigest.digest(credential.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * A cached validation result.
+     */
+    public static class Entry {
+
+        private final Object value;
+        private final boolean failure;
+        private final long expiresAt;
+
+        Entry(Object value, boolean failure, long expiresAt) {
+            this.value = value;
+            this.failure = failure;
+            this.expiresAt = expiresAt;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public boolean isFailure() {
+            return failure;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * A validation which is in progress along with the callers waiting for its result.
+     */
+    private static class Pending {
+
+        private final long startedAt;
+        private final List<Consumer<Entry>> waiters = new ArrayList<>();
+
+        Pending(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        boolean isStale(long now) {
+            return now - startedAt > PENDING_TIMEOUT_NANOS;
+        }
+    }
+}
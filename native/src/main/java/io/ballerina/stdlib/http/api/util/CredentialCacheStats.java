@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.util;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code CredentialCacheStats} aggregates the statistics of all the credential caches of one kind of listener auth
+ * handler. The statistics are exposed over JMX under the CredentialCache category.
+ *
+ * @since 2.3.0
+ */
+public class CredentialCacheStats implements CredentialCacheStatsMBean {
+
+    private static final String MBEAN_CATEGORY = "CredentialCache";
+    private static final Map<String, CredentialCacheStats> STATS = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Returns the statistics of the given kind of handler, registering them over JMX on first use.
+     *
+     * @param kind kind of the auth handler, e.g. jwt or oauth2
+     * @return the statistics
+     */
+    public static CredentialCacheStats getInstance(String kind) {
+        return STATS.computeIfAbsent(kind, key -> {
+            CredentialCacheStats stats = new CredentialCacheStats();
+            MBeanRegistrar.getInstance().registerMBean(stats, MBEAN_CATEGORY, key);
+            return stats;
+        });
+    }
+
+    void recordHit(boolean negative) {
+        if (negative) {
+            negativeHits.increment();
+        } else {
+            hits.increment();
+        }
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordCoalesced() {
+        coalesced.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long served = hits.sum() + negativeHits.sum() + coalesced.sum();
+        long total = served + misses.sum();
+        return total == 0 ? 0 : (double) served / total;
+    }
+}
@@ -16,13 +16,12 @@
 package io.ballerina.stdlib.http.transport.contract;
 
 import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpClientConnector;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.PipeliningSequencer;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.EventExecutorGroup;
 
-import java.util.Queue;
-
 /**
  * Common Constants used by gate way.
  */
@@ -37,6 +36,10 @@ public final class Constants {
     public static final String CLIENT_BOOTSTRAP_SO_REUSE = "client.bootstrap.socket.reuse";
     public static final String CLIENT_BOOTSTRAP_SO_TIMEOUT = "client.bootstrap.socket.timeout";
     public static final String CLIENT_BOOTSTRAP_WORKER_GROUP_SIZE = "client.bootstrap.worker.group.size";
+    public static final String CLIENT_BOOTSTRAP_DNS_ASYNC = "client.bootstrap.dns.async";
+    public static final String CLIENT_BOOTSTRAP_DNS_MIN_TTL = "client.bootstrap.dns.ttl.min";
+    public static final String CLIENT_BOOTSTRAP_DNS_MAX_TTL = "client.bootstrap.dns.ttl.max";
+    public static final String CLIENT_BOOTSTRAP_DNS_NEGATIVE_TTL = "client.bootstrap.dns.ttl.negative";
 
     //Server side SSL Parameters
     public static final String SSL_HANDLER = "ssl";
@@ -258,6 +261,7 @@ public final class Constants {
     public static final String TARGET_HANDLER = "targetHandler";
     public static final String HTTP2_TIMEOUT_HANDLER = "Http2TimeoutHandler";
     public static final String BACK_PRESSURE_HANDLER = "BackPressureHandler";
+    public static final String FLUSH_CONSOLIDATION_HANDLER = "flushConsolidationHandler";
     public static final String HTTP2_UPGRADE_HANDLER = "Http2UpgradeHandler";
     public static final String HTTP2_TO_HTTP_FALLBACK_HANDLER = "Http2ToHttpFallbackHandler";
     public static final String DECOMPRESSOR_HANDLER = "deCompressor";
@@ -269,6 +273,7 @@ public final class Constants {
     public static final String URI_HEADER_LENGTH_VALIDATION_HANDLER = "uriAndHeaderLengthValidator";
     public static final String STATUS_LINE_HEADER_LENGTH_VALIDATION_HANDLER = "statusLineAndHeaderLengthValidator";
     public static final String MAX_ENTITY_BODY_VALIDATION_HANDLER = "maxEntityBodyValidator";
+    public static final String RATE_LIMIT_HANDLER = "rateLimitHandler";
 
     public static final AttributeKey<Integer> REDIRECT_COUNT = AttributeKey.valueOf("REDIRECT_COUNT");
     public static final AttributeKey<String> RESOLVED_REQUESTED_URI_ATTR = AttributeKey
@@ -287,10 +292,8 @@ public final class Constants {
     public static final int REDIRECT_SEE_OTHER_303 = 303;
 
     //HTTP 1.1 pipelining related properties
-    public static final AttributeKey<Long> MAX_RESPONSES_ALLOWED_TO_BE_QUEUED = AttributeKey
-            .valueOf("MAX_RESPONSES_ALLOWED_TO_BE_QUEUED");
-    public static final AttributeKey<Queue> RESPONSE_QUEUE = AttributeKey.valueOf("RESPONSE_QUEUE");
-    public static final AttributeKey<Long> NEXT_SEQUENCE_NUMBER = AttributeKey.valueOf("NEXT_SEQUENCE_NUMBER");
+    public static final AttributeKey<PipeliningSequencer> PIPELINING_SEQUENCER = AttributeKey
+            .valueOf("PIPELINING_SEQUENCER");
     public static final AttributeKey<EventExecutorGroup> PIPELINING_EXECUTOR = AttributeKey
             .valueOf("PIPELINING_EXECUTOR");
 
@@ -314,6 +317,10 @@ public final class Constants {
 
     public static final int ENDPOINT_TIMEOUT = 5 * 60000;
     public static final String ENDPOINT_TIMEOUT_MSG = "Endpoint timed out";
+    // Inbound requests with a Content-Length up to this size are read in full before they are dispatched
+    public static final int MAX_AGGREGATED_REQUEST_BODY_SIZE = 8 * 1024;
+    // Flushes held back by the flush consolidation handler before one is forced
+    public static final int MAX_CONSOLIDATED_FLUSHES = 256;
     public static final String CHUNKED = "chunked";
     public static final String CHUNKING_CONFIG = "chunking_config";
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+/**
+ * Configuration for the admission control of the inbound requests.
+ *
+ * @since 2.3.0
+ */
+public class AdmissionConfig {
+
+    private int maxInFlightRequests;
+    private int minInFlightRequests = 1;
+    private boolean adaptive;
+    private long retryAfter = 1;
+
+    /**
+     * The maximum number of requests processed concurrently. With adaptive limiting, this is the upper bound of the
+     * limit, which is also where it starts from.
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    /**
+     * The lower bound of the limit when adaptive limiting is enabled.
+     */
+    public int getMinInFlightRequests() {
+        return minInFlightRequests;
+    }
+
+    public void setMinInFlightRequests(int minInFlightRequests) {
+        this.minInFlightRequests = minInFlightRequests;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * The value in seconds of the {@code Retry-After} header of the responses sent for rejected requests.
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(long retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
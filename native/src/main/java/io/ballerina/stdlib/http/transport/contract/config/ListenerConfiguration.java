@@ -50,6 +50,10 @@ public class ListenerConfiguration extends SslConfiguration {
     private String messageProcessorId;
     private boolean httpTraceLogEnabled;
     private boolean httpAccessLogEnabled;
+    private boolean requestMetricsEnabled;
+    private String metricsEndpointPath;
+    private AdmissionConfig admissionConfig;
+    private RateLimitConfig rateLimitConfig;
     private String serverHeader = "wso2-http-transport";
     private List<Parameter> parameters = getDefaultParameters();
     private InboundMsgSizeValidationConfig requestSizeValidationConfig = new InboundMsgSizeValidationConfig();
@@ -155,6 +159,47 @@ public class ListenerConfiguration extends SslConfiguration {
         this.httpAccessLogEnabled = httpAccessLogEnabled;
     }
 
+    public boolean isRequestMetricsEnabled() {
+        return requestMetricsEnabled;
+    }
+
+    public void setRequestMetricsEnabled(boolean requestMetricsEnabled) {
+        this.requestMetricsEnabled = requestMetricsEnabled;
+    }
+
+    /**
+     * @return the path at which the request metrics are served, null if they are not served
+     */
+    public String getMetricsEndpointPath() {
+        return metricsEndpointPath;
+    }
+
+    public void setMetricsEndpointPath(String metricsEndpointPath) {
+        this.metricsEndpointPath = metricsEndpointPath;
+    }
+
+    /**
+     * @return the admission control configuration, null if admission control is disabled
+     */
+    public AdmissionConfig getAdmissionConfig() {
+        return admissionConfig;
+    }
+
+    public void setAdmissionConfig(AdmissionConfig admissionConfig) {
+        this.admissionConfig = admissionConfig;
+    }
+
+    /**
+     * @return the rate limit configuration, null if rate limiting is disabled
+     */
+    public RateLimitConfig getRateLimitConfig() {
+        return rateLimitConfig;
+    }
+
+    public void setRateLimitConfig(RateLimitConfig rateLimitConfig) {
+        this.rateLimitConfig = rateLimitConfig;
+    }
+
     public InboundMsgSizeValidationConfig getMsgSizeValidationConfig() {
         return requestSizeValidationConfig;
     }
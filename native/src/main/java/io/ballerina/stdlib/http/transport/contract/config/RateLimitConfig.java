@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contract.config;
+
+/**
+ * Configuration for the rate limiting of the inbound requests.
+ *
+ * @since 2.3.0
+ */
+public class RateLimitConfig {
+
+    /**
+     * What the requests are grouped by when they are rate limited.
+     */
+    public enum Key {
+        /**
+         * Each client IP address gets a bucket of its own.
+         */
+        CLIENT_ADDRESS,
+        /**
+         * Each value of a configured header gets a bucket of its own. Requests without the header fall back to the
+         * client IP address.
+         */
+        HEADER,
+        /**
+         * Each first segment of the request path gets a bucket of its own.
+         */
+        BASE_PATH
+    }
+
+    private double requestsPerSecond;
+    private int burst = 1;
+    private Key key = Key.CLIENT_ADDRESS;
+    private String headerName;
+
+    /**
+     * The rate at which the tokens of a bucket are refilled.
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    /**
+     * The capacity of a bucket, which is the number of requests accepted at once after a bucket has been idle.
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public Key getKey() {
+        return key;
+    }
+
+    public void setKey(Key key) {
+        this.key = key;
+    }
+
+    /**
+     * The name of the header used as the key, when the requests are grouped by {@link Key#HEADER}.
+     */
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public void setHeaderName(String headerName) {
+        this.headerName = headerName;
+    }
+}
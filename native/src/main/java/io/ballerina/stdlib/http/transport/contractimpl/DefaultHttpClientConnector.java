@@ -80,6 +80,7 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
     private EventLoopGroup clientEventGroup;
     private BootstrapConfiguration bootstrapConfig;
     private int configHashCode;
+    private volatile HttpRoute lastRoute;
 
     public DefaultHttpClientConnector(ConnectionManager connectionManager, SenderConfiguration senderConfiguration,
                                       BootstrapConfiguration bootstrapConfig, EventLoopGroup clientEventGroup,
@@ -278,6 +279,7 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
 
                     targetChannel.setChannel(targetNettyChannel);
                     targetChannel.configTargetHandler(httpOutboundRequest, httpResponseFuture);
+                    outboundMsgHolder.setTargetChannel(targetChannel);
                     httpResponseFuture.setBackPressureObservable(targetChannel.getBackPressureObservable());
                     Util.setCorrelationIdForLogging(targetNettyChannel.pipeline(), targetChannel.getCorrelatedSource());
 
@@ -331,7 +333,13 @@ public class DefaultHttpClientConnector implements HttpClientConnector {
         String host = fetchHost(httpCarbonMessage);
         int port = fetchPort(httpCarbonMessage);
 
-        return new HttpRoute(scheme, host, port, configHashCode);
+        // A client mostly talks to a single endpoint, so the last route is reused instead of building a new one
+        HttpRoute route = lastRoute;
+        if (route == null || !route.matches(scheme, host, port) || route.getConfigHash() != configHashCode) {
+            route = new HttpRoute(scheme, host, port, configHashCode);
+            lastRoute = route;
+        }
+        return route;
     }
 
     private int fetchPort(HttpCarbonMessage httpCarbonMessage) {
@@ -30,6 +30,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfigu
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnector;
 import io.ballerina.stdlib.http.transport.contract.websocket.WebSocketClientConnectorConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.TransportMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.ServerConnectorBootstrap;
@@ -49,6 +50,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.SSLException;
 
@@ -76,6 +78,7 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         workerGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors() * 2);
         clientGroup = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors() * 2);
         group = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors());
+        monitorEventLoops();
     }
 
     public DefaultHttpWsConnectorFactory(int serverSocketThreads, int childSocketThreads, int clientThreads) {
@@ -83,6 +86,12 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         workerGroup = new NioEventLoopGroup(childSocketThreads);
         clientGroup = new NioEventLoopGroup(clientThreads);
         group = new NioEventLoopGroup(serverSocketThreads);
+        monitorEventLoops();
+    }
+
+    private void monitorEventLoops() {
+        TransportMetrics.getInstance().monitorEventLoops(workerGroup, "listener");
+        TransportMetrics.getInstance().monitorEventLoops(clientGroup, "client");
     }
 
     @Override
@@ -124,6 +133,10 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
             }
             serverConnectorBootstrap.addHttpTraceLogHandler(listenerConfig.isHttpTraceLogEnabled());
             serverConnectorBootstrap.addHttpAccessLogHandler(listenerConfig.isHttpAccessLogEnabled());
+            serverConnectorBootstrap.setRequestMetricsEnabled(listenerConfig.isRequestMetricsEnabled());
+            serverConnectorBootstrap.setMetricsEndpointPath(listenerConfig.getMetricsEndpointPath());
+            serverConnectorBootstrap.setAdmissionConfig(listenerConfig.getAdmissionConfig());
+            serverConnectorBootstrap.setRateLimitConfig(listenerConfig.getRateLimitConfig());
             serverConnectorBootstrap.addThreadPools(bossGroup, workerGroup);
             serverConnectorBootstrap.addHeaderAndEntitySizeValidation(listenerConfig.getMsgSizeValidationConfig());
             serverConnectorBootstrap.addChunkingBehaviour(listenerConfig.getChunkConfig());
@@ -160,8 +173,6 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         try {
             SSLHandlerFactory sslHandlerFactory = new SSLHandlerFactory(sslConfig);
             serverConnectorBootstrap.addcertificateRevocationVerifier(sslConfig.isValidateCertEnabled());
-            serverConnectorBootstrap.addCacheDelay(sslConfig.getCacheValidityPeriod());
-            serverConnectorBootstrap.addCacheSize(sslConfig.getCacheSize());
             serverConnectorBootstrap.addOcspStapling(sslConfig.isOcspStaplingEnabled());
             serverConnectorBootstrap.addSslHandlerFactory(sslHandlerFactory);
             if (sslConfig.getKeyStore() != null) {
@@ -191,6 +202,7 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(transportProperties);
         ConnectionManager connectionManager = new ConnectionManager(senderConfiguration.getPoolConfiguration());
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
+        warmUpClientSslContext(senderConfiguration);
         return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
                 configHashCode);
     }
@@ -201,10 +213,28 @@ public class DefaultHttpWsConnectorFactory implements HttpWsConnectorFactory {
             ConnectionManager connectionManager) {
         BootstrapConfiguration bootstrapConfig = new BootstrapConfiguration(transportProperties);
         int configHashCode = Util.getIntProperty(transportProperties, HttpConstants.CLIENT_CONFIG_HASH_CODE, 0);
+        warmUpClientSslContext(senderConfiguration);
         return new DefaultHttpClientConnector(connectionManager, senderConfiguration, bootstrapConfig, clientGroup,
                 configHashCode);
     }
 
+    /**
+     * Builds the ssl context of the client in the background, so that the first connection does not read the key
+     * stores and certificates on the connect path. Invalid configurations are reported when connecting, as before.
+     */
+    private static void warmUpClientSslContext(SenderConfiguration senderConfiguration) {
+        SSLConfig sslConfig;
+        try {
+            sslConfig = senderConfiguration.getClientSSLConfig();
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        if (sslConfig != null) {
+            boolean http2 = Constants.HTTP_2_0.equals(senderConfiguration.getHttpVersion());
+            CompletableFuture.runAsync(() -> sslConfig.getClientSSLContextCache().warmUp(http2));
+        }
+    }
+
     @Override
     public WebSocketClientConnector createWsClientConnector(WebSocketClientConnectorConfig clientConnectorConfig) {
         return new DefaultWebSocketClientConnector(clientConnectorConfig, clientGroup);
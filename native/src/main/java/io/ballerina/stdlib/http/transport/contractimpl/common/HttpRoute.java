@@ -15,25 +15,42 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.common;
 
+import java.util.Objects;
+
 /**
  * Class encapsulates the Endpoint address.
  */
 public class HttpRoute {
-    private String scheme;
-    private String host;
-    private int port;
-    private int configHashCode;
+    private final String scheme;
+    private final String host;
+    private final int port;
+    private final int configHashCode;
+    // The route is used as the connection pool key on every request, hence the key is built only once
+    private final String key;
 
     public HttpRoute(String scheme, String host, int port, int configHashCode) {
         this.scheme = scheme;
         this.host = host;
         this.port = port;
         this.configHashCode = configHashCode;
+        this.key = scheme + "-" + host + "-" + port + "-" + configHashCode;
+    }
+
+    /**
+     * Checks whether this route points to the given endpoint.
+     *
+     * @param scheme the scheme of the endpoint
+     * @param host   the host of the endpoint
+     * @param port   the port of the endpoint
+     * @return true if the route matches the endpoint
+     */
+    public boolean matches(String scheme, String host, int port) {
+        return this.port == port && this.host.equals(host) && Objects.equals(this.scheme, scheme);
     }
 
     @Override
     public String toString() {
-        return scheme + "-" + host + "-" + port + "-" + configHashCode;
+        return key;
     }
 
     public String getHost() {
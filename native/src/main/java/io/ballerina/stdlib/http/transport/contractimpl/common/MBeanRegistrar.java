@@ -71,6 +71,21 @@ public class MBeanRegistrar {
         }
     }
 
+    public boolean unRegisterMBean(String category, String id) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(getObjectName(category, id));
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            return true;
+        } catch (MalformedObjectNameException | MBeanRegistrationException | InstanceNotFoundException e) {
+            LOG.warn("Error unregistering a MBean with name ' " + id + " ' and category name ' " + category
+                    + "' from JMX management", e);
+            return false;
+        }
+    }
+
     private String getObjectName(String category, String id) {
 
         String jmxAgentName = System.getProperty(Constants.JMX_AGENT_NAME);
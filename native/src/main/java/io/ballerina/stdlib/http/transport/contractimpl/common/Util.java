@@ -24,6 +24,7 @@ import io.ballerina.stdlib.http.transport.contract.config.ProxyServerConfigurati
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ConfigurationException;
 import io.ballerina.stdlib.http.transport.contractimpl.Http2OutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.ClientSSLContextCache;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpTraceLoggingHandler;
@@ -40,6 +41,7 @@ import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
 import io.ballerina.stdlib.http.transport.message.Listener;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.transport.message.PassthroughBackPressureListener;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.netty.buffer.ByteBuf;
@@ -68,6 +70,7 @@ import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ReferenceCountedOpenSslContext;
@@ -117,7 +120,6 @@ import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLPeerUnverifiedException;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.BASE_64_ENCODED_CERT;
 import static io.ballerina.stdlib.http.transport.contract.Constants.COLON;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HEADER_VAL_100_CONTINUE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_HOST;
@@ -126,13 +128,10 @@ import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_SCHEME;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IS_PROXY_ENABLED;
 import static io.ballerina.stdlib.http.transport.contract.Constants.MUTUAL_SSL_DISABLED;
 import static io.ballerina.stdlib.http.transport.contract.Constants.MUTUAL_SSL_FAILED;
-import static io.ballerina.stdlib.http.transport.contract.Constants.MUTUAL_SSL_HANDSHAKE_RESULT;
 import static io.ballerina.stdlib.http.transport.contract.Constants.MUTUAL_SSL_PASSED;
 import static io.ballerina.stdlib.http.transport.contract.Constants.OK_200;
-import static io.ballerina.stdlib.http.transport.contract.Constants.PROTOCOL;
 import static io.ballerina.stdlib.http.transport.contract.Constants.
         REMOTE_CLIENT_CLOSED_WHILE_WRITING_OUTBOUND_RESPONSE_HEADERS;
-import static io.ballerina.stdlib.http.transport.contract.Constants.TO;
 import static io.ballerina.stdlib.http.transport.contract.Constants.URL_AUTHORITY;
 import static io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig.ALWAYS;
 import static io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig.AUTO;
@@ -257,7 +256,7 @@ public class Util {
         HttpVersion httpVersion = getHttpVersion(outboundRequestMsg);
         String requestPath = getRequestPath(outboundRequestMsg);
         HttpRequest outboundNettyRequest = new DefaultHttpRequest(httpVersion, httpMethod,
-                (String) outboundRequestMsg.getProperty(TO));
+                (String) outboundRequestMsg.getProperty(MessageProperty.TO));
         outboundNettyRequest.setMethod(httpMethod);
         outboundNettyRequest.setProtocolVersion(httpVersion);
         outboundNettyRequest.setUri(requestPath);
@@ -267,18 +266,19 @@ public class Util {
     }
 
     private static String getRequestPath(HttpCarbonMessage outboundRequestMsg) {
-        if (outboundRequestMsg.getProperty(TO) == null) {
-            outboundRequestMsg.setProperty(TO, "");
+        if (outboundRequestMsg.getProperty(MessageProperty.TO) == null) {
+            outboundRequestMsg.setProperty(MessageProperty.TO, "");
         }
         // Return absolute url if proxy is enabled
         if (outboundRequestMsg.getProperty(IS_PROXY_ENABLED) != null && (boolean) outboundRequestMsg
-                .getProperty(IS_PROXY_ENABLED) && outboundRequestMsg.getProperty(PROTOCOL).equals(HTTP_SCHEME)) {
-            return outboundRequestMsg.getProperty(PROTOCOL) + URL_AUTHORITY
+                .getProperty(IS_PROXY_ENABLED) && outboundRequestMsg.getProperty(MessageProperty.PROTOCOL)
+                .equals(HTTP_SCHEME)) {
+            return outboundRequestMsg.getProperty(MessageProperty.PROTOCOL) + URL_AUTHORITY
                     + outboundRequestMsg.getProperty(HTTP_HOST) + COLON
                     + outboundRequestMsg.getProperty(HTTP_PORT)
-                    + outboundRequestMsg.getProperty(TO);
+                    + outboundRequestMsg.getProperty(MessageProperty.TO);
         }
-        return (String) outboundRequestMsg.getProperty(TO);
+        return (String) outboundRequestMsg.getProperty(MessageProperty.TO);
     }
 
     private static HttpVersion getHttpVersion(HttpCarbonMessage outboundRequestMsg) {
@@ -417,7 +417,9 @@ public class Util {
     }
 
     /**
-     * Configure outbound HTTP pipeline for SSL configuration.
+     * Configure outbound HTTP pipeline for SSL configuration. The ssl contexts are taken from the
+     * {@link ClientSSLContextCache} of the configuration, hence the stores are read once per client and the sessions
+     * of earlier connections to the same peer are resumed.
      *
      * @param socketChannel Socket channel of outbound connection
      * @param sslConfig     {@link SSLConfig}
@@ -432,14 +434,12 @@ public class Util {
         SSLEngine sslEngine = null;
         SslHandler sslHandler;
         ChannelPipeline pipeline = socketChannel.pipeline();
-        SSLHandlerFactory sslHandlerFactory = new SSLHandlerFactory(sslConfig);
+        ClientSSLContextCache sslContextCache = sslConfig.getClientSSLContextCache();
         if (sslConfig.isOcspStaplingEnabled()) {
-            sslHandlerFactory.createSSLContextFromKeystores(false);
-            ReferenceCountedOpenSslContext referenceCountedOpenSslContext = sslHandlerFactory
-                    .buildClientReferenceCountedOpenSslContext();
+            ReferenceCountedOpenSslContext referenceCountedOpenSslContext = sslContextCache.getOcspStaplingContext();
 
             if (referenceCountedOpenSslContext != null) {
-                sslHandler = referenceCountedOpenSslContext.newHandler(socketChannel.alloc());
+                sslHandler = referenceCountedOpenSslContext.newHandler(socketChannel.alloc(), host, port);
                 sslEngine = sslHandler.engine();
                 setSslHandshakeTimeOut(sslConfig, sslHandler);
                 socketChannel.pipeline().addLast(sslHandler);
@@ -447,14 +447,14 @@ public class Util {
             }
         } else {
             if (sslConfig.isDisableSsl()) {
-                sslEngine = createInsecureSslEngine(socketChannel, sslConfig, host, port);
+                sslEngine = sslContextCache.getInsecureContext().newHandler(socketChannel.alloc(), host, port)
+                        .engine();
             } else {
                 if (sslConfig.getTrustStore() != null) {
-                    sslHandlerFactory.createSSLContextFromKeystores(false);
                     sslEngine = instantiateAndConfigSSL(sslConfig, host, port,
-                            sslConfig.isHostNameVerificationEnabled(), sslHandlerFactory);
+                            sslConfig.isHostNameVerificationEnabled(), sslContextCache.getKeyStoreHandlerFactory());
                 } else {
-                    sslEngine = getSslEngineForCerts(socketChannel, host, port, sslConfig, sslHandlerFactory);
+                    sslEngine = getSslEngineForCerts(socketChannel, host, port, sslConfig, sslContextCache);
                 }
             }
             sslHandler = new SslHandler(sslEngine);
@@ -469,9 +469,10 @@ public class Util {
     }
 
     private static SSLEngine getSslEngineForCerts(SocketChannel socketChannel, String host, int port,
-                                                  SSLConfig sslConfig, SSLHandlerFactory sslHandlerFactory)
-            throws SSLException {
-        SslContext sslContext = sslHandlerFactory.createHttpTLSContextForClient();
+                                                  SSLConfig sslConfig, ClientSSLContextCache sslContextCache)
+            throws Exception {
+        SslContext sslContext = sslContextCache.getCertsContext();
+        SSLHandlerFactory sslHandlerFactory = sslContextCache.getSSLHandlerFactory();
         SslHandler sslHandler = sslContext.newHandler(socketChannel.alloc(), host, port);
         SSLEngine sslEngine = sslHandler.engine();
         sslHandlerFactory.addCommonConfigs(sslEngine);
@@ -482,8 +483,14 @@ public class Util {
         return sslEngine;
     }
 
-    private static SSLEngine createInsecureSslEngine(SocketChannel socketChannel, SSLConfig sslConfig, String host,
-                                                     int port) throws Exception {
+    /**
+     * Creates an insecure ssl context for clients connecting over HTTP/1.x.
+     *
+     * @param sslConfig ssl related configurations
+     * @return insecure ssl context
+     * @throws Exception if any error occurs while reading the key store or the certificates
+     */
+    public static SslContext createInsecureSslContext(SSLConfig sslConfig) throws Exception {
         SslContext sslContext;
         if (sslConfig.getKeyStore() != null && sslConfig.getKeyStorePass() != null) {
             KeyStore ks = getKeyStore(sslConfig);
@@ -504,8 +511,7 @@ public class Util {
             sslContext = SslContextBuilder.forClient().sslProvider(SslProvider.JDK)
                     .trustManager(InsecureTrustManagerFactory.INSTANCE).build();
         }
-        SslHandler sslHandler = sslContext.newHandler(socketChannel.alloc(), host, port);
-        return sslHandler.engine();
+        return sslContext;
     }
 
     /**
@@ -873,6 +879,22 @@ public class Util {
         return new HttpCarbonMessage(httpMessage, contentListener);
     }
 
+    /**
+     * Adds a handler which consolidates the flushes issued within one event loop iteration, so that the parts of a
+     * response, and the responses of pipelined or multiplexed requests, reach the socket with a single write. Flushes
+     * issued while a read is in progress are held until the read completes, and the others until the tasks already
+     * queued on the event loop have run. Nothing is added if the pipeline already has the handler, as the pipeline
+     * may be configured again after a protocol negotiation or upgrade.
+     *
+     * @param pipeline the channel pipeline
+     */
+    public static void addFlushConsolidationHandler(ChannelPipeline pipeline) {
+        if (pipeline.get(Constants.FLUSH_CONSOLIDATION_HANDLER) == null) {
+            pipeline.addLast(Constants.FLUSH_CONSOLIDATION_HANDLER,
+                             new FlushConsolidationHandler(Constants.MAX_CONSOLIDATED_FLUSHES, true));
+        }
+    }
+
     /**
      * Removes handlers from the pipeline if they are present.
      *
@@ -902,10 +924,11 @@ public class Util {
 
         HttpCarbonMessage inboundRequestMsg =
                 new HttpCarbonRequest(httpRequestHeaders, new DefaultListener(ctx));
-        inboundRequestMsg.setProperty(Constants.POOLED_BYTE_BUFFER_FACTORY, new PooledDataStreamerFactory(ctx.alloc()));
+        inboundRequestMsg.setProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY,
+                                      new PooledDataStreamerFactory(ctx.alloc()));
 
-        inboundRequestMsg.setProperty(Constants.CHNL_HNDLR_CTX, ctx);
-        inboundRequestMsg.setProperty(Constants.SRC_HANDLER, sourceHandler);
+        inboundRequestMsg.setProperty(MessageProperty.CHNL_HNDLR_CTX, ctx);
+        inboundRequestMsg.setProperty(MessageProperty.SRC_HANDLER, sourceHandler);
         HttpVersion protocolVersion = httpRequestHeaders.protocolVersion();
         inboundRequestMsg.setHttpVersion(protocolVersion.majorVersion() + "." + protocolVersion.minorVersion());
         inboundRequestMsg.setHttpMethod(httpRequestHeaders.method().name());
@@ -915,23 +938,24 @@ public class Util {
         if (ctx.channel().localAddress() instanceof InetSocketAddress) {
             localAddress = (InetSocketAddress) ctx.channel().localAddress();
         }
-        inboundRequestMsg.setProperty(Constants.LISTENER_PORT, localAddress != null ? localAddress.getPort() : null);
-        inboundRequestMsg.setProperty(Constants.LISTENER_INTERFACE_ID, sourceHandler.getInterfaceId());
-        inboundRequestMsg.setProperty(Constants.PROTOCOL, Constants.HTTP_SCHEME);
+        inboundRequestMsg.setProperty(MessageProperty.LISTENER_PORT,
+                                      localAddress != null ? localAddress.getPort() : null);
+        inboundRequestMsg.setProperty(MessageProperty.LISTENER_INTERFACE_ID, sourceHandler.getInterfaceId());
+        inboundRequestMsg.setProperty(MessageProperty.PROTOCOL, Constants.HTTP_SCHEME);
 
         boolean isSecuredConnection = false;
         if (ctx.channel().pipeline().get(Constants.SSL_HANDLER) != null) {
             isSecuredConnection = true;
         }
-        inboundRequestMsg.setProperty(Constants.IS_SECURED_CONNECTION, isSecuredConnection);
+        inboundRequestMsg.setProperty(MessageProperty.IS_SECURED_CONNECTION, isSecuredConnection);
 
-        inboundRequestMsg.setProperty(Constants.LOCAL_ADDRESS, ctx.channel().localAddress());
-        inboundRequestMsg.setProperty(Constants.REMOTE_ADDRESS, sourceHandler.getRemoteAddress());
+        inboundRequestMsg.setProperty(MessageProperty.LOCAL_ADDRESS, ctx.channel().localAddress());
+        inboundRequestMsg.setProperty(MessageProperty.REMOTE_ADDRESS, sourceHandler.getRemoteAddress());
         inboundRequestMsg.setRequestUrl(httpRequestHeaders.uri());
-        inboundRequestMsg.setProperty(Constants.TO, httpRequestHeaders.uri());
-        inboundRequestMsg.setProperty(MUTUAL_SSL_HANDSHAKE_RESULT,
+        inboundRequestMsg.setProperty(MessageProperty.TO, httpRequestHeaders.uri());
+        inboundRequestMsg.setProperty(MessageProperty.MUTUAL_SSL_HANDSHAKE_RESULT,
                 ctx.channel().attr(Constants.MUTUAL_SSL_RESULT_ATTRIBUTE).get());
-        inboundRequestMsg.setProperty(BASE_64_ENCODED_CERT,
+        inboundRequestMsg.setProperty(MessageProperty.BASE_64_ENCODED_CERT,
                 ctx.channel().attr(Constants.BASE_64_ENCODED_CERT_ATTRIBUTE).get());
 
         return inboundRequestMsg;
@@ -949,7 +973,7 @@ public class Util {
                                                                HttpResponse httpResponseHeaders,
                                                                HttpCarbonMessage outboundRequestMsg) {
         HttpCarbonMessage inboundResponseMsg = new HttpCarbonResponse(httpResponseHeaders, new DefaultListener(ctx));
-        inboundResponseMsg.setProperty(Constants.POOLED_BYTE_BUFFER_FACTORY,
+        inboundResponseMsg.setProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY,
                 new PooledDataStreamerFactory(ctx.alloc()));
 
         inboundResponseMsg.setProperty(Constants.DIRECTION, Constants.DIRECTION_RESPONSE);
@@ -29,6 +29,7 @@ public final class Constants {
     public static final int CACHE_MAX_DELAY_MINS = 60 * 24;
     public static final int CACHE_MIN_DELAY_MINS = 1;
     public static final int CACHE_DEFAULT_DELAY_MINS = 15;
+    public static final int CACHE_REFRESH_POINT_PERCENTAGE = 80;
     public static final String BOUNCY_CASTLE_PROVIDER = "BC";
     public static final String X_509 = "X.509";
     public static final String ALGORITHM = "PKIX";
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation;
+
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.ClientAddressResolverGroups;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@code RevocationHttpClient} fetches OCSP responses and CRLs over plain HTTP without blocking the caller.
+ * Requests run on a small event loop group owned by this class, so revocation data can be fetched or refreshed
+ * while TLS handshakes carry on.
+ *
+ * @since 2.3.0
+ */
+public final class RevocationHttpClient {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+    private static final int READ_TIMEOUT_SECONDS = 30;
+    private static final long AWAIT_TIMEOUT_MILLIS =
+            CONNECT_TIMEOUT_MILLIS + TimeUnit.SECONDS.toMillis(READ_TIMEOUT_SECONDS);
+    private static final int MAX_RESPONSE_LENGTH = 16 * 1024 * 1024;
+    private static final int DEFAULT_HTTP_PORT = 80;
+    private static final EventLoopGroup EVENT_LOOP_GROUP =
+            new NioEventLoopGroup(1, new DefaultThreadFactory("revocation-client", true));
+    private static final AddressResolverGroup<InetSocketAddress> RESOLVER_GROUP =
+            ClientAddressResolverGroups.getResolverGroup(new BootstrapConfiguration(null));
+
+    private RevocationHttpClient() {
+    }
+
+    /**
+     * Returns the executor the client runs on. Revocation caches schedule their maintenance on it rather than
+     * keeping threads of their own.
+     *
+     * @return the executor of the client
+     */
+    public static ScheduledExecutorService executor() {
+        return EVENT_LOOP_GROUP;
+    }
+
+    public static CompletableFuture<byte[]> get(String url) {
+        return send(url, HttpMethod.GET, null, null, null);
+    }
+
+    public static CompletableFuture<byte[]> post(String url, String contentType, String accept, byte[] body) {
+        return send(url, HttpMethod.POST, contentType, accept, body);
+    }
+
+    /**
+     * Waits for the given fetch to complete, for callers which cannot proceed without the result. The wait is bounded
+     * by the connect and read timeouts of the client, without failing the fetch itself for other callers sharing it.
+     *
+     * @param future the pending fetch
+     * @param <T>    type of the result
+     * @return the result of the fetch
+     * @throws CertificateVerificationException if the fetch failed
+     */
+    public static <T> T await(CompletableFuture<T> future) throws CertificateVerificationException {
+        try {
+            return future.copy().orTimeout(AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CertificateVerificationException) {
+                throw (CertificateVerificationException) e.getCause();
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw new CertificateVerificationException("Revocation request timed out", e.getCause());
+            }
+            throw new CertificateVerificationException(e.getCause());
+        } catch (CancellationException e) {
+            throw new CertificateVerificationException("Revocation request was cancelled", e);
+        }
+    }
+
+    private static CompletableFuture<byte[]> send(String url, HttpMethod method, String contentType, String accept,
+                                                  byte[] body) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            result.completeExceptionally(
+                    new CertificateVerificationException("Revocation URL is malformed: " + url, e));
+            return result;
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null) {
+            result.completeExceptionally(new CertificateVerificationException(
+                    "Only http is supported for revocation calls: " + url));
+            return result;
+        }
+
+        int port = uri.getPort() == -1 ? DEFAULT_HTTP_PORT : uri.getPort();
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path = path + "?" + uri.getRawQuery();
+        }
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, method, path,
+                body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body));
+        request.headers().set(HttpHeaderNames.HOST, uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + port);
+        request.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        if (contentType != null) {
+            request.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+        }
+        if (accept != null) {
+            request.headers().set(HttpHeaderNames.ACCEPT, accept);
+        }
+        HttpUtil.setContentLength(request, request.content().readableBytes());
+
+        Bootstrap bootstrap = new Bootstrap()
+                .group(EVENT_LOOP_GROUP)
+                .channel(NioSocketChannel.class)
+                .resolver(RESOLVER_GROUP)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new ReadTimeoutHandler(READ_TIMEOUT_SECONDS), new HttpClientCodec(),
+                                              new HttpObjectAggregator(MAX_RESPONSE_LENGTH),
+                                              new ResponseHandler(url, result));
+                    }
+                });
+        bootstrap.connect(InetSocketAddress.createUnresolved(uri.getHost(), port)).addListener(
+                (ChannelFutureListener) connectFuture -> {
+                    if (connectFuture.isSuccess()) {
+                        connectFuture.channel().writeAndFlush(request)
+                                .addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+                    } else {
+                        request.release();
+                        result.completeExceptionally(new CertificateVerificationException(
+                                "Cannot reach revocation endpoint: " + url, connectFuture.cause()));
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Completes the pending fetch with the aggregated response.
+     */
+    private static class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+
+        private final String url;
+        private final CompletableFuture<byte[]> result;
+
+        ResponseHandler(String url, CompletableFuture<byte[]> result) {
+            this.url = url;
+            this.result = result;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+            if (response.status().codeClass() != HttpStatusClass.SUCCESS) {
+                result.completeExceptionally(new CertificateVerificationException(
+                        "Error getting revocation response from " + url + ". Response code is " +
+                                response.status().code()));
+            } else {
+                result.complete(ByteBufUtil.getBytes(response.content()));
+            }
+            ctx.close();
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            result.completeExceptionally(new CertificateVerificationException(
+                    "Cannot get revocation response from url: " + url, cause));
+            ctx.close();
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            result.completeExceptionally(new CertificateVerificationException(
+                    "Connection closed before a revocation response was received from " + url));
+            ctx.fireChannelInactive();
+        }
+    }
+}
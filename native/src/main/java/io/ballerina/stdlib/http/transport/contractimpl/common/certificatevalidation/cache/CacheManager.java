@@ -19,12 +19,13 @@
 package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache;
 
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -52,8 +53,8 @@ public class CacheManager {
      * @param delay Cache delay.
      */
     public CacheManager(ManageableCache cache, int cacheMaxSize, int delay) {
-        int numThreads = 1;
-        scheduler = Executors.newScheduledThreadPool(numThreads);
+        // Refreshes do not block, so the task can share the thread revocation responses are fetched on
+        scheduler = RevocationHttpClient.executor();
         this.cache = cache;
         this.cacheMaxSize = cacheMaxSize;
         this.cacheManagingTask = new CacheManagingTask();
@@ -130,6 +131,26 @@ public class CacheManager {
         return !scheduledFuture.isCancelled();
     }
 
+    /**
+     * Gives the time at which a revocation response should be fetched again, which is once most of its validity
+     * period has passed. A response without a nextUpdate is due straight away.
+     *
+     * @param thisUpdate time the response was issued
+     * @param nextUpdate time newer information will be available
+     * @return the refresh time in milliseconds since the epoch
+     */
+    public static long getRefreshTime(Date thisUpdate, Date nextUpdate) {
+        if (nextUpdate == null) {
+            return 0;
+        }
+        long start = thisUpdate != null ? thisUpdate.getTime() : System.currentTimeMillis();
+        long end = nextUpdate.getTime();
+        if (end <= start) {
+            return end;
+        }
+        return start + (end - start) * Constants.CACHE_REFRESH_POINT_PERCENTAGE / 100;
+    }
+
     /**
      * This is the scheduled task which the CacheManager uses in order to remove invalid cache values and
      * to remove LRU values if the cache reaches cacheMaxSize.
@@ -164,8 +185,8 @@ public class CacheManager {
                     break;
                 }
 
-                //Updating invalid cache values.
-                if (!nextCacheValue.isValid()) {
+                //Updating invalid cache values and the ones about to become invalid.
+                if (nextCacheValue.isDueForRefresh()) {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Updating Invalid Cache Value by Manager");
                     }
@@ -25,6 +25,16 @@ public interface ManageableCacheValue {
 
     boolean isValid();
 
+    /**
+     * Tells whether the value should be fetched again. Values may ask for this before they stop being valid, so
+     * that they are replaced without readers ever finding them expired.
+     *
+     * @return true if the value should be refreshed
+     */
+    default boolean isDueForRefresh() {
+        return !isValid();
+    }
+
     long getTimeStamp();
 
     void removeThisCacheValue();
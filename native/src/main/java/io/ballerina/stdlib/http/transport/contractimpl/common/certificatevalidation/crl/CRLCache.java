@@ -30,12 +30,16 @@ import java.security.cert.X509CRL;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Since a CRL maps to a CRL URL, the CRLCache should have x509CRL entries against CRL URLs.
  * This cache is a Singleton since it is shared by any transport which needs SSL certificate validation through CRL
  * verification and more than one CRLCache should not be allowed per system.
+ * <p>
+ * Reads never take a lock. A CRL is downloaded again in the background once most of its validity period has
+ * passed, so that it is replaced before its nextUpdate.
  */
 public class CRLCache implements ManageableCache {
 
@@ -43,7 +47,7 @@ public class CRLCache implements ManageableCache {
     private static volatile Map<String, CRLCacheValue> hashMap = new ConcurrentHashMap<>();
     private volatile Iterator<Map.Entry<String, CRLCacheValue>> iterator = hashMap.entrySet().iterator();
     private volatile CacheManager cacheManager;
-    private static CRLVerifier crlVerifier = new CRLVerifier(null);
+    private static final Map<String, CompletableFuture<X509CRL>> PENDING_DOWNLOADS = new ConcurrentHashMap<>();
     private static final Logger LOG = LoggerFactory.getLogger(CRLCache.class);
 
     private CRLCache() {
@@ -85,7 +89,7 @@ public class CRLCache implements ManageableCache {
      *
      * @return next cache value of the cache.
      */
-    public synchronized ManageableCacheValue getNextCacheValue() {
+    public ManageableCacheValue getNextCacheValue() {
         //changes to the map are reflected on the keySet. And its iterator is weakly consistent. so will never
         //throw concurrent modification exception.
         if (iterator.hasNext()) {
@@ -99,7 +103,7 @@ public class CRLCache implements ManageableCache {
     /**
      * To get the current cache size (size of the hash map).
      */
-    public synchronized int getCacheSize() {
+    public int getCacheSize() {
         return hashMap.size();
     }
 
@@ -107,24 +111,50 @@ public class CRLCache implements ManageableCache {
         iterator = hashMap.entrySet().iterator();
     }
 
-    public synchronized X509CRL getCacheValue(String crlUrl) {
+    public X509CRL getCacheValue(String crlUrl) {
         CRLCacheValue cacheValue = hashMap.get(crlUrl);
-        if (cacheValue != null) {
-            //If someone gets this cache value before cache manager task found it is invalid, update it and get the
-            // new value.
-            if (!cacheValue.isValid()) {
-                cacheValue.updateCacheWithNewValue();
-                CRLCacheValue crlCacheValue = hashMap.get(crlUrl);
-                return (crlCacheValue != null ? crlCacheValue.getValue() : null);
-            }
-
-            return cacheValue.getValue();
-        } else {
+        if (cacheValue == null) {
             return null;
         }
+        if (!cacheValue.isValid()) {
+            // The caller downloads a fresh CRL, which is shared with any refresh already in progress
+            hashMap.remove(crlUrl, cacheValue);
+            return null;
+        }
+        if (cacheValue.isDueForRefresh()) {
+            cacheValue.updateCacheWithNewValue();
+        }
+        return cacheValue.getValue();
+    }
+
+    /**
+     * Downloads the CRL published at the given URL and caches it. Only one download runs at a time for a URL,
+     * and callers asking for the same CRL while it is in progress share it.
+     *
+     * @param crlUrl URL of the CRL distribution point
+     * @return a future of the downloaded CRL
+     */
+    public CompletableFuture<X509CRL> fetchCacheValue(String crlUrl) {
+        CompletableFuture<X509CRL> promise = new CompletableFuture<>();
+        CompletableFuture<X509CRL> inProgress = PENDING_DOWNLOADS.putIfAbsent(crlUrl, promise);
+        if (inProgress != null) {
+            return inProgress;
+        }
+        CRLVerifier.downloadCRLAsync(crlUrl).whenComplete((x509CRL, throwable) -> {
+            if (throwable == null) {
+                setCacheValue(crlUrl, x509CRL);
+            }
+            PENDING_DOWNLOADS.remove(crlUrl, promise);
+            if (throwable != null) {
+                promise.completeExceptionally(throwable);
+            } else {
+                promise.complete(x509CRL);
+            }
+        });
+        return promise;
     }
 
-    public synchronized void setCacheValue(String crlUrl, X509CRL crl) {
+    public void setCacheValue(String crlUrl, X509CRL crl) {
         CRLCacheValue cacheValue = new CRLCacheValue(crlUrl, crl);
         if (LOG.isDebugEnabled()) {
             LOG.debug("Before setting - HashMap size {}", hashMap.size());
@@ -135,7 +165,7 @@ public class CRLCache implements ManageableCache {
         }
     }
 
-    public synchronized void removeCacheValue(String crlUrl) {
+    public void removeCacheValue(String crlUrl) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Before removing - HashMap size {}", hashMap.size());
         }
@@ -150,13 +180,15 @@ public class CRLCache implements ManageableCache {
      */
     private class CRLCacheValue implements ManageableCacheValue {
 
-        private String crlUrl;
-        private X509CRL crl;
-        private long timeStamp = System.currentTimeMillis();
+        private final String crlUrl;
+        private final X509CRL crl;
+        private final long refreshTime;
+        private volatile long timeStamp = System.currentTimeMillis();
 
         public CRLCacheValue(String crlUrl, X509CRL crl) {
             this.crlUrl = crlUrl;
             this.crl = crl;
+            this.refreshTime = CacheManager.getRefreshTime(crl.getThisUpdate(), crl.getNextUpdate());
         }
 
         public String getKey() {
@@ -180,6 +212,11 @@ public class CRLCache implements ManageableCache {
             return nextUpdate != null && nextUpdate.after(today);
         }
 
+        @Override
+        public boolean isDueForRefresh() {
+            return System.currentTimeMillis() >= refreshTime;
+        }
+
         public long getTimeStamp() {
             return timeStamp;
         }
@@ -188,30 +225,26 @@ public class CRLCache implements ManageableCache {
          * Used by cacheManager to remove invalid entries.
          */
         public void removeThisCacheValue() {
-            removeCacheValue(crlUrl);
+            hashMap.remove(crlUrl, this);
         }
 
+        /**
+         * Downloads the CRL again in the background. The current one keeps being served until it expires, and it
+         * is removed only if it could not be replaced by then.
+         */
         public void updateCacheWithNewValue() {
-            replaceNewCacheValue();
-        }
-
-        private synchronized void replaceNewCacheValue() {
-            //If someone has updated with the new value before current thread.
-            if (isValid()) {
-                return;
-            }
-            try {
-                X509CRL x509CRL = crlVerifier.downloadCRLFromWeb(crlUrl);
-                setCacheValue(crlUrl, x509CRL);
-            } catch (Exception e) {
-                if (LOG.isInfoEnabled()) {
-                    LOG.info("Cannot replace old CacheValue with new CacheValue. So remove", e);
+            fetchCacheValue(crlUrl).whenComplete((x509CRL, throwable) -> {
+                if (throwable != null) {
+                    if (LOG.isInfoEnabled()) {
+                        LOG.info("Cannot replace old CacheValue with new CacheValue.", throwable);
+                    }
+                    if (!isValid()) {
+                        //If cant be replaced remove.
+                        removeThisCacheValue();
+                    }
                 }
-                //If cant be replaced remove.
-                removeThisCacheValue();
-            }
+            });
         }
 
     }
 }
-
@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalida
 
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationHttpClient;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationStatus;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationVerifier;
 import org.bouncycastle.asn1.ASN1InputStream;
@@ -35,10 +36,8 @@ import org.bouncycastle.asn1.x509.GeneralNames;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.security.cert.CRLException;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
@@ -46,6 +45,8 @@ import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * This is used to verify a certificate is revoked or not by using the Certificate Revocation List published
@@ -89,14 +90,13 @@ public class CRLVerifier implements RevocationVerifier {
                 }
             }
             try {
-                X509CRL x509CRL = downloadCRLFromWeb(crlUrl);
+                // Concurrent checks against the same distribution point share a single download through the cache
+                X509CRL x509CRL = RevocationHttpClient.await(
+                        cache != null ? cache.fetchCacheValue(crlUrl) : downloadCRLAsync(crlUrl));
                 if (x509CRL != null) {
-                    if (cache != null) {
-                        cache.setCacheValue(crlUrl, x509CRL);
-                    }
                     return getRevocationStatus(x509CRL, peerCert);
                 }
-            } catch (IOException e) {
+            } catch (CertificateVerificationException e) {
                 if (LOG.isInfoEnabled()) {
                     LOG.info("Either URL is bad or can't build X509CRL. So check with the next url in the list.", e);
                 }
@@ -114,27 +114,23 @@ public class CRLVerifier implements RevocationVerifier {
     }
 
     /**
-     * Downloads CRL from the crlUrl. Does not support HTTPS.
+     * Downloads CRL from the crlUrl without blocking the caller. Does not support HTTPS.
      *
      * @param crlURL URL of the CRL distribution point.
-     * @return Downloaded CRL.
-     * @throws IOException If an error occurs while downloading the CRL from web.
-     * @throws CertificateVerificationException If an error occurs in CRL download process.
+     * @return a future of the downloaded CRL.
      */
-    protected X509CRL downloadCRLFromWeb(String crlURL) throws IOException, CertificateVerificationException {
-        URL url = new URL(crlURL);
-        try (InputStream crlStream = url.openStream()) {
-            CertificateFactory cf = CertificateFactory.getInstance(Constants.X_509);
-            return (X509CRL) cf.generateCRL(crlStream);
-        } catch (MalformedURLException e) {
-            throw new CertificateVerificationException("CRL URL is malformed", e);
-        } catch (IOException e) {
-            throw new CertificateVerificationException("Cant reach URI: " + crlURL + " - only support HTTP", e);
-        } catch (CertificateException e) {
-            throw new CertificateVerificationException(e);
-        } catch (CRLException e) {
-            throw new CertificateVerificationException("Cannot generate X509CRL from the stream data", e);
-        }
+    static CompletableFuture<X509CRL> downloadCRLAsync(String crlURL) {
+        return RevocationHttpClient.get(crlURL).thenApply(content -> {
+            try {
+                CertificateFactory cf = CertificateFactory.getInstance(Constants.X_509);
+                return (X509CRL) cf.generateCRL(new ByteArrayInputStream(content));
+            } catch (CertificateException e) {
+                throw new CompletionException(new CertificateVerificationException(e));
+            } catch (CRLException e) {
+                throw new CompletionException(
+                        new CertificateVerificationException("Cannot generate X509CRL from the stream data", e));
+            }
+        });
     }
 
     /**
@@ -24,9 +24,6 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidat
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.CacheManager;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.ManageableCache;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.ManageableCacheValue;
-import org.bouncycastle.asn1.ocsp.OCSPResponseStatus;
-import org.bouncycastle.cert.ocsp.BasicOCSPResp;
-import org.bouncycastle.cert.ocsp.OCSPException;
 import org.bouncycastle.cert.ocsp.OCSPReq;
 import org.bouncycastle.cert.ocsp.OCSPResp;
 import org.bouncycastle.cert.ocsp.SingleResp;
@@ -37,17 +34,22 @@ import java.math.BigInteger;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is a cache to store OSCP responses against Certificate Serial Number since an OCSP response depends on
  * the certificate. This is a singleton since more than one cache of this kind should not be allowed. This cache
  * can be shared by many transports which need SSL validation through OCSP.
+ * <p>
+ * Reads never take a lock. A response is fetched again in the background once most of its validity period has
+ * passed, so that it is replaced before its nextUpdate and a handshake does not have to wait for the CA.
  */
 public class OCSPCache implements ManageableCache {
 
     private static volatile OCSPCache cache;
     private static volatile Map<BigInteger, OCSPCacheValue> hashMap = new ConcurrentHashMap<>();
+    private static final Map<BigInteger, CompletableFuture<SingleResp>> PENDING_FETCHES = new ConcurrentHashMap<>();
     private volatile Iterator<Map.Entry<BigInteger, OCSPCacheValue>> iterator
             = hashMap.entrySet().iterator();
     private volatile CacheManager cacheManager;
@@ -116,38 +118,70 @@ public class OCSPCache implements ManageableCache {
     }
 
 
-    public synchronized SingleResp getCacheValue(BigInteger serialNumber) {
+    public SingleResp getCacheValue(BigInteger serialNumber) {
+        OCSPCacheValue cacheValue = lookUp(serialNumber);
+        return (cacheValue != null ? cacheValue.getValue() : null);
+    }
+
+    public OCSPResp getOCSPCacheValue(BigInteger serialNumber) {
+        OCSPCacheValue cacheValue = lookUp(serialNumber);
+        return (cacheValue != null ? cacheValue.getOCSPValue() : null);
+    }
+
+    private OCSPCacheValue lookUp(BigInteger serialNumber) {
         OCSPCacheValue cacheValue = hashMap.get(serialNumber);
         if (cacheValue == null) {
             return null;
         }
-        //If someone gets this cache value before cache manager task found it is invalid, update it and get the
-        // new value.
         if (!cacheValue.isValid()) {
+            // The caller fetches a fresh response, which is shared with any refresh already in progress
+            hashMap.remove(serialNumber, cacheValue);
+            return null;
+        }
+        if (cacheValue.isDueForRefresh()) {
             cacheValue.updateCacheWithNewValue();
-            OCSPCacheValue ocspCacheValue = hashMap.get(serialNumber);
-            return (ocspCacheValue != null ? ocspCacheValue.getValue() : null);
         }
-
-        return cacheValue.getValue();
+        return cacheValue;
     }
 
-    public synchronized OCSPResp getOCSPCacheValue(BigInteger serialNumber) {
-        OCSPCacheValue cacheValue = hashMap.get(serialNumber);
-        if (cacheValue != null) {
-            if (!cacheValue.isValid()) {
-                cacheValue.updateCacheWithNewValue();
-                OCSPCacheValue ocspCacheValue = hashMap.get(serialNumber);
-                return (ocspCacheValue != null ? ocspCacheValue.getOCSPValue() : null);
-            }
-
-            return cacheValue.getOCSPValue();
-        } else {
-            return null;
+    /**
+     * Fetches the OCSP response for the given certificate and caches it. Only one request is sent at a time for a
+     * certificate serial number, and callers asking for the same certificate while it is in progress share it.
+     *
+     * @param serialNumber serial number of the certificate
+     * @param request      OCSP request for the certificate
+     * @param serviceUrl   URL of the OCSP endpoint
+     * @return a future of the certificate status
+     */
+    public CompletableFuture<SingleResp> fetchCacheValue(BigInteger serialNumber, OCSPReq request,
+                                                         String serviceUrl) {
+        CompletableFuture<SingleResp> promise = new CompletableFuture<>();
+        CompletableFuture<SingleResp> inProgress = PENDING_FETCHES.putIfAbsent(serialNumber, promise);
+        if (inProgress != null) {
+            return inProgress;
         }
+        OCSPVerifier.getOCSPResponseAsync(serviceUrl, request).whenComplete((response, throwable) -> {
+            SingleResp singleResp = null;
+            Throwable failure = throwable;
+            if (failure == null) {
+                try {
+                    singleResp = OCSPVerifier.getSingleResponse(response);
+                    setCacheValue(response, serialNumber, singleResp, request, serviceUrl);
+                } catch (CertificateVerificationException e) {
+                    failure = e;
+                }
+            }
+            PENDING_FETCHES.remove(serialNumber, promise);
+            if (failure != null) {
+                promise.completeExceptionally(failure);
+            } else {
+                promise.complete(singleResp);
+            }
+        });
+        return promise;
     }
 
-    public synchronized void setCacheValue(OCSPResp ocspResp, BigInteger serialNumber, SingleResp singleResp,
+    public void setCacheValue(OCSPResp ocspResp, BigInteger serialNumber, SingleResp singleResp,
             OCSPReq request, String serviceUrl) {
         OCSPCacheValue cacheValue = new OCSPCacheValue(ocspResp, serialNumber, singleResp, request, serviceUrl);
         if (LOG.isDebugEnabled()) {
@@ -159,7 +193,7 @@ public class OCSPCache implements ManageableCache {
         }
     }
 
-    public synchronized void removeCacheValue(BigInteger serialNumber) {
+    public void removeCacheValue(BigInteger serialNumber) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Before removing - HashMap size {}", hashMap.size());
         }
@@ -174,12 +208,13 @@ public class OCSPCache implements ManageableCache {
      */
     private class OCSPCacheValue implements ManageableCacheValue {
 
-        private BigInteger serialNumber;
-        private SingleResp singleResp;
-        private OCSPReq request;
-        private String serviceUrl;
-        private OCSPResp ocspResp;
-        private long timeStamp = System.currentTimeMillis();
+        private final BigInteger serialNumber;
+        private final SingleResp singleResp;
+        private final OCSPReq request;
+        private final String serviceUrl;
+        private final OCSPResp ocspResp;
+        private final long refreshTime;
+        private volatile long timeStamp = System.currentTimeMillis();
 
         public OCSPCacheValue(OCSPResp ocspResp, BigInteger serialNumber, SingleResp singleResp, OCSPReq request,
                 String serviceUrl) {
@@ -189,6 +224,7 @@ public class OCSPCache implements ManageableCache {
             this.request = request;
             this.serviceUrl = serviceUrl;
             this.ocspResp = ocspResp;
+            this.refreshTime = CacheManager.getRefreshTime(singleResp.getThisUpdate(), singleResp.getNextUpdate());
         }
 
         public BigInteger getKey() {
@@ -214,6 +250,11 @@ public class OCSPCache implements ManageableCache {
             return nextUpdate != null && nextUpdate.after(now);
         }
 
+        @Override
+        public boolean isDueForRefresh() {
+            return System.currentTimeMillis() >= refreshTime;
+        }
+
         public long getTimeStamp() {
             return timeStamp;
         }
@@ -222,48 +263,31 @@ public class OCSPCache implements ManageableCache {
          * Used by cacheManager to remove invalid entries.
          */
         public void removeThisCacheValue() {
-            removeCacheValue(serialNumber);
+            hashMap.remove(serialNumber, this);
         }
 
+        /**
+         * Fetches a new response in the background. The current one keeps being served until it expires, and it
+         * is removed only if it could not be replaced by then.
+         */
         public void updateCacheWithNewValue() {
-            replaceNewCacheValue();
-        }
-
-        //This has to be synchronized because several threads will try to replace cache value
-        // (cacheManager and Reactor thread)
-        private synchronized void replaceNewCacheValue() {
-            //If someone has updated with the new value before current Thread.
-            if (isValid()) {
+            if (serviceUrl == null || request == null) {
+                if (!isValid()) {
+                    removeThisCacheValue();
+                }
                 return;
             }
-
-            try {
-                OCSPResp response = OCSPVerifier.getOCSPResponce(serviceUrl, request);
-
-                if (OCSPResponseStatus.SUCCESSFUL != response.getStatus()) {
-                    throw new CertificateVerificationException(
-                            "OCSP response status was not SUCCESSFUL. Found OCSPResponseStatus:" +
-                                    response.getStatus());
+            fetchCacheValue(serialNumber, request, serviceUrl).whenComplete((resp, throwable) -> {
+                if (throwable != null) {
+                    if (LOG.isInfoEnabled()) {
+                        LOG.info("Can not replace old CacheValue with new CacheValue.", throwable);
+                    }
+                    if (!isValid()) {
+                        //If cant be replaced remove.
+                        removeThisCacheValue();
+                    }
                 }
-
-                BasicOCSPResp basicResponse = (BasicOCSPResp) response.getResponseObject();
-                SingleResp[] responses = (basicResponse == null) ? null : basicResponse.getResponses();
-
-                if (responses == null) {
-                    throw new CertificateVerificationException("Unable to get OCSP response.");
-                }
-
-                SingleResp resp = responses[0];
-                setCacheValue(response, serialNumber, resp, request, serviceUrl);
-
-            } catch (CertificateVerificationException | OCSPException e) {
-                if (LOG.isInfoEnabled()) {
-                    LOG.info("Can not replace old CacheValue with new CacheValue. So removing ocsp cache value", e);
-                }
-                //If cant be replaced remove.
-                removeThisCacheValue();
-            }
+            });
         }
     }
 }
-
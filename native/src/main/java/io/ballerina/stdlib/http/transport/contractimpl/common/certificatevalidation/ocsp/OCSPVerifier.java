@@ -20,6 +20,7 @@ package io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalida
 
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationHttpClient;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationStatus;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationVerifier;
 import org.bouncycastle.asn1.ASN1InputStream;
@@ -50,20 +51,16 @@ import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.math.BigInteger;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.security.Security;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Used to check if a Certificate is revoked or not by its CA using Online Certificate Status Protocol (OCSP).
@@ -103,30 +100,17 @@ public class OCSPVerifier implements RevocationVerifier {
 
         OCSPReq request = generateOCSPRequest(issuerCert, peerCert.getSerialNumber());
         List<String> locations = getAIALocations(peerCert);
-        OCSPResp ocspResponse = null;
         for (String serviceUrl : locations) {
-
-            SingleResp[] responses;
+            SingleResp resp;
             try {
-                ocspResponse = getOCSPResponce(serviceUrl, request);
-                if (OCSPResponseStatus.SUCCESSFUL != ocspResponse.getStatus()) {
-                    continue; // Server didn't give the correct response.
-                }
-
-                BasicOCSPResp basicResponse = (BasicOCSPResp) ocspResponse.getResponseObject();
-                responses = (basicResponse == null) ? null : basicResponse.getResponses();
-            } catch (Exception e) {
-                continue;
-            }
-
-            if (responses != null && responses.length == 1) {
-                SingleResp resp = responses[0];
-                RevocationStatus status = getRevocationStatus(resp);
-                if (cache != null) {
-                    cache.setCacheValue(ocspResponse, peerCert.getSerialNumber(), resp, request, serviceUrl);
-                }
-                return status;
+                // Concurrent checks of the same certificate share a single request through the cache
+                resp = RevocationHttpClient.await(cache != null
+                        ? cache.fetchCacheValue(peerCert.getSerialNumber(), request, serviceUrl)
+                        : getOCSPResponseAsync(serviceUrl, request).thenApply(OCSPVerifier::toSingleResponse));
+            } catch (CertificateVerificationException e) {
+                continue; // Server didn't give the correct response.
             }
+            return getRevocationStatus(resp);
         }
         throw new CertificateVerificationException("Could not get revocation status from OCSP.");
     }
@@ -153,38 +137,66 @@ public class OCSPVerifier implements RevocationVerifier {
      * @throws CertificateVerificationException if any error occurs while trying to get a response from the CA.
      */
     public static OCSPResp getOCSPResponce(String serviceUrl, OCSPReq request) throws CertificateVerificationException {
+        return RevocationHttpClient.await(getOCSPResponseAsync(serviceUrl, request));
+    }
 
+    /**
+     * Same as {@link #getOCSPResponce(String, OCSPReq)}, but completes the returned future once the response
+     * arrives instead of blocking the caller.
+     *
+     * @param serviceUrl URL of the OCSP endpoint.
+     * @param request An OCSP request object.
+     * @return a future of the OCSP response.
+     */
+    public static CompletableFuture<OCSPResp> getOCSPResponseAsync(String serviceUrl, OCSPReq request) {
+        byte[] array;
         try {
-            byte[] array = request.getEncoded();
-            if (serviceUrl.startsWith("http")) {
-                HttpURLConnection connection;
-                URL url = new URL(serviceUrl);
-                connection = (HttpURLConnection) url.openConnection();
-                connection.setRequestProperty("Content-Type", "application/ocsp-request");
-                connection.setRequestProperty("Accept", "application/ocsp-response");
-                connection.setDoOutput(true);
-                try (OutputStream out = connection.getOutputStream();
-                        DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out))) {
-
-                    dataOut.write(array);
-
-                    dataOut.flush();
-
-                    //Check errors in response:
-                    if (connection.getResponseCode() / 100 != 2) {
-                        throw new CertificateVerificationException(
-                                "Error getting ocsp response." + "Response code is " + connection.getResponseCode());
+            array = request.getEncoded();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(
+                    new CertificateVerificationException("Cannot encode OCSP request for url: " + serviceUrl, e));
+        }
+        return RevocationHttpClient.post(serviceUrl, "application/ocsp-request", "application/ocsp-response", array)
+                .thenApply(content -> {
+                    try {
+                        return new OCSPResp(content);
+                    } catch (IOException e) {
+                        throw new CompletionException(new CertificateVerificationException(
+                                "Cannot get OCSP Response from url: " + serviceUrl, e));
                     }
+                });
+    }
 
-                    //Get Response.
-                    InputStream in = (InputStream) connection.getContent();
-                    return new OCSPResp(in);
-                }
-            } else {
-                throw new CertificateVerificationException("Only http is supported for OCSP calls");
-            }
-        } catch (IOException e) {
-            throw new CertificateVerificationException("Cannot get OCSP Response from url: " + serviceUrl, e);
+    /**
+     * Extracts the single certificate status carried by a successful OCSP response.
+     *
+     * @param response OCSP response from the CA.
+     * @return the status of the requested certificate.
+     * @throws CertificateVerificationException if the response is not successful or does not carry one status.
+     */
+    public static SingleResp getSingleResponse(OCSPResp response) throws CertificateVerificationException {
+        if (OCSPResponseStatus.SUCCESSFUL != response.getStatus()) {
+            throw new CertificateVerificationException(
+                    "OCSP response status was not SUCCESSFUL. Found OCSPResponseStatus:" + response.getStatus());
+        }
+        SingleResp[] responses;
+        try {
+            BasicOCSPResp basicResponse = (BasicOCSPResp) response.getResponseObject();
+            responses = (basicResponse == null) ? null : basicResponse.getResponses();
+        } catch (OCSPException e) {
+            throw new CertificateVerificationException("Unable to get OCSP response.", e);
+        }
+        if (responses == null || responses.length != 1) {
+            throw new CertificateVerificationException("Unable to get OCSP response.");
+        }
+        return responses[0];
+    }
+
+    private static SingleResp toSingleResponse(OCSPResp response) {
+        try {
+            return getSingleResponse(response);
+        } catch (CertificateVerificationException e) {
+            throw new CompletionException(e);
         }
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ConnectionPoolStats} holds the statistics of the client connections of a route. The borrow counters and the
+ * borrow wait histogram are recorded as connections are borrowed, while the connection gauges are read from the
+ * pools when queried.
+ *
+ * @since 2.3.0
+ */
+public class ConnectionPoolStats implements ConnectionPoolStatsMBean {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final HttpRoute route;
+    private final TransportMetrics transportMetrics;
+    private final LongAdder exhausted = new LongAdder();
+    private final LatencyRecorder borrowWait = new LatencyRecorder();
+
+    ConnectionPoolStats(HttpRoute route, TransportMetrics transportMetrics) {
+        this.route = route;
+        this.transportMetrics = transportMetrics;
+    }
+
+    public HttpRoute getRoute() {
+        return route;
+    }
+
+    public LatencyRecorder getBorrowWait() {
+        return borrowWait;
+    }
+
+    /**
+     * Records a connection borrowed from the pool.
+     *
+     * @param waitNanos time taken to borrow the connection, including the time taken to establish it
+     */
+    public void recordBorrow(long waitNanos) {
+        borrowWait.record(waitNanos);
+    }
+
+    /**
+     * Records a borrow which failed since the pool reached its maximum number of active connections.
+     */
+    public void recordExhausted() {
+        exhausted.increment();
+    }
+
+    /**
+     * Reads the current usage of the connections of the route from the pools.
+     *
+     * @return the usage
+     */
+    public PoolUsage getUsage() {
+        return transportMetrics.getPoolUsage(route.toString());
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return getUsage().getActiveConnections();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return getUsage().getIdleConnections();
+    }
+
+    @Override
+    public int getHttp2Connections() {
+        return getUsage().getHttp2Connections();
+    }
+
+    @Override
+    public int getHttp2ActiveStreams() {
+        return getUsage().getHttp2ActiveStreams();
+    }
+
+    @Override
+    public long getBorrowCount() {
+        return borrowWait.getCount();
+    }
+
+    @Override
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    @Override
+    public double getMeanBorrowWaitMillis() {
+        long count = borrowWait.getCount();
+        return count == 0 ? 0 : borrowWait.getSumNanos() / NANOS_PER_MILLI / count;
+    }
+
+    @Override
+    public double getP99BorrowWaitMillis() {
+        return borrowWait.getPercentileNanos(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxBorrowWaitMillis() {
+        return borrowWait.getMaxNanos() / NANOS_PER_MILLI;
+    }
+}
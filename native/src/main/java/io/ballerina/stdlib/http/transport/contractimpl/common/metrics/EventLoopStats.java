@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EventLoopStats} holds the health of a transport event loop. A probe task is scheduled on the event loop at a
+ * fixed interval and the delay between the time it was due and the time it ran is recorded as the lag of the event
+ * loop, which grows when the event loop is kept busy by long running or too many tasks.
+ *
+ * @since 2.3.0
+ */
+public class EventLoopStats implements EventLoopStatsMBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventLoopStats.class);
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final String name;
+    private final EventExecutor eventLoop;
+    private final LatencyRecorder lag = new LatencyRecorder();
+    private volatile long lastLagNanos;
+
+    EventLoopStats(String name, EventExecutor eventLoop) {
+        this.name = name;
+        this.eventLoop = eventLoop;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyRecorder getLag() {
+        return lag;
+    }
+
+    public long getLastLagNanos() {
+        return lastLagNanos;
+    }
+
+    /**
+     * Schedules the next lag probe. The probes stop once the event loop is shut down.
+     *
+     * @param intervalNanos interval between two probes
+     */
+    void scheduleProbe(long intervalNanos) {
+        if (eventLoop.isShuttingDown()) {
+            return;
+        }
+        long dueTime = System.nanoTime() + intervalNanos;
+        try {
+            eventLoop.schedule(() -> probe(dueTime, intervalNanos), intervalNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Event loop {} is shutting down hence not probing it further", name);
+        }
+    }
+
+    private void probe(long dueTime, long intervalNanos) {
+        long lagNanos = Math.max(System.nanoTime() - dueTime, 0);
+        lastLagNanos = lagNanos;
+        lag.record(lagNanos);
+        scheduleProbe(intervalNanos);
+    }
+
+    @Override
+    public int getPendingTasks() {
+        return eventLoop instanceof SingleThreadEventExecutor ?
+                ((SingleThreadEventExecutor) eventLoop).pendingTasks() : -1;
+    }
+
+    @Override
+    public double getLastLagMillis() {
+        return lastLagNanos / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanLagMillis() {
+        long count = lag.getCount();
+        return count == 0 ? 0 : lag.getSumNanos() / NANOS_PER_MILLI / count;
+    }
+
+    @Override
+    public double getP99LagMillis() {
+        return lag.getPercentileNanos(99) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxLagMillis() {
+        return lag.getMaxNanos() / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+/**
+ * {@code PoolUsage} accumulates a point in time view of the connections of a route across all the connection managers
+ * which hold connections to it.
+ *
+ * @since 2.3.0
+ */
+public class PoolUsage {
+
+    private int activeConnections;
+    private int idleConnections;
+    private int http2Connections;
+    private int http2ActiveStreams;
+
+    /**
+     * Adds HTTP/1.x connections to the usage.
+     *
+     * @param active number of connections currently serving a request
+     * @param idle   number of connections available to be borrowed
+     */
+    public void addConnections(int active, int idle) {
+        activeConnections += Math.max(active, 0);
+        idleConnections += Math.max(idle, 0);
+    }
+
+    /**
+     * Adds an HTTP/2 connection to the usage.
+     *
+     * @param activeStreams number of streams currently open on the connection
+     */
+    public void addHttp2Connection(int activeStreams) {
+        http2Connections++;
+        http2ActiveStreams += Math.max(activeStreams, 0);
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getHttp2Connections() {
+        return http2Connections;
+    }
+
+    public int getHttp2ActiveStreams() {
+        return http2ActiveStreams;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+/**
+ * Implemented by the connection managers so that the pool gauges are read from the pools themselves when queried,
+ * rather than being maintained on every borrow and release.
+ *
+ * @since 2.3.0
+ */
+public interface PoolUsageSource {
+
+    /**
+     * Adds the current usage of the connections this source holds to the given route.
+     *
+     * @param route the route key
+     * @param usage the usage to add to
+     */
+    void addUsage(String route, PoolUsage usage);
+}
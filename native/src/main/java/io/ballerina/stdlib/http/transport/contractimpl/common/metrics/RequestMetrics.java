@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RequestMetrics} holds the always-on request metrics of a listener or of one of its resources: request counts
+ * per status class, the in-flight gauge, bytes in and out and a {@link LatencyRecorder}. All of them are striped
+ * counters so that recording a request is allocation free.
+ *
+ * @since 2.3.0
+ */
+public class RequestMetrics implements RequestMetricsMBean {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final String listener;
+    private final String resource;
+    private final LongAdder inFlight = new LongAdder();
+    // Indexed by the first digit of the status code, index 0 holding the requests aborted before a response was sent
+    private final LongAdder[] statusClasses = new LongAdder[6];
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LatencyRecorder latency = new LatencyRecorder();
+
+    RequestMetrics(String listener, String resource) {
+        this.listener = listener;
+        this.resource = resource;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    public String getListener() {
+        return listener;
+    }
+
+    /**
+     * Returns the resource these metrics belong to.
+     *
+     * @return the resource, or null for the listener wide metrics
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    public LatencyRecorder getLatency() {
+        return latency;
+    }
+
+    /**
+     * Marks the start of a request.
+     */
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    /**
+     * Records a request whose response has been written, or which has been aborted.
+     *
+     * @param statusCode    status code of the response, 0 if no response could be sent
+     * @param latencyNanos  time taken from receiving the request to completing the response
+     * @param bytesIn       size of the request entity body
+     * @param bytesOut      size of the response entity body
+     */
+    public void requestCompleted(int statusCode, long latencyNanos, long bytesIn, long bytesOut) {
+        inFlight.decrement();
+        int statusClass = statusCode / 100;
+        statusClasses[statusClass > 0 && statusClass < statusClasses.length ? statusClass : 0].increment();
+        if (bytesIn > 0) {
+            bytesReceived.add(bytesIn);
+        }
+        if (bytesOut > 0) {
+            bytesSent.add(bytesOut);
+        }
+        latency.record(latencyNanos);
+    }
+
+    /**
+     * Returns the number of requests completed with the given status class.
+     *
+     * @param statusClass first digit of the status code, 0 for aborted requests
+     * @return the number of requests
+     */
+    public long getStatusClassCount(int statusClass) {
+        return statusClasses[statusClass].sum();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return latency.getCount();
+    }
+
+    @Override
+    public long getInFlightCount() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public long getInformationalCount() {
+        return getStatusClassCount(1);
+    }
+
+    @Override
+    public long getSuccessCount() {
+        return getStatusClassCount(2);
+    }
+
+    @Override
+    public long getRedirectionCount() {
+        return getStatusClassCount(3);
+    }
+
+    @Override
+    public long getClientErrorCount() {
+        return getStatusClassCount(4);
+    }
+
+    @Override
+    public long getServerErrorCount() {
+        return getStatusClassCount(5);
+    }
+
+    @Override
+    public long getAbortedCount() {
+        return getStatusClassCount(0);
+    }
+
+    @Override
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    @Override
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    @Override
+    public double getMeanLatencyMillis() {
+        long count = latency.getCount();
+        return count == 0 ? 0 : latency.getSumNanos() / NANOS_PER_MILLI / count;
+    }
+
+    @Override
+    public double getMaxLatencyMillis() {
+        return latency.getMaxNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50LatencyMillis() {
+        return latency.getPercentileNanos(50) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP90LatencyMillis() {
+        return latency.getPercentileNanos(90) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP99LatencyMillis() {
+        return latency.getPercentileNanos(99) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+/**
+ * Bean interface exposing the request metrics of a listener or of a single resource.
+ *
+ * @since 2.3.0
+ */
+public interface RequestMetricsMBean {
+
+    long getRequestCount();
+
+    long getInFlightCount();
+
+    long getInformationalCount();
+
+    long getSuccessCount();
+
+    long getRedirectionCount();
+
+    long getClientErrorCount();
+
+    long getServerErrorCount();
+
+    long getAbortedCount();
+
+    long getBytesReceived();
+
+    long getBytesSent();
+
+    double getMeanLatencyMillis();
+
+    double getMaxLatencyMillis();
+
+    double getP50LatencyMillis();
+
+    double getP90LatencyMillis();
+
+    double getP99LatencyMillis();
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.ObjectName;
+
+/**
+ * {@code RequestMetricsRegistry} keeps the {@link RequestMetrics} of every listener and resource. Each of them is
+ * registered over JMX under the RequestMetrics category when first created, and all of them can be rendered in the
+ * Prometheus text exposition format.
+ *
+ * @since 2.3.0
+ */
+public class RequestMetricsRegistry {
+
+    private static final RequestMetricsRegistry INSTANCE = new RequestMetricsRegistry();
+    private static final String MBEAN_CATEGORY = "RequestMetrics";
+    private static final String LISTENER_PREFIX = "http_listener_";
+    private static final String RESOURCE_PREFIX = "http_resource_";
+    private static final String[] STATUS_CLASS_LABELS = {"aborted", "1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final Map<String, RequestMetrics> listenerMetrics = new ConcurrentHashMap<>();
+    private final Map<String, RequestMetrics> resourceMetrics = new ConcurrentHashMap<>();
+
+    public static RequestMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private RequestMetricsRegistry() {
+    }
+
+    /**
+     * Returns the metrics of a listener, creating them on first use.
+     *
+     * @param listener interface id of the listener
+     * @return the listener metrics
+     */
+    public RequestMetrics getListenerMetrics(String listener) {
+        return listenerMetrics.computeIfAbsent(listener, key -> register(new RequestMetrics(key, null), key));
+    }
+
+    /**
+     * Returns the metrics of a resource of a listener, creating them on first use.
+     *
+     * @param listener interface id of the listener
+     * @param resource the resource, given as its method and absolute path
+     * @return the resource metrics
+     */
+    public RequestMetrics getResourceMetrics(String listener, String resource) {
+        return resourceMetrics.computeIfAbsent(listener + " " + resource,
+                                               key -> register(new RequestMetrics(listener, resource), key));
+    }
+
+    private static RequestMetrics register(RequestMetrics metrics, String id) {
+        MBeanRegistrar.getInstance().registerMBean(metrics, MBEAN_CATEGORY, ObjectName.quote(id));
+        return metrics;
+    }
+
+    /**
+     * Renders the metrics of all the listeners and resources in the Prometheus text exposition format.
+     *
+     * @return the metrics text
+     */
+    public String toPrometheusText() {
+        StringBuilder builder = new StringBuilder(4096);
+        writeFamily(builder, LISTENER_PREFIX, listenerMetrics);
+        writeFamily(builder, RESOURCE_PREFIX, resourceMetrics);
+        return builder.toString();
+    }
+
+    private static void writeFamily(StringBuilder builder, String prefix, Map<String, RequestMetrics> metricsMap) {
+        if (metricsMap.isEmpty()) {
+            return;
+        }
+        writeHeader(builder, prefix + "requests_total", "counter", "Completed requests by status class.");
+        for (RequestMetrics metrics : metricsMap.values()) {
+            for (int i = 0; i < STATUS_CLASS_LABELS.length; i++) {
+                writeSample(builder, prefix + "requests_total", metrics, "status_class", STATUS_CLASS_LABELS[i],
+                            Long.toString(metrics.getStatusClassCount(i)));
+            }
+        }
+        writeHeader(builder, prefix + "in_flight_requests", "gauge", "Requests currently being served.");
+        for (RequestMetrics metrics : metricsMap.values()) {
+            writeSample(builder, prefix + "in_flight_requests", metrics, null, null,
+                        Long.toString(metrics.getInFlightCount()));
+        }
+        writeHeader(builder, prefix + "received_bytes_total", "counter", "Request entity body bytes received.");
+        for (RequestMetrics metrics : metricsMap.values()) {
+            writeSample(builder, prefix + "received_bytes_total", metrics, null, null,
+                        Long.toString(metrics.getBytesReceived()));
+        }
+        writeHeader(builder, prefix + "sent_bytes_total", "counter", "Response entity body bytes sent.");
+        for (RequestMetrics metrics : metricsMap.values()) {
+            writeSample(builder, prefix + "sent_bytes_total", metrics, null, null,
+                        Long.toString(metrics.getBytesSent()));
+        }
+        String duration = prefix + "request_duration_seconds";
+        writeHeader(builder, duration, "histogram", "Time taken to serve requests.");
+        for (RequestMetrics metrics : metricsMap.values()) {
+            LatencyRecorder latency = metrics.getLatency();
+            long cumulative = 0;
+            for (int i = 0; i < LatencyRecorder.getBucketBoundCount(); i++) {
+                cumulative += latency.getBucketCount(i);
+                writeSample(builder, duration + "_bucket", metrics, "le",
+                            toSeconds(LatencyRecorder.getBucketBound(i)), Long.toString(cumulative));
+            }
+            cumulative += latency.getBucketCount(LatencyRecorder.getBucketBoundCount());
+            writeSample(builder, duration + "_bucket", metrics, "le", "+Inf", Long.toString(cumulative));
+            writeSample(builder, duration + "_sum", metrics, null, null, toSeconds(latency.getSumNanos()));
+            writeSample(builder, duration + "_count", metrics, null, null, Long.toString(cumulative));
+        }
+    }
+
+    private static void writeHeader(StringBuilder builder, String name, String type, String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(StringBuilder builder, String name, RequestMetrics metrics, String extraLabel,
+                                    String extraValue, String value) {
+        builder.append(name).append("{listener=\"");
+        appendEscaped(builder, metrics.getListener());
+        builder.append('"');
+        if (metrics.getResource() != null) {
+            builder.append(",resource=\"");
+            appendEscaped(builder, metrics.getResource());
+            builder.append('"');
+        }
+        if (extraLabel != null) {
+            builder.append(',').append(extraLabel).append("=\"").append(extraValue).append('"');
+        }
+        builder.append("} ").append(value).append('\n');
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                builder.append('\\').append(c);
+            } else if (c == '\n') {
+                builder.append("\\n");
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    private static String toSeconds(long nanos) {
+        return BigDecimal.valueOf(nanos).movePointLeft(9).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+/**
+ * {@code TransportMetrics} keeps the health statistics of the transport: the {@link ConnectionPoolStats} of every
+ * client route and the {@link EventLoopStats} of every monitored event loop. They are registered over JMX under the
+ * ConnectionPool and EventLoop categories.
+ *
+ * @since 2.3.0
+ */
+public class TransportMetrics {
+
+    private static final TransportMetrics INSTANCE = new TransportMetrics();
+    private static final String POOL_MBEAN_CATEGORY = "ConnectionPool";
+    private static final String EVENT_LOOP_MBEAN_CATEGORY = "EventLoop";
+    private static final long LAG_PROBE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, ConnectionPoolStats> poolStats = new ConcurrentHashMap<>();
+    private final Map<String, EventLoopStats> eventLoopStats = new ConcurrentHashMap<>();
+    // Held weakly so that the connection managers of clients which are no longer used can be collected
+    private final Set<PoolUsageSource> poolUsageSources =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public static TransportMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    private TransportMetrics() {
+    }
+
+    /**
+     * Returns the statistics of the connections of a route, creating them on first use.
+     *
+     * @param route the route
+     * @return the connection pool statistics
+     */
+    public ConnectionPoolStats getConnectionPoolStats(HttpRoute route) {
+        String key = route.toString();
+        ConnectionPoolStats stats = poolStats.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        return poolStats.computeIfAbsent(key, routeKey -> {
+            ConnectionPoolStats newStats = new ConnectionPoolStats(route, this);
+            MBeanRegistrar.getInstance().registerMBean(newStats, POOL_MBEAN_CATEGORY, ObjectName.quote(routeKey));
+            return newStats;
+        });
+    }
+
+    public List<ConnectionPoolStats> getConnectionPoolStats() {
+        return new ArrayList<>(poolStats.values());
+    }
+
+    public List<EventLoopStats> getEventLoopStats() {
+        return new ArrayList<>(eventLoopStats.values());
+    }
+
+    /**
+     * Adds a source from which the connection gauges are read.
+     *
+     * @param source the source, typically a connection manager
+     */
+    public void addPoolUsageSource(PoolUsageSource source) {
+        poolUsageSources.add(source);
+    }
+
+    PoolUsage getPoolUsage(String route) {
+        PoolUsage usage = new PoolUsage();
+        Collection<PoolUsageSource> sources;
+        synchronized (poolUsageSources) {
+            sources = new ArrayList<>(poolUsageSources);
+        }
+        for (PoolUsageSource source : sources) {
+            source.addUsage(route, usage);
+        }
+        return usage;
+    }
+
+    /**
+     * Starts probing the lag of the event loops of the given group.
+     *
+     * @param group     the event loop group
+     * @param groupName name of the group, the event loops being named after it and their index
+     */
+    public void monitorEventLoops(EventExecutorGroup group, String groupName) {
+        int index = 0;
+        for (EventExecutor eventLoop : group) {
+            String name = groupName + "-" + index++;
+            EventLoopStats stats = new EventLoopStats(name, eventLoop);
+            eventLoopStats.put(name, stats);
+            MBeanRegistrar.getInstance().registerMBean(stats, EVENT_LOOP_MBEAN_CATEGORY, name);
+            stats.scheduleProbe(LAG_PROBE_INTERVAL);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
+import io.netty.handler.ssl.ReferenceCountedOpenSslContext;
+import io.netty.handler.ssl.SslContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code ClientSSLContextCache} holds the client contexts built for an {@link SSLConfig}, so that key stores and
+ * certificates are read once per client configuration instead of once per outbound connection. Reusing the contexts
+ * also reuses their session caches, which are keyed by the peer host and port, hence reconnections to a route resume
+ * the earlier TLS session through a session ticket or a session id.
+ *
+ * @since 2.3.0
+ */
+public class ClientSSLContextCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientSSLContextCache.class);
+
+    private static final String KEY_STORE_HANDLER_FACTORY = "keyStoreHandlerFactory";
+    private static final String CERTS_CONTEXT = "certsContext";
+    private static final String INSECURE_CONTEXT = "insecureContext";
+    private static final String OCSP_STAPLING_CONTEXT = "ocspStaplingContext";
+    private static final String HTTP2_CONTEXT = "http2Context";
+    private static final String HTTP2_OCSP_STAPLING_CONTEXT = "http2OcspStaplingContext";
+    private static final String HTTP2_INSECURE_CONTEXT = "http2InsecureContext";
+
+    private final SSLConfig sslConfig;
+    private final SSLHandlerFactory sslHandlerFactory;
+    private final Map<String, Object> contexts = new ConcurrentHashMap<>();
+
+    ClientSSLContextCache(SSLConfig sslConfig) {
+        this.sslConfig = sslConfig;
+        this.sslHandlerFactory = new SSLHandlerFactory(sslConfig);
+    }
+
+    /**
+     * Gets a handler factory to configure the engines with. It does not hold a context.
+     *
+     * @return the handler factory of the configuration
+     */
+    public SSLHandlerFactory getSSLHandlerFactory() {
+        return sslHandlerFactory;
+    }
+
+    /**
+     * Gets a handler factory which holds the context loaded from the configured key store and trust store.
+     *
+     * @return the handler factory with the key store context
+     * @throws Exception if the stores cannot be loaded
+     */
+    public SSLHandlerFactory getKeyStoreHandlerFactory() throws Exception {
+        return getOrCreate(KEY_STORE_HANDLER_FACTORY, () -> {
+            SSLHandlerFactory keyStoreHandlerFactory = new SSLHandlerFactory(sslConfig);
+            keyStoreHandlerFactory.createSSLContextFromKeystores(false);
+            return keyStoreHandlerFactory;
+        });
+    }
+
+    public SslContext getCertsContext() throws Exception {
+        return getOrCreate(CERTS_CONTEXT, () -> new SSLHandlerFactory(sslConfig).createHttpTLSContextForClient());
+    }
+
+    public SslContext getInsecureContext() throws Exception {
+        return getOrCreate(INSECURE_CONTEXT, () -> Util.createInsecureSslContext(sslConfig));
+    }
+
+    public ReferenceCountedOpenSslContext getOcspStaplingContext() throws Exception {
+        return getOrCreate(OCSP_STAPLING_CONTEXT, () -> {
+            SSLHandlerFactory ocspHandlerFactory = new SSLHandlerFactory(sslConfig);
+            ocspHandlerFactory.createSSLContextFromKeystores(false);
+            return ocspHandlerFactory.buildClientReferenceCountedOpenSslContext();
+        });
+    }
+
+    public SslContext getHttp2Context(boolean enableOcsp) throws Exception {
+        return getOrCreate(enableOcsp ? HTTP2_OCSP_STAPLING_CONTEXT : HTTP2_CONTEXT, () -> {
+            SSLHandlerFactory http2HandlerFactory = new SSLHandlerFactory(sslConfig);
+            http2HandlerFactory.createSSLContextFromKeystores(false);
+            return http2HandlerFactory.createHttp2TLSContextForClient(enableOcsp);
+        });
+    }
+
+    public SslContext getHttp2InsecureContext() throws Exception {
+        return getOrCreate(HTTP2_INSECURE_CONTEXT, () -> Util.createInsecureSslEngineForHttp2(sslConfig));
+    }
+
+    /**
+     * Builds the context which the connections of the client are going to use, so that the first connection does not
+     * wait for the stores to be read.
+     *
+     * @param http2 true if the client connects over HTTP/2
+     */
+    public void warmUp(boolean http2) {
+        try {
+            if (http2) {
+                if (sslConfig.isDisableSsl()) {
+                    getHttp2InsecureContext();
+                } else {
+                    getHttp2Context(sslConfig.isOcspStaplingEnabled());
+                }
+            } else if (sslConfig.isOcspStaplingEnabled()) {
+                getOcspStaplingContext();
+            } else if (sslConfig.isDisableSsl()) {
+                getInsecureContext();
+            } else if (sslConfig.getTrustStore() != null) {
+                getKeyStoreHandlerFactory();
+            } else {
+                getCertsContext();
+            }
+        } catch (Exception e) {
+            // The same failure is reported to the caller when a connection is attempted
+            LOG.debug("Couldn't warm up the client ssl context", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrCreate(String name, ContextBuilder<T> builder) throws Exception {
+        Object context = contexts.get(name);
+        if (context == null) {
+            synchronized (this) {
+                context = contexts.get(name);
+                if (context == null) {
+                    context = builder.build();
+                    contexts.put(name, context);
+                }
+            }
+        }
+        return (T) context;
+    }
+
+    /**
+     * Builds a context of the cache.
+     *
+     * @param <T> type of the context
+     */
+    @FunctionalInterface
+    private interface ContextBuilder<T> {
+        T build() throws Exception;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.ssl;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * {@code ClientSSLSessionStats} counts the TLS handshakes of the outbound connections and how many of them resumed an
+ * earlier session. The counts are exposed over JMX under the SSLSession category.
+ *
+ * @since 2.3.0
+ */
+public class ClientSSLSessionStats implements ClientSSLSessionStatsMBean {
+
+    private static final String MBEAN_CATEGORY = "SSLSession";
+    private static final ClientSSLSessionStats INSTANCE = new ClientSSLSessionStats();
+
+    static {
+        MBeanRegistrar.getInstance().registerMBean(INSTANCE, MBEAN_CATEGORY, "client");
+    }
+
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+
+    public static ClientSSLSessionStats getInstance() {
+        return INSTANCE;
+    }
+
+    private ClientSSLSessionStats() {
+    }
+
+    /**
+     * Records a completed client handshake. A session which was created before the handshake started has been
+     * resumed rather than negotiated.
+     *
+     * @param session                  the session of the handshake
+     * @param handshakeStartTimeMillis the time at which the handshake started
+     */
+    public void recordHandshake(SSLSession session, long handshakeStartTimeMillis) {
+        handshakes.increment();
+        if (session != null && session.getCreationTime() < handshakeStartTimeMillis) {
+            resumedHandshakes.increment();
+        }
+    }
+
+    @Override
+    public long getHandshakeCount() {
+        return handshakes.sum();
+    }
+
+    @Override
+    public long getResumedHandshakeCount() {
+        return resumedHandshakes.sum();
+    }
+
+    @Override
+    public double getResumptionRatio() {
+        long total = handshakes.sum();
+        return total == 0 ? 0 : (double) resumedHandshakes.sum() / total;
+    }
+}
@@ -64,6 +64,7 @@ public class SSLConfig {
     private long handshakeTimeOut;
     private boolean disableSsl = false;
     private boolean useJavaDefaults = false;
+    private volatile ClientSSLContextCache clientSSLContextCache;
 
     public SSLConfig() {}
 
@@ -344,4 +345,23 @@ public class SSLConfig {
     public void setUseJavaDefaults() {
         this.useJavaDefaults = true;
     }
+
+    /**
+     * Gets the cache of the client contexts built for this configuration.
+     *
+     * @return the client context cache
+     */
+    public ClientSSLContextCache getClientSSLContextCache() {
+        ClientSSLContextCache contextCache = clientSSLContextCache;
+        if (contextCache == null) {
+            synchronized (this) {
+                contextCache = clientSSLContextCache;
+                if (contextCache == null) {
+                    contextCache = new ClientSSLContextCache(this);
+                    clientSSLContextCache = contextCache;
+                }
+            }
+        }
+        return contextCache;
+    }
 }
@@ -24,6 +24,7 @@ import io.netty.handler.codec.http2.Http2SecurityUtil;
 import io.netty.handler.ssl.ApplicationProtocolConfig;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.ReferenceCountedOpenSslContext;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -312,13 +313,14 @@ public class SSLHandlerFactory {
     }
 
     /**
-     * This method will provide netty ssl context which supports HTTP over TLS using certificates and keys.
+     * This method will provide netty ssl context which supports HTTP over TLS using certificates and keys. The
+     * OpenSSL provider is used when it is available.
      *
      * @return instance of {@link SslContext}
      * @throws SSLException if any error occurred during building SSL context.
      */
     public SslContext createHttpTLSContextForClient() throws SSLException {
-        SslProvider provider = SslProvider.JDK;
+        SslProvider provider = OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK;
         SslContext certsSslContext = clientContextBuilderWithCerts(provider).build();
         int sessionTimeout = sslConfig.getSessionTimeOut();
         if (sessionTimeout > 0) {
@@ -378,7 +380,7 @@ public class SSLHandlerFactory {
         if (sessionTimeout > 0) {
             sslContext.sessionContext().setSessionTimeout(sessionTimeout);
         }
-        return sslContextBuilder.build();
+        return sslContext;
     }
 
     private void setCiphers(SslContextBuilder sslContextBuilder, List<String> ciphers) {
@@ -39,6 +39,7 @@ import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
 import io.ballerina.stdlib.http.transport.message.Http2Reset;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
@@ -63,20 +64,11 @@ import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.BASE_64_ENCODED_CERT;
-import static io.ballerina.stdlib.http.transport.contract.Constants.CHNL_HNDLR_CTX;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_SCHEME;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_REQUEST_BODY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_REQUEST_HEADERS;
 import static io.ballerina.stdlib.http.transport.contract.Constants.INBOUND_REQUEST;
-import static io.ballerina.stdlib.http.transport.contract.Constants.LISTENER_INTERFACE_ID;
-import static io.ballerina.stdlib.http.transport.contract.Constants.LISTENER_PORT;
-import static io.ballerina.stdlib.http.transport.contract.Constants.LOCAL_ADDRESS;
-import static io.ballerina.stdlib.http.transport.contract.Constants.MUTUAL_SSL_HANDSHAKE_RESULT;
-import static io.ballerina.stdlib.http.transport.contract.Constants.POOLED_BYTE_BUFFER_FACTORY;
 import static io.ballerina.stdlib.http.transport.contract.Constants.PROMISED_STREAM_REJECTED_ERROR;
-import static io.ballerina.stdlib.http.transport.contract.Constants.PROTOCOL;
-import static io.ballerina.stdlib.http.transport.contract.Constants.TO;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.handleIncompleteInboundMessage;
 
 /**
@@ -131,9 +123,10 @@ public class Http2StateUtil {
         ChannelHandlerContext ctx = http2SourceHandler.getChannelHandlerContext();
         HttpCarbonRequest sourceReqCMsg = new HttpCarbonRequest(httpRequest, new Http2InboundContentListener(
             streamId, ctx, http2SourceHandler.getConnection(), INBOUND_REQUEST));
-        sourceReqCMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, new PooledDataStreamerFactory(ctx.alloc()));
-        sourceReqCMsg.setProperty(CHNL_HNDLR_CTX, ctx);
-        sourceReqCMsg.setProperty(Constants.SRC_HANDLER, http2SourceHandler);
+        sourceReqCMsg.setProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY,
+                                  new PooledDataStreamerFactory(ctx.alloc()));
+        sourceReqCMsg.setProperty(MessageProperty.CHNL_HNDLR_CTX, ctx);
+        sourceReqCMsg.setProperty(MessageProperty.SRC_HANDLER, http2SourceHandler);
         HttpVersion protocolVersion = httpRequest.protocolVersion();
         sourceReqCMsg.setHttpVersion(protocolVersion.majorVersion() + "." + protocolVersion.minorVersion());
         sourceReqCMsg.setHttpMethod(httpRequest.method().name());
@@ -143,18 +136,19 @@ public class Http2StateUtil {
         if (ctx.channel().localAddress() instanceof InetSocketAddress) {
             localAddress = (InetSocketAddress) ctx.channel().localAddress();
         }
-        sourceReqCMsg.setProperty(LOCAL_ADDRESS, localAddress);
-        sourceReqCMsg.setProperty(Constants.REMOTE_ADDRESS, http2SourceHandler.getRemoteAddress());
-        sourceReqCMsg.setProperty(LISTENER_PORT, localAddress != null ? localAddress.getPort() : null);
-        sourceReqCMsg.setProperty(LISTENER_INTERFACE_ID, http2SourceHandler.getInterfaceId());
-        sourceReqCMsg.setProperty(PROTOCOL, HTTP_SCHEME);
-        sourceReqCMsg.setProperty(MUTUAL_SSL_HANDSHAKE_RESULT,
+        sourceReqCMsg.setProperty(MessageProperty.LOCAL_ADDRESS, localAddress);
+        sourceReqCMsg.setProperty(MessageProperty.REMOTE_ADDRESS, http2SourceHandler.getRemoteAddress());
+        sourceReqCMsg.setProperty(MessageProperty.LISTENER_PORT, localAddress != null ? localAddress.getPort() : null);
+        sourceReqCMsg.setProperty(MessageProperty.LISTENER_INTERFACE_ID, http2SourceHandler.getInterfaceId());
+        sourceReqCMsg.setProperty(MessageProperty.PROTOCOL, HTTP_SCHEME);
+        sourceReqCMsg.setProperty(MessageProperty.MUTUAL_SSL_HANDSHAKE_RESULT,
                 ctx.channel().attr(Constants.MUTUAL_SSL_RESULT_ATTRIBUTE).get());
-        sourceReqCMsg.setProperty(BASE_64_ENCODED_CERT,
+        sourceReqCMsg.setProperty(MessageProperty.BASE_64_ENCODED_CERT,
                 ctx.channel().attr(Constants.BASE_64_ENCODED_CERT_ATTRIBUTE).get());
         String uri = httpRequest.uri();
         sourceReqCMsg.setRequestUrl(uri);
-        sourceReqCMsg.setProperty(TO, uri);
+        sourceReqCMsg.setProperty(MessageProperty.TO, uri);
+        sourceReqCMsg.startRequestMetrics(http2SourceHandler.getServerChannelInitializer().getRequestMetrics());
         return sourceReqCMsg;
     }
 
@@ -338,6 +332,7 @@ public class Http2StateUtil {
         int streamId = getNextStreamId(connection);
         createStream(connection, streamId);
         http2ClientChannel.putInFlightMessage(streamId, outboundMsgHolder);
+        outboundMsgHolder.setStreamId(streamId);
         http2ClientChannel.getDataEventListeners()
                 .forEach(dataEventListener -> dataEventListener.onStreamInit(ctx, streamId));
         return streamId;
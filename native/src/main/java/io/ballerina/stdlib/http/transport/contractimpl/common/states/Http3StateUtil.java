@@ -1,6 +1,5 @@
 package io.ballerina.stdlib.http.transport.contractimpl.common.states;
 
-import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.Http3OutboundRespListener;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http3.Http3SourceHandler;
@@ -9,6 +8,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.listener.states.http3.Sen
 import io.ballerina.stdlib.http.transport.message.Http3InboundContentListener;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonRequest;
+import io.ballerina.stdlib.http.transport.message.MessageProperty;
 import io.ballerina.stdlib.http.transport.message.PooledDataStreamerFactory;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpContent;
@@ -30,15 +30,8 @@ import java.net.InetSocketAddress;
 import java.util.List;
 import java.util.Map;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.CHNL_HNDLR_CTX;
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTPS_SCHEME;
 import static io.ballerina.stdlib.http.transport.contract.Constants.INBOUND_REQUEST;
-import static io.ballerina.stdlib.http.transport.contract.Constants.LISTENER_INTERFACE_ID;
-import static io.ballerina.stdlib.http.transport.contract.Constants.LISTENER_PORT;
-import static io.ballerina.stdlib.http.transport.contract.Constants.LOCAL_ADDRESS;
-import static io.ballerina.stdlib.http.transport.contract.Constants.POOLED_BYTE_BUFFER_FACTORY;
-import static io.ballerina.stdlib.http.transport.contract.Constants.PROTOCOL;
-import static io.ballerina.stdlib.http.transport.contract.Constants.TO;
 
 /**
  * HTTP/2 utility functions for states.
@@ -84,9 +77,10 @@ public class Http3StateUtil {
         HttpCarbonRequest sourceReqCMsg = new HttpCarbonRequest(httpRequest, new Http3InboundContentListener(
                 streamId, ctx, INBOUND_REQUEST));
 
-        sourceReqCMsg.setProperty(POOLED_BYTE_BUFFER_FACTORY, new PooledDataStreamerFactory(ctx.alloc()));
-        sourceReqCMsg.setProperty(CHNL_HNDLR_CTX, ctx);
-        sourceReqCMsg.setProperty(Constants.SRC_HANDLER, http3SourceHandler);
+        sourceReqCMsg.setProperty(MessageProperty.POOLED_BYTE_BUFFER_FACTORY,
+                                  new PooledDataStreamerFactory(ctx.alloc()));
+        sourceReqCMsg.setProperty(MessageProperty.CHNL_HNDLR_CTX, ctx);
+        sourceReqCMsg.setProperty(MessageProperty.SRC_HANDLER, http3SourceHandler);
         HttpVersion protocolVersion = httpRequest.protocolVersion();
         sourceReqCMsg.setHttpVersion(protocolVersion.majorVersion() + "." + protocolVersion.minorVersion());
         sourceReqCMsg.setHttpMethod(httpRequest.method().name());
@@ -96,14 +90,14 @@ public class Http3StateUtil {
         if (ctx.channel().localAddress() instanceof InetSocketAddress) {
             localAddress = (InetSocketAddress) ctx.channel().localAddress();
         }
-        sourceReqCMsg.setProperty(LOCAL_ADDRESS, localAddress);
-        sourceReqCMsg.setProperty(Constants.REMOTE_ADDRESS, http3SourceHandler.getRemoteAddress());
-        sourceReqCMsg.setProperty(LISTENER_PORT, localAddress != null ? localAddress.getPort() : null);
-        sourceReqCMsg.setProperty(LISTENER_INTERFACE_ID, http3SourceHandler.getInterfaceId());
-        sourceReqCMsg.setProperty(PROTOCOL, HTTPS_SCHEME);
+        sourceReqCMsg.setProperty(MessageProperty.LOCAL_ADDRESS, localAddress);
+        sourceReqCMsg.setProperty(MessageProperty.REMOTE_ADDRESS, http3SourceHandler.getRemoteAddress());
+        sourceReqCMsg.setProperty(MessageProperty.LISTENER_PORT, localAddress != null ? localAddress.getPort() : null);
+        sourceReqCMsg.setProperty(MessageProperty.LISTENER_INTERFACE_ID, http3SourceHandler.getInterfaceId());
+        sourceReqCMsg.setProperty(MessageProperty.PROTOCOL, HTTPS_SCHEME);
         String uri = httpRequest.uri();
         sourceReqCMsg.setRequestUrl(uri);
-        sourceReqCMsg.setProperty(TO, uri);
+        sourceReqCMsg.setProperty(MessageProperty.TO, uri);
         return sourceReqCMsg;
     }
 
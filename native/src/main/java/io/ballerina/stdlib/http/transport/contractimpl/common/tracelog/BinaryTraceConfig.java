@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.tracelog;
+
+import io.netty.util.AsciiString;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@code BinaryTraceConfig} holds the process wide configuration of the binary trace log mode. When it is configured,
+ * the trace logging handlers record the traffic of sampled connections into a {@link BinaryTraceRecorder} instead of
+ * formatting every message, and dump the recorded events only when a connection fails.
+ *
+ * @since 2.3.0
+ */
+public final class BinaryTraceConfig {
+
+    private static volatile BinaryTraceConfig instance;
+
+    private final String path;
+    private final double samplingRate;
+    private final AsciiString samplingHeader;
+    private final int bufferSize;
+    private final int payloadBytes;
+
+    private BinaryTraceConfig(String path, double samplingRate, String samplingHeader, int bufferSize,
+                              int payloadBytes) {
+        this.path = path;
+        this.samplingRate = samplingRate;
+        this.samplingHeader = samplingHeader == null || samplingHeader.isEmpty() ? null :
+                AsciiString.of(samplingHeader);
+        this.bufferSize = bufferSize;
+        this.payloadBytes = payloadBytes;
+    }
+
+    /**
+     * Enables the binary trace log mode.
+     *
+     * @param path           the file to which the events of failing connections are appended
+     * @param samplingRate   the fraction of connections to trace
+     * @param samplingHeader the header which forces tracing of the connection carrying it, or null
+     * @param bufferSize     the number of most recent events kept per traced connection
+     * @param payloadBytes   the number of leading payload bytes captured per event
+     */
+    public static void configure(String path, double samplingRate, String samplingHeader, int bufferSize,
+                                 int payloadBytes) {
+        if (path == null || path.trim().isEmpty()) {
+            throw new IllegalArgumentException("binary trace log path must not be empty");
+        }
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("binary trace log sampling rate must be between 0.0 and 1.0");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("binary trace log buffer size must be greater than zero");
+        }
+        if (payloadBytes < 0 || payloadBytes > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("binary trace log payload bytes must be between 0 and " +
+                                                       Short.MAX_VALUE);
+        }
+        instance = new BinaryTraceConfig(path, samplingRate, samplingHeader, bufferSize, payloadBytes);
+    }
+
+    /**
+     * Returns the binary trace log configuration.
+     *
+     * @return the configuration, or null when the binary trace log mode is not enabled
+     */
+    public static BinaryTraceConfig get() {
+        return instance;
+    }
+
+    static void reset() {
+        instance = null;
+    }
+
+    /**
+     * Decides whether a new connection is traced, based on the sampling rate.
+     *
+     * @return true if the connection should be traced
+     */
+    boolean sampleConnection() {
+        return samplingRate >= 1 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    AsciiString getSamplingHeader() {
+        return samplingHeader;
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    int getPayloadBytes() {
+        return payloadBytes;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.tracelog;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.ACTIVE;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.BYTES;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.CONTENT;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.DIRECTION_MASK;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.EXCEPTION;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.INACTIVE;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.LAST_CONTENT;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.OUTBOUND;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.REQUEST;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.RESPONSE;
+import static io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder.SLOT_HEADER_SIZE;
+
+/**
+ * {@code BinaryTraceDecoder} turns a binary trace log file back into text lines in the same shape as the regular HTTP
+ * trace logs. It is meant to be run offline against the file configured for the binary trace log mode:
+ * <pre>
+ * java -cp http-native.jar io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceDecoder trace.bin
+ * </pre>
+ *
+ * @since 2.3.0
+ */
+public final class BinaryTraceDecoder {
+
+    private BinaryTraceDecoder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        PrintStream stdOut = System.out;
+        PrintStream stdErr = System.err;
+        if (args.length != 1) {
+            stdErr.println("usage: BinaryTraceDecoder <binary trace log file>");
+            return;
+        }
+        try (InputStream in = new FileInputStream(args[0])) {
+            decode(in, stdOut);
+        }
+    }
+
+    /**
+     * Decodes all the connection dumps in the given stream.
+     *
+     * @param in  the binary trace log
+     * @param out the stream to which the decoded events are printed
+     * @throws IOException if the binary trace log cannot be read or is malformed
+     */
+    public static void decode(InputStream in, PrintStream out) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        while (true) {
+            int magic;
+            try {
+                magic = data.readInt();
+            } catch (EOFException e) {
+                return;
+            }
+            if (magic != BinaryTraceWriter.MAGIC) {
+                throw new IOException("not a binary trace log");
+            }
+            short version = data.readShort();
+            if (version != BinaryTraceWriter.VERSION) {
+                throw new IOException("unsupported binary trace log version: " + version);
+            }
+            decodeDump(data, out);
+        }
+    }
+
+    private static void decodeDump(DataInputStream data, PrintStream out) throws IOException {
+        String channelId = data.readUTF();
+        String stream = data.readUTF();
+        String correlatedSourceId = data.readUTF();
+        String localAddress = data.readUTF();
+        String remoteAddress = data.readUTF();
+        long time = data.readLong();
+        String reason = data.readUTF();
+        int slotSize = data.readInt();
+        int eventCount = data.readInt();
+        byte[] events = new byte[slotSize * eventCount];
+        data.readFully(events);
+
+        String prefix = "[id: 0x" + channelId + ", correlatedSource: " + correlatedSourceId + ", host:" +
+                localAddress + " - remote:" + remoteAddress + "] ";
+        out.println("=== " + stream + " " + Instant.ofEpochMilli(time) + " " + prefix + "DUMP: " + reason + ", " +
+                            eventCount + " events");
+        ByteBuffer view = ByteBuffer.wrap(events);
+        for (int i = 0; i < eventCount; i++) {
+            int offset = i * slotSize;
+            int type = events[offset + 8] & 0xFF;
+            int length = view.getShort(offset + 10);
+            int value = view.getInt(offset + 12);
+            String captured = new String(events, offset + SLOT_HEADER_SIZE, length, StandardCharsets.UTF_8);
+            out.println(Instant.ofEpochMilli(view.getLong(offset)) + " " + prefix + describe(type, value, captured));
+        }
+    }
+
+    private static String describe(int type, int value, String captured) {
+        String direction = (type & DIRECTION_MASK) == OUTBOUND ? "OUTBOUND" : "INBOUND";
+        switch (type & ~DIRECTION_MASK) {
+            case ACTIVE:
+                return "ACTIVE";
+            case INACTIVE:
+                return "INACTIVE";
+            case EXCEPTION:
+                return "EXCEPTION: " + captured;
+            case REQUEST:
+                return direction + " REQUEST: " + captured + ", " + value + " headers";
+            case RESPONSE:
+                return direction + " RESPONSE: " + value;
+            case CONTENT:
+                return direction + " CONTENT: " + value + "B " + captured;
+            case LAST_CONTENT:
+                return direction + " LAST_CONTENT: " + value + "B " + captured;
+            case BYTES:
+                return direction + ": " + value + "B " + captured;
+            default:
+                return direction + ": " + captured;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.tracelog;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@code BinaryTraceRecorder} records the traffic of a single connection into a fixed size ring buffer of compact
+ * binary events. Nothing is formatted or written while the connection is healthy; the last recorded events are handed
+ * over to the {@link BinaryTraceWriter} only when the connection fails, either with an exception or with a 5xx
+ * response. Instances are confined to the event loop of their channel.
+ * <p>
+ * Each event occupies a slot of {@code SLOT_HEADER_SIZE + payloadBytes} bytes: the epoch millis (8 bytes), the event
+ * type (1 byte), a reserved byte, the captured length (2 bytes), an event specific value (4 bytes) and the captured
+ * bytes.
+ *
+ * @since 2.3.0
+ */
+public final class BinaryTraceRecorder {
+
+    static final int SLOT_HEADER_SIZE = 16;
+
+    static final int INBOUND = 0x00;
+    static final int OUTBOUND = 0x80;
+    static final int DIRECTION_MASK = 0x80;
+
+    static final int ACTIVE = 1;
+    static final int INACTIVE = 2;
+    static final int EXCEPTION = 3;
+    static final int REQUEST = 4;
+    static final int RESPONSE = 5;
+    static final int CONTENT = 6;
+    static final int LAST_CONTENT = 7;
+    static final int BYTES = 8;
+    static final int OTHER = 9;
+
+    private final BinaryTraceConfig config;
+    private final String stream;
+    private String correlatedSourceId = "n/a";
+    private boolean samplingDecided;
+    private byte[] slots;
+    private ByteBuffer slotView;
+    private int slotSize;
+    private long count;
+    private int failedStatus;
+
+    public BinaryTraceRecorder(BinaryTraceConfig config, String stream) {
+        this.config = config;
+        this.stream = stream;
+    }
+
+    public void setCorrelatedSourceId(String correlatedSourceId) {
+        this.correlatedSourceId = correlatedSourceId;
+    }
+
+    /**
+     * Records a message read from the channel.
+     *
+     * @param ctx the channel handler context
+     * @param msg the message
+     */
+    public void inbound(ChannelHandlerContext ctx, Object msg) {
+        message(ctx, INBOUND, msg);
+    }
+
+    /**
+     * Records a message written to the channel.
+     *
+     * @param ctx the channel handler context
+     * @param msg the message
+     */
+    public void outbound(ChannelHandlerContext ctx, Object msg) {
+        message(ctx, OUTBOUND, msg);
+    }
+
+    public void channelActive() {
+        if (isSampled(null)) {
+            event(INBOUND | ACTIVE, 0);
+        }
+    }
+
+    /**
+     * Records the closure of the channel and dumps the recorded events if the connection has failed.
+     *
+     * @param ctx the channel handler context
+     */
+    public void channelInactive(ChannelHandlerContext ctx) {
+        if (slots == null) {
+            return;
+        }
+        event(INBOUND | INACTIVE, 0);
+        if (failedStatus != 0) {
+            dump(ctx, "HTTP " + failedStatus);
+        }
+    }
+
+    /**
+     * Records the exception and dumps the recorded events of the connection.
+     *
+     * @param ctx   the channel handler context
+     * @param cause the exception
+     */
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        if (slots == null) {
+            return;
+        }
+        String name = cause.getClass().getName();
+        event(INBOUND | EXCEPTION, 0, cause.getMessage() == null ? name : name + ": " + cause.getMessage());
+        dump(ctx, name);
+    }
+
+    private void message(ChannelHandlerContext ctx, int direction, Object msg) {
+        if (!isSampled(msg)) {
+            return;
+        }
+        if (msg instanceof HttpRequest) {
+            HttpRequest request = (HttpRequest) msg;
+            event(direction | REQUEST, request.headers().size(), request.method().name(), request.uri());
+        } else if (msg instanceof HttpResponse) {
+            int status = ((HttpResponse) msg).status().code();
+            event(direction | RESPONSE, status);
+            if (status >= 500) {
+                failedStatus = status;
+            }
+        }
+        if (msg instanceof HttpContent) {
+            ByteBuf content = ((HttpContent) msg).content();
+            boolean last = msg instanceof LastHttpContent;
+            event(direction | (last ? LAST_CONTENT : CONTENT), content.readableBytes(), content);
+            if (last && failedStatus != 0) {
+                dump(ctx, "HTTP " + failedStatus);
+            }
+        } else if (msg instanceof ByteBuf) {
+            ByteBuf buf = (ByteBuf) msg;
+            event(direction | BYTES, buf.readableBytes(), buf);
+        } else if (msg instanceof ByteBufHolder) {
+            ByteBuf content = ((ByteBufHolder) msg).content();
+            event(direction | CONTENT, content.readableBytes(), content);
+        } else if (!(msg instanceof HttpMessage)) {
+            event(direction | OTHER, 0, msg.getClass().getSimpleName());
+        }
+    }
+
+    private boolean isSampled(Object msg) {
+        if (slots != null) {
+            return true;
+        }
+        boolean sampled = false;
+        if (!samplingDecided) {
+            samplingDecided = true;
+            sampled = config.sampleConnection();
+        }
+        if (!sampled && config.getSamplingHeader() != null && msg instanceof HttpRequest) {
+            sampled = ((HttpRequest) msg).headers().contains(config.getSamplingHeader());
+        }
+        if (sampled) {
+            slotSize = SLOT_HEADER_SIZE + config.getPayloadBytes();
+            slots = new byte[config.getBufferSize() * slotSize];
+            slotView = ByteBuffer.wrap(slots);
+        }
+        return sampled;
+    }
+
+    private int nextSlot(int type, int value) {
+        int offset = (int) (count++ % config.getBufferSize()) * slotSize;
+        slotView.putLong(offset, System.currentTimeMillis());
+        slots[offset + 8] = (byte) type;
+        slots[offset + 9] = 0;
+        slotView.putInt(offset + 12, value);
+        return offset;
+    }
+
+    private void event(int type, int value) {
+        int offset = nextSlot(type, value);
+        slotView.putShort(offset + 10, (short) 0);
+    }
+
+    private void event(int type, int value, ByteBuf buf) {
+        int offset = nextSlot(type, value);
+        int length = Math.min(buf.readableBytes(), config.getPayloadBytes());
+        buf.getBytes(buf.readerIndex(), slots, offset + SLOT_HEADER_SIZE, length);
+        slotView.putShort(offset + 10, (short) length);
+    }
+
+    private void event(int type, int value, CharSequence text) {
+        int offset = nextSlot(type, value);
+        slotView.putShort(offset + 10, (short) putAscii(text, offset + SLOT_HEADER_SIZE, 0));
+    }
+
+    private void event(int type, int value, CharSequence first, CharSequence second) {
+        int offset = nextSlot(type, value);
+        int start = offset + SLOT_HEADER_SIZE;
+        int length = putAscii(first, start, 0);
+        if (length < config.getPayloadBytes()) {
+            slots[start + length++] = ' ';
+        }
+        slotView.putShort(offset + 10, (short) putAscii(second, start, length));
+    }
+
+    private int putAscii(CharSequence text, int start, int position) {
+        int limit = Math.min(config.getPayloadBytes(), position + text.length());
+        for (int i = 0; position < limit; i++, position++) {
+            char c = text.charAt(i);
+            slots[start + position] = c < 0x80 ? (byte) c : (byte) '?';
+        }
+        return position;
+    }
+
+    private void dump(ChannelHandlerContext ctx, String reason) {
+        int size = (int) Math.min(count, config.getBufferSize());
+        byte[] events = new byte[size * slotSize];
+        long first = count - size;
+        for (int i = 0; i < size; i++) {
+            int offset = (int) ((first + i) % config.getBufferSize()) * slotSize;
+            System.arraycopy(slots, offset, events, i * slotSize, slotSize);
+        }
+        count = 0;
+        failedStatus = 0;
+        BinaryTraceWriter.submit(config.getPath(), new BinaryTraceWriter.Dump(
+                ctx.channel().id().asShortText(), stream, correlatedSourceId,
+                String.valueOf(ctx.channel().localAddress()), String.valueOf(ctx.channel().remoteAddress()),
+                System.currentTimeMillis(), reason, slotSize, size, events));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.tracelog;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code BinaryTraceWriter} appends the dumps of failing connections to the binary trace log file. Dumps are written
+ * by a single background thread so that the event loops never block on the file system; when the writer falls behind,
+ * new dumps are dropped rather than queued without bound.
+ * <p>
+ * Each dump is written as the magic number, the format version, the channel id, the trace stream, the correlated
+ * source id, the local and remote addresses, the dump time, the reason, the slot size, the event count and the
+ * events, in that order. {@link BinaryTraceDecoder} reads the file back.
+ *
+ * @since 2.3.0
+ */
+final class BinaryTraceWriter {
+
+    static final int MAGIC = 0x48545243;
+    static final short VERSION = 1;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryTraceWriter.class);
+    private static final int MAX_PENDING_DUMPS = 1024;
+    private static final LongAdder DROPPED_DUMPS = new LongAdder();
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_PENDING_DUMPS),
+            new DefaultThreadFactory("http-binary-trace-writer", true), (task, executor) -> {
+                DROPPED_DUMPS.increment();
+                LOG.debug("Binary trace log writer is saturated, dropped a connection dump");
+            });
+
+    private BinaryTraceWriter() {
+    }
+
+    static void submit(String path, Dump dump) {
+        EXECUTOR.execute(() -> {
+            try {
+                write(path, dump);
+            } catch (IOException e) {
+                LOG.warn("Failed to write the binary trace log to {}: {}", path, e.getMessage());
+            }
+        });
+    }
+
+    static long getDroppedDumps() {
+        return DROPPED_DUMPS.sum();
+    }
+
+    static void write(String path, Dump dump) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path, true)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(dump.channelId);
+            out.writeUTF(dump.stream);
+            out.writeUTF(dump.correlatedSourceId);
+            out.writeUTF(dump.localAddress);
+            out.writeUTF(dump.remoteAddress);
+            out.writeLong(dump.time);
+            out.writeUTF(dump.reason);
+            out.writeInt(dump.slotSize);
+            out.writeInt(dump.eventCount);
+            out.write(dump.events);
+        }
+    }
+
+    /**
+     * The recorded events of a failing connection.
+     */
+    static final class Dump {
+        private final String channelId;
+        private final String stream;
+        private final String correlatedSourceId;
+        private final String localAddress;
+        private final String remoteAddress;
+        private final long time;
+        private final String reason;
+        private final int slotSize;
+        private final int eventCount;
+        private final byte[] events;
+
+        Dump(String channelId, String stream, String correlatedSourceId, String localAddress,
+             String remoteAddress, long time, String reason, int slotSize, int eventCount, byte[] events) {
+            this.channelId = channelId;
+            this.stream = stream;
+            this.correlatedSourceId = correlatedSourceId;
+            this.localAddress = localAddress;
+            this.remoteAddress = remoteAddress;
+            this.time = time;
+            this.reason = reason;
+            this.slotSize = slotSize;
+            this.eventCount = eventCount;
+            this.events = events;
+        }
+    }
+}
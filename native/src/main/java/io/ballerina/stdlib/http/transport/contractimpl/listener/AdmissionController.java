@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.AdmissionConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code AdmissionController} limits the number of requests processed concurrently by a listener or a resource, so
+ * that requests received during an overload are rejected right away instead of queueing until they time out.
+ * <p>
+ * With adaptive limiting, the limit starts from the configured maximum and is adjusted once per window of completed
+ * requests (AIMD). It is cut by a tenth when the mean latency of the window exceeds twice the baseline latency, i.e.
+ * when requests start to queue, and raised by one when the latency is fine and the limit was at least half used.
+ * The baseline follows the lowest mean latency seen and slowly drifts towards the current one, so that a lasting
+ * change of the service time is eventually accepted as the new normal.
+ *
+ * @since 2.3.0
+ */
+public class AdmissionController implements AdmissionControllerMBean {
+
+    public static final String MBEAN_CATEGORY = "Admission";
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double DECREASE_FACTOR = 0.9;
+    private static final int MIN_WINDOW_SIZE = 10;
+    private static final int BASELINE_DRIFT = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final long retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile int limit;
+
+    // Adaptive limiting state, guarded by this
+    private int windowSize;
+    private long windowLatencySum;
+    private int windowMaxInFlight;
+    private long baselineLatency;
+
+    public AdmissionController(AdmissionConfig config) {
+        this.maxLimit = config.getMaxInFlightRequests();
+        this.minLimit = Math.min(Math.max(config.getMinInFlightRequests(), 1), maxLimit);
+        this.adaptive = config.isAdaptive();
+        this.retryAfter = config.getRetryAfter();
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Admits a request unless the limit is reached.
+     *
+     * @return true if the request is admitted, in which case it must be released once completed
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Admits a request regardless of the limit. This is for requests which can't be rejected, yet have to be
+     * accounted for.
+     */
+    public void acquire() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Releases a request which was not served, without taking its latency into account.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Releases a request which was served.
+     *
+     * @param latencyNanos time taken to serve the request
+     */
+    public void release(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        if (adaptive) {
+            adjustLimit(latencyNanos, current);
+        }
+    }
+
+    private synchronized void adjustLimit(long latencyNanos, int inFlightCount) {
+        windowSize++;
+        windowLatencySum += latencyNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightCount);
+        int currentLimit = limit;
+        if (windowSize < Math.max(currentLimit, MIN_WINDOW_SIZE)) {
+            return;
+        }
+        long meanLatency = windowLatencySum / windowSize;
+        if (baselineLatency == 0 || meanLatency < baselineLatency) {
+            baselineLatency = meanLatency;
+        } else {
+            baselineLatency += (meanLatency - baselineLatency) / BASELINE_DRIFT;
+        }
+        if (meanLatency > baselineLatency * LATENCY_TOLERANCE) {
+            limit = Math.max(minLimit, (int) (currentLimit * DECREASE_FACTOR));
+        } else if (windowMaxInFlight * 2 >= currentLimit) {
+            limit = Math.min(maxLimit, currentLimit + 1);
+        }
+        windowSize = 0;
+        windowLatencySum = 0;
+        windowMaxInFlight = 0;
+    }
+
+    /**
+     * @return the value in seconds of the {@code Retry-After} header of the responses sent for rejected requests
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    @Override
+    public long getRejectedRequests() {
+        return rejected.sum();
+    }
+}
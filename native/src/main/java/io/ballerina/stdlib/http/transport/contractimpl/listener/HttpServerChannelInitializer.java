@@ -17,13 +17,18 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.AdmissionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.RateLimitConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.BackPressureHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
 import io.ballerina.stdlib.http.transport.contractimpl.common.Util;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.http2.Http2ExceptionHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetricsRegistry;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLConfig;
 import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.SSLHandlerFactory;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceConnectionHandlerBuilder;
@@ -54,15 +59,16 @@ import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.AsciiString;
 import io.netty.util.concurrent.EventExecutorGroup;
-import org.bouncycastle.cert.ocsp.OCSPResp;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.security.KeyStoreException;
 import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
 import java.util.concurrent.TimeUnit;
 
+import javax.management.ObjectName;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 
@@ -86,6 +92,12 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
     private long socketIdleTimeout;
     private boolean httpTraceLogEnabled;
     private boolean httpAccessLogEnabled;
+    private boolean requestMetricsEnabled;
+    private volatile RequestMetrics requestMetrics;
+    private String metricsEndpointPath;
+    private AdmissionController admissionController;
+    private RateLimitConfig rateLimitConfig;
+    private RateLimiter rateLimiter;
     private ChunkConfig chunkConfig;
     private KeepAliveConfig keepAliveConfig;
     private String interfaceId;
@@ -99,10 +111,10 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
     private InboundMsgSizeValidationConfig reqSizeValidationConfig;
     private boolean http2Enabled = false;
     private boolean validateCertEnabled;
-    private int cacheDelay;
-    private int cacheSize;
     private ChannelGroup allChannels;
     private boolean ocspStaplingEnabled = false;
+    private volatile OCSPStaplingManager ocspStaplingManager;
+    private volatile ReferenceCountedOpenSslContext ocspStaplingSslContext;
     private boolean pipeliningEnabled;
     private long pipeliningLimit;
     private EventExecutorGroup pipeliningGroup;
@@ -118,13 +130,10 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         if (http2Enabled) {
             if (sslHandlerFactory != null) {
                 if (ocspStaplingEnabled) {
-                    OCSPResp response = getOcspResponse();
-
                     ReferenceCountedOpenSslContext context = (ReferenceCountedOpenSslContext) keystoreHttp2SslContext;
                     SslHandler sslHandler = context.newHandler(ch.alloc());
 
-                    ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslHandler.engine();
-                    engine.setOcspResponse(response.getEncoded());
+                    attachOcspStaple((ReferenceCountedOpenSslEngine) sslHandler.engine());
                     setSslHandshakeTimeOut(sslConfig, sslHandler);
                     ch.pipeline()
                             .addLast(sslHandler, new Http2PipelineConfiguratorForServer(this, sslHandler.engine()));
@@ -147,32 +156,62 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         }
     }
 
-    private OCSPResp getOcspResponse()
-            throws IOException, KeyStoreException, CertificateVerificationException, CertificateException {
-        OCSPResp response = OCSPResponseBuilder.generateOcspResponse(sslConfig, cacheSize, cacheDelay);
+    /**
+     * Starts keeping an OCSP response ready for stapling, if the listener staples one.
+     */
+    void startOcspStapling() {
+        if (!ocspStaplingEnabled || sslConfig == null || ocspStaplingManager != null) {
+            return;
+        }
         if (!OpenSsl.isAvailable()) {
             throw new IllegalStateException("OpenSSL is not available!");
         }
         if (!OpenSsl.isOcspSupported()) {
             throw new IllegalStateException("OCSP is not supported!");
         }
-        return response;
+        try {
+            X509Certificate[] certificateAndIssuer = OCSPResponseBuilder.getCertificateAndIssuer(sslConfig);
+            if (certificateAndIssuer == null) {
+                throw new CertificateVerificationException("Could not get revocation status from OCSP.");
+            }
+            ocspStaplingManager = new OCSPStaplingManager(interfaceId, certificateAndIssuer[0],
+                                                          certificateAndIssuer[1]);
+            if (!http2Enabled) {
+                // Built once, since every handshake of the listener uses the same context
+                ocspStaplingSslContext = sslHandlerFactory.getServerReferenceCountedOpenSslContext(true);
+            }
+        } catch (CertificateVerificationException | KeyStoreException | IOException | CertificateException e) {
+            throw new IllegalStateException("Cannot staple OCSP responses for listener " + interfaceId, e);
+        }
+        ocspStaplingManager.start();
     }
 
-    private void configureSslForHttp(ChannelPipeline serverPipeline, SocketChannel ch)
-            throws CertificateVerificationException, KeyStoreException, IOException, CertificateException {
+    void stopOcspStapling() {
+        if (ocspStaplingManager != null) {
+            ocspStaplingManager.stop();
+            ocspStaplingManager = null;
+        }
+        if (ocspStaplingSslContext != null) {
+            ocspStaplingSslContext.release();
+            ocspStaplingSslContext = null;
+        }
+    }
+
+    private void attachOcspStaple(ReferenceCountedOpenSslEngine engine) {
+        byte[] staple = ocspStaplingManager != null ? ocspStaplingManager.getStaple() : null;
+        if (staple != null) {
+            engine.setOcspResponse(staple);
+        }
+    }
+
+    private void configureSslForHttp(ChannelPipeline serverPipeline, SocketChannel ch) {
         SSLEngine sslEngine;
         SslHandler sslHandler;
         if (ocspStaplingEnabled) {
-            OCSPResp response = getOcspResponse();
-
-            ReferenceCountedOpenSslContext context = sslHandlerFactory
-                    .getServerReferenceCountedOpenSslContext(ocspStaplingEnabled);
-            sslHandler = context.newHandler(ch.alloc());
+            sslHandler = ocspStaplingSslContext.newHandler(ch.alloc());
             sslEngine = sslHandler.engine();
 
-            ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslEngine;
-            engine.setOcspResponse(response.getEncoded());
+            attachOcspStaple((ReferenceCountedOpenSslEngine) sslEngine);
             setSslHandshakeTimeOut(sslConfig, sslHandler);
             ch.pipeline().addLast(sslHandler);
         } else {
@@ -188,7 +227,8 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             serverPipeline.addLast(Constants.SSL_HANDLER, sslHandler);
             if (validateCertEnabled) {
                 serverPipeline.addLast(Constants.HTTP_CERT_VALIDATION_HANDLER,
-                        new CertificateValidationHandler(sslEngine, cacheDelay, cacheSize));
+                        new CertificateValidationHandler(sslEngine, sslConfig.getCacheValidityPeriod(),
+                                sslConfig.getCacheSize()));
             }
         }
         serverPipeline.addLast(Constants.SSL_COMPLETION_HANDLER,
@@ -202,7 +242,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
      * @param initialHttpScheme initial http scheme
      */
     public void configureHttpPipeline(ChannelPipeline serverPipeline, String initialHttpScheme) {
-
+        Util.addFlushConsolidationHandler(serverPipeline);
         if (initialHttpScheme.equals(Constants.HTTP_SCHEME)) {
             serverPipeline.addLast(Constants.HTTP_ENCODER, new HttpResponseEncoder());
             serverPipeline.addLast(Constants.HTTP_DECODER,
@@ -230,10 +270,19 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
                                new WebSocketServerHandshakeHandler(this.serverConnectorFuture,
                                                                    webSocketCompressionEnabled));
         serverPipeline.addLast(Constants.BACK_PRESSURE_HANDLER, new BackPressureHandler());
-        serverPipeline.addLast(Constants.HTTP_SOURCE_HANDLER,
-                               new SourceHandler(this.serverConnectorFuture, this.interfaceId, this.chunkConfig,
-                                                 keepAliveConfig, this.serverName, this.allChannels,
-                                       this.pipeliningEnabled, this.pipeliningLimit, this.pipeliningGroup));
+        SourceHandler sourceHandler = new SourceHandler(this.serverConnectorFuture, this.interfaceId,
+                                                        this.chunkConfig, keepAliveConfig, this.serverName,
+                                                        this.allChannels, this.pipeliningEnabled,
+                                                        this.pipeliningLimit, this.pipeliningGroup);
+        sourceHandler.setRequestMetrics(getRequestMetrics());
+        sourceHandler.setMetricsEndpointPath(metricsEndpointPath);
+        sourceHandler.setAdmissionController(admissionController);
+        serverPipeline.addLast(Constants.HTTP_SOURCE_HANDLER, sourceHandler);
+        if (rateLimiter != null) {
+            serverPipeline.addBefore(Constants.HTTP_SOURCE_HANDLER, Constants.RATE_LIMIT_HANDLER,
+                                     new RateLimitHandler(rateLimiter, rateLimitConfig, keepAliveConfig,
+                                                          this.serverName));
+        }
         if (socketIdleTimeout >= 0) {
             serverPipeline.addBefore(Constants.HTTP_SOURCE_HANDLER, Constants.IDLE_STATE_HANDLER,
                                      new IdleStateHandler(0, 0, socketIdleTimeout, TimeUnit.MILLISECONDS));
@@ -247,6 +296,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
      * @param pipeline the channel pipeline
      */
     private void configureH2cPipeline(ChannelPipeline pipeline) {
+        Util.addFlushConsolidationHandler(pipeline);
         // Add handler to handle http2 requests without an upgrade
         pipeline.addLast(new Http2WithPriorKnowledgeHandler(
                 interfaceId, serverName, serverConnectorFuture, this));
@@ -310,8 +360,51 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         return httpAccessLogEnabled;
     }
 
+    void setRequestMetricsEnabled(boolean requestMetricsEnabled) {
+        this.requestMetricsEnabled = requestMetricsEnabled;
+    }
+
+    /**
+     * Returns the metrics of this listener. They are looked up on first use since the interface id is only known
+     * once the server connector has been created.
+     *
+     * @return the listener metrics, null if request metrics are disabled
+     */
+    public RequestMetrics getRequestMetrics() {
+        if (!requestMetricsEnabled) {
+            return null;
+        }
+        RequestMetrics metrics = requestMetrics;
+        if (metrics == null) {
+            metrics = RequestMetricsRegistry.getInstance().getListenerMetrics(interfaceId);
+            requestMetrics = metrics;
+        }
+        return metrics;
+    }
+
+    void setMetricsEndpointPath(String metricsEndpointPath) {
+        this.metricsEndpointPath = metricsEndpointPath;
+    }
+
+    void setAdmissionConfig(AdmissionConfig admissionConfig) {
+        this.admissionController = admissionConfig != null ? new AdmissionController(admissionConfig) : null;
+    }
+
+    void setRateLimitConfig(RateLimitConfig rateLimitConfig) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.rateLimiter = rateLimitConfig != null ? new RateLimiter(rateLimitConfig) : null;
+    }
+
     void setInterfaceId(String interfaceId) {
         this.interfaceId = interfaceId;
+        if (admissionController != null) {
+            MBeanRegistrar.getInstance().registerMBean(admissionController, AdmissionController.MBEAN_CATEGORY,
+                                                       ObjectName.quote(interfaceId));
+        }
+        if (rateLimiter != null) {
+            MBeanRegistrar.getInstance().registerMBean(rateLimiter, RateLimiter.MBEAN_CATEGORY,
+                                                       ObjectName.quote(interfaceId));
+        }
     }
 
     void setSslConfig(SSLConfig sslConfig) {
@@ -350,14 +443,6 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
         this.validateCertEnabled = validateCertEnabled;
     }
 
-    void setCacheDelay(int cacheDelay) {
-        this.cacheDelay = cacheDelay;
-    }
-
-    void setCacheSize(int cacheSize) {
-        this.cacheSize = cacheSize;
-    }
-
     void setServerName(String serverName) {
         this.serverName = serverName;
     }
@@ -413,6 +498,7 @@ public class HttpServerChannelInitializer extends ChannelInitializer<SocketChann
             Util.setMutualSslStatus(ctx, sslEngine);
             if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
                 // handles pipeline for HTTP/2 requests after SSL handshake
+                Util.addFlushConsolidationHandler(ctx.pipeline());
                 ctx.pipeline().addLast(
                         Constants.HTTP2_SOURCE_CONNECTION_HANDLER,
                         new Http2SourceConnectionHandlerBuilder(
@@ -18,6 +18,8 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
+import io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceConfig;
+import io.ballerina.stdlib.http.transport.contractimpl.common.tracelog.BinaryTraceRecorder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.channel.ChannelHandlerContext;
@@ -34,7 +36,8 @@ import java.nio.charset.CharsetDecoder;
 import static io.netty.util.internal.StringUtil.NEWLINE;
 
 /**
- * A custom LoggingHandler for the HTTP wire logs.
+ * A custom LoggingHandler for the HTTP wire logs. When the binary trace log mode is configured, messages are recorded
+ * into a {@link BinaryTraceRecorder} instead of being formatted, and are written out only if the connection fails.
  */
 public class HttpTraceLoggingHandler extends LoggingHandler {
 
@@ -46,39 +49,79 @@ public class HttpTraceLoggingHandler extends LoggingHandler {
     private static final String ID_0X = "[id: 0x";
 
     private String correlatedSourceId;
+    private final BinaryTraceRecorder binaryTraceRecorder;
 
     public HttpTraceLoggingHandler(LogLevel level) {
         super(level);
         correlatedSourceId = "n/a";
+        binaryTraceRecorder = createBinaryTraceRecorder(HttpTraceLoggingHandler.class.getName());
     }
 
     public HttpTraceLoggingHandler(Class<?> clazz) {
         super(clazz);
         correlatedSourceId = "n/a";
+        binaryTraceRecorder = createBinaryTraceRecorder(clazz.getName());
     }
 
     public HttpTraceLoggingHandler(Class<?> clazz, LogLevel level) {
         super(clazz, level);
         correlatedSourceId = "n/a";
+        binaryTraceRecorder = createBinaryTraceRecorder(clazz.getName());
     }
 
     public HttpTraceLoggingHandler(String name) {
         super(name, LOG_LEVEL);
         correlatedSourceId = "n/a";
+        binaryTraceRecorder = createBinaryTraceRecorder(name);
     }
 
     public HttpTraceLoggingHandler(String name, LogLevel level) {
         super(name, level);
         correlatedSourceId = "n/a";
+        binaryTraceRecorder = createBinaryTraceRecorder(name);
+    }
+
+    private static BinaryTraceRecorder createBinaryTraceRecorder(String stream) {
+        BinaryTraceConfig binaryTraceConfig = BinaryTraceConfig.get();
+        return binaryTraceConfig != null ? new BinaryTraceRecorder(binaryTraceConfig, stream) : null;
     }
 
     public void setCorrelatedSourceId(String correlatedSourceId) {
         this.correlatedSourceId = "0x" + correlatedSourceId;
+        if (binaryTraceRecorder != null) {
+            binaryTraceRecorder.setCorrelatedSourceId(this.correlatedSourceId);
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        if (binaryTraceRecorder != null) {
+            binaryTraceRecorder.channelActive();
+        }
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (binaryTraceRecorder != null) {
+            binaryTraceRecorder.channelInactive(ctx);
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        if (binaryTraceRecorder != null) {
+            binaryTraceRecorder.exceptionCaught(ctx, cause);
+        }
+        super.exceptionCaught(ctx, cause);
     }
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) {
-        if (logger.isEnabled(internalLevel)) {
+        if (binaryTraceRecorder != null) {
+            binaryTraceRecorder.inbound(ctx, msg);
+        } else if (logger.isEnabled(internalLevel)) {
             logger.log(internalLevel, format(ctx, EVENT_INBOUND, msg));
         }
         ctx.fireChannelRead(msg);
@@ -86,7 +129,9 @@ public class HttpTraceLoggingHandler extends LoggingHandler {
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
-        if (logger.isEnabled(internalLevel)) {
+        if (binaryTraceRecorder != null) {
+            binaryTraceRecorder.outbound(ctx, msg);
+        } else if (logger.isEnabled(internalLevel)) {
             logger.log(internalLevel, format(ctx, EVENT_OUTBOUND, msg));
         }
         ctx.write(msg, promise);
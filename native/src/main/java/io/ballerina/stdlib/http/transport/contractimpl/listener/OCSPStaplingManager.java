@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.MBeanRegistrar;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationHttpClient;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.cache.CacheManager;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.OCSPVerifier;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.SingleResp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.management.ObjectName;
+
+/**
+ * {@code OCSPStaplingManager} keeps the OCSP response a listener staples to its TLS handshakes. The response for the
+ * listener certificate is fetched in the background when the listener starts and fetched again before its
+ * nextUpdate, so that channels only attach encoded bytes which are already at hand. If the responder cannot be
+ * reached, the last good response keeps being stapled for as long as it is valid.
+ *
+ * @since 2.3.0
+ */
+public class OCSPStaplingManager implements OCSPStaplingManagerMBean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OCSPStaplingManager.class);
+    private static final String MBEAN_CATEGORY = "OCSPStapling";
+    private static final long MIN_RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long DEFAULT_REFRESH_DELAY_MILLIS =
+            TimeUnit.MINUTES.toMillis(Constants.CACHE_DEFAULT_DELAY_MINS);
+
+    private final String listenerId;
+    private final X509Certificate userCertificate;
+    private final X509Certificate issuer;
+    private final List<String> locations;
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private volatile Staple staple;
+    private volatile ScheduledFuture<?> scheduledRefresh;
+    private volatile boolean stopped;
+    private long retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+
+    OCSPStaplingManager(String listenerId, X509Certificate userCertificate, X509Certificate issuer)
+            throws CertificateVerificationException {
+        this.listenerId = listenerId;
+        this.userCertificate = userCertificate;
+        this.issuer = issuer;
+        this.locations = OCSPResponseBuilder.getAIALocations(userCertificate);
+    }
+
+    /**
+     * Starts fetching the response. Handshakes carry no staple until the first response arrives.
+     */
+    void start() {
+        MBeanRegistrar.getInstance().registerMBean(this, MBEAN_CATEGORY, ObjectName.quote(listenerId));
+        scheduleRefresh(0);
+    }
+
+    void stop() {
+        stopped = true;
+        ScheduledFuture<?> refresh = scheduledRefresh;
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+        MBeanRegistrar.getInstance().unRegisterMBean(MBEAN_CATEGORY, ObjectName.quote(listenerId));
+    }
+
+    /**
+     * Returns the encoded response to staple to a handshake.
+     *
+     * @return the encoded OCSP response, or null if no valid response is available
+     */
+    byte[] getStaple() {
+        Staple current = staple;
+        if (current == null || current.nextUpdate <= System.currentTimeMillis()) {
+            return null;
+        }
+        return current.encoded;
+    }
+
+    @Override
+    public long getStapleAgeSeconds() {
+        Staple current = staple;
+        return current == null ? -1 : TimeUnit.MILLISECONDS.toSeconds(
+                System.currentTimeMillis() - current.thisUpdate);
+    }
+
+    @Override
+    public long getStapleRemainingSeconds() {
+        Staple current = staple;
+        if (current == null) {
+            return -1;
+        }
+        return Math.max(0, TimeUnit.MILLISECONDS.toSeconds(current.nextUpdate - System.currentTimeMillis()));
+    }
+
+    @Override
+    public boolean isStapleAvailable() {
+        return getStaple() != null;
+    }
+
+    @Override
+    public long getRefreshFailureCount() {
+        return refreshFailures.get();
+    }
+
+    /**
+     * Fetches the response once. The next fetch is scheduled when this one completes.
+     */
+    void refresh() {
+        if (stopped) {
+            return;
+        }
+        OCSPReq request;
+        try {
+            request = OCSPVerifier.generateOCSPRequest(issuer, userCertificate.getSerialNumber());
+        } catch (CertificateVerificationException e) {
+            onRefreshFailure(e);
+            return;
+        }
+        fetch(request, 0).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                onRefreshFailure(throwable);
+            } else {
+                onRefreshSuccess(response);
+            }
+        });
+    }
+
+    /**
+     * Asks the responders listed in the certificate one after the other until one of them gives a usable answer.
+     */
+    private CompletableFuture<OCSPResp> fetch(OCSPReq request, int index) {
+        CompletableFuture<OCSPResp> attempt = OCSPVerifier.getOCSPResponseAsync(locations.get(index), request)
+                .thenApply(this::checkResponse);
+        if (index + 1 >= locations.size()) {
+            return attempt;
+        }
+        return attempt.handle((response, throwable) -> throwable == null
+                ? CompletableFuture.completedFuture(response) : fetch(request, index + 1))
+                .thenCompose(Function.identity());
+    }
+
+    private OCSPResp checkResponse(OCSPResp response) {
+        try {
+            SingleResp singleResponse = OCSPVerifier.getSingleResponse(response);
+            if (singleResponse.getCertStatus() != CertificateStatus.GOOD) {
+                throw new CertificateVerificationException("certificate-status=" + singleResponse.getCertStatus());
+            }
+            //User certificates serial number and response coming from CA needs to be same.
+            if (!userCertificate.getSerialNumber().equals(singleResponse.getCertID().getSerialNumber())) {
+                throw new CertificateVerificationException("Bad Serials=" + userCertificate.getSerialNumber() +
+                        " vs. " + singleResponse.getCertID().getSerialNumber());
+            }
+            return response;
+        } catch (CertificateVerificationException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void onRefreshSuccess(OCSPResp response) {
+        SingleResp singleResponse;
+        byte[] encoded;
+        try {
+            singleResponse = OCSPVerifier.getSingleResponse(response);
+            encoded = response.getEncoded();
+        } catch (CertificateVerificationException | IOException e) {
+            onRefreshFailure(e);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long thisUpdate = singleResponse.getThisUpdate() != null ? singleResponse.getThisUpdate().getTime() : now;
+        long nextUpdate = singleResponse.getNextUpdate() != null ? singleResponse.getNextUpdate().getTime()
+                : Long.MAX_VALUE;
+        staple = new Staple(encoded, thisUpdate, nextUpdate);
+        retryDelayMillis = MIN_RETRY_DELAY_MILLIS;
+
+        // A response without a nextUpdate is always current, so it is renewed at the default cache interval
+        long refreshDelay = singleResponse.getNextUpdate() != null
+                ? CacheManager.getRefreshTime(singleResponse.getThisUpdate(), singleResponse.getNextUpdate()) - now
+                : DEFAULT_REFRESH_DELAY_MILLIS;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("OCSP staple of listener {} refreshed. Next refresh in {} ms", listenerId, refreshDelay);
+        }
+        scheduleRefresh(Math.max(refreshDelay, MIN_RETRY_DELAY_MILLIS));
+    }
+
+    private void onRefreshFailure(Throwable throwable) {
+        refreshFailures.incrementAndGet();
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        LOG.warn("Could not refresh the OCSP staple of listener {}. {}", listenerId,
+                 staple != null ? "The last good response is still stapled." : "No response is stapled yet.", cause);
+        long delay = retryDelayMillis;
+        retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+        scheduleRefresh(delay);
+    }
+
+    private void scheduleRefresh(long delayMillis) {
+        if (!stopped) {
+            scheduledRefresh = RevocationHttpClient.executor().schedule(this::refresh, delayMillis,
+                                                                       TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * An encoded response along with its validity period.
+     */
+    private static class Staple {
+
+        private final byte[] encoded;
+        private final long thisUpdate;
+        private final long nextUpdate;
+
+        Staple(byte[] encoded, long thisUpdate, long nextUpdate) {
+            this.encoded = encoded;
+            this.thisUpdate = thisUpdate;
+            this.nextUpdate = nextUpdate;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+/**
+ * Bean interface exposing the state of the OCSP response stapled by a listener.
+ *
+ * @since 2.3.0
+ */
+public interface OCSPStaplingManagerMBean {
+
+    /**
+     * @return seconds since the stapled response was produced by the responder, or -1 if nothing is stapled
+     */
+    long getStapleAgeSeconds();
+
+    /**
+     * @return seconds until the stapled response reaches its nextUpdate, or -1 if nothing is stapled
+     */
+    long getStapleRemainingSeconds();
+
+    boolean isStapleAvailable();
+
+    long getRefreshFailureCount();
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.EXPECTED_SEQUENCE_NUMBER;
+import static io.ballerina.stdlib.http.transport.contract.Constants.NUMBER_OF_INITIAL_EVENTS_HELD;
+import static io.ballerina.stdlib.http.transport.contract.Constants.UNBOUNDED_RESPONSE_QUEUE;
+
+/**
+ * {@code PipeliningSequencer} keeps HTTP/1.1 pipelined responses of a single connection in request order.
+ * <p>
+ * Responses that become ready before their turn are parked in a ring indexed by their sequence id. The ring, the
+ * queued count and the next sequence number are only ever modified on the event loop of the connection, so no lock
+ * is needed. The only state shared with the threads that produce the responses is the next sequence number, which
+ * is published through a volatile read, and a claim flag that makes sure a single response is written at a time.
+ * A producer whose response is next in line and finds the connection idle claims it with {@link #tryClaim(long)}
+ * and writes the response on its own thread without going through the event loop.
+ *
+ * @param <T> type of the pipelined response
+ * @since 2.3.0
+ */
+public class PipeliningSequencer<T> {
+
+    private final long maxQueuedResponses;
+    private final AtomicBoolean claimed = new AtomicBoolean(false);
+    private volatile long nextSequenceNumber = EXPECTED_SEQUENCE_NUMBER;
+
+    // Accessed only from the event loop of the connection
+    private Object[] slots;
+    private long[] slotSequenceIds;
+    private int queuedCount;
+
+    public PipeliningSequencer(long maxQueuedResponses) {
+        this.maxQueuedResponses = maxQueuedResponses;
+        int capacity = Integer.highestOneBit(NUMBER_OF_INITIAL_EVENTS_HELD) << 1;
+        this.slots = new Object[capacity];
+        this.slotSequenceIds = new long[capacity];
+    }
+
+    /**
+     * Claims the connection for the response with the given sequence id if it is the next one to be written and no
+     * other response is being written. This is safe to be called from any thread.
+     *
+     * @param sequenceId sequence id of the response
+     * @return true if the caller may write the response
+     */
+    public boolean tryClaim(long sequenceId) {
+        return nextSequenceNumber == sequenceId && claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * Checks whether the turn of the given sequence id has already passed, in which case a response with it can no
+     * longer be written. This is safe to be called from any thread.
+     *
+     * @param sequenceId sequence id of the response
+     * @return true if the sequence id has already been served
+     */
+    public boolean isServed(long sequenceId) {
+        return sequenceId < nextSequenceNumber;
+    }
+
+    /**
+     * Hands over a response that could not be claimed by its producer. Must be called on the event loop.
+     *
+     * @param sequenceId sequence id of the response
+     * @param response   the pipelined response
+     * @return the response itself if it got claimed, in which case the caller must write it, or null if it was
+     * parked until its turn comes
+     * @throws IllegalArgumentException if the sequence id has already been served, so that the caller releases the
+     *                                  response instead of it being dropped unnoticed
+     */
+    public T offer(long sequenceId, T response) {
+        if (tryClaim(sequenceId)) {
+            return response;
+        }
+        long distance = sequenceId - nextSequenceNumber;
+        if (distance < 0) {
+            throw new IllegalArgumentException("Pipelined response sequence has already been served: " + sequenceId);
+        }
+        if (distance >= slots.length) {
+            resize(distance);
+        }
+        int index = (int) (sequenceId & (slots.length - 1));
+        if (slots[index] == null) {
+            queuedCount++;
+        }
+        slots[index] = response;
+        slotSequenceIds[index] = sequenceId;
+        return null;
+    }
+
+    /**
+     * Marks the response that is currently being written as completed and moves on to the next sequence number.
+     * Must be called on the event loop once the last content of the response has been written.
+     */
+    public void complete() {
+        // Single writer, hence the increment need not be atomic. The sequence number must be published before the
+        // claim is released so that a producer never claims the connection based on a stale sequence number.
+        nextSequenceNumber = nextSequenceNumber + 1;
+        claimed.set(false);
+    }
+
+    /**
+     * Claims the parked response that is next in line, if there is one. Must be called on the event loop.
+     *
+     * @return the next response that the caller must write or null if it is not ready yet
+     */
+    @SuppressWarnings("unchecked")
+    public T claimNext() {
+        if (queuedCount == 0) {
+            return null;
+        }
+        long sequenceId = nextSequenceNumber;
+        int index = (int) (sequenceId & (slots.length - 1));
+        Object response = slots[index];
+        if (response == null || slotSequenceIds[index] != sequenceId || !claimed.compareAndSet(false, true)) {
+            return null;
+        }
+        slots[index] = null;
+        queuedCount--;
+        return (T) response;
+    }
+
+    /**
+     * Checks whether the number of parked responses exceeds the configured limit. Must be called on the event loop.
+     *
+     * @return true if the limit is exceeded
+     */
+    public boolean thresholdReached() {
+        return maxQueuedResponses != UNBOUNDED_RESPONSE_QUEUE && queuedCount > maxQueuedResponses;
+    }
+
+    public boolean hasQueuedResponses() {
+        return queuedCount > 0;
+    }
+
+    public long getNextSequenceNumber() {
+        return nextSequenceNumber;
+    }
+
+    public long getMaxQueuedResponses() {
+        return maxQueuedResponses;
+    }
+
+    private void resize(long distance) {
+        if (distance >= Integer.MAX_VALUE >> 1) {
+            throw new IllegalStateException("Pipelined response sequence is too far ahead: " + distance);
+        }
+        int capacity = Integer.highestOneBit((int) distance) << 1;
+        Object[] newSlots = new Object[capacity];
+        long[] newSlotSequenceIds = new long[capacity];
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                int index = (int) (slotSequenceIds[i] & (capacity - 1));
+                newSlots[index] = slots[i];
+                newSlotSequenceIds[index] = slotSequenceIds[i];
+            }
+        }
+        slots = newSlots;
+        slotSequenceIds = newSlotSequenceIds;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.RateLimitConfig;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.AsciiString;
+import io.netty.util.ReferenceCountUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.isKeepAliveConnection;
+
+/**
+ * Responsible for rate limiting the requests of a connection before they are dispatched. A throttled request is
+ * answered right away with a {@code 429 - Too Many Requests} response and its entity body is discarded.
+ * <p>
+ * Responses must go out in the order of the requests, so a request is throttled only when no response is pending on
+ * the connection, i.e. the last response has been written up to the end of its body. Pipelined requests are let through, but still take a token from their bucket.
+ *
+ * @since 2.3.0
+ */
+public class RateLimitHandler extends ChannelDuplexHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RateLimitHandler.class);
+    private static final AsciiString RATE_LIMIT_LIMIT = AsciiString.cached("ratelimit-limit");
+    private static final AsciiString RATE_LIMIT_REMAINING = AsciiString.cached("ratelimit-remaining");
+    private static final AsciiString RATE_LIMIT_RESET = AsciiString.cached("ratelimit-reset");
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfig.Key key;
+    private final String headerName;
+    private final KeepAliveConfig keepAliveConfig;
+    private final String serverName;
+    private String clientAddress;
+    private int pendingResponses;
+    private boolean writingInformationalResponse;
+    private boolean discardingThrottledRequest;
+
+    RateLimitHandler(RateLimiter rateLimiter, RateLimitConfig config, KeepAliveConfig keepAliveConfig,
+                     String serverName) {
+        this.rateLimiter = rateLimiter;
+        this.key = config.getKey();
+        this.headerName = config.getHeaderName();
+        this.keepAliveConfig = keepAliveConfig;
+        this.serverName = serverName;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof HttpRequest) {
+            HttpRequest request = (HttpRequest) msg;
+            String requestKey = getKey(ctx, request);
+            long now = System.nanoTime();
+            if (pendingResponses > 0) {
+                rateLimiter.acquire(requestKey, now);
+            } else {
+                long wait = rateLimiter.tryAcquire(requestKey, now);
+                if (wait > 0) {
+                    sendTooManyRequestsResponse(ctx, request, wait);
+                    return;
+                }
+            }
+            discardingThrottledRequest = false;
+            pendingResponses++;
+        } else if (discardingThrottledRequest) {
+            discardingThrottledRequest = !(msg instanceof LastHttpContent);
+            ReferenceCountUtil.release(msg);
+            return;
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof HttpResponse) {
+            writingInformationalResponse =
+                    ((HttpResponse) msg).status().codeClass() == HttpStatusClass.INFORMATIONAL;
+        }
+        // A response is pending until its body is written, as nothing may be written in between
+        if (msg instanceof LastHttpContent) {
+            if (pendingResponses > 0 && !writingInformationalResponse) {
+                pendingResponses--;
+            }
+            writingInformationalResponse = false;
+        }
+        ctx.write(msg, promise);
+    }
+
+    private String getKey(ChannelHandlerContext ctx, HttpRequest request) {
+        switch (key) {
+            case HEADER:
+                String value = request.headers().get(headerName);
+                return value != null ? value : getClientAddress(ctx);
+            case BASE_PATH:
+                return getBasePath(request.uri());
+            default:
+                return getClientAddress(ctx);
+        }
+    }
+
+    private String getClientAddress(ChannelHandlerContext ctx) {
+        if (clientAddress == null) {
+            SocketAddress remoteAddress = ctx.channel().remoteAddress();
+            if (remoteAddress instanceof InetSocketAddress) {
+                InetSocketAddress address = (InetSocketAddress) remoteAddress;
+                clientAddress = address.getAddress() != null ? address.getAddress().getHostAddress() :
+                        address.getHostString();
+            } else {
+                clientAddress = String.valueOf(remoteAddress);
+            }
+        }
+        return clientAddress;
+    }
+
+    /**
+     * @param uri the request target, in the origin or the absolute form
+     * @return the first segment of the path of the request target, with the leading slash
+     */
+    static String getBasePath(String uri) {
+        int start = uri.indexOf('/');
+        int schemeEnd = uri.indexOf("://");
+        if (schemeEnd >= 0 && schemeEnd < start) {
+            start = uri.indexOf('/', schemeEnd + 3);
+        }
+        if (start < 0) {
+            return "/";
+        }
+        int end = start + 1;
+        while (end < uri.length()) {
+            char c = uri.charAt(end);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            end++;
+        }
+        return uri.substring(start, end);
+    }
+
+    private void sendTooManyRequestsResponse(ChannelHandlerContext ctx, HttpRequest request, long wait) {
+        HttpVersion httpVersion = request.protocolVersion();
+        boolean keepAlive = isKeepAliveConnection(keepAliveConfig,
+                                                  request.headers().get(HttpHeaderNames.CONNECTION),
+                                                  httpVersion.majorVersion() + "." + httpVersion.minorVersion());
+        FullHttpResponse response = new DefaultFullHttpResponse(httpVersion, HttpResponseStatus.TOO_MANY_REQUESTS);
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+        response.headers().set(HttpHeaderNames.RETRY_AFTER, toSeconds(wait));
+        response.headers().set(RATE_LIMIT_LIMIT, rateLimiter.getBurst());
+        response.headers().set(RATE_LIMIT_REMAINING, 0);
+        response.headers().set(RATE_LIMIT_RESET, toSeconds(rateLimiter.getResetTime(wait)));
+        if (serverName != null) {
+            response.headers().set(HttpHeaderNames.SERVER, serverName);
+        }
+        if (!keepAlive) {
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        } else if (HttpVersion.HTTP_1_0.equals(httpVersion)) {
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+        }
+        ChannelFuture outboundRespFuture = ctx.writeAndFlush(response);
+        if (!keepAlive) {
+            outboundRespFuture.addListener(ChannelFutureListener.CLOSE);
+        }
+        discardingThrottledRequest = !(request instanceof LastHttpContent);
+        ReferenceCountUtil.release(request);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Request throttled since the rate limit is reached on channel {}", ctx.channel().id());
+        }
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
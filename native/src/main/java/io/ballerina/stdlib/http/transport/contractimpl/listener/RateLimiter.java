@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.RateLimitConfig;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RateLimiter} keeps a token bucket per key and tells whether a request of a given key is within the limit.
+ * <p>
+ * A bucket is kept as its theoretical arrival time (GCRA), which is the time at which the bucket is full again. A
+ * request is accepted when that time is less than a burst ahead of now, and pushes it one emission interval further.
+ * The state of a bucket is thus a single {@code long} updated with a CAS, and a bucket whose theoretical arrival time
+ * has passed is full, so it holds no information and is evicted. The buckets are spread over shards, each of which is
+ * swept for idle buckets at most once per sweep interval by whichever request gets there first.
+ * <p>
+ * A bucket updated while being evicted loses that update, which at worst lets one extra request of that key through.
+ *
+ * @since 2.3.0
+ */
+public class RateLimiter implements RateLimiterMBean {
+
+    public static final String MBEAN_CATEGORY = "RateLimit";
+    private static final int SHARD_COUNT = 16;
+    private static final long MIN_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long emissionInterval;
+    private final long tolerance;
+    private final long sweepInterval;
+    private final int burst;
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private final LongAdder throttled = new LongAdder();
+
+    public RateLimiter(RateLimitConfig config) {
+        this(config, System.nanoTime());
+    }
+
+    RateLimiter(RateLimitConfig config, long now) {
+        this.burst = config.getBurst();
+        this.emissionInterval = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / config.getRequestsPerSecond()));
+        this.tolerance = emissionInterval * (burst - 1);
+        this.sweepInterval = Math.max(MIN_SWEEP_INTERVAL_NANOS, emissionInterval * burst);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard(now + sweepInterval);
+        }
+    }
+
+    /**
+     * Takes a token from the bucket of the given key if one is available.
+     *
+     * @param key the key of the request
+     * @param now the current {@link System#nanoTime()}
+     * @return zero if the request is accepted, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, long now) {
+        Shard shard = getShard(key);
+        AtomicLong bucket = getBucket(shard, key, now);
+        long wait;
+        while (true) {
+            long arrival = bucket.get();
+            long start = arrival - now > 0 ? arrival : now;
+            wait = start - now - tolerance;
+            if (wait > 0 || bucket.compareAndSet(arrival, start + emissionInterval)) {
+                break;
+            }
+        }
+        if (wait > 0) {
+            throttled.increment();
+        }
+        sweepIfDue(shard, now);
+        return Math.max(0, wait);
+    }
+
+    /**
+     * Takes a token from the bucket of the given key even if none is available. Used for requests that cannot be
+     * rejected, so that the bucket still accounts for them.
+     *
+     * @param key the key of the request
+     * @param now the current {@link System#nanoTime()}
+     */
+    public void acquire(String key, long now) {
+        Shard shard = getShard(key);
+        AtomicLong bucket = getBucket(shard, key, now);
+        bucket.getAndUpdate(arrival -> (arrival - now > 0 ? arrival : now) + emissionInterval);
+        sweepIfDue(shard, now);
+    }
+
+    /**
+     * @param wait the nanoseconds until a token is available, as returned by {@link #tryAcquire(String, long)}
+     * @return the nanoseconds until the bucket is full again
+     */
+    long getResetTime(long wait) {
+        return wait + tolerance;
+    }
+
+    int getBurst() {
+        return burst;
+    }
+
+    private Shard getShard(String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    private AtomicLong getBucket(Shard shard, String key, long now) {
+        AtomicLong bucket = shard.buckets.get(key);
+        return bucket != null ? bucket : shard.buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private void sweepIfDue(Shard shard, long now) {
+        long nextSweep = shard.nextSweep.get();
+        if (now - nextSweep < 0 || !shard.nextSweep.compareAndSet(nextSweep, now + sweepInterval)) {
+            return;
+        }
+        shard.buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    @Override
+    public int getBuckets() {
+        int buckets = 0;
+        for (Shard shard : shards) {
+            buckets += shard.buckets.size();
+        }
+        return buckets;
+    }
+
+    @Override
+    public long getThrottledRequests() {
+        return throttled.sum();
+    }
+
+    private static class Shard {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweep;
+
+        private Shard(long nextSweep) {
+            this.nextSweep = new AtomicLong(nextSweep);
+        }
+    }
+}
@@ -20,9 +20,11 @@ package io.ballerina.stdlib.http.transport.contractimpl.listener;
 
 import io.ballerina.stdlib.http.transport.contract.ServerConnector;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.AdmissionConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.InboundMsgSizeValidationConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.RateLimitConfig;
 import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
 import io.ballerina.stdlib.http.transport.contract.config.ServerBootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
@@ -184,6 +186,22 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setHttpAccessLogEnabled(isHttpAccessLogEnabled);
     }
 
+    public void setRequestMetricsEnabled(boolean requestMetricsEnabled) {
+        httpServerChannelInitializer.setRequestMetricsEnabled(requestMetricsEnabled);
+    }
+
+    public void setMetricsEndpointPath(String metricsEndpointPath) {
+        httpServerChannelInitializer.setMetricsEndpointPath(metricsEndpointPath);
+    }
+
+    public void setAdmissionConfig(AdmissionConfig admissionConfig) {
+        httpServerChannelInitializer.setAdmissionConfig(admissionConfig);
+    }
+
+    public void setRateLimitConfig(RateLimitConfig rateLimitConfig) {
+        httpServerChannelInitializer.setRateLimitConfig(rateLimitConfig);
+    }
+
     public void addSslHandlerFactory(SSLHandlerFactory sslHandlerFactory) {
         httpServerChannelInitializer.setSslHandlerFactory(sslHandlerFactory);
     }
@@ -208,14 +226,6 @@ public class ServerConnectorBootstrap {
         httpServerChannelInitializer.setValidateCertEnabled(validateCertEnabled);
     }
 
-    public void addCacheDelay(int cacheDelay) {
-        httpServerChannelInitializer.setCacheDelay(cacheDelay);
-    }
-
-    public void addCacheSize(int cacheSize) {
-        httpServerChannelInitializer.setCacheSize(cacheSize);
-    }
-
     public void addOcspStapling(boolean ocspStapling) {
         httpServerChannelInitializer.setOcspStaplingEnabled(ocspStapling);
     }
@@ -300,6 +310,7 @@ public class ServerConnectorBootstrap {
                 http3ServerChannelInitializer.setServerConnectorFuture(serverConnectorFuture);
             } else {
                 httpServerChannelInitializer.setServerConnectorFuture(serverConnectorFuture);
+                httpServerChannelInitializer.startOcspStapling();
             }
 
             return serverConnectorFuture;
@@ -311,6 +322,9 @@ public class ServerConnectorBootstrap {
 
             try {
                 connectorStopped = unBindInterface();
+                if (!HTTP3_VERSION.equals(httpVersion)) {
+                    httpServerChannelInitializer.stopOcspStapling();
+                }
                 if (connectorStopped) {
                     serverConnectorFuture.notifyPortUnbindingEvent(this.connectorID, isHttps);
                 }
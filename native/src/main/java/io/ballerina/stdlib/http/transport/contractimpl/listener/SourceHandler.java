@@ -25,36 +25,44 @@ import io.ballerina.stdlib.http.transport.contract.config.ChunkConfig;
 import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientClosedConnectionException;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetricsRegistry;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.ListenerReqRespStateManager;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.ReceivingHeaders;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.EventLoop;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.socket.ChannelInputShutdownReadComplete;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.ssl.SslCloseCompletionEvent;
 import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutorGroup;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.SocketAddress;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
-import static io.ballerina.stdlib.http.transport.contract.Constants.EXPECTED_SEQUENCE_NUMBER;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_BEFORE_INITIATING_INBOUND_REQUEST;
-import static io.ballerina.stdlib.http.transport.contract.Constants.NUMBER_OF_INITIAL_EVENTS_HELD;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_BEFORE_INITIATING_INBOUND_REQUEST;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.createInboundReqCarbonMsg;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.isKeepAliveConnection;
@@ -64,11 +72,11 @@ import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.isKeep
  */
 public class SourceHandler extends ChannelInboundHandlerAdapter {
     private static final Logger LOG = LoggerFactory.getLogger(SourceHandler.class);
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
 
     private HttpCarbonMessage inboundRequestMsg;
-    private final Map<Integer, HttpCarbonMessage> requestSet = new ConcurrentHashMap<>();
+    private final Set<HttpCarbonMessage> requestSet = ConcurrentHashMap.newKeySet();
     private HandlerExecutor handlerExecutor;
-    private Map<String, GenericObjectPool> targetChannelPool;
     private ChunkConfig chunkConfig;
 
     private KeepAliveConfig keepAliveConfig;
@@ -84,8 +92,11 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
     private boolean pipeliningEnabled; //Based on the pipelining config
     private long pipeliningLimit; //Max number of responses allowed to be queued when pipelining is enabled
     private long sequenceId = 1L; //Keep track of the request order for http 1.1 pipelining
-    private final Queue holdingQueue = new PriorityQueue<>(NUMBER_OF_INITIAL_EVENTS_HELD);
     private EventExecutorGroup pipeliningGroup;
+    private RequestMetrics requestMetrics;
+    private String metricsEndpointPath;
+    private AdmissionController admissionController;
+    private boolean discardingRequestBody;
 
     public SourceHandler(ServerConnectorFuture serverConnectorFuture, String interfaceId, ChunkConfig chunkConfig,
                          KeepAliveConfig keepAliveConfig, String serverName, ChannelGroup allChannels, boolean
@@ -94,7 +105,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         this.interfaceId = interfaceId;
         this.chunkConfig = chunkConfig;
         this.keepAliveConfig = keepAliveConfig;
-        this.targetChannelPool = new ConcurrentHashMap<>();
         this.idleTimeout = false;
         this.serverName = serverName;
         this.allChannels = allChannels;
@@ -108,13 +118,27 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof HttpRequest) {
             setConnectedState(false);
+            // Pipelined requests go through the listener, as their responses must go out in order
+            if (metricsEndpointPath != null && requestSet.isEmpty() && isMetricsRequest((HttpRequest) msg)) {
+                serveRequestMetrics(ctx, (HttpRequest) msg);
+                return;
+            }
+            if (admissionController != null && !admitRequest()) {
+                rejectRequest(ctx, (HttpRequest) msg);
+                return;
+            }
             inboundRequestMsg = createInboundReqCarbonMsg((HttpRequest) msg, ctx, this);
             if (requestSet.size() > this.pipeliningLimit) {
                 LOG.warn("Pipelining request limit exceeded hence closing the channel {}", ctx.channel().id());
+                if (admissionController != null) {
+                    admissionController.release();
+                }
                 closeChannel(ctx);
                 return;
             }
-            requestSet.put(inboundRequestMsg.hashCode(), inboundRequestMsg);
+            requestSet.add(inboundRequestMsg);
+            inboundRequestMsg.startRequestMetrics(requestMetrics);
+            inboundRequestMsg.setListenerAdmission(admissionController);
 
             ListenerReqRespStateManager listenerReqRespStateManager = new ListenerReqRespStateManager();
             inboundRequestMsg.listenerReqRespStateManager = listenerReqRespStateManager;
@@ -127,6 +151,9 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
 
             listenerReqRespStateManager.state = new ReceivingHeaders(listenerReqRespStateManager, this);
             listenerReqRespStateManager.readInboundRequestHeaders(inboundRequestMsg, (HttpRequest) msg);
+        } else if (discardingRequestBody) {
+            discardingRequestBody = !(msg instanceof LastHttpContent);
+            ReferenceCountUtil.release(msg);
         } else {
             if (inboundRequestMsg != null) {
                 inboundRequestMsg.listenerReqRespStateManager.readInboundRequestBody(msg);
@@ -136,6 +163,74 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
+    private boolean admitRequest() {
+        if (requestSet.isEmpty()) {
+            return admissionController.tryAcquire();
+        }
+        // The responses of pipelined requests go out in order, so a request queued behind one which is being served
+        // can't be answered right away. It is accounted for but not rejected, the pipelining limit bounding these.
+        admissionController.acquire();
+        return true;
+    }
+
+    private boolean isMetricsRequest(HttpRequest request) {
+        String uri = request.uri();
+        if (!HttpMethod.GET.equals(request.method()) || !uri.startsWith(metricsEndpointPath)) {
+            return false;
+        }
+        return uri.length() == metricsEndpointPath.length() || uri.charAt(metricsEndpointPath.length()) == '?';
+    }
+
+    /**
+     * Answers a scrape of the request metrics straight from the event loop, the request being neither converted to
+     * a carbon message nor dispatched. Its entity body, if any, is discarded as it arrives.
+     */
+    private void serveRequestMetrics(ChannelHandlerContext ctx, HttpRequest request) {
+        byte[] metrics = RequestMetricsRegistry.getInstance().toPrometheusText().getBytes(CharsetUtil.UTF_8);
+        FullHttpResponse response = new DefaultFullHttpResponse(request.protocolVersion(), HttpResponseStatus.OK,
+                                                                Unpooled.wrappedBuffer(metrics));
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, PROMETHEUS_CONTENT_TYPE);
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, metrics.length);
+        writeResponse(ctx, request, response);
+    }
+
+    /**
+     * Rejects a request with a 503 response written straight from the event loop, the request being neither
+     * converted to a carbon message nor dispatched. Its entity body, if any, is discarded as it arrives.
+     */
+    private void rejectRequest(ChannelHandlerContext ctx, HttpRequest request) {
+        FullHttpResponse response = new DefaultFullHttpResponse(request.protocolVersion(),
+                                                                HttpResponseStatus.SERVICE_UNAVAILABLE);
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+        response.headers().set(HttpHeaderNames.RETRY_AFTER, admissionController.getRetryAfter());
+        writeResponse(ctx, request, response);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Request rejected since the in-flight request limit is reached on channel {}",
+                      ctx.channel().id());
+        }
+    }
+
+    private void writeResponse(ChannelHandlerContext ctx, HttpRequest request, FullHttpResponse response) {
+        HttpVersion httpVersion = request.protocolVersion();
+        boolean keepAlive = isKeepAliveConnection(keepAliveConfig,
+                                                  request.headers().get(HttpHeaderNames.CONNECTION),
+                                                  httpVersion.majorVersion() + "." + httpVersion.minorVersion());
+        if (serverName != null) {
+            response.headers().set(HttpHeaderNames.SERVER, serverName);
+        }
+        if (!keepAlive) {
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        } else if (HttpVersion.HTTP_1_0.equals(httpVersion)) {
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+        }
+        ChannelFuture outboundRespFuture = ctx.writeAndFlush(response);
+        if (!keepAlive) {
+            outboundRespFuture.addListener(ChannelFutureListener.CLOSE);
+        }
+        discardingRequestBody = !(request instanceof LastHttpContent);
+        ReferenceCountUtil.release(request);
+    }
+
     @Override
     public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
         super.handlerAdded(ctx);
@@ -156,17 +251,17 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
+        // Requests still pending at this point are aborted. Completed requests have already been recorded.
+        requestSet.forEach(inboundMsg -> inboundMsg.completeRequestMetrics(0, 0));
         if (!idleTimeout) {
             if (!requestSet.isEmpty()) {
-                requestSet.forEach((key, inboundMsg) -> inboundMsg.listenerReqRespStateManager
+                requestSet.forEach(inboundMsg -> inboundMsg.listenerReqRespStateManager
                         .handleAbruptChannelClosure(serverConnectorFuture));
             } else if (connectedState) {
                 notifyErrorListenerAtConnectedState(REMOTE_CLIENT_CLOSED_BEFORE_INITIATING_INBOUND_REQUEST);
             }
         }
 
-        closeTargetChannels();
-
         if (handlerExecutor != null) {
             handlerExecutor.executeAtSourceConnectionTermination(Integer.toString(ctx.hashCode()));
             handlerExecutor = null;
@@ -179,23 +274,13 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         LOG.warn("Exception occurred in SourceHandler : {}", cause.getMessage());
     }
 
-    private void closeTargetChannels() {
-        targetChannelPool.forEach((hostPortKey, genericObjectPool) -> {
-            try {
-                targetChannelPool.remove(hostPortKey).close();
-            } catch (Exception e) {
-                LOG.error("Couldn't close target channel socket connections", e);
-            }
-        });
-    }
-
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
         if (evt instanceof IdleStateEvent) {
             this.idleTimeout = true;
 
             if (!requestSet.isEmpty()) {
-                requestSet.forEach((key, inboundMsg) -> {
+                requestSet.forEach(inboundMsg -> {
                     ChannelFuture outboundRespFuture = inboundMsg.listenerReqRespStateManager
                             .handleIdleTimeoutConnectionClosure(serverConnectorFuture, ctx);
                     if (outboundRespFuture == null) {
@@ -263,14 +348,8 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
      * Set pipeline related properties. These should be set only once per connection.
      */
     private void setPipeliningProperties() {
-        if (ctx.channel().attr(Constants.MAX_RESPONSES_ALLOWED_TO_BE_QUEUED).get() == null) {
-            ctx.channel().attr(Constants.MAX_RESPONSES_ALLOWED_TO_BE_QUEUED).set(pipeliningLimit);
-        }
-        if (ctx.channel().attr(Constants.RESPONSE_QUEUE).get() == null) {
-            ctx.channel().attr(Constants.RESPONSE_QUEUE).set(holdingQueue);
-        }
-        if (ctx.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get() == null) {
-            ctx.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).set(EXPECTED_SEQUENCE_NUMBER);
+        if (ctx.channel().attr(Constants.PIPELINING_SEQUENCER).get() == null) {
+            ctx.channel().attr(Constants.PIPELINING_SEQUENCER).set(new PipeliningSequencer<>(pipeliningLimit));
         }
 
         if (ctx.channel().attr(Constants.PIPELINING_EXECUTOR).get() == null) {
@@ -293,10 +372,6 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         return this.ctx.channel().eventLoop();
     }
 
-    public Map<String, GenericObjectPool> getTargetChannelPool() {
-        return targetChannelPool;
-    }
-
     public ChannelHandlerContext getInboundChannelContext() {
         return ctx;
     }
@@ -329,8 +404,35 @@ public class SourceHandler extends ChannelInboundHandlerAdapter {
         this.connectedState = connectedState;
     }
 
+    /**
+     * Sets the metrics of the listener against which the requests received through this handler are recorded.
+     *
+     * @param requestMetrics the listener metrics, null if request metrics are disabled
+     */
+    public void setRequestMetrics(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    /**
+     * Sets the path at which the request metrics of the listener are served without dispatching the request.
+     *
+     * @param metricsEndpointPath the path of the metrics endpoint, null if the metrics are not served
+     */
+    public void setMetricsEndpointPath(String metricsEndpointPath) {
+        this.metricsEndpointPath = metricsEndpointPath;
+    }
+
+    /**
+     * Sets the admission control of the listener, which rejects the requests received while its limit is reached.
+     *
+     * @param admissionController the admission control, null if it is disabled
+     */
+    public void setAdmissionController(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
     public void removeRequestEntry(HttpCarbonMessage inboundRequestMsg) {
-        this.requestSet.remove(inboundRequestMsg.hashCode());
+        this.requestSet.remove(inboundRequestMsg);
     }
 
     public void resetInboundRequestMsg() {
@@ -168,6 +168,9 @@ public class Http2ServerTimeoutHandler implements Http2DataEventListener {
             try {
                 msgHolder.getHttp2OutboundRespListener().resetStream(ctx, streamId, Http2Error.INTERNAL_ERROR);
                 http2ServerChannel.getStreamIdRequestMap().remove(streamId);
+                if (msgHolder.getInboundMsg() != null) {
+                    msgHolder.getInboundMsg().completeRequestMetrics(0, 0);
+                }
             } catch (Http2Exception e) {
                 LOG.error("Error sending RST_STREAM: ", e.getCause());
             }
@@ -42,14 +42,12 @@ import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionEncoder;
 import io.netty.handler.codec.http2.Http2Exception;
 import io.netty.handler.codec.http2.Http2RemoteFlowController;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.ENDPOINT_TIMEOUT;
 import static io.ballerina.stdlib.http.transport.contract.Constants.STREAM_ID_ONE;
@@ -74,7 +72,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
     private String interfaceId;
     private String serverName;
     private String remoteHost;
-    private Map<String, GenericObjectPool> targetChannelPool; //Keeps only h1 target channels
     private ServerRemoteFlowControlListener serverRemoteFlowControlListener;
     private SocketAddress remoteAddress;
 
@@ -87,7 +84,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         this.serverConnectorFuture = serverConnectorFuture;
         this.conn = conn;
         this.serverName = serverName;
-        this.targetChannelPool = new ConcurrentHashMap<>();
         setRemoteFlowController();
         setDataEventListeners();
     }
@@ -187,7 +183,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
             LOG.debug("Channel inactive event received in HTTP2SourceHandler");
         }
         destroy();
-        closeTargetChannels();
         ctx.fireChannelInactive();
     }
 
@@ -202,6 +197,7 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         LOG.debug("Inbound request map size {}", http2ServerChannel.getStreamIdRequestMap().size());
         http2ServerChannel.getStreamIdRequestMap().forEach((streamId, inboundMessageHolder) -> {
             HttpCarbonMessage inboundMsg = inboundMessageHolder.getInboundMsg();
+            inboundMsg.completeRequestMetrics(0, 0);
             LOG.debug("Listener state {}", inboundMsg.getHttp2MessageStateContext().getListenerState());
             inboundMsg.getHttp2MessageStateContext().getListenerState()
                     .handleAbruptChannelClosure(serverConnectorFuture, getChannelHandlerContext(),
@@ -213,16 +209,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
         http2ServerChannel.destroy();
     }
 
-    private void closeTargetChannels() {
-        targetChannelPool.forEach((hostPortKey, genericObjectPool) -> {
-            try {
-                targetChannelPool.remove(hostPortKey).close();
-            } catch (Exception e) {
-                LOG.error("Couldn't close target channel socket connections", e);
-            }
-        });
-    }
-
     public Map<Integer, InboundMessageHolder> getStreamIdRequestMap() {
         return http2ServerChannel.getStreamIdRequestMap();
     }
@@ -258,9 +244,6 @@ public final class Http2SourceHandler extends ChannelInboundHandlerAdapter {
     public String getRemoteHost() {
         return remoteHost;
     }
-    public Map<String, GenericObjectPool> getTargetChannelPool() {
-        return targetChannelPool;
-    }
 
     public ChannelHandlerContext getInboundChannelContext() {
         return ctx;
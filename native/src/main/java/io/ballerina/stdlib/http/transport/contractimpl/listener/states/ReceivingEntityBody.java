@@ -31,9 +31,12 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.CharsetUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,15 +63,30 @@ public class ReceivingEntityBody implements ListenerState {
     private final SourceHandler sourceHandler;
     private final HttpCarbonMessage inboundRequestMsg;
     private final float httpVersion;
+    private ByteBuf aggregatedContent;
 
     ReceivingEntityBody(ListenerReqRespStateManager listenerReqRespStateManager, HttpCarbonMessage inboundRequestMsg,
                         SourceHandler sourceHandler, float httpVersion) {
+        this(listenerReqRespStateManager, inboundRequestMsg, sourceHandler, httpVersion, -1);
+    }
+
+    /**
+     * Creates the state for reading the request body. When the content length to aggregate is given, the request has
+     * not been dispatched yet, and the body is collected into a single buffer which is added to the request as its
+     * last content right before dispatching it.
+     */
+    ReceivingEntityBody(ListenerReqRespStateManager listenerReqRespStateManager, HttpCarbonMessage inboundRequestMsg,
+                        SourceHandler sourceHandler, float httpVersion, long aggregatedContentLength) {
         this.listenerReqRespStateManager = listenerReqRespStateManager;
         this.inboundRequestMsg = inboundRequestMsg;
         this.sourceHandler = sourceHandler;
         this.handlerExecutor = HttpTransportContextHolder.getInstance().getHandlerExecutor();
         this.serverConnectorFuture = sourceHandler.getServerConnectorFuture();
         this.httpVersion = httpVersion;
+        if (aggregatedContentLength >= 0) {
+            this.aggregatedContent = sourceHandler.getInboundChannelContext().alloc()
+                    .buffer((int) aggregatedContentLength);
+        }
     }
 
     @Override
@@ -80,19 +98,31 @@ public class ReceivingEntityBody implements ListenerState {
     public void readInboundRequestBody(Object inboundRequestEntityBody) throws ServerConnectorException {
         if (inboundRequestEntityBody instanceof HttpContent) {
             HttpContent httpContent = (HttpContent) inboundRequestEntityBody;
+            boolean dispatched = aggregatedContent == null;
+            if (!dispatched) {
+                httpContent = aggregate(httpContent);
+                if (httpContent == null) {
+                    return;
+                }
+            }
             try {
                 inboundRequestMsg.addHttpContent(httpContent);
                 if (Util.isLastHttpContent(httpContent)) {
-                    if (handlerExecutor != null) {
-                        handlerExecutor.executeAtSourceRequestSending(inboundRequestMsg);
-                    }
-                    if (isDiffered(inboundRequestMsg)) {
-                        serverConnectorFuture.notifyHttpListener(inboundRequestMsg);
+                    if (dispatched) {
+                        executeAtSourceRequestSending();
+                        if (isDiffered(inboundRequestMsg)) {
+                            serverConnectorFuture.notifyHttpListener(inboundRequestMsg);
+                        }
                     }
                     inboundRequestMsg.setLastHttpContentArrived();
                     sourceHandler.resetInboundRequestMsg();
                     listenerReqRespStateManager.state
                             = new EntityBodyReceived(listenerReqRespStateManager, sourceHandler, httpVersion);
+                    if (!dispatched) {
+                        // The handlers see the request being received before it is sent, as on the streaming path
+                        ReceivingHeaders.notifyRequestListener(sourceHandler, handlerExecutor, inboundRequestMsg);
+                        executeAtSourceRequestSending();
+                    }
                 }
             } catch (RuntimeException ex) {
                 httpContent.release();
@@ -102,6 +132,12 @@ public class ReceivingEntityBody implements ListenerState {
         }
     }
 
+    private void executeAtSourceRequestSending() {
+        if (handlerExecutor != null) {
+            handlerExecutor.executeAtSourceRequestSending(inboundRequestMsg);
+        }
+    }
+
     @Override
     public void writeOutboundResponseHeaders(HttpCarbonMessage outboundResponseMsg, HttpContent httpContent) {
         LOG.warn("writeOutboundResponseHeaders {}", ILLEGAL_STATE_ERROR);
@@ -120,13 +156,14 @@ public class ReceivingEntityBody implements ListenerState {
 
     @Override
     public void handleAbruptChannelClosure(ServerConnectorFuture serverConnectorFuture) {
+        releaseAggregatedContent();
         handleIncompleteInboundMessage(inboundRequestMsg, REMOTE_CLIENT_CLOSED_WHILE_READING_INBOUND_REQUEST_BODY);
     }
 
     @Override
     public ChannelFuture handleIdleTimeoutConnectionClosure(ServerConnectorFuture serverConnectorFuture,
                                                             ChannelHandlerContext ctx) {
-
+        releaseAggregatedContent();
         ByteBuf responseBody =
                 copiedBuffer(IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_REQUEST_BODY, CharsetUtil.UTF_8);
         ChannelFuture outboundRespFuture = sendRequestTimeoutResponse(ctx, REQUEST_TIMEOUT,
@@ -146,6 +183,39 @@ public class ReceivingEntityBody implements ListenerState {
         return outboundRespFuture;
     }
 
+    /**
+     * Collects the given content into the aggregated body.
+     *
+     * @param httpContent the content read from the channel
+     * @return the content to add to the request and dispatch it with, or null if the body is not complete yet
+     */
+    private HttpContent aggregate(HttpContent httpContent) {
+        ByteBuf content = aggregatedContent;
+        if (httpContent.decoderResult().isFailure()) {
+            // Hand over what has been read so far and let the request fail the same way a streamed one does
+            aggregatedContent = null;
+            inboundRequestMsg.addHttpContent(new DefaultHttpContent(content));
+            return httpContent;
+        }
+        content.writeBytes(httpContent.content());
+        if (!Util.isLastHttpContent(httpContent)) {
+            httpContent.release();
+            return null;
+        }
+        aggregatedContent = null;
+        LastHttpContent lastHttpContent = new DefaultLastHttpContent(content);
+        lastHttpContent.trailingHeaders().set(((LastHttpContent) httpContent).trailingHeaders());
+        httpContent.release();
+        return lastHttpContent;
+    }
+
+    private void releaseAggregatedContent() {
+        if (aggregatedContent != null) {
+            aggregatedContent.release();
+            aggregatedContent = null;
+        }
+    }
+
     private boolean isDiffered(HttpCarbonMessage sourceReqCmsg) {
         //Http resource stored in the HTTPCarbonMessage means execution waits till payload.
         return sourceReqCmsg.getProperty(HttpConstants.WAIT_FOR_FULL_REQUEST) != null;
@@ -30,10 +30,12 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_READING_INBOUND_REQUEST_HEADERS;
+import static io.ballerina.stdlib.http.transport.contract.Constants.MAX_AGGREGATED_REQUEST_BODY_SIZE;
 import static io.ballerina.stdlib.http.transport.contract.Constants.REMOTE_CLIENT_CLOSED_WHILE_READING_INBOUND_REQUEST_HEADERS;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.Util.is100ContinueRequest;
 import static io.ballerina.stdlib.http.transport.contractimpl.common.states.StateUtil.ILLEGAL_STATE_ERROR;
@@ -55,6 +57,7 @@ public class ReceivingHeaders implements ListenerState {
     private final ListenerReqRespStateManager listenerReqRespStateManager;
     private HttpCarbonMessage inboundRequestMsg;
     private float httpVersion;
+    private long aggregatedContentLength;
 
     public ReceivingHeaders(ListenerReqRespStateManager listenerReqRespStateManager, SourceHandler sourceHandler) {
         this.listenerReqRespStateManager = listenerReqRespStateManager;
@@ -72,7 +75,12 @@ public class ReceivingHeaders implements ListenerState {
                     new Expect100ContinueHeaderReceived(listenerReqRespStateManager, sourceHandler,
                                                         inboundRequestMsg, httpVersion);
         }
-        notifyRequestListener(inboundRequestMsg);
+        // Small bodies are read in full on the event loop and the request is dispatched along with its last content.
+        // A 100-continue request cannot wait for its body, as the client sends it only once the request is accepted
+        aggregatedContentLength = continueRequest ? -1 : getAggregatableContentLength(inboundRequestHeaders);
+        if (aggregatedContentLength < 0) {
+            notifyRequestListener(sourceHandler, handlerExecutor, inboundRequestMsg);
+        }
 
         if (inboundRequestHeaders.decoderResult().isFailure()) {
             LOG.debug(inboundRequestHeaders.decoderResult().cause().getMessage());
@@ -82,7 +90,21 @@ public class ReceivingHeaders implements ListenerState {
         }
     }
 
-    private void notifyRequestListener(HttpCarbonMessage httpRequestMsg) {
+    private static long getAggregatableContentLength(HttpRequest inboundRequestHeaders) {
+        if (inboundRequestHeaders.decoderResult().isFailure() ||
+                HttpUtil.isTransferEncodingChunked(inboundRequestHeaders)) {
+            return -1;
+        }
+        try {
+            long contentLength = HttpUtil.getContentLength(inboundRequestHeaders, -1L);
+            return contentLength <= MAX_AGGREGATED_REQUEST_BODY_SIZE ? contentLength : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static void notifyRequestListener(SourceHandler sourceHandler, HandlerExecutor handlerExecutor,
+                                      HttpCarbonMessage httpRequestMsg) {
         if (handlerExecutor != null) {
             handlerExecutor.executeAtSourceRequestReceiving(httpRequestMsg);
         }
@@ -105,7 +127,8 @@ public class ReceivingHeaders implements ListenerState {
     @Override
     public void readInboundRequestBody(Object inboundRequestEntityBody) throws ServerConnectorException {
         listenerReqRespStateManager.state
-                = new ReceivingEntityBody(listenerReqRespStateManager, inboundRequestMsg, sourceHandler, httpVersion);
+                = new ReceivingEntityBody(listenerReqRespStateManager, inboundRequestMsg, sourceHandler, httpVersion,
+                                          aggregatedContentLength);
         listenerReqRespStateManager.readInboundRequestBody(inboundRequestEntityBody);
     }
 
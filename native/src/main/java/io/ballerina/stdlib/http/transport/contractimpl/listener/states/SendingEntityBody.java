@@ -23,6 +23,7 @@ import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpOutboundRespListener;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.PipeliningSequencer;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
@@ -32,12 +33,13 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.LastHttpContent;
-import io.netty.util.concurrent.EventExecutorGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,7 +47,6 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
 
 import static io.ballerina.stdlib.http.transport.contract.Constants.HTTP_HEAD_METHOD;
 import static io.ballerina.stdlib.http.transport.contract.Constants.IDLE_TIMEOUT_TRIGGERED_WHILE_WRITING_OUTBOUND_RESPONSE_BODY;
@@ -67,6 +68,7 @@ public class SendingEntityBody implements ListenerState {
     private final ListenerReqRespStateManager listenerReqRespStateManager;
     private boolean headersWritten;
     private long contentLength = 0;
+    private long bytesSent = 0;
     private boolean headRequest;
     private List<HttpContent> contentList = new ArrayList<>();
     private HttpCarbonMessage inboundRequestMsg;
@@ -106,6 +108,9 @@ public class SendingEntityBody implements ListenerState {
         sourceContext = outboundRespListener.getSourceContext();
         sourceHandler = outboundRespListener.getSourceHandler();
         this.outboundResponseMsg = outboundResponseMsg;
+        if (!headRequest) {
+            bytesSent += httpContent.content().readableBytes();
+        }
 
         ChannelFuture outboundChannelFuture;
         if (httpContent instanceof LastHttpContent) {
@@ -209,6 +214,9 @@ public class SendingEntityBody implements ListenerState {
 
     private void checkForResponseWriteStatus(HttpCarbonMessage inboundRequestMsg,
                                              HttpResponseFuture outboundRespStatusFuture, ChannelFuture channelFuture) {
+        Integer statusCode = outboundResponseMsg.getHttpStatusCode();
+        int responseStatus = statusCode != null ? statusCode : HttpResponseStatus.OK.code();
+        long responseBytes = bytesSent;
         channelFuture.addListener(writeOperationPromise -> {
             listenerReqRespStateManager.state
                     = new ResponseCompleted(listenerReqRespStateManager, sourceHandler, inboundRequestMsg);
@@ -217,8 +225,10 @@ public class SendingEntityBody implements ListenerState {
                 if (throwable instanceof ClosedChannelException) {
                     throwable = new IOException(REMOTE_CLIENT_TO_HOST_CONNECTION_CLOSED);
                 }
+                inboundRequestMsg.completeRequestMetrics(0, responseBytes);
                 outboundRespStatusFuture.notifyHttpListener(throwable);
             } else {
+                inboundRequestMsg.completeRequestMetrics(responseStatus, responseBytes);
                 outboundRespStatusFuture.notifyHttpListener(inboundRequestMsg);
             }
             resetOutboundListenerState();
@@ -226,7 +236,9 @@ public class SendingEntityBody implements ListenerState {
     }
 
     /**
-     * Increment the next expected sequence number and trigger the pipelining logic.
+     * Increment the next expected sequence number and trigger the pipelining logic. The pipelining state of the
+     * connection is confined to its event loop, hence the completion is posted as a task unless this is already
+     * running on the event loop.
      *
      * @param outboundResponseMsg Represent the outbound response
      */
@@ -234,38 +246,36 @@ public class SendingEntityBody implements ListenerState {
         String httpVersion = inboundRequestMsg.getHttpVersion();
         if (outboundResponseMsg.isPipeliningEnabled() && Constants.HTTP_1_1_VERSION.equalsIgnoreCase
                 (httpVersion)) {
-            Queue responseQueue;
-            synchronized (sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get()) {
-                responseQueue = sourceContext.channel().attr(Constants.RESPONSE_QUEUE).get();
-                Long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
-                //IMPORTANT:Next sequence number should never be incremented for interim 100 continue response
-                //because the body of the request is yet to come. Only when the actual response is sent out, this
-                //next sequence number should be updated.
-                nextSequenceNumber++;
-                sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).set(nextSequenceNumber);
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Current sequence id of the response : {}", outboundResponseMsg.getSequenceId());
-                    LOG.debug("Updated next sequence id to : {}", nextSequenceNumber);
-                }
+            EventLoop eventLoop = sourceContext.channel().eventLoop();
+            if (eventLoop.inEventLoop()) {
+                completePipelinedResponse(outboundResponseMsg);
+            } else {
+                eventLoop.execute(() -> completePipelinedResponse(outboundResponseMsg));
             }
-            if (!responseQueue.isEmpty()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("Pipelining logic is triggered from transport");
-                }
-                //Notify ballerina to send the response which is next in queue. This is needed because,
-                //if the other responses got ready before the nextSequenceNumber gets updated then the
-                //ballerina respond() won't start serializing the responses in queue. This is to trigger
-                //that process again.
-                if (outboundResponseMsg.getPipeliningFuture() != null) {
-                    EventExecutorGroup pipeliningExecutor = sourceContext.channel().attr(Constants.PIPELINING_EXECUTOR)
-                            .get();
-                    //IMPORTANT:Pipelining logic should never be executed in an I/O thread as it might lead to I/O
-                    //thread blocking scenarios in outbound trottling. Here, the pipelining logic runs in a thread that
-                    //belongs to the pipelining thread pool.
-                    pipeliningExecutor.execute(() -> outboundResponseMsg.getPipeliningFuture().
-                            notifyPipeliningListener(sourceContext));
+        }
+    }
 
-                }
+    private void completePipelinedResponse(HttpCarbonMessage outboundResponseMsg) {
+        PipeliningSequencer<?> sequencer = sourceContext.channel().attr(Constants.PIPELINING_SEQUENCER).get();
+        //IMPORTANT:Next sequence number should never be incremented for interim 100 continue response
+        //because the body of the request is yet to come. Only when the actual response is sent out, this
+        //next sequence number should be updated.
+        sequencer.complete();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Current sequence id of the response : {}", outboundResponseMsg.getSequenceId());
+            LOG.debug("Updated next sequence id to : {}", sequencer.getNextSequenceNumber());
+        }
+        if (sequencer.hasQueuedResponses()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Pipelining logic is triggered from transport");
+            }
+            //Notify ballerina to send the response which is next in queue. This is needed because,
+            //if the other responses got ready before the nextSequenceNumber gets updated then the
+            //ballerina respond() won't start serializing the responses in queue. This is to trigger
+            //that process again. The listener is notified on the event loop and is responsible for handing the
+            //response over to a thread that is allowed to block.
+            if (outboundResponseMsg.getPipeliningFuture() != null) {
+                outboundResponseMsg.getPipeliningFuture().notifyPipeliningListener(sourceContext);
             }
         }
     }
@@ -273,6 +283,7 @@ public class SendingEntityBody implements ListenerState {
     private void resetOutboundListenerState() {
         contentList.clear();
         contentLength = 0;
+        bytesSent = 0;
         headersWritten = false;
     }
 }
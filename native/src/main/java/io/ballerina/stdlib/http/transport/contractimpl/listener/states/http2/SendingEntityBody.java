@@ -40,6 +40,7 @@ import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2ConnectionEncoder;
@@ -183,6 +184,11 @@ public class SendingEntityBody implements ListenerState {
                 Http2StateUtil.writeHttp2ResponseHeaders(ctx, encoder, outboundRespStatusFuture, streamId,
                                                          http2Trailers, true, http2OutboundRespListener);
             }
+            if (originalStreamId == streamId) { // Server push responses are not recorded against the request
+                Integer statusCode = outboundResponseMsg.getHttpStatusCode();
+                inboundRequestMsg.completeRequestMetrics(
+                        statusCode != null ? statusCode : HttpResponseStatus.OK.code(), contentLength);
+            }
             http2OutboundRespListener.removeDefaultResponseWriter();
             http2MessageStateContext
                     .setListenerState(new ResponseCompleted(http2OutboundRespListener, http2MessageStateContext));
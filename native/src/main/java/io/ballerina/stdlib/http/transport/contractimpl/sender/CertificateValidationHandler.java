@@ -19,22 +19,46 @@
 
 package io.ballerina.stdlib.http.transport.contractimpl.sender;
 
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.CertificateVerificationException;
 import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationVerificationManager;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
+import javax.security.cert.X509Certificate;
 
 /**
- * A handler to validate certificates in certificate revocation process.
+ * A handler to validate certificates in certificate revocation process. The validation runs off the event loop on a
+ * bounded pool, so that a revocation response which is not cached yet does not hold up other connections, and the
+ * connection is closed if the validation cannot be queued or does not complete in time.
  */
 public class CertificateValidationHandler extends ChannelInboundHandlerAdapter {
 
     private static final Logger LOG = LoggerFactory.getLogger(CertificateValidationHandler.class);
+    private static final int VALIDATION_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int MAX_PENDING_VALIDATIONS = 1024;
+    private static final long VALIDATION_TIMEOUT_SECONDS = 60;
+    private static final ThreadPoolExecutor VALIDATION_EXECUTOR = new ThreadPoolExecutor(
+            VALIDATION_THREADS, VALIDATION_THREADS, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAX_PENDING_VALIDATIONS),
+            new DefaultThreadFactory("certificate-validation", true));
+
+    static {
+        VALIDATION_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
     private SSLEngine sslEngine;
     private RevocationVerificationManager revocationVerifier;
     private int cacheSize;
@@ -55,14 +79,40 @@ public class CertificateValidationHandler extends ChannelInboundHandlerAdapter {
 
             SslHandshakeCompletionEvent event = (SslHandshakeCompletionEvent) evt;
 
-            if (event.isSuccess() && revocationVerifier
-                    .verifyRevocationStatus(sslEngine.getSession().getPeerCertificateChain())) {
-                ctx.fireChannelRead(evt);
-            } else {
+            if (!event.isSuccess()) {
                 ctx.close();
                 throw new SSLException("Certificate Chain Validation failed. Hence closing the channel");
             }
-            ctx.fireUserEventTriggered(evt);
+            X509Certificate[] peerCertificates = sslEngine.getSession().getPeerCertificateChain();
+            RevocationVerificationManager verifier = revocationVerifier;
+            CompletableFuture<Boolean> validation;
+            try {
+                validation = CompletableFuture.supplyAsync(() -> verify(verifier, peerCertificates),
+                                                           VALIDATION_EXECUTOR);
+            } catch (RejectedExecutionException e) {
+                validation = CompletableFuture.failedFuture(
+                        new CertificateVerificationException("Too many pending certificate validations"));
+            }
+            validation.orTimeout(VALIDATION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .whenComplete((verified, throwable) -> ctx.executor().execute(() -> {
+                        if (throwable == null && verified) {
+                            ctx.fireChannelRead(evt);
+                            ctx.fireUserEventTriggered(evt);
+                        } else {
+                            ctx.close();
+                            ctx.fireExceptionCaught(new SSLException(
+                                    "Certificate Chain Validation failed. Hence closing the channel",
+                                    throwable instanceof CompletionException ? throwable.getCause() : throwable));
+                        }
+                    }));
+        }
+    }
+
+    private static boolean verify(RevocationVerificationManager verifier, X509Certificate[] peerCertificates) {
+        try {
+            return verifier.verifyRevocationStatus(peerCertificates);
+        } catch (CertificateVerificationException e) {
+            throw new CompletionException(e);
         }
     }
 
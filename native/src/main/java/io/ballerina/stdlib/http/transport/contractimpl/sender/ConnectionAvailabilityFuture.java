@@ -30,6 +30,7 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.handler.codec.http.HttpResponseStatus;
 
+import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.nio.channels.ClosedChannelException;
 
@@ -52,16 +53,23 @@ public class ConnectionAvailabilityFuture {
     private boolean isFailure;
     private Throwable throwable;
     private boolean forceHttp2 = false;
-    private String remoteAddress;
+    private String remoteHost;
+    private volatile String remoteAddress;
 
-    public void setSocketAvailabilityFuture(ChannelFuture socketAvailabilityFuture, String remoteAddress) {
+    public void setSocketAvailabilityFuture(ChannelFuture socketAvailabilityFuture, InetSocketAddress remoteAddress) {
         this.socketAvailabilityFuture = socketAvailabilityFuture;
-        this.remoteAddress = remoteAddress;
+        this.remoteHost = remoteAddress.getHostString();
+        this.remoteAddress = remoteHost + COLON + remoteAddress.getPort();
         socketAvailabilityFuture.addListener(new ChannelFutureListener() {
 
             @Override
             public void operationComplete(ChannelFuture channelFuture) throws Exception {
                 if (isValidChannel(channelFuture)) {
+                    // The address is resolved only while connecting, so report the one actually connected to
+                    if (channelFuture.channel().remoteAddress() != null) {
+                        ConnectionAvailabilityFuture.this.remoteAddress =
+                                channelFuture.channel().remoteAddress().toString();
+                    }
                     socketAvailable = true;
                     if (listener != null && !isSSLEnabled) {
                         if (forceHttp2) {
@@ -148,7 +156,7 @@ public class ConnectionAvailabilityFuture {
                                                           + " " + socketAddress, HttpResponseStatus.BAD_GATEWAY.code());
         } else if (cause instanceof UnknownHostException) {
             connectorException = new UnresolvedHostException(ERROR_COULD_NOT_RESOLVE_HOST + COLON +
-                    cause.getMessage(), HttpResponseStatus.BAD_GATEWAY.code());
+                    remoteHost, HttpResponseStatus.BAD_GATEWAY.code());
         } else if (cause instanceof ClosedChannelException) {
             connectorException = new ClientConnectorException("Remote host: " + socketAddress
                     + " closed the connection while SSL handshake", HttpResponseStatus.BAD_GATEWAY.code());
@@ -117,7 +117,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         http2ConnectionHandler = connectionHandlerBuilder.connection(connection).frameListener(frameListener).build();
         http2TargetHandler = new Http2TargetHandler(connection, http2ConnectionHandler.encoder());
         if (sslConfig != null) {
-            sslHandlerFactory = new SSLHandlerFactory(sslConfig);
+            sslHandlerFactory = sslConfig.getClientSSLContextCache().getSSLHandlerFactory();
         }
     }
 
@@ -175,8 +175,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         connectionAvailabilityFuture.setSSLEnabled(true);
         if (sslConfig.isOcspStaplingEnabled()) {
             ReferenceCountedOpenSslContext referenceCountedOpenSslContext =
-                    (ReferenceCountedOpenSslContext) sslHandlerFactory.
-                            createHttp2TLSContextForClient(sslConfig.isOcspStaplingEnabled());
+                    (ReferenceCountedOpenSslContext) sslConfig.getClientSSLContextCache().getHttp2Context(true);
             if (referenceCountedOpenSslContext != null) {
                 SslHandler sslHandler = referenceCountedOpenSslContext.newHandler(ch.alloc());
                 ReferenceCountedOpenSslEngine engine = (ReferenceCountedOpenSslEngine) sslHandler.engine();
@@ -185,12 +184,11 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
                 ch.pipeline().addLast(new OCSPStaplingHandler(engine));
             }
         } else if (sslConfig.isDisableSsl()) {
-            SslContext sslCtx = Util.createInsecureSslEngineForHttp2(sslConfig);
+            SslContext sslCtx = sslConfig.getClientSSLContextCache().getHttp2InsecureContext();
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), httpRoute.getHost(), httpRoute.getPort());
             clientPipeline.addLast(sslHandler);
         } else {
-            sslHandlerFactory.createSSLContextFromKeystores(false);
-            SslContext sslCtx = sslHandlerFactory.createHttp2TLSContextForClient(false);
+            SslContext sslCtx = sslConfig.getClientSSLContextCache().getHttp2Context(false);
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), httpRoute.getHost(), httpRoute.getPort());
             SSLEngine sslEngine = sslHandler.engine();
             sslHandlerFactory.setSNIServerNames(sslEngine, httpRoute.getHost());
@@ -232,6 +230,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         HttpClientCodec sourceCodec = new HttpClientCodec(responseSizeValidationConfig.getMaxInitialLineLength(),
                                                           responseSizeValidationConfig.getMaxHeaderSize(),
                                                           responseSizeValidationConfig.getMaxChunkSize());
+        Util.addFlushConsolidationHandler(pipeline);
         pipeline.addLast(Constants.HTTP_CLIENT_CODEC, sourceCodec);
         addCommonHandlers(pipeline);
         Http2ClientUpgradeCodec upgradeCodec = new Http2ClientUpgradeCodec(http2ConnectionHandler);
@@ -249,6 +248,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
      */
     private void configureHttp2Pipeline(ChannelPipeline pipeline) {
         Util.safelyRemoveHandlers(pipeline, Constants.HTTP2_EXCEPTION_HANDLER);
+        Util.addFlushConsolidationHandler(pipeline);
         pipeline.addLast(Constants.CONNECTION_HANDLER, http2ConnectionHandler);
         pipeline.addLast(Constants.HTTP2_TARGET_HANDLER, http2TargetHandler);
         pipeline.addLast(Constants.DECOMPRESSOR_HANDLER, new HttpContentDecompressor());
@@ -265,6 +265,7 @@ public class HttpClientChannelInitializer extends ChannelInitializer<SocketChann
         HttpClientCodec clientCodec = new HttpClientCodec(responseSizeValidationConfig.getMaxInitialLineLength(),
                                                           responseSizeValidationConfig.getMaxHeaderSize(),
                                                           responseSizeValidationConfig.getMaxChunkSize());
+        Util.addFlushConsolidationHandler(pipeline);
         pipeline.addLast(Constants.HTTP_CLIENT_CODEC, clientCodec);
         addCommonHandlers(pipeline);
         addResponseLimitValidationHandlers(pipeline);
@@ -20,6 +20,7 @@
 package io.ballerina.stdlib.http.transport.contractimpl.sender;
 
 import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.ssl.ClientSSLSessionStats;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
@@ -40,6 +41,7 @@ public class SslHandshakeCompletionHandlerForClient extends ChannelInboundHandle
     private HttpClientChannelInitializer httpClientChannelInitializer;
     private TargetHandler targetHandler;
     private SSLEngine sslEngine;
+    private final long handshakeStartTime;
 
     SslHandshakeCompletionHandlerForClient(ConnectionAvailabilityFuture connectionAvailabilityFuture,
             HttpClientChannelInitializer httpClientChannelInitializer, TargetHandler targetHandler,
@@ -48,6 +50,7 @@ public class SslHandshakeCompletionHandlerForClient extends ChannelInboundHandle
         this.httpClientChannelInitializer = httpClientChannelInitializer;
         this.targetHandler = targetHandler;
         this.sslEngine = sslEngine;
+        this.handshakeStartTime = System.currentTimeMillis();
     }
 
     @Override
@@ -58,6 +61,7 @@ public class SslHandshakeCompletionHandlerForClient extends ChannelInboundHandle
             SslHandshakeCompletionEvent event = (SslHandshakeCompletionEvent) evt;
 
             if (event.isSuccess()) {
+                ClientSSLSessionStats.getInstance().recordHandshake(sslEngine.getSession(), handshakeStartTime);
                 if (!httpClientChannelInitializer.getSslConfig().isDisableSsl()) {
                     try {
                         X509Certificate endUserCert = (X509Certificate) sslEngine.getSession().getPeerCertificates()[0];
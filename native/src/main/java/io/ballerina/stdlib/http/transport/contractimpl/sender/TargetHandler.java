@@ -23,6 +23,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.Conne
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientTimeoutHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2TargetHandler;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.states.EntityBodyReceived;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
 import io.ballerina.stdlib.http.transport.message.ClientRemoteFlowControlListener;
@@ -61,6 +62,7 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
     private HandlerExecutor handlerExecutor;
     private KeepAliveConfig keepAliveConfig;
     private boolean idleTimeoutTriggered;
+    private boolean requestCancelled;
     private ChannelHandlerContext context;
     private Throwable cause;
 
@@ -114,7 +116,7 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-        if (!idleTimeoutTriggered) {
+        if (!idleTimeoutTriggered && !requestCancelled) {
             targetChannel.senderReqRespStateManager.handleAbruptChannelClosure(this, httpResponseFuture);
         }
         connectionManager.invalidateTargetChannel(targetChannel);
@@ -204,6 +206,25 @@ public class TargetHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
+    /**
+     * Cancels the given request by closing the connection, provided that the connection is still serving it and its
+     * response has not started to arrive. HTTP/1.x has no other means of abandoning a request. Must be called from
+     * the event loop of the connection.
+     *
+     * @param request the outbound request to cancel
+     * @return true if the connection got closed, in which case notifying the response future is up to the caller
+     */
+    public boolean cancelRequest(HttpCarbonMessage request) {
+        // The handler is removed from the pipeline once the connection is upgraded to HTTP/2
+        if (outboundRequestMsg != request || inboundResponseMsg != null || context == null || context.isRemoved()
+                || targetChannel.senderReqRespStateManager.state instanceof EntityBodyReceived) {
+            return false;
+        }
+        requestCancelled = true;
+        closeChannel(context);
+        return true;
+    }
+
     public void setHttpResponseFuture(HttpResponseFuture httpResponseFuture) {
         this.httpResponseFuture = httpResponseFuture;
     }
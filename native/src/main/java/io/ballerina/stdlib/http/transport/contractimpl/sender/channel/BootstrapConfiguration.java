@@ -36,6 +36,10 @@ public class BootstrapConfiguration {
     private int receiveBufferSize;
     private int sendBufferSize;
     private int socketTimeout;
+    private boolean asyncDnsResolution;
+    private int dnsMinTtl;
+    private int dnsMaxTtl;
+    private int dnsNegativeTtl;
 
     public BootstrapConfiguration(Map<String, Object> properties) {
 
@@ -59,6 +63,15 @@ public class BootstrapConfiguration {
         socketReuse = Util.getBooleanProperty(
                 properties, Constants.CLIENT_BOOTSTRAP_SO_REUSE, false);
 
+        asyncDnsResolution = Util.getBooleanProperty(properties, Constants.CLIENT_BOOTSTRAP_DNS_ASYNC, true);
+
+        dnsMinTtl = Util.getIntProperty(properties, Constants.CLIENT_BOOTSTRAP_DNS_MIN_TTL, 0);
+
+        dnsMaxTtl = Util.getIntProperty(properties, Constants.CLIENT_BOOTSTRAP_DNS_MAX_TTL, Integer.MAX_VALUE);
+
+        // Same as the default negative caching period of the JDK resolver
+        dnsNegativeTtl = Util.getIntProperty(properties, Constants.CLIENT_BOOTSTRAP_DNS_NEGATIVE_TTL, 10);
+
         String logValue = "{}:{}";
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_TCP_NO_DELY , tcpNoDelay);
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_CONNECT_TIME_OUT, connectTimeOut);
@@ -67,6 +80,10 @@ public class BootstrapConfiguration {
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_SO_TIMEOUT, socketTimeout);
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_KEEPALIVE, keepAlive);
         LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_SO_REUSE, socketReuse);
+        LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_DNS_ASYNC, asyncDnsResolution);
+        LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_DNS_MIN_TTL, dnsMinTtl);
+        LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_DNS_MAX_TTL, dnsMaxTtl);
+        LOG.debug(logValue, Constants.CLIENT_BOOTSTRAP_DNS_NEGATIVE_TTL, dnsNegativeTtl);
     }
 
     public boolean isTcpNoDelay() {
@@ -96,4 +113,20 @@ public class BootstrapConfiguration {
     public int getSocketTimeout() {
         return socketTimeout;
     }
+
+    public boolean isAsyncDnsResolution() {
+        return asyncDnsResolution;
+    }
+
+    public int getDnsMinTtl() {
+        return dnsMinTtl;
+    }
+
+    public int getDnsMaxTtl() {
+        return dnsMaxTtl;
+    }
+
+    public int getDnsNegativeTtl() {
+        return dnsNegativeTtl;
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
+
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.DefaultAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.DnsServerAddressStreamProvider;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code ClientAddressResolverGroups} hands out the address resolvers used by client bootstraps. Names are
+ * resolved asynchronously on the event loop and the answers are cached for their TTL, so establishing a new
+ * connection never blocks an I/O thread on a DNS lookup. Resolver groups are shared by every client that uses
+ * the same cache settings, which lets all of them benefit from the same cache.
+ *
+ * @since 2.3.0
+ */
+public final class ClientAddressResolverGroups {
+
+    private static final Map<String, AddressResolverGroup<InetSocketAddress>> RESOLVER_GROUPS =
+            new ConcurrentHashMap<>();
+
+    private ClientAddressResolverGroups() {
+    }
+
+    /**
+     * Returns the resolver group matching the DNS settings of the given bootstrap configuration.
+     *
+     * @param bootstrapConfiguration the client bootstrap configuration
+     * @return a shared resolver group
+     */
+    public static AddressResolverGroup<InetSocketAddress> getResolverGroup(
+            BootstrapConfiguration bootstrapConfiguration) {
+        if (!bootstrapConfiguration.isAsyncDnsResolution()) {
+            return DefaultAddressResolverGroup.INSTANCE;
+        }
+        int minTtl = bootstrapConfiguration.getDnsMinTtl();
+        int maxTtl = bootstrapConfiguration.getDnsMaxTtl();
+        int negativeTtl = bootstrapConfiguration.getDnsNegativeTtl();
+        return RESOLVER_GROUPS.computeIfAbsent(minTtl + ":" + maxTtl + ":" + negativeTtl,
+                key -> createResolverGroup(minTtl, maxTtl, negativeTtl,
+                                           DnsServerAddressStreamProviders.platformDefault()));
+    }
+
+    /**
+     * Creates a caching resolver group which rotates through all the addresses a name resolves to, so that
+     * consecutive connections are spread across them and an unreachable address does not pin every attempt.
+     *
+     * @param minTtl         lower bound in seconds for caching a successful answer
+     * @param maxTtl         upper bound in seconds for caching a successful answer
+     * @param negativeTtl    seconds for which a failed resolution is cached
+     * @param serverProvider the name servers to query
+     * @return a new resolver group
+     */
+    public static AddressResolverGroup<InetSocketAddress> createResolverGroup(
+            int minTtl, int maxTtl, int negativeTtl, DnsServerAddressStreamProvider serverProvider) {
+        DnsNameResolverBuilder builder = new DnsNameResolverBuilder()
+                .channelType(NioDatagramChannel.class)
+                .ttl(minTtl, maxTtl)
+                .negativeTtl(negativeTtl)
+                .nameServerProvider(serverProvider);
+        return new RoundRobinDnsAddressResolverGroup(builder);
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabi
 import io.ballerina.stdlib.http.transport.contractimpl.sender.HttpClientChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.TargetHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.ConnectionManager;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.EventLoopTargetChannelPool;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ClientChannel;
 import io.ballerina.stdlib.http.transport.internal.HandlerExecutor;
 import io.ballerina.stdlib.http.transport.internal.HttpTransportContextHolder;
@@ -45,13 +46,14 @@ public class TargetChannel {
     private static final Logger LOG = LoggerFactory.getLogger(TargetChannel.class);
 
     public SenderReqRespStateManager senderReqRespStateManager;
-    public String trgHlrConnPoolId;
 
     private boolean requestHeaderWritten = false;
     private Channel channel;
     private HttpClientChannelInitializer httpClientChannelInitializer;
     private ChannelInboundHandlerAdapter correlatedSource;
     private ConnectionManager connectionManager;
+    private EventLoopTargetChannelPool eventLoopPool;
+    private long idleSince;
     private TargetHandler targetHandler;
 
     private Http2ClientChannel http2ClientChannel;
@@ -122,6 +124,22 @@ public class TargetChannel {
         this.connectionManager = connectionManager;
     }
 
+    public void setEventLoopPool(EventLoopTargetChannelPool eventLoopPool) {
+        this.eventLoopPool = eventLoopPool;
+    }
+
+    public EventLoopTargetChannelPool getEventLoopPool() {
+        return eventLoopPool;
+    }
+
+    public void setIdleSince(long idleSince) {
+        this.idleSince = idleSince;
+    }
+
+    public long getIdleSince() {
+        return idleSince;
+    }
+
     public ChannelFuture getChannelFuture() {
         return channelFuture;
     }
@@ -146,6 +164,10 @@ public class TargetChannel {
         return channel;
     }
 
+    public TargetHandler getTargetHandler() {
+        return targetHandler;
+    }
+
     public Http2ClientChannel getHttp2ClientChannel() {
         return http2ClientChannel;
     }
@@ -17,13 +17,17 @@ package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
 
 import io.ballerina.stdlib.http.transport.contract.config.SenderConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.ConnectionPoolStats;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.PoolUsage;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.PoolUsageSource;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.TransportMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.http2.Http2ConnectionManager;
-import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import org.apache.commons.pool.impl.GenericObjectPool;
@@ -31,28 +35,29 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
-import java.util.UUID;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class which handles connection pool management.
  */
-public class ConnectionManager {
+public class ConnectionManager implements PoolUsageSource {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConnectionManager.class);
 
-    private final String connectionManagerId;
     private final PoolConfiguration poolConfiguration;
     private final Map<String, GenericObjectPool> globalConnPool;
     private final Map<String, PoolableTargetChannelFactory> globalFactoryObjects;
+    private final Map<EventLoop, Map<String, EventLoopTargetChannelPool>> eventLoopPools;
     private final Http2ConnectionManager http2ConnectionManager;
 
     public ConnectionManager(PoolConfiguration poolConfiguration) {
         this.poolConfiguration = poolConfiguration;
         globalConnPool = new ConcurrentHashMap<>();
         globalFactoryObjects = new ConcurrentHashMap<>();
+        eventLoopPools = new ConcurrentHashMap<>();
         http2ConnectionManager = new Http2ConnectionManager(poolConfiguration);
-        connectionManagerId = "-" + UUID.randomUUID().toString();
+        TransportMetrics.getInstance().addPoolUsageSource(this);
     }
 
     /**
@@ -71,31 +76,35 @@ public class ConnectionManager {
                                              Http2SourceHandler http2SourceHandler,
                                              SenderConfiguration senderConfig, BootstrapConfiguration bootstrapConfig,
                                              EventLoopGroup clientEventGroup) throws Exception {
-        GenericObjectPool trgHlrConnPool;
-        String trgHlrConnPoolId = httpRoute.toString() + connectionManagerId;
-
-        if (sourceHandler != null) {
-            ChannelHandlerContext inboundChannelContext = sourceHandler.getInboundChannelContext();
-
+        TargetChannel targetChannel;
+        EventLoopTargetChannelPool eventLoopPool = null;
+        long borrowStartTime = System.nanoTime();
+        ConnectionPoolStats poolStats = TransportMetrics.getInstance().getConnectionPoolStats(httpRoute);
 
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
-                                                                    trgHlrConnPoolId,
-                                                                    inboundChannelContext.channel().eventLoop(),
-                                                                    inboundChannelContext.channel().getClass(),
-                                                                    sourceHandler.getTargetChannelPool());
-        } else if (http2SourceHandler != null) {
-            ChannelHandlerContext inboundChannelContext = http2SourceHandler.getInboundChannelContext();
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPoolWithSrcPool(httpRoute, senderConfig, bootstrapConfig,
-                                                                    trgHlrConnPoolId,
-                                                                    inboundChannelContext.channel().eventLoop(),
-                                                                    inboundChannelContext.channel().getClass(),
-                                                                    http2SourceHandler.getTargetChannelPool());
-
-        } else {
-            trgHlrConnPool = getTrgHlrPoolFromGlobalPool(httpRoute, senderConfig, bootstrapConfig, clientEventGroup);
+        try {
+            if (sourceHandler != null) {
+                Channel inboundChannel = sourceHandler.getInboundChannelContext().channel();
+                eventLoopPool = getEventLoopPool(httpRoute, senderConfig, bootstrapConfig,
+                                                 inboundChannel.eventLoop(), inboundChannel.getClass());
+                targetChannel = eventLoopPool.borrowChannel();
+            } else if (http2SourceHandler != null) {
+                Channel inboundChannel = http2SourceHandler.getInboundChannelContext().channel();
+                eventLoopPool = getEventLoopPool(httpRoute, senderConfig, bootstrapConfig,
+                                                 inboundChannel.eventLoop(), inboundChannel.getClass());
+                targetChannel = eventLoopPool.borrowChannel();
+            } else {
+                GenericObjectPool trgHlrConnPool = getTrgHlrPoolFromGlobalPool(httpRoute, senderConfig,
+                                                                               bootstrapConfig, clientEventGroup);
+                targetChannel = (TargetChannel) trgHlrConnPool.borrowObject();
+            }
+        } catch (NoSuchElementException e) {
+            // Thrown by the pool when no connection became available within the max wait time
+            poolStats.recordExhausted();
+            throw e;
         }
+        poolStats.recordBorrow(System.nanoTime() - borrowStartTime);
 
-        return getTargetChannel(sourceHandler, http2SourceHandler, trgHlrConnPool, trgHlrConnPoolId);
+        return correlateTargetChannel(targetChannel, sourceHandler, http2SourceHandler, eventLoopPool);
     }
 
     private GenericObjectPool getTrgHlrPoolFromGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
@@ -113,28 +122,47 @@ public class ConnectionManager {
         return trgHlrConnPool;
     }
 
-    private GenericObjectPool getTrgHlrPoolFromGlobalPoolWithSrcPool(HttpRoute httpRoute,
-                                                                     SenderConfiguration senderConfig,
-                                                                     BootstrapConfiguration bootstrapConfig,
-                                                                     String trgHlrConnPoolId,
-                                                                     EventLoopGroup clientEventGroup,
-                                                                     Class eventLoopClass,
-                                                                     Map<String, GenericObjectPool> srcHlrConnPool) {
-        GenericObjectPool trgHlrConnPool = srcHlrConnPool.get(trgHlrConnPoolId);
-        if (trgHlrConnPool == null) {
+    /**
+     * Gets the free list of the route which is shared by the inbound connections of the given event loop. It is
+     * created once per event loop and route rather than once per inbound connection.
+     */
+    private EventLoopTargetChannelPool getEventLoopPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
+                                                       BootstrapConfiguration bootstrapConfig, EventLoop eventLoop,
+                                                       Class eventLoopClass) {
+        String routeKey = httpRoute.toString();
+        Map<String, EventLoopTargetChannelPool> routePools = eventLoopPools.get(eventLoop);
+        if (routePools == null) {
+            routePools = eventLoopPools.computeIfAbsent(eventLoop, loop -> new ConcurrentHashMap<>());
+        }
+        EventLoopTargetChannelPool eventLoopPool = routePools.get(routeKey);
+        if (eventLoopPool == null) {
             synchronized (this) {
-                if (!globalConnPool.containsKey(httpRoute.toString())) {
-                    createTrgHlrPoolInGlobalPool(httpRoute, senderConfig, bootstrapConfig,
-                                                 clientEventGroup, eventLoopClass);
+                eventLoopPool = routePools.get(routeKey);
+                if (eventLoopPool == null) {
+                    if (!globalConnPool.containsKey(routeKey)) {
+                        createTrgHlrPoolInGlobalPool(httpRoute, senderConfig, bootstrapConfig, eventLoop,
+                                                     eventLoopClass);
+                    }
+                    eventLoopPool = new EventLoopTargetChannelPool(globalConnPool.get(routeKey),
+                                                                   globalFactoryObjects.get(routeKey), eventLoop,
+                                                                   eventLoopClass,
+                                                                   poolConfiguration.getMaxIdlePerPool(),
+                                                                   poolConfiguration.getMinEvictableIdleTime(),
+                                                                   () -> returnIdleChannels(routeKey));
+                    routePools.put(routeKey, eventLoopPool);
                 }
-                trgHlrConnPool = globalConnPool.get(httpRoute.toString());
-                PoolableTargetChannelFactory channelFactory = globalFactoryObjects.get(httpRoute.toString());
-                trgHlrConnPool = createPoolForRoutePerSrcHndlr(trgHlrConnPool, channelFactory, clientEventGroup,
-                                                               eventLoopClass);
             }
-            srcHlrConnPool.put(trgHlrConnPoolId, trgHlrConnPool);
         }
-        return trgHlrConnPool;
+        return eventLoopPool;
+    }
+
+    private void returnIdleChannels(String routeKey) {
+        for (Map<String, EventLoopTargetChannelPool> routePools : eventLoopPools.values()) {
+            EventLoopTargetChannelPool eventLoopPool = routePools.get(routeKey);
+            if (eventLoopPool != null) {
+                eventLoopPool.returnIdleChannels();
+            }
+        }
     }
 
     private void createTrgHlrPoolInGlobalPool(HttpRoute httpRoute, SenderConfiguration senderConfig,
@@ -148,10 +176,9 @@ public class ConnectionManager {
         globalFactoryObjects.put(httpRoute.toString(), poolableTargetChannelFactory);
     }
 
-    private TargetChannel getTargetChannel(SourceHandler sourceHandler, Http2SourceHandler http2SourceHandler,
-                                           GenericObjectPool trgHlrConnPool,
-                                           String trgHlrConnPoolId) throws Exception {
-        TargetChannel targetChannel = (TargetChannel) trgHlrConnPool.borrowObject();
+    private TargetChannel correlateTargetChannel(TargetChannel targetChannel, SourceHandler sourceHandler,
+                                                 Http2SourceHandler http2SourceHandler,
+                                                 EventLoopTargetChannelPool eventLoopPool) {
         if (sourceHandler != null) {
             targetChannel.setCorrelatedSource(sourceHandler);
         } else if (http2SourceHandler != null) {
@@ -160,15 +187,17 @@ public class ConnectionManager {
             targetChannel.setCorrelatedSource(null);
         }
         targetChannel.setConnectionManager(this);
-        targetChannel.trgHlrConnPoolId = trgHlrConnPoolId;
+        targetChannel.setEventLoopPool(eventLoopPool);
         return targetChannel;
     }
 
     public void returnChannel(TargetChannel targetChannel) throws Exception {
-        if (targetChannel.getCorrelatedSource() != null) {
-            Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
-            if (objectPoolMap != null) {
-                releaseChannelToPool(targetChannel, objectPoolMap.get(targetChannel.trgHlrConnPoolId));
+        EventLoopTargetChannelPool eventLoopPool = targetChannel.getEventLoopPool();
+        if (eventLoopPool != null) {
+            try {
+                eventLoopPool.releaseChannel(targetChannel);
+            } catch (Exception e) {
+                throw new Exception("Couldn't return channel to pool", e);
             }
         } else {
             releaseChannelToPool(targetChannel, globalConnPool.get(targetChannel.getHttpRoute().toString()));
@@ -192,22 +221,15 @@ public class ConnectionManager {
     }
 
     public void invalidateTargetChannel(TargetChannel targetChannel) throws Exception {
-        if (targetChannel.getCorrelatedSource() != null) {
-            Map<String, GenericObjectPool> objectPoolMap = getTargetPoolMap(targetChannel);
-            if (objectPoolMap != null) {
-                try {
-                    // Need a null check because SourceHandler side could timeout before TargetHandler side.
-                    String poolId = targetChannel.trgHlrConnPoolId;
-                    if (objectPoolMap.containsKey(poolId)) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Invalidating connection {} to the pool",
-                                      targetChannel.getChannel().id().asShortText());
-                        }
-                        objectPoolMap.get(poolId).invalidateObject(targetChannel);
-                    }
-                } catch (Exception e) {
-                    throw new Exception("Cannot invalidate channel from pool", e);
+        EventLoopTargetChannelPool eventLoopPool = targetChannel.getEventLoopPool();
+        if (eventLoopPool != null) {
+            try {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Invalidating connection {} to the pool", targetChannel.getChannel().id().asShortText());
                 }
+                eventLoopPool.invalidateChannel(targetChannel);
+            } catch (Exception e) {
+                throw new Exception("Cannot invalidate channel from pool", e);
             }
         } else {
             GenericObjectPool genericObjectPool = globalConnPool.get(targetChannel.getHttpRoute().toString());
@@ -217,33 +239,27 @@ public class ConnectionManager {
         }
     }
 
-    private Map<String, GenericObjectPool> getTargetPoolMap(TargetChannel targetChannel) {
-        Map<String, GenericObjectPool> objectPoolMap = null;
-        ChannelInboundHandlerAdapter correlatedSource = targetChannel.getCorrelatedSource();
-        if (correlatedSource instanceof SourceHandler) {
-            SourceHandler h1SourceHandler = (SourceHandler) correlatedSource;
-            objectPoolMap = h1SourceHandler.getTargetChannelPool();
-        } else if (correlatedSource instanceof Http2SourceHandler) {
-            Http2SourceHandler h2SourceHandler = (Http2SourceHandler) correlatedSource;
-            objectPoolMap = h2SourceHandler.getTargetChannelPool();
+    @Override
+    public void addUsage(String route, PoolUsage usage) {
+        GenericObjectPool pool = globalConnPool.get(route);
+        if (pool != null) {
+            // The channels kept in the free lists of the event loops are still borrowed from the global pool
+            int eventLoopIdle = 0;
+            for (Map<String, EventLoopTargetChannelPool> routePools : eventLoopPools.values()) {
+                EventLoopTargetChannelPool eventLoopPool = routePools.get(route);
+                if (eventLoopPool != null) {
+                    eventLoopIdle += eventLoopPool.getIdleCount();
+                }
+            }
+            usage.addConnections(pool.getNumActive() - eventLoopIdle, pool.getNumIdle() + eventLoopIdle);
         }
-        return objectPoolMap;
+        http2ConnectionManager.addUsage(route, usage);
     }
 
     public Http2ConnectionManager getHttp2ConnectionManager() {
         return http2ConnectionManager;
     }
 
-    private GenericObjectPool createPoolForRoutePerSrcHndlr(GenericObjectPool genericObjectPool,
-                                                            PoolableTargetChannelFactory channelFactory,
-                                                            EventLoopGroup clientEventGroup,
-                                                            Class eventLoopClass) {
-        return new GenericObjectPool(
-            new PoolableTargetChannelFactoryPerSrcHndlr(genericObjectPool, channelFactory, clientEventGroup,
-                                                        eventLoopClass),
-            instantiateAndConfigureConfig());
-    }
-
     private GenericObjectPool createPoolForRoute(PoolableTargetChannelFactory poolableTargetChannelFactory) {
         return new GenericObjectPool(poolableTargetChannelFactory, instantiateAndConfigureConfig());
     }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool;
+
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import org.apache.commons.pool.impl.GenericObjectPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code EventLoopTargetChannelPool} keeps the idle target channels of a route which were borrowed for the inbound
+ * connections of a single event loop. Inbound connections of that event loop share this free list instead of owning
+ * an object pool each, while the channels are still created in the global pool of the route, bound to the event loop,
+ * so that the global pool keeps enforcing the connection limits. Idle channels are handed back to the global pool
+ * once they expire, even if the event loop stays quiet, and whenever the global pool runs out of channels so that
+ * channels parked on one event loop never starve the others.
+ *
+ * @since 2.3.0
+ */
+public class EventLoopTargetChannelPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventLoopTargetChannelPool.class);
+
+    private final GenericObjectPool globalPool;
+    private final PoolableTargetChannelFactory channelFactory;
+    private final EventLoop eventLoop;
+    private final Class eventLoopClass;
+    private final int maxIdle;
+    private final long maxIdleTimeNanos;
+    private final Runnable idleChannelReclaimer;
+    private final Deque<TargetChannel> idleChannels = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+
+    /**
+     * Creates the free list of a route for an event loop.
+     *
+     * @param globalPool           the global pool of the route
+     * @param channelFactory       the factory of the global pool
+     * @param eventLoop            the event loop which the free list belongs to
+     * @param eventLoopClass       the channel class of the event loop
+     * @param maxIdle              the maximum number of idle channels kept, or a negative value for no limit
+     * @param maxIdleTimeMillis    the time an idle channel is kept, or zero to keep it until it is needed elsewhere
+     * @param idleChannelReclaimer returns the idle channels of all the event loops of the route to the global pool
+     */
+    EventLoopTargetChannelPool(GenericObjectPool globalPool, PoolableTargetChannelFactory channelFactory,
+                               EventLoop eventLoop, Class eventLoopClass, int maxIdle, long maxIdleTimeMillis,
+                               Runnable idleChannelReclaimer) {
+        this.globalPool = globalPool;
+        this.channelFactory = channelFactory;
+        this.eventLoop = eventLoop;
+        this.eventLoopClass = eventLoopClass;
+        this.maxIdle = maxIdle < 0 ? Integer.MAX_VALUE : maxIdle;
+        this.maxIdleTimeNanos = maxIdleTimeMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(maxIdleTimeMillis) : 0;
+        this.idleChannelReclaimer = idleChannelReclaimer;
+    }
+
+    /**
+     * Borrows the most recently used idle channel, or a channel from the global pool when there is none.
+     *
+     * @return the target channel
+     * @throws Exception if the global pool fails to provide a channel
+     */
+    public TargetChannel borrowChannel() throws Exception {
+        TargetChannel targetChannel;
+        while ((targetChannel = idleChannels.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            // An inactive channel is invalidated by its target handler once the closure reaches it
+            if (isActive(targetChannel)) {
+                return targetChannel;
+            }
+        }
+        if (isGlobalPoolExhausted()) {
+            // The missing channels may be parked idle on other event loops
+            idleChannelReclaimer.run();
+        }
+        //When borrowObject() creates a new channel, it should be created with the given eventloop class and group since
+        //with http/2, eventloop of the channel cannot be changed later. This does not affect http/1.1.
+        channelFactory.setEventLoopClass(eventLoopClass);
+        channelFactory.setEventLoopGroup(eventLoop);
+        targetChannel = (TargetChannel) globalPool.borrowObject();
+        LOG.debug("Borrowed channel from the global pool: {}", targetChannel);
+        return targetChannel;
+    }
+
+    /**
+     * Keeps an active channel for the next inbound request of the event loop. The channel is returned to the global
+     * pool instead when the free list is full, and so are the channels which stayed idle for too long.
+     *
+     * @param targetChannel the channel which completed its request
+     * @throws Exception if the global pool fails to take a channel back
+     */
+    public void releaseChannel(TargetChannel targetChannel) throws Exception {
+        Channel channel = targetChannel.getChannel();
+        if (!channel.isActive()) {
+            LOG.debug("Channel {} is inactive hence not returning to connection pool", channel.id().asShortText());
+            return;
+        }
+        long now = System.nanoTime();
+        returnExpiredChannels(now);
+        if (idleCount.incrementAndGet() > maxIdle) {
+            idleCount.decrementAndGet();
+            globalPool.returnObject(targetChannel);
+            return;
+        }
+        targetChannel.setIdleSince(now);
+        idleChannels.offerFirst(targetChannel);
+        scheduleEviction(maxIdleTimeNanos);
+    }
+
+    /**
+     * Hands all the idle channels back to the global pool so that they can be borrowed by other event loops.
+     */
+    void returnIdleChannels() {
+        TargetChannel targetChannel;
+        while ((targetChannel = idleChannels.pollLast()) != null) {
+            idleCount.decrementAndGet();
+            returnToGlobalPool(targetChannel);
+        }
+    }
+
+    /**
+     * Drops a closed channel from the free list and invalidates it in the global pool.
+     *
+     * @param targetChannel the closed channel
+     * @throws Exception if the global pool fails to invalidate the channel
+     */
+    public void invalidateChannel(TargetChannel targetChannel) throws Exception {
+        if (idleChannels.remove(targetChannel)) {
+            idleCount.decrementAndGet();
+        }
+        globalPool.invalidateObject(targetChannel);
+    }
+
+    private void returnExpiredChannels(long now) {
+        if (maxIdleTimeNanos == 0) {
+            return;
+        }
+        TargetChannel eldest;
+        while ((eldest = idleChannels.peekLast()) != null && now - eldest.getIdleSince() >= maxIdleTimeNanos) {
+            if (idleChannels.removeLastOccurrence(eldest)) {
+                idleCount.decrementAndGet();
+                returnToGlobalPool(eldest);
+            }
+        }
+    }
+
+    /**
+     * Schedules the expiry of the idle channels on the event loop, unless it is already scheduled, so that the
+     * channels of a quiet event loop are handed back as well.
+     */
+    private void scheduleEviction(long delayNanos) {
+        if (maxIdleTimeNanos == 0 || !evictionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            eventLoop.schedule(this::evictExpiredChannels, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Event loop is shutting down hence not scheduling the eviction of idle channels");
+        }
+    }
+
+    private void evictExpiredChannels() {
+        long now = System.nanoTime();
+        returnExpiredChannels(now);
+        evictionScheduled.set(false);
+        TargetChannel eldest = idleChannels.peekLast();
+        if (eldest != null) {
+            scheduleEviction(Math.max(0, eldest.getIdleSince() + maxIdleTimeNanos - now));
+        }
+    }
+
+    private boolean isGlobalPoolExhausted() {
+        int maxActive = globalPool.getMaxActive();
+        return maxActive > 0 && globalPool.getNumActive() >= maxActive;
+    }
+
+    private void returnToGlobalPool(TargetChannel targetChannel) {
+        if (!isActive(targetChannel)) {
+            return;
+        }
+        try {
+            globalPool.returnObject(targetChannel);
+        } catch (Exception e) {
+            LOG.warn("Couldn't return idle channel to the global pool", e);
+        }
+    }
+
+    private static boolean isActive(TargetChannel targetChannel) {
+        Channel channel = targetChannel.getChannel();
+        return channel == null || channel.isActive();
+    }
+
+    int getIdleCount() {
+        return idleCount.get();
+    }
+}
@@ -20,6 +20,7 @@ import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.ConnectionAvailabilityFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.HttpClientChannelInitializer;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.BootstrapConfiguration;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.ClientAddressResolverGroups;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
@@ -47,7 +48,7 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
     private final SenderConfiguration senderConfiguration;
     private final BootstrapConfiguration bootstrapConfiguration;
     private final ConnectionManager connectionManager;
-    private String remoteAddress;
+    private InetSocketAddress remoteAddress;
 
     PoolableTargetChannelFactory(EventLoopGroup eventLoopGroup, Class eventLoopClass, HttpRoute httpRoute,
                                         SenderConfiguration senderConfiguration,
@@ -96,17 +97,18 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
     private ChannelFuture connectToRemoteEndpoint(Bootstrap clientBootstrap) {
         // Connect to proxy server if proxy is enabled
         ChannelFuture channelFuture;
+        // Left unresolved so that the bootstrap resolver looks the name up without blocking the caller
         InetSocketAddress socketAddress;
         if (senderConfiguration.getProxyServerConfiguration() != null && senderConfiguration.getScheme()
                 .equals(HTTP_SCHEME)) {
-            socketAddress = new InetSocketAddress(
+            socketAddress = InetSocketAddress.createUnresolved(
                     senderConfiguration.getProxyServerConfiguration().getProxyHost(),
                     senderConfiguration.getProxyServerConfiguration().getProxyPort()
             );
         } else {
-            socketAddress = new InetSocketAddress(httpRoute.getHost(), httpRoute.getPort());
+            socketAddress = InetSocketAddress.createUnresolved(httpRoute.getHost(), httpRoute.getPort());
         }
-        remoteAddress = socketAddress.toString();
+        remoteAddress = socketAddress;
         channelFuture = clientBootstrap.connect(socketAddress);
         return channelFuture;
     }
@@ -116,6 +118,7 @@ public class PoolableTargetChannelFactory implements PoolableObjectFactory {
         Bootstrap clientBootstrap = new Bootstrap();
         clientBootstrap.channel(eventLoopClass);
         clientBootstrap.group(eventLoopGroup);
+        clientBootstrap.resolver(ClientAddressResolverGroups.getResolverGroup(bootstrapConfiguration));
         clientBootstrap.option(ChannelOption.SO_KEEPALIVE, bootstrapConfiguration.isKeepAlive());
         clientBootstrap.option(ChannelOption.TCP_NODELAY, bootstrapConfiguration.isTcpNoDelay());
         clientBootstrap.option(ChannelOption.SO_REUSEADDR, bootstrapConfiguration.isSocketReuse());
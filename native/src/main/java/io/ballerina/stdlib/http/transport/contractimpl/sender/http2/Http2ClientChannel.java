@@ -195,6 +195,10 @@ public class Http2ClientChannel {
         return activeStreams.incrementAndGet();
     }
 
+    int getActiveStreamCount() {
+        return activeStreams.get();
+    }
+
     /**
      * Marks the channel has reached the maximum number of active streams.
      */
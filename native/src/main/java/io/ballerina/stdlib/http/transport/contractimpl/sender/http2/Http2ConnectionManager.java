@@ -19,12 +19,14 @@
 package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.PoolUsage;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.http2.Http2SourceHandler;
 import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.pool.PoolConfiguration;
 import io.netty.channel.EventLoop;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -34,6 +36,8 @@ public class Http2ConnectionManager {
 
     private final ConcurrentHashMap<EventLoop, EventLoopPool> eventLoopPools = new ConcurrentHashMap<>();
     private final Deque<EventLoop> eventLoops = new ArrayDeque<>(); //When source handler is not present
+    // All the open connections of each route, including the ones which ran out of streams and left the pools
+    private final ConcurrentHashMap<String, Set<Http2ClientChannel>> routeChannels = new ConcurrentHashMap<>();
     private PoolConfiguration poolConfiguration;
 
     public Http2ConnectionManager(PoolConfiguration poolConfiguration) {
@@ -55,10 +59,14 @@ public class Http2ConnectionManager {
         String key = generateKey(httpRoute);
         final EventLoopPool.PerRouteConnectionPool perRouteConnectionPool = getOrCreatePerRoutePool(eventLoopPool, key);
         perRouteConnectionPool.addChannel(http2ClientChannel);
+        Set<Http2ClientChannel> channels = routeChannels.computeIfAbsent(httpRoute.toString(),
+                                                                         route -> ConcurrentHashMap.newKeySet());
+        channels.add(http2ClientChannel);
 
         // Configure a listener to remove connection from pool when it is closed
         http2ClientChannel.getChannel().closeFuture().
             addListener(future -> {
+                            channels.remove(http2ClientChannel);
                             EventLoopPool.PerRouteConnectionPool pool = eventLoopPool.fetchPerRoutePool(key);
                             if (pool != null) {
                                 pool.removeChannel(http2ClientChannel);
@@ -162,6 +170,19 @@ public class Http2ConnectionManager {
         }
     }
 
+    /**
+     * Adds the HTTP/2 connections of the given route to the pool usage.
+     *
+     * @param route the route key
+     * @param usage the usage to add to
+     */
+    public void addUsage(String route, PoolUsage usage) {
+        Set<Http2ClientChannel> channels = routeChannels.get(route);
+        if (channels != null) {
+            channels.forEach(channel -> usage.addHttp2Connection(channel.getActiveStreamCount()));
+        }
+    }
+
     private EventLoopPool.PerRouteConnectionPool fetchPerRoutePool(HttpRoute httpRoute,
                                                                    EventLoop eventLoop) {
         String key = generateKey(httpRoute);
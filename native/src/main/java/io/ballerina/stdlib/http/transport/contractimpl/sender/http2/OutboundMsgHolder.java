@@ -19,12 +19,18 @@
 package io.ballerina.stdlib.http.transport.contractimpl.sender.http2;
 
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contract.exceptions.RequestCancelledException;
 import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpResponseFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.sender.channel.TargetChannel;
 import io.ballerina.stdlib.http.transport.message.BackPressureObservable;
 import io.ballerina.stdlib.http.transport.message.DefaultBackPressureObservable;
 import io.ballerina.stdlib.http.transport.message.Http2PushPromise;
+import io.ballerina.stdlib.http.transport.message.Http2Reset;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http2.Http2Error;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +51,9 @@ public class OutboundMsgHolder {
     // Future which is used to notify the response listener upon response receive
     private HttpResponseFuture responseFuture;
     private Http2ClientChannel http2ClientChannel;
+    // The HTTP/1.x connection the request is sent over, null when it is sent over an HTTP/2 stream
+    private volatile TargetChannel targetChannel;
+    private volatile int streamId;
 
     private boolean allPromisesReceived = false;
     private long lastReadWriteTime;
@@ -64,6 +73,51 @@ public class OutboundMsgHolder {
         this.http2ClientChannel = http2ClientChannel;
     }
 
+    public void setTargetChannel(TargetChannel targetChannel) {
+        this.targetChannel = targetChannel;
+    }
+
+    /**
+     * Sets the id of the HTTP/2 stream the request is sent over.
+     *
+     * @param streamId the stream id
+     */
+    public void setStreamId(int streamId) {
+        this.streamId = streamId;
+    }
+
+    /**
+     * Cancels the invocation if its response has not started to arrive, so that the server can stop working on it.
+     * The HTTP/2 stream of the request is reset, whereas the HTTP/1.x connection is closed. The response future is
+     * then notified with a {@link RequestCancelledException}. An invocation whose request has not been sent yet, or
+     * whose response is already being received, is left as it is.
+     */
+    public void cancel() {
+        TargetChannel http1Channel = targetChannel;
+        if (http1Channel != null) {
+            Channel channel = http1Channel.getChannel();
+            channel.eventLoop().execute(() -> {
+                if (http1Channel.getTargetHandler().cancelRequest(requestCarbonMessage)) {
+                    notifyCancellation();
+                }
+            });
+        } else if (http2ClientChannel != null && http2ClientChannel.getChannel() != null) {
+            Channel channel = http2ClientChannel.getChannel();
+            channel.eventLoop().execute(() -> {
+                int id = streamId;
+                if (id > 0 && response == null && http2ClientChannel.getInFlightMessage(id) == this) {
+                    channel.write(new Http2Reset(id, Http2Error.CANCEL));
+                    notifyCancellation();
+                }
+            });
+        }
+    }
+
+    private void notifyCancellation() {
+        responseFuture.notifyHttpListener(new RequestCancelledException("Request cancelled",
+                                                                        HttpResponseStatus.BAD_GATEWAY.code()));
+    }
+
     /**
      * Gets the outbound request {@code HttpCarbonMessage}.
      *
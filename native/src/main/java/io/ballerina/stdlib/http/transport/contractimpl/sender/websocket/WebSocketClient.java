@@ -150,6 +150,7 @@ public class WebSocketClient {
     }
 
     private void configureHandshakePipeline(ChannelPipeline pipeline) {
+        Util.addFlushConsolidationHandler(pipeline);
         pipeline.addLast(new HttpClientCodec());
         // Assuming that WebSocket Handshake messages will not be large than 8KB
         pipeline.addLast(new HttpObjectAggregator(8192));
@@ -28,10 +28,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Queue;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -44,11 +44,13 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 public class BlockingEntityCollector implements EntityCollector {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlockingEntityCollector.class);
+    private static final int INITIAL_QUEUE_CAPACITY = 4;
 
     private int soTimeOut;
     private EntityBodyState state;
 
-    private BlockingQueue<HttpContent> httpContentQueue;
+    // Guarded by the readWriteLock, hence a plain queue avoids the second set of locks of a blocking queue
+    private Queue<HttpContent> httpContentQueue;
     private Lock readWriteLock;
     private Condition readCondition;
 
@@ -56,7 +58,7 @@ public class BlockingEntityCollector implements EntityCollector {
         this.soTimeOut = soTimeOut;
         this.state = EntityBodyState.EXPECTING;
         this.readWriteLock = new ReentrantLock();
-        this.httpContentQueue = new LinkedBlockingQueue<>();
+        this.httpContentQueue = new ArrayDeque<>(INITIAL_QUEUE_CAPACITY);
         this.readCondition = readWriteLock.newCondition();
     }
 
@@ -82,7 +84,7 @@ public class BlockingEntityCollector implements EntityCollector {
             readWriteLock.lock();
             if (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
                 waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
+                HttpContent httpContent = httpContentQueue.poll();
 
                 if (httpContent instanceof LastHttpContent) {
                     state = EntityBodyState.CONSUMED;
@@ -114,7 +116,7 @@ public class BlockingEntityCollector implements EntityCollector {
             List<HttpContent> contentList = new ArrayList<>();
             while (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
                 waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
+                HttpContent httpContent = httpContentQueue.poll();
                 size += httpContent.content().readableBytes();
                 contentList.add(httpContent);
                 if ((httpContent instanceof LastHttpContent)) {
@@ -141,7 +143,7 @@ public class BlockingEntityCollector implements EntityCollector {
             List<HttpContent> contentList = new ArrayList<>();
             while (state == EntityBodyState.CONSUMABLE || state == EntityBodyState.EXPECTING) {
                 waitForEntity();
-                HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
+                HttpContent httpContent = httpContentQueue.poll();
                 if (httpContent == null) {
                     throw new IllegalStateException("poll timeout expired");
                 }
@@ -149,7 +151,7 @@ public class BlockingEntityCollector implements EntityCollector {
                 contentList.add(httpContent);
                 if (size >= maxSize) {
                     while (!httpContentQueue.isEmpty()) {
-                        contentList.add(httpContentQueue.poll(soTimeOut, MILLISECONDS));
+                        contentList.add(httpContentQueue.poll());
                     }
                     break;
                 } else if ((httpContent instanceof LastHttpContent)) {
@@ -187,7 +189,7 @@ public class BlockingEntityCollector implements EntityCollector {
                 boolean isEndOfMessageProcessed = false;
                 while (!isEndOfMessageProcessed) {
                     waitForEntity();
-                    HttpContent httpContent = httpContentQueue.poll(soTimeOut, MILLISECONDS);
+                    HttpContent httpContent = httpContentQueue.poll();
                     if (httpContent instanceof LastHttpContent) {
                         isEndOfMessageProcessed = true;
                         state = EntityBodyState.CONSUMED;
@@ -25,8 +25,10 @@ import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpResponseFuture;
 import io.ballerina.stdlib.http.transport.contractimpl.HttpWsServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contractimpl.common.metrics.RequestMetrics;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http2MessageStateContext;
 import io.ballerina.stdlib.http.transport.contractimpl.common.states.Http3MessageStateContext;
+import io.ballerina.stdlib.http.transport.contractimpl.listener.AdmissionController;
 import io.ballerina.stdlib.http.transport.contractimpl.listener.states.ListenerReqRespStateManager;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -56,13 +58,15 @@ public class HttpCarbonMessage {
 
     protected HttpMessage httpMessage;
     private EntityCollector blockingEntityCollector;
-    private Map<String, Object> properties = new HashMap<>(Constants.HTTP_CARBON_MESSAGE_PROPERTIES_MAP_DEFAULT_SIZE);
+    private final Object[] wellKnownProperties = new Object[MessageProperty.count()];
+    private Map<String, Object> properties;
 
     private MessageFuture messageFuture;
-    private final ServerConnectorFuture httpOutboundRespFuture = new HttpWsServerConnectorFuture();
-    private final DefaultHttpResponseFuture httpOutboundRespStatusFuture = new DefaultHttpResponseFuture();
-    private final Observable contentObservable = new DefaultObservable();
-    private HttpHeaders httpTrailerHeaders = new DefaultLastHttpContent().trailingHeaders();
+    // The collaborators below are created on first use since most messages never need all of them
+    private volatile ServerConnectorFuture httpOutboundRespFuture;
+    private volatile DefaultHttpResponseFuture httpOutboundRespStatusFuture;
+    private final Observable contentObservable;
+    private volatile HttpHeaders httpTrailerHeaders;
     private IOException ioException;
     public ListenerReqRespStateManager listenerReqRespStateManager;
     private Http2MessageStateContext http2MessageStateContext;
@@ -83,22 +87,36 @@ public class HttpCarbonMessage {
     private String requestUrl;
     private Integer httpStatusCode;
     private boolean contentReleased = false;
+    private RequestMetrics listenerMetrics;
+    private RequestMetrics resourceMetrics;
+    private long metricsStartTime;
+    private long bytesReceived;
+    private AdmissionController listenerAdmission;
+    private AdmissionController resourceAdmission;
+    private long admissionTime;
+    private boolean admissionsReleased;
 
     public HttpCarbonMessage(HttpMessage httpMessage, Listener contentListener) {
-        this.httpMessage = httpMessage;
-        setBlockingEntityCollector(new BlockingEntityCollector(Constants.ENDPOINT_TIMEOUT));
-        this.contentObservable.setListener(contentListener);
+        this(httpMessage, Constants.ENDPOINT_TIMEOUT, contentListener);
     }
 
     public HttpCarbonMessage(HttpMessage httpMessage, int maxWaitTime, Listener contentListener) {
         this.httpMessage = httpMessage;
         setBlockingEntityCollector(new BlockingEntityCollector(maxWaitTime));
-        this.contentObservable.setListener(contentListener);
+        this.contentObservable = createContentObservable(contentListener);
     }
 
     public HttpCarbonMessage(HttpMessage httpMessage) {
-        this.httpMessage = httpMessage;
-        setBlockingEntityCollector(new BlockingEntityCollector(Constants.ENDPOINT_TIMEOUT));
+        this(httpMessage, Constants.ENDPOINT_TIMEOUT, null);
+    }
+
+    private static Observable createContentObservable(Listener contentListener) {
+        if (contentListener == null) {
+            return null;
+        }
+        Observable observable = new DefaultObservable();
+        observable.setListener(contentListener);
+        return observable;
     }
 
     /**
@@ -107,7 +125,12 @@ public class HttpCarbonMessage {
      * @param httpContent chunks of the payload.
      */
     public synchronized void addHttpContent(HttpContent httpContent) {
-        contentObservable.notifyAddListener(httpContent);
+        if (listenerMetrics != null) {
+            bytesReceived += httpContent.content().readableBytes();
+        }
+        if (contentObservable != null) {
+            contentObservable.notifyAddListener(httpContent);
+        }
         if (messageFuture != null) {
             if (ioException != null) {
                 blockingEntityCollector.addHttpContent(new DefaultLastHttpContent());
@@ -121,7 +144,9 @@ public class HttpCarbonMessage {
                 //This should only be called once the message listener is set and the HttpContent is retrieved from the
                 //blocking entity collector. Calling this before that will raise a race condition in passthrough
                 //scenario.
-                contentObservable.notifyGetListener(httpContent);
+                if (contentObservable != null) {
+                    contentObservable.notifyGetListener(httpContent);
+                }
             }
             // We remove the feature as the message has reached it life time. If there is a need
             // for using the same message again, we need to set the future again and restart
@@ -146,7 +171,9 @@ public class HttpCarbonMessage {
      */
     public HttpContent getHttpContent() {
         HttpContent httpContent = this.blockingEntityCollector.getHttpContent();
-        this.contentObservable.notifyGetListener(httpContent);
+        if (this.contentObservable != null) {
+            this.contentObservable.notifyGetListener(httpContent);
+        }
         return httpContent;
     }
 
@@ -305,10 +332,25 @@ public class HttpCarbonMessage {
      * @return all trailer headers.
      */
     public HttpHeaders getTrailerHeaders() {
-        return httpTrailerHeaders;
+        HttpHeaders trailerHeaders = httpTrailerHeaders;
+        if (trailerHeaders == null) {
+            synchronized (this) {
+                trailerHeaders = httpTrailerHeaders;
+                if (trailerHeaders == null) {
+                    // Trailing headers of a last content validate the header names allowed in a trailer
+                    trailerHeaders = new DefaultLastHttpContent().trailingHeaders();
+                    httpTrailerHeaders = trailerHeaders;
+                }
+            }
+        }
+        return trailerHeaders;
     }
 
     public Object getProperty(String key) {
+        MessageProperty property = MessageProperty.forKey(key);
+        if (property != null) {
+            return wellKnownProperties[property.ordinal()];
+        }
         if (properties != null) {
             return properties.get(key);
         } else {
@@ -316,22 +358,59 @@ public class HttpCarbonMessage {
         }
     }
 
+    public Object getProperty(MessageProperty property) {
+        return wellKnownProperties[property.ordinal()];
+    }
+
     public synchronized void removeMessageFuture() {
         this.messageFuture = null;
         // To ensure that the carbon message is reusable.
         passthrough = false;
     }
 
+    /**
+     * Returns a snapshot of all the properties of the message including the well known ones.
+     *
+     * @return a copy of the message properties
+     */
     public Map<String, Object> getProperties() {
-        return properties;
+        Map<String, Object> allProperties = properties == null ? new HashMap<>() : new HashMap<>(properties);
+        for (int i = 0; i < wellKnownProperties.length; i++) {
+            if (wellKnownProperties[i] != null) {
+                allProperties.put(MessageProperty.get(i).getKey(), wellKnownProperties[i]);
+            }
+        }
+        return allProperties;
     }
 
     public void setProperty(String key, Object value) {
+        MessageProperty property = MessageProperty.forKey(key);
+        if (property != null) {
+            wellKnownProperties[property.ordinal()] = value;
+            return;
+        }
+        if (properties == null) {
+            // Allocated only for properties other than the well known ones
+            properties = new HashMap<>(Constants.HTTP_CARBON_MESSAGE_PROPERTIES_MAP_DEFAULT_SIZE);
+        }
         properties.put(key, value);
     }
 
+    public void setProperty(MessageProperty property, Object value) {
+        wellKnownProperties[property.ordinal()] = value;
+    }
+
     public void removeProperty(String key) {
-        properties.remove(key);
+        MessageProperty property = MessageProperty.forKey(key);
+        if (property != null) {
+            wellKnownProperties[property.ordinal()] = null;
+        } else if (properties != null) {
+            properties.remove(key);
+        }
+    }
+
+    public void removeProperty(MessageProperty property) {
+        wellKnownProperties[property.ordinal()] = null;
     }
 
     public String getHttpVersion() {
@@ -383,7 +462,17 @@ public class HttpCarbonMessage {
      * @return httpOutboundRespFuture.
      */
     public ServerConnectorFuture getHttpResponseFuture() {
-        return this.httpOutboundRespFuture;
+        ServerConnectorFuture respFuture = this.httpOutboundRespFuture;
+        if (respFuture == null) {
+            synchronized (this) {
+                respFuture = this.httpOutboundRespFuture;
+                if (respFuture == null) {
+                    respFuture = new HttpWsServerConnectorFuture();
+                    this.httpOutboundRespFuture = respFuture;
+                }
+            }
+        }
+        return respFuture;
     }
 
     /**
@@ -392,12 +481,26 @@ public class HttpCarbonMessage {
      * @return httpOutboundRespStatusFuture.
      */
     public HttpResponseFuture getHttpOutboundRespStatusFuture() {
-        return httpOutboundRespStatusFuture;
+        return getOutboundRespStatusFuture();
+    }
+
+    private DefaultHttpResponseFuture getOutboundRespStatusFuture() {
+        DefaultHttpResponseFuture statusFuture = this.httpOutboundRespStatusFuture;
+        if (statusFuture == null) {
+            synchronized (this) {
+                statusFuture = this.httpOutboundRespStatusFuture;
+                if (statusFuture == null) {
+                    statusFuture = new DefaultHttpResponseFuture();
+                    this.httpOutboundRespStatusFuture = statusFuture;
+                }
+            }
+        }
+        return statusFuture;
     }
 
     public HttpResponseFuture respond(HttpCarbonMessage httpCarbonMessage) throws ServerConnectorException {
-        httpOutboundRespFuture.notifyHttpListener(httpCarbonMessage);
-        return httpOutboundRespStatusFuture;
+        getHttpResponseFuture().notifyHttpListener(httpCarbonMessage);
+        return getOutboundRespStatusFuture();
     }
 
     /**
@@ -410,8 +513,8 @@ public class HttpCarbonMessage {
      */
     public HttpResponseFuture pushResponse(HttpCarbonMessage httpCarbonMessage, Http2PushPromise pushPromise)
             throws ServerConnectorException {
-        httpOutboundRespFuture.notifyHttpListener(httpCarbonMessage, pushPromise);
-        return httpOutboundRespStatusFuture;
+        getHttpResponseFuture().notifyHttpListener(httpCarbonMessage, pushPromise);
+        return getOutboundRespStatusFuture();
     }
 
     /**
@@ -423,8 +526,8 @@ public class HttpCarbonMessage {
      */
     public HttpResponseFuture pushPromise(Http2PushPromise pushPromise)
             throws ServerConnectorException {
-        httpOutboundRespFuture.notifyHttpListener(pushPromise);
-        return httpOutboundRespStatusFuture;
+        getHttpResponseFuture().notifyHttpListener(pushPromise);
+        return getOutboundRespStatusFuture();
     }
 
     /**
@@ -435,8 +538,11 @@ public class HttpCarbonMessage {
     public HttpCarbonMessage cloneCarbonMessageWithOutData() {
         HttpCarbonMessage newCarbonMessage = getNewHttpCarbonMessage();
 
-        Map<String, Object> propertiesMap = this.getProperties();
-        propertiesMap.forEach(newCarbonMessage::setProperty);
+        System.arraycopy(this.wellKnownProperties, 0, newCarbonMessage.wellKnownProperties, 0,
+                         this.wellKnownProperties.length);
+        if (this.properties != null) {
+            this.properties.forEach(newCarbonMessage::setProperty);
+        }
         newCarbonMessage.setHttpStatusCode(this.getHttpStatusCode());
         newCarbonMessage.setHttpMethod(this.getHttpMethod());
         newCarbonMessage.setRequestUrl(this.getRequestUrl());
@@ -524,6 +630,117 @@ public class HttpCarbonMessage {
         this.http3MessageStateContext = http3MessageStateContext;
     }
 
+    /**
+     * Starts recording the request metrics of this inbound request against the given listener metrics.
+     *
+     * @param listenerMetrics metrics of the listener which received the request, null if metrics are disabled
+     */
+    public synchronized void startRequestMetrics(RequestMetrics listenerMetrics) {
+        if (listenerMetrics == null) {
+            return;
+        }
+        this.listenerMetrics = listenerMetrics;
+        this.metricsStartTime = System.nanoTime();
+        listenerMetrics.requestStarted();
+    }
+
+    public synchronized RequestMetrics getListenerMetrics() {
+        return listenerMetrics;
+    }
+
+    /**
+     * Records the request metrics of this inbound request against the given resource as well, once it has been
+     * dispatched.
+     *
+     * @param resourceMetrics metrics of the resource the request was dispatched to
+     */
+    public synchronized void setResourceMetrics(RequestMetrics resourceMetrics) {
+        if (listenerMetrics == null || this.resourceMetrics != null || resourceMetrics == null) {
+            return;
+        }
+        this.resourceMetrics = resourceMetrics;
+        resourceMetrics.requestStarted();
+    }
+
+    /**
+     * Completes the request metrics of this inbound request and releases its admissions. Only the first call is
+     * recorded, so this can be called both once the response is written and when the connection is closed.
+     *
+     * @param statusCode status code of the response, 0 if the request was aborted
+     * @param bytesSent  size of the response entity body
+     */
+    public synchronized void completeRequestMetrics(int statusCode, long bytesSent) {
+        releaseAdmissions(statusCode);
+        if (listenerMetrics == null) {
+            return;
+        }
+        long latency = System.nanoTime() - metricsStartTime;
+        listenerMetrics.requestCompleted(statusCode, latency, bytesReceived, bytesSent);
+        if (resourceMetrics != null) {
+            resourceMetrics.requestCompleted(statusCode, latency, bytesReceived, bytesSent);
+        }
+        listenerMetrics = null;
+        resourceMetrics = null;
+    }
+
+    /**
+     * Sets the admission control of the listener which admitted this inbound request.
+     *
+     * @param admissionController the admission control of the listener, null if it is disabled
+     */
+    public synchronized void setListenerAdmission(AdmissionController admissionController) {
+        if (admissionController == null) {
+            return;
+        }
+        this.listenerAdmission = admissionController;
+        this.admissionTime = System.nanoTime();
+    }
+
+    /**
+     * Admits this inbound request to a resource once it has been dispatched.
+     *
+     * @param admissionController the admission control of the resource
+     * @return true if the request is admitted
+     */
+    public synchronized boolean admitToResource(AdmissionController admissionController) {
+        // An admission taken after the request was completed, e.g. by an aborted connection, would never be released
+        if (resourceAdmission != null || admissionsReleased) {
+            return true;
+        }
+        if (!admissionController.tryAcquire()) {
+            return false;
+        }
+        this.resourceAdmission = admissionController;
+        if (listenerAdmission == null) {
+            this.admissionTime = System.nanoTime();
+        }
+        return true;
+    }
+
+    private void releaseAdmissions(int statusCode) {
+        admissionsReleased = true;
+        if (listenerAdmission == null && resourceAdmission == null) {
+            return;
+        }
+        long latency = System.nanoTime() - admissionTime;
+        releaseAdmission(listenerAdmission, statusCode, latency);
+        releaseAdmission(resourceAdmission, statusCode, latency);
+        listenerAdmission = null;
+        resourceAdmission = null;
+    }
+
+    private static void releaseAdmission(AdmissionController admissionController, int statusCode, long latency) {
+        if (admissionController == null) {
+            return;
+        }
+        // Aborted requests say little about the latency of the service, hence only the served ones adjust the limit
+        if (statusCode > 0) {
+            admissionController.release(latency);
+        } else {
+            admissionController.release();
+        }
+    }
+
     public long getSequenceId() {
         return sequenceId;
     }
@@ -599,6 +816,9 @@ public class HttpCarbonMessage {
      * removed for HTTP/2.
      */
     public void removeInboundContentListener() {
+        if (contentObservable == null) {
+            return;
+        }
         contentObservable.notifyReadInterest();
         String httpVersion = this.getHttpVersion();
         if (Constants.HTTP_1_1_VERSION.equalsIgnoreCase(httpVersion)) {
@@ -662,7 +882,7 @@ public class HttpCarbonMessage {
         }
     }
 
-    synchronized boolean isLastHttpContentArrived() {
+    public synchronized boolean isLastHttpContentArrived() {
         return lastHttpContentArrived;
     }
 
@@ -678,11 +898,11 @@ public class HttpCarbonMessage {
     }
 
     public boolean isAccessedInNonInterceptorService() {
-        return this.getProperty(HttpConstants.INTERCEPTOR_SERVICE) == null;
+        return this.getProperty(MessageProperty.INTERCEPTOR_SERVICE) == null;
     }
 
     public boolean isInterceptorError() {
-        return this.getProperty(HttpConstants.INTERCEPTOR_SERVICE_ERROR) != null;
+        return this.getProperty(MessageProperty.INTERCEPTOR_SERVICE_ERROR) != null;
     }
 
     public String getRequestInterceptorServiceState() {
@@ -700,7 +920,7 @@ public class HttpCarbonMessage {
     }
 
     public Listener getListener() {
-        return this.contentObservable.getListener();
+        return this.contentObservable == null ? null : this.contentObservable.getListener();
     }
 
     public Http3MessageStateContext getHttp3MessageStateContext() {
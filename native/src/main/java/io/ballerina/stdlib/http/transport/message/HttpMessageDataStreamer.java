@@ -143,16 +143,47 @@ public class HttpMessageDataStreamer {
             if (dataHolder.writableBytes() != 0) {
                 dataHolder.writeByte((byte) b);
             } else {
-                try {
-                    httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
+                addContent();
+                dataHolder = getBuffer();
+                dataHolder.writeByte((byte) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (offset < 0 || length < 0 || length > bytes.length - offset) {
+                throw new IndexOutOfBoundsException();
+            }
+            while (length > 0) {
+                if (dataHolder == null) {
+                    dataHolder = getBuffer();
+                } else if (dataHolder.writableBytes() == 0) {
+                    addContent();
                     dataHolder = getBuffer();
-                    dataHolder.writeByte((byte) b);
-                } catch (RuntimeException ex) {
-                    throw new EncoderException(httpCarbonMessage.getIoException());
                 }
+                int count = Math.min(length, dataHolder.writableBytes());
+                dataHolder.writeBytes(bytes, offset, count);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        /**
+         * Adds the buffered bytes to the message as a content chunk.
+         */
+        void addContent() {
+            try {
+                httpCarbonMessage.addHttpContent(new DefaultHttpContent(dataHolder));
+                dataHolder = null;
+            } catch (RuntimeException ex) {
+                throw new EncoderException(httpCarbonMessage.getIoException());
             }
         }
 
+        int bufferedBytes() {
+            return dataHolder == null ? 0 : dataHolder.readableBytes();
+        }
+
         @Override
         public void flush() {
             // We don't have to support flush
@@ -184,6 +215,52 @@ public class HttpMessageDataStreamer {
         }
     }
 
+    /**
+     * An output stream which writes the buffered bytes out as a content chunk at each flush boundary, rather than
+     * only when the buffer is full. Each call to {@link #write(byte[], int, int)} or {@link #flush()} is a boundary.
+     * Small writes are still coalesced into one chunk until either the buffered bytes reach the coalesce size or a
+     * boundary falls after the coalesce window, which starts with the oldest of them. A bound of zero is not applied,
+     * so either bound can be used on its own, while both being zero writes a chunk at every boundary. Nothing is
+     * written between boundaries, so a tail which is still buffered goes out with the next boundary or when the
+     * stream is closed.
+     */
+    protected class FlushingByteBufferOutputStream extends ByteBufferOutputStream {
+
+        private final int coalesceSize;
+        private final long coalesceWindowNanos;
+        private long pendingSince = -1;
+
+        FlushingByteBufferOutputStream(int coalesceSize, long coalesceWindowNanos) {
+            this.coalesceSize = coalesceSize;
+            this.coalesceWindowNanos = coalesceWindowNanos;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            super.write(bytes, offset, length);
+            flush();
+        }
+
+        @Override
+        public void flush() {
+            int bufferedBytes = bufferedBytes();
+            if (bufferedBytes == 0) {
+                pendingSince = -1;
+                return;
+            }
+            long now = System.nanoTime();
+            if (pendingSince < 0) {
+                pendingSince = now;
+            }
+            boolean sizeReached = coalesceSize > 0 && bufferedBytes >= coalesceSize;
+            boolean windowEnded = coalesceWindowNanos > 0 && now - pendingSince >= coalesceWindowNanos;
+            if ((coalesceSize == 0 && coalesceWindowNanos == 0) || sizeReached || windowEnded) {
+                addContent();
+                pendingSince = -1;
+            }
+        }
+    }
+
     public OutputStream getOutputStream() {
         if (byteBufferOutputStream == null) {
             byteBufferOutputStream = new HttpMessageDataStreamer.ByteBufferOutputStream();
@@ -191,6 +268,26 @@ public class HttpMessageDataStreamer {
         return byteBufferOutputStream;
     }
 
+    /**
+     * Returns an output stream which sends the written bytes out at flush boundaries instead of waiting for a full
+     * buffer. A coalesce size or window of zero leaves that bound out, and both being zero writes a chunk at every
+     * boundary.
+     *
+     * @param coalesceSize        the number of buffered bytes which are written out without waiting any longer.
+     *                            Values larger than the size of a buffer are capped to it, and zero does not bound
+     *                            the size
+     * @param coalesceWindowNanos the time from the oldest buffered byte within which further writes are coalesced
+     *                            with it, or zero to not bound the window. It is checked at the boundaries only
+     * @return the output stream
+     */
+    public OutputStream getFlushingOutputStream(int coalesceSize, long coalesceWindowNanos) {
+        if (byteBufferOutputStream == null) {
+            byteBufferOutputStream = new HttpMessageDataStreamer.FlushingByteBufferOutputStream(
+                    Math.min(Math.max(coalesceSize, 0), CONTENT_BUFFER_SIZE), Math.max(coalesceWindowNanos, 0));
+        }
+        return byteBufferOutputStream;
+    }
+
     private InputStream createInputStreamIfNull() {
         if (byteBufferInputStream == null) {
             byteBufferInputStream = new HttpMessageDataStreamer.ByteBufferInputStream();
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.ballerina.stdlib.http.api.HttpConstants;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code MessageProperty} lists the well known per-request properties of a {@link HttpCarbonMessage}. These are kept
+ * in an array slot on the message instead of the generic property map.
+ *
+ * @since 2.3.0
+ */
+public enum MessageProperty {
+    // Set by the transport for every inbound request
+    POOLED_BYTE_BUFFER_FACTORY(Constants.POOLED_BYTE_BUFFER_FACTORY),
+    CHNL_HNDLR_CTX(Constants.CHNL_HNDLR_CTX),
+    SRC_HANDLER(Constants.SRC_HANDLER),
+    LISTENER_PORT(Constants.LISTENER_PORT),
+    LISTENER_INTERFACE_ID(Constants.LISTENER_INTERFACE_ID),
+    PROTOCOL(Constants.PROTOCOL),
+    IS_SECURED_CONNECTION(Constants.IS_SECURED_CONNECTION),
+    LOCAL_ADDRESS(Constants.LOCAL_ADDRESS),
+    REMOTE_ADDRESS(Constants.REMOTE_ADDRESS),
+    TO(Constants.TO),
+    MUTUAL_SSL_HANDSHAKE_RESULT(Constants.MUTUAL_SSL_HANDSHAKE_RESULT),
+    BASE_64_ENCODED_CERT(Constants.BASE_64_ENCODED_CERT),
+
+    // Set while dispatching the request to a resource
+    RAW_URI(HttpConstants.RAW_URI),
+    BASE_PATH(HttpConstants.BASE_PATH),
+    SUB_PATH(HttpConstants.SUB_PATH),
+    QUERY_STR(HttpConstants.QUERY_STR),
+    RAW_QUERY_STR(HttpConstants.RAW_QUERY_STR),
+    MATRIX_PARAMS(HttpConstants.MATRIX_PARAMS),
+    RESOURCE_ARGS(HttpConstants.RESOURCE_ARGS),
+    CALLER(HttpConstants.CALLER),
+    REQUEST_CONTEXT(HttpConstants.REQUEST_CONTEXT),
+    ENTITY_OBJ(HttpConstants.ENTITY_OBJ),
+    WAIT_FOR_FULL_REQUEST(HttpConstants.WAIT_FOR_FULL_REQUEST),
+
+    // Set while executing the interceptor pipeline
+    INTERCEPTORS(HttpConstants.INTERCEPTORS),
+    INTERCEPTOR_SERVICES_REGISTRIES(HttpConstants.INTERCEPTOR_SERVICES_REGISTRIES),
+    INTERCEPTOR_SERVICE(HttpConstants.INTERCEPTOR_SERVICE),
+    INTERCEPTOR_SERVICE_ERROR(HttpConstants.INTERCEPTOR_SERVICE_ERROR),
+    REQUEST_INTERCEPTOR_INDEX(HttpConstants.REQUEST_INTERCEPTOR_INDEX),
+    RESPONSE_INTERCEPTOR_INDEX(HttpConstants.RESPONSE_INTERCEPTOR_INDEX),
+    TARGET_SERVICE(HttpConstants.TARGET_SERVICE);
+
+    private static final MessageProperty[] VALUES = values();
+    private static final Map<String, MessageProperty> BY_KEY = new HashMap<>();
+
+    static {
+        for (MessageProperty property : VALUES) {
+            BY_KEY.put(property.key, property);
+        }
+    }
+
+    private final String key;
+
+    MessageProperty(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets the string key through which the property is visible in the generic property view.
+     *
+     * @return the property key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    static int count() {
+        return VALUES.length;
+    }
+
+    static MessageProperty get(int index) {
+        return VALUES[index];
+    }
+
+    /**
+     * Gets the well known property for the given key.
+     *
+     * @param key the property key
+     * @return the matching property or null if the key is not a well known one
+     */
+    static MessageProperty forKey(String key) {
+        return BY_KEY.get(key);
+    }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.LastHttpContent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code MultipartStreamReader} parses a multipart entity body incrementally, one {@link HttpContent} at a time, as
+ * the chunks are pulled from the {@link HttpCarbonMessage}. Only the bytes which may still belong to a boundary
+ * delimiter are retained between chunks, so the memory held by the reader does not depend on the size of the body.
+ * Since the chunks are consumed through {@link HttpCarbonMessage#getHttpContent()}, the inbound content listener of
+ * the message keeps throttling the reads from the connection while the parts are consumed slowly.
+ * <p>
+ * The parts must be consumed in order. Moving to the next part skips whatever is left of the current one. Instances
+ * are not thread safe.
+ *
+ * @since 2.3.0
+ */
+public class MultipartStreamReader {
+
+    private static final int MAX_HEADER_BLOCK_SIZE = 16 * 1024;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private final HttpCarbonMessage message;
+    private final ByteBuf delimiter;
+    private final ByteBuf buffer = Unpooled.buffer();
+    private boolean lastContentRead;
+    private boolean firstDelimiter = true;
+    private boolean closeDelimiterRead;
+    private boolean closed;
+    private PartInputStream currentPart;
+
+    public MultipartStreamReader(HttpCarbonMessage message, String boundary) {
+        this.message = message;
+        // The first delimiter may appear at the very beginning of the body, hence the leading CRLF is matched apart
+        this.delimiter = Unpooled.copiedBuffer("\r\n--" + boundary, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Reads up to the headers of the next part.
+     *
+     * @return the next part, or null if there are no more parts
+     * @throws IOException if the body is malformed or cannot be read
+     */
+    public Part nextPart() throws IOException {
+        if (closed) {
+            if (closeDelimiterRead) {
+                return null;
+            }
+            throw new IOException("Multipart stream is already closed");
+        }
+        if (currentPart != null) {
+            currentPart.skipRemaining();
+            currentPart = null;
+        }
+        if (firstDelimiter) {
+            skipPreamble();
+            firstDelimiter = false;
+        }
+        if (closeDelimiterRead) {
+            close();
+            return null;
+        }
+        HttpHeaders headers = readHeaders();
+        currentPart = new PartInputStream();
+        return new Part(headers, currentPart);
+    }
+
+    /**
+     * Releases the buffered bytes and discards the rest of the entity body.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.release();
+        delimiter.release();
+        while (!lastContentRead) {
+            HttpContent httpContent = message.getHttpContent();
+            if (httpContent == null) {
+                return;
+            }
+            lastContentRead = httpContent instanceof LastHttpContent;
+            httpContent.release();
+        }
+    }
+
+    private void skipPreamble() throws IOException {
+        int dashBoundaryLength = delimiter.readableBytes() - 2;
+        // The body may start with the delimiter itself, without the preceding line break
+        if (!ensureReadable(dashBoundaryLength)) {
+            throw new IOException("Multipart body does not contain the boundary");
+        }
+        if (ByteBufUtil.equals(buffer, buffer.readerIndex(), delimiter, 2, dashBoundaryLength)) {
+            buffer.skipBytes(dashBoundaryLength);
+        } else {
+            int index;
+            while ((index = ByteBufUtil.indexOf(delimiter, buffer)) < 0) {
+                // Keep only what may be the beginning of the delimiter
+                buffer.readerIndex(Math.max(buffer.readerIndex(), buffer.writerIndex() - delimiter.readableBytes()));
+                if (!fill()) {
+                    throw new IOException("Multipart body does not contain the boundary");
+                }
+            }
+            buffer.readerIndex(index + delimiter.readableBytes());
+        }
+        readDelimiterSuffix();
+    }
+
+    /**
+     * Reads what follows a delimiter, which is either "--" for the close delimiter, or optional whitespace and a line
+     * break before the headers of the next part.
+     */
+    private void readDelimiterSuffix() throws IOException {
+        if (!ensureReadable(2)) {
+            throw new IOException("Unexpected end of multipart body");
+        }
+        if (buffer.getByte(buffer.readerIndex()) == '-' && buffer.getByte(buffer.readerIndex() + 1) == '-') {
+            buffer.skipBytes(2);
+            closeDelimiterRead = true;
+            return;
+        }
+        while (true) {
+            if (!ensureReadable(1)) {
+                throw new IOException("Unexpected end of multipart body");
+            }
+            byte b = buffer.readByte();
+            if (b == LF) {
+                return;
+            } else if (b != CR && b != ' ' && b != '\t') {
+                throw new IOException("Invalid multipart boundary delimiter");
+            }
+        }
+    }
+
+    private HttpHeaders readHeaders() throws IOException {
+        HttpHeaders headers = new DefaultHttpHeaders();
+        int headerBlockSize = 0;
+        while (true) {
+            int lineEnd;
+            while ((lineEnd = buffer.indexOf(buffer.readerIndex(), buffer.writerIndex(), LF)) < 0) {
+                if (buffer.readableBytes() > MAX_HEADER_BLOCK_SIZE - headerBlockSize) {
+                    throw new IOException("Multipart body part headers are larger than " + MAX_HEADER_BLOCK_SIZE);
+                }
+                if (!fill()) {
+                    throw new IOException("Unexpected end of multipart body part headers");
+                }
+            }
+            int lineLength = lineEnd - buffer.readerIndex();
+            headerBlockSize += lineLength + 1;
+            if (headerBlockSize > MAX_HEADER_BLOCK_SIZE) {
+                throw new IOException("Multipart body part headers are larger than " + MAX_HEADER_BLOCK_SIZE);
+            }
+            if (lineLength > 0 && buffer.getByte(lineEnd - 1) == CR) {
+                lineLength--;
+            }
+            String line = buffer.toString(buffer.readerIndex(), lineLength, StandardCharsets.UTF_8);
+            buffer.readerIndex(lineEnd + 1);
+            if (line.isEmpty()) {
+                return headers;
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IOException("Invalid multipart body part header: " + line);
+            }
+            headers.add(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+        }
+    }
+
+    /**
+     * Makes sure at least the given number of bytes are buffered.
+     *
+     * @return false if the body ended before that
+     */
+    private boolean ensureReadable(int length) throws IOException {
+        while (buffer.readableBytes() < length) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the next chunk of the entity body to the buffer.
+     *
+     * @return false if the whole body has already been read
+     */
+    private boolean fill() throws IOException {
+        if (lastContentRead) {
+            return false;
+        }
+        HttpContent httpContent = message.getHttpContent();
+        if (httpContent == null) {
+            throw new IOException("No entity was added to the queue before the timeout");
+        }
+        try {
+            if (httpContent.decoderResult().isFailure()) {
+                throw new IOException(httpContent.decoderResult().cause().getMessage());
+            }
+            lastContentRead = httpContent instanceof LastHttpContent;
+            buffer.discardSomeReadBytes();
+            buffer.writeBytes(httpContent.content());
+        } finally {
+            httpContent.release();
+        }
+        return true;
+    }
+
+    /**
+     * A body part of the multipart entity.
+     */
+    public static class Part {
+        private final HttpHeaders headers;
+        private final InputStream content;
+
+        Part(HttpHeaders headers, InputStream content) {
+            this.headers = headers;
+            this.content = content;
+        }
+
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Returns the body of the part, which is read from the network as it is consumed.
+         *
+         * @return the content of the part
+         */
+        public InputStream getContent() {
+            return content;
+        }
+    }
+
+    private class PartInputStream extends InputStream {
+
+        private boolean finished;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (!finished) {
+                if (closed || currentPart != this) {
+                    throw new IOException("Multipart body part is no longer readable");
+                }
+                int available = availableBodyBytes();
+                if (available > 0) {
+                    int count = Math.min(available, length);
+                    buffer.readBytes(bytes, offset, count);
+                    return count;
+                } else if (available < 0) {
+                    // The delimiter starts right at the reader index
+                    buffer.skipBytes(delimiter.readableBytes());
+                    finished = true;
+                    readDelimiterSuffix();
+                } else if (!fill()) {
+                    throw new IOException("Unexpected end of multipart body");
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the number of buffered bytes which surely belong to the body of this part, or -1 if the delimiter
+         * is at the reader index.
+         */
+        private int availableBodyBytes() {
+            int index = ByteBufUtil.indexOf(delimiter, buffer);
+            if (index == buffer.readerIndex()) {
+                return -1;
+            } else if (index > 0) {
+                return index - buffer.readerIndex();
+            }
+            // Hold back the bytes which may turn out to be the beginning of the delimiter
+            return Math.max(0, buffer.readableBytes() - delimiter.readableBytes() + 1);
+        }
+
+        @Override
+        public int available() {
+            return finished || closed ? 0 : Math.max(0, availableBodyBytes());
+        }
+
+        private void skipRemaining() throws IOException {
+            byte[] discard = new byte[8192];
+            while (read(discard, 0, discard.length) >= 0) {
+                // Drains the part
+            }
+        }
+
+        @Override
+        public void close() {
+            // The part is drained when the next part is requested
+        }
+    }
+}
@@ -34,6 +34,8 @@ module io.ballerina.stdlib.http {
     requires io.netty.buffer;
     requires io.netty.common;
     requires io.netty.transport;
+    requires io.netty.resolver;
+    requires io.netty.resolver.dns;
     requires io.netty.codec.http2;
     requires org.eclipse.osgi;
     requires io.netty.codec;
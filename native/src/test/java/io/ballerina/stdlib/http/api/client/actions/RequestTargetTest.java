@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.api.client.actions;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * Tests the precompiled request target of the HTTP client.
+ */
+public class RequestTargetTest {
+
+    @DataProvider(name = "requestPaths")
+    public static Object[][] requestPaths() {
+        return new Object[][]{
+                {"http://localhost:9090", "/foo/bar"},
+                {"http://localhost:9090", ""},
+                {"http://localhost:9090", "?a=b"},
+                {"http://localhost:9090/base", ""},
+                {"http://localhost:9090/base", "/foo?a=b&c=d"},
+                {"http://localhost:9090/base", "foo"},
+                {"http://localhost:9090/base", "/foo#fragment"},
+                {"http://localhost:9090/base", "/foo bar?a=b c  "},
+                {"http://localhost:9090/base", "/foo bar#frag "},
+                {"https://localhost/base/", "/foo/../bar/./baz"},
+                {"http://[::1]:8080", "/ipv6"}
+        };
+    }
+
+    @Test(dataProvider = "requestPaths")
+    public void testRequestPathMatchesParsedUrl(String serviceUri, String path) throws MalformedURLException {
+        RequestTarget target = RequestTarget.compile(serviceUri);
+        Assert.assertTrue(target.accepts(path));
+
+        String uri = serviceUri + path;
+        if (uri.contains(" ")) {
+            uri = uri.trim().replaceAll(" ", "%20");
+        }
+        URL url = new URL(uri);
+        String expectedPath = url.getQuery() == null ? url.getPath() : url.getPath() + "?" + url.getQuery();
+        Assert.assertEquals(target.getRequestPath(path), expectedPath);
+        Assert.assertEquals(target.getHost(), url.getHost());
+        Assert.assertEquals(target.getPort(), RequestTarget.getPort(url));
+        Assert.assertEquals(target.getProtocol(), url.getProtocol());
+    }
+
+    @Test
+    public void testHostHeader() {
+        Assert.assertEquals(RequestTarget.compile("http://localhost").getHostHeader(), "localhost");
+        Assert.assertEquals(RequestTarget.compile("https://localhost").getHostHeader(), "localhost");
+        Assert.assertEquals(RequestTarget.compile("http://localhost:9090/base").getHostHeader(), "localhost:9090");
+    }
+
+    @Test
+    public void testPathsChangingTheAuthorityAreNotAccepted() {
+        RequestTarget target = RequestTarget.compile("http://localhost");
+        Assert.assertFalse(target.accepts(":9090/foo"));
+        Assert.assertFalse(target.accepts("foo"));
+        Assert.assertTrue(target.accepts("/foo"));
+    }
+
+    @Test
+    public void testUnsupportedBaseUrlsFallBack() {
+        Assert.assertFalse(RequestTarget.compile("http://localhost:9090/base?a=b").accepts("/foo"));
+        Assert.assertFalse(RequestTarget.compile("http://localhost:9090/base#frag").accepts("/foo"));
+        Assert.assertFalse(RequestTarget.compile("http://localhost:9090/my base").accepts("/foo"));
+        Assert.assertFalse(RequestTarget.compile("localhost:9090").accepts("/foo"));
+        Assert.assertFalse(RequestTarget.compile("").accepts("/foo"));
+        Assert.assertEquals(RequestTarget.compile("http://localhost:9090/base?a=b").getServiceUri(),
+                            "http://localhost:9090/base?a=b");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the policy deciding when the retry client hedges requests.
+ */
+public class HedgePolicyTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testFixedDelay() {
+        HedgePolicy policy = new HedgePolicy(20 * MILLIS, 95, new RequestBudget(0.1, 10), new RetryClientStats(), 0);
+        Assert.assertEquals(policy.startInvocation(0), 20 * MILLIS);
+    }
+
+    @Test
+    public void testDelayFromObservedLatencies() {
+        HedgePolicy policy = new HedgePolicy(-1, 95, new RequestBudget(0.1, 10), new RetryClientStats(), 0);
+        for (int i = 0; i < HedgePolicy.MIN_SAMPLES - 1; i++) {
+            policy.recordLatency(8 * MILLIS, 0);
+        }
+        Assert.assertEquals(policy.startInvocation(0), -1, "Not enough latencies to estimate the delay from");
+        policy.recordLatency(200 * MILLIS, 0);
+        Assert.assertEquals(policy.startInvocation(0), 10 * MILLIS);
+
+        // The complete window is used once the next one starts
+        long next = HedgePolicy.WINDOW_NANOS;
+        policy.recordLatency(400 * MILLIS, next);
+        Assert.assertEquals(policy.startInvocation(next), 10 * MILLIS);
+
+        // Latencies older than two windows are forgotten
+        Assert.assertEquals(policy.startInvocation(4 * HedgePolicy.WINDOW_NANOS), -1);
+    }
+
+    @Test
+    public void testHedgeBudget() {
+        RetryClientStats stats = new RetryClientStats();
+        HedgePolicy policy = new HedgePolicy(0, 95, new RequestBudget(0.1, 2), stats, 0);
+        Assert.assertTrue(policy.tryHedge());
+        Assert.assertTrue(policy.tryHedge());
+        Assert.assertFalse(policy.tryHedge(), "The burst is exhausted");
+
+        for (int i = 0; i < 9; i++) {
+            policy.startInvocation(0);
+        }
+        Assert.assertFalse(policy.tryHedge(), "Nine requests earn less than a hedge");
+        policy.startInvocation(0);
+        Assert.assertTrue(policy.tryHedge());
+        Assert.assertEquals(stats.getHedgedRequestCount(), 3);
+        Assert.assertEquals(stats.getHedgeBudgetExhaustedCount(), 2);
+    }
+
+    @Test
+    public void testBudgetIsCapped() {
+        RequestBudget budget = new RequestBudget(0.5, 1);
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+        Assert.assertEquals(budget.getTokens(), 1.0);
+        Assert.assertTrue(budget.tryWithdraw());
+        Assert.assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        budget.deposit();
+        Assert.assertTrue(budget.tryWithdraw());
+    }
+}
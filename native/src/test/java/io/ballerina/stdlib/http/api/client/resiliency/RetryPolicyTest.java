@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.client.resiliency;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the intervals and the budget of the retry client.
+ */
+public class RetryPolicyTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testExponentialBackOff() {
+        RetryPolicy policy = new RetryPolicy(SECOND, 2, 5 * SECOND, RetryPolicy.Jitter.NONE, null,
+                                             new RetryClientStats());
+        Random random = new Random(1);
+        Assert.assertEquals(policy.nextInterval(0, SECOND, -1, random), SECOND);
+        Assert.assertEquals(policy.nextInterval(1, SECOND, -1, random), 2 * SECOND);
+        Assert.assertEquals(policy.nextInterval(2, 2 * SECOND, -1, random), 4 * SECOND);
+        Assert.assertEquals(policy.nextInterval(3, 4 * SECOND, -1, random), 5 * SECOND);
+    }
+
+    @Test
+    public void testFullJitter() {
+        RetryPolicy policy = new RetryPolicy(SECOND, 2, 5 * SECOND, RetryPolicy.Jitter.FULL, null,
+                                             new RetryClientStats());
+        Random random = new Random(1);
+        long previous = SECOND;
+        boolean varied = false;
+        for (int i = 0; i < 100; i++) {
+            long interval = policy.nextInterval(2, previous, -1, random);
+            Assert.assertTrue(interval >= 0 && interval <= 4 * SECOND, "Interval out of range: " + interval);
+            varied |= interval != previous;
+            previous = interval;
+        }
+        Assert.assertTrue(varied);
+    }
+
+    @Test
+    public void testDecorrelatedJitter() {
+        RetryPolicy policy = new RetryPolicy(SECOND, 2, 5 * SECOND, RetryPolicy.Jitter.DECORRELATED, null,
+                                             new RetryClientStats());
+        Random random = new Random(1);
+        long previous = SECOND;
+        for (int i = 0; i < 100; i++) {
+            long interval = policy.nextInterval(i, previous, -1, random);
+            long upper = i == 0 ? 3 * SECOND : Math.min(5 * SECOND, 3 * previous);
+            Assert.assertTrue(interval >= SECOND && interval <= upper, "Interval out of range: " + interval);
+            previous = interval;
+        }
+    }
+
+    @Test
+    public void testRetryAfter() {
+        RetryPolicy policy = new RetryPolicy(SECOND, 2, 5 * SECOND, RetryPolicy.Jitter.FULL, null,
+                                             new RetryClientStats());
+        Random random = new Random(1);
+        Assert.assertEquals(policy.nextInterval(0, SECOND, 3 * SECOND, random), 3 * SECOND);
+        Assert.assertEquals(policy.nextInterval(0, SECOND, 6 * SECOND, random), -1,
+                            "Waiting beyond the maximum interval is not retried");
+
+        Assert.assertEquals(RetryPolicy.parseRetryAfter(" 120 ", 0), 120 * SECOND);
+        Assert.assertEquals(RetryPolicy.parseRetryAfter("Thu, 01 Jan 1970 00:00:30 GMT", 10_000), 20 * SECOND);
+        Assert.assertEquals(RetryPolicy.parseRetryAfter("Thu, 01 Jan 1970 00:00:30 GMT", 60_000), 0);
+        Assert.assertEquals(RetryPolicy.parseRetryAfter("-1", 0), -1);
+        Assert.assertEquals(RetryPolicy.parseRetryAfter("soon", 0), -1);
+    }
+
+    @Test
+    public void testRetryBudget() {
+        RetryClientStats stats = new RetryClientStats();
+        RetryPolicy policy = new RetryPolicy(SECOND, 1, SECOND, RetryPolicy.Jitter.NONE, new RequestBudget(0.5, 1),
+                                             stats);
+        Random random = new Random(1);
+        Assert.assertEquals(policy.nextInterval(0, SECOND, -1, random), SECOND);
+        Assert.assertEquals(policy.nextInterval(0, SECOND, -1, random), -1, "The budget is exhausted");
+        policy.startInvocation();
+        Assert.assertEquals(policy.nextInterval(0, SECOND, -1, random), -1, "Half a token is not enough");
+        policy.startInvocation();
+        Assert.assertEquals(policy.nextInterval(0, SECOND, -1, random), SECOND);
+        Assert.assertEquals(stats.getRetryCount(), 2);
+        Assert.assertEquals(stats.getRetryBudgetExhaustedCount(), 2);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.api.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the cache of validated listener credentials.
+ */
+public class CredentialCacheTest {
+
+    private static final long TTL = TimeUnit.MINUTES.toNanos(5);
+    private static final long NEGATIVE_TTL = TimeUnit.SECONDS.toNanos(5);
+
+    @Test
+    public void testCachedPrincipalAndFailure() {
+        CredentialCacheStats stats = new CredentialCacheStats();
+        CredentialCache cache = new CredentialCache(10, TTL, NEGATIVE_TTL, stats);
+        Assert.assertNull(cache.get("token"));
+        cache.put("token", "principal", false, -1);
+        cache.put("invalid", "error", true, -1);
+
+        Assert.assertEquals(cache.get("token").getValue(), "principal");
+        Assert.assertFalse(cache.get("token").isFailure());
+        Assert.assertTrue(cache.get("invalid").isFailure());
+        Assert.assertEquals(stats.getMissCount(), 1);
+        Assert.assertEquals(stats.getHitCount(), 2);
+        Assert.assertEquals(stats.getNegativeHitCount(), 1);
+    }
+
+    @Test
+    public void testTtlCappedAtExpiry() {
+        CredentialCache cache = new CredentialCache(10, TTL, NEGATIVE_TTL, new CredentialCacheStats());
+        cache.put("expired", "principal", false, System.currentTimeMillis() - 1000);
+        Assert.assertNull(cache.get("expired"));
+        Assert.assertEquals(cache.size(), 0);
+
+        cache.put("valid", "principal", false, System.currentTimeMillis() + 60000);
+        Assert.assertNotNull(cache.get("valid"));
+    }
+
+    @Test
+    public void testConcurrentValidationsCoalesced() {
+        CredentialCacheStats stats = new CredentialCacheStats();
+        CredentialCache cache = new CredentialCache(10, TTL, NEGATIVE_TTL, stats);
+        List<Object> notified = new ArrayList<>();
+
+        Assert.assertNull(cache.getOrWait("token", entry -> notified.add(entry.getValue())));
+        Assert.assertSame(cache.getOrWait("token", entry -> notified.add(entry.getValue())), CredentialCache.PENDING);
+        Assert.assertSame(cache.getOrWait("token", entry -> notified.add(entry.getValue())), CredentialCache.PENDING);
+        Assert.assertTrue(notified.isEmpty());
+
+        cache.put("token", "principal", false, -1);
+        Assert.assertEquals(notified, List.of("principal", "principal"));
+        Assert.assertEquals(stats.getCoalescedCount(), 2);
+        Object hit = cache.getOrWait("token", entry -> notified.add(entry.getValue()));
+        Assert.assertEquals(((CredentialCache.Entry) hit).getValue(), "principal");
+    }
+
+    @Test
+    public void testAbandonedValidationReleasesWaiters() {
+        CredentialCache cache = new CredentialCache(10, TTL, NEGATIVE_TTL, new CredentialCacheStats());
+        List<Object> notified = new ArrayList<>();
+
+        Assert.assertNull(cache.getOrWait("token", notified::add));
+        Assert.assertSame(cache.getOrWait("token", notified::add), CredentialCache.PENDING);
+        Assert.assertSame(cache.getOrWait("token", notified::add), CredentialCache.PENDING);
+
+        cache.abandon("token");
+        Assert.assertEquals(notified, Arrays.asList(null, null));
+        Assert.assertEquals(cache.size(), 0);
+        // The next caller owns a fresh validation instead of waiting for the abandoned one
+        Assert.assertNull(cache.getOrWait("token", notified::add));
+        cache.put("token", "principal", false, -1);
+        Assert.assertEquals(notified.size(), 2);
+
+        cache.abandon("token");
+        Assert.assertEquals(cache.get("token").getValue(), "principal", "A cached result should not be abandoned");
+    }
+
+    @Test
+    public void testBoundedCapacity() {
+        CredentialCacheStats stats = new CredentialCacheStats();
+        CredentialCache cache = new CredentialCache(20, TTL, NEGATIVE_TTL, stats);
+        for (int i = 0; i < 100; i++) {
+            cache.put("token-" + i, "principal", false, -1);
+            Assert.assertTrue(cache.size() <= 20);
+        }
+        Assert.assertTrue(stats.getEvictionCount() > 0);
+    }
+}
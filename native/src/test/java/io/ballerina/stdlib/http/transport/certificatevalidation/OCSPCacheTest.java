@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.certificatevalidation;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.RevocationHttpClient;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.OCSPCache;
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.ocsp.OCSPVerifier;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.ballerina.stdlib.http.transport.util.server.HttpServer;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.cert.ocsp.SingleResp;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests fetching and refreshing of OCSP responses against a local OCSP responder.
+ */
+public class OCSPCacheTest {
+
+    private static final int RESPONDER_PORT = 9393;
+    private static final String RESPONDER_URL = "http://" + TestUtil.TEST_HOST + ":" + RESPONDER_PORT + "/ocsp";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong responseValidityMillis = new AtomicLong(TimeUnit.HOURS.toMillis(1));
+    private final AtomicLong responseAgeMillis = new AtomicLong();
+    private HttpServer responder;
+    private X509Certificate caCert;
+    private KeyPair caKeyPair;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        Utils utils = new Utils();
+        caKeyPair = utils.generateRSAKeyPair();
+        caCert = utils.generateFakeRootCert(caKeyPair);
+        responder = new HttpServer(RESPONDER_PORT, new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel ch) {
+                ch.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(64 * 1024),
+                                      new OCSPResponderHandler());
+            }
+        }, 1, 1);
+        responder.start();
+    }
+
+    @Test
+    public void testConcurrentFetchesAreCoalesced() throws Exception {
+        BigInteger serialNumber = BigInteger.valueOf(2001);
+        OCSPReq request = OCSPVerifier.generateOCSPRequest(caCert, serialNumber);
+        OCSPCache cache = OCSPCache.getCache();
+        int before = requestCount.get();
+
+        List<CompletableFuture<SingleResp>> fetches = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            fetches.add(cache.fetchCacheValue(serialNumber, request, RESPONDER_URL));
+        }
+        for (CompletableFuture<SingleResp> fetch : fetches) {
+            assertSame(RevocationHttpClient.await(fetch).getCertStatus(), CertificateStatus.GOOD);
+        }
+        assertEquals(requestCount.get() - before, 1, "Checks of the same certificate should share one request");
+        assertNotNull(cache.getCacheValue(serialNumber));
+        assertEquals(requestCount.get() - before, 1, "A fresh response should be served from the cache");
+    }
+
+    @Test
+    public void testResponseIsRefreshedBeforeItExpires() throws Exception {
+        BigInteger serialNumber = BigInteger.valueOf(2002);
+        OCSPReq request = OCSPVerifier.generateOCSPRequest(caCert, serialNumber);
+        OCSPCache cache = OCSPCache.getCache();
+
+        // Most of the validity period of this response has already passed
+        responseAgeMillis.set(TimeUnit.MINUTES.toMillis(55));
+        SingleResp first = RevocationHttpClient.await(cache.fetchCacheValue(serialNumber, request, RESPONDER_URL));
+        responseAgeMillis.set(0);
+        int before = requestCount.get();
+
+        assertSame(cache.getCacheValue(serialNumber), first, "Current response should be served while refreshing");
+        long deadline = System.currentTimeMillis() + 10000;
+        while (cache.getCacheValue(serialNumber) == first && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(requestCount.get() - before, 1);
+        assertNotNull(cache.getCacheValue(serialNumber));
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        responder.shutdown();
+    }
+
+    /**
+     * Answers every OCSP request with a signed GOOD status.
+     */
+    private class OCSPResponderHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest httpRequest) throws Exception {
+            requestCount.incrementAndGet();
+            OCSPReq request = new OCSPReq(ByteBufUtil.getBytes(httpRequest.content()));
+            X509CertificateHolder certificateHolder = new X509CertificateHolder(caCert.getEncoded());
+            BasicOCSPRespBuilder builder = new BasicOCSPRespBuilder(new RespID(certificateHolder.getSubject()));
+            long thisUpdate = System.currentTimeMillis() - responseAgeMillis.get();
+            for (Req req : request.getRequestList()) {
+                builder.addResponse(req.getCertID(), CertificateStatus.GOOD, new Date(thisUpdate),
+                                    new Date(thisUpdate + responseValidityMillis.get()));
+            }
+            ContentSigner signer = new JcaContentSignerBuilder("SHA256withRSA")
+                    .setProvider(Constants.BOUNCY_CASTLE_PROVIDER).build(caKeyPair.getPrivate());
+            BasicOCSPResp basicResp = builder.build(signer, new X509CertificateHolder[] { certificateHolder },
+                                                    new Date());
+            byte[] encoded = new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, basicResp).getEncoded();
+
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                                    Unpooled.wrappedBuffer(encoded));
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/ocsp-response");
+            HttpUtil.setContentLength(response, encoded.length);
+            // Give concurrent callers time to pile up behind the first request
+            ctx.executor().schedule(() -> ctx.writeAndFlush(response), 200, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contentaware;
+
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.contract.ServerConnector;
+import io.ballerina.stdlib.http.transport.contract.ServerConnectorFuture;
+import io.ballerina.stdlib.http.transport.contract.config.ListenerConfiguration;
+import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
+import io.ballerina.stdlib.http.transport.contractimpl.DefaultHttpWsConnectorFactory;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonResponse;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.ballerina.stdlib.http.transport.contract.Constants.MAX_AGGREGATED_REQUEST_BODY_SIZE;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests that small requests with a Content-Length are dispatched with their body already read, while large and
+ * chunked requests keep being streamed.
+ */
+public class SmallRequestAggregationTestCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SmallRequestAggregationTestCase.class);
+    private static final String COMPLETE_ON_DISPATCH = "x-complete-on-dispatch";
+
+    private ServerConnector serverConnector;
+    private final DefaultHttpWsConnectorFactory httpConnectorFactory = new DefaultHttpWsConnectorFactory();
+    private final URI baseURI = URI.create(String.format("http://%s:%d", "localhost", TestUtil.SERVER_CONNECTOR_PORT));
+
+    @BeforeClass
+    public void setUp() throws InterruptedException {
+        ListenerConfiguration listenerConfiguration = new ListenerConfiguration();
+        listenerConfiguration.setPort(TestUtil.SERVER_CONNECTOR_PORT);
+        serverConnector = httpConnectorFactory.createServerConnector(TestUtil.getDefaultServerBootstrapConfig(),
+                                                                     listenerConfiguration);
+        ServerConnectorFuture serverConnectorFuture = serverConnector.start();
+        serverConnectorFuture.setHttpConnectorListener(new CompletenessReportingListener());
+        serverConnectorFuture.sync();
+    }
+
+    @Test
+    public void testSmallRequestIsDispatchedComplete() throws IOException {
+        assertEcho(repeat(100), false, "true");
+        assertEcho(repeat(MAX_AGGREGATED_REQUEST_BODY_SIZE), false, "true");
+    }
+
+    @Test
+    public void testLargeRequestIsStreamed() throws IOException {
+        assertEcho(repeat(MAX_AGGREGATED_REQUEST_BODY_SIZE + 1), false, "false");
+    }
+
+    @Test
+    public void testChunkedRequestIsStreamed() throws IOException {
+        assertEcho(repeat(100), true, "false");
+    }
+
+    private void assertEcho(String payload, boolean chunked, String completeOnDispatch) throws IOException {
+        HttpURLConnection urlConn = TestUtil.request(baseURI, "/", HttpMethod.POST.name(), true);
+        if (chunked) {
+            urlConn.setChunkedStreamingMode(32);
+        }
+        TestUtil.writeContent(urlConn, payload);
+        assertEquals(urlConn.getResponseCode(), HttpResponseStatus.OK.code());
+        assertEquals(urlConn.getHeaderField(COMPLETE_ON_DISPATCH), completeOnDispatch);
+        assertEquals(TestUtil.getContent(urlConn), payload);
+        urlConn.disconnect();
+    }
+
+    private static String repeat(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
+
+    @AfterClass
+    public void cleanUp() throws ServerConnectorException {
+        serverConnector.stop();
+        try {
+            httpConnectorFactory.shutdown();
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted while waiting for HttpWsFactory to shutdown", e);
+        }
+    }
+
+    /**
+     * Echoes the request body and reports whether it had been read in full when the request was dispatched.
+     */
+    private static class CompletenessReportingListener implements HttpConnectorListener {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        @Override
+        public void onMessage(HttpCarbonMessage httpRequest) {
+            boolean complete = httpRequest.isLastHttpContentArrived();
+            executor.execute(() -> {
+                try {
+                    HttpCarbonMessage httpResponse = new HttpCarbonResponse(
+                            new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+                    httpResponse.setHttpStatusCode(HttpResponseStatus.OK.code());
+                    httpResponse.setHeader(COMPLETE_ON_DISPATCH, String.valueOf(complete));
+                    HttpContent httpContent;
+                    do {
+                        httpContent = httpRequest.getHttpContent();
+                        httpResponse.addHttpContent(httpContent);
+                    } while (!(httpContent instanceof LastHttpContent));
+                    httpRequest.respond(httpResponse);
+                } catch (ServerConnectorException e) {
+                    LOG.error("Error occurred while responding: " + e.getMessage());
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the flush consolidation handler engaged in the listener and client pipelines.
+ */
+public class FlushConsolidationTest {
+
+    @Test
+    public void testFlushesConsolidatedWithinEventLoopIteration() {
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(flushCounter);
+        Util.addFlushConsolidationHandler(channel.pipeline());
+
+        channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1}));
+        channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[]{2}));
+        channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[]{3}));
+        Assert.assertEquals(flushCounter.flushes, 0);
+
+        channel.runPendingTasks();
+        Assert.assertEquals(flushCounter.flushes, 1);
+        Assert.assertEquals(channel.outboundMessages().size(), 3);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testFlushesHeldUntilReadComplete() {
+        FlushCounter flushCounter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(flushCounter);
+        Util.addFlushConsolidationHandler(channel.pipeline());
+        channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                // Responds to each pipelined request while the read is in progress
+                ctx.writeAndFlush(msg);
+            }
+        });
+
+        channel.pipeline().fireChannelRead(Unpooled.wrappedBuffer(new byte[]{1}));
+        channel.pipeline().fireChannelRead(Unpooled.wrappedBuffer(new byte[]{2}));
+        Assert.assertEquals(flushCounter.flushes, 0);
+
+        channel.pipeline().fireChannelReadComplete();
+        Assert.assertEquals(flushCounter.flushes, 1);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testHandlerAddedOnce() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Util.addFlushConsolidationHandler(channel.pipeline());
+        Util.addFlushConsolidationHandler(channel.pipeline());
+        Assert.assertEquals(channel.pipeline().names().stream()
+                                    .filter(name -> name.equals("flushConsolidationHandler")).count(), 1);
+        channel.finishAndReleaseAll();
+    }
+
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+        private int flushes;
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+            ctx.flush();
+        }
+    }
+}
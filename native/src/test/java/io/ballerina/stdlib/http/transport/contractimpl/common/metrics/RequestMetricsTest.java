@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the request metrics recorded by the listener.
+ */
+public class RequestMetricsTest {
+
+    @Test
+    public void testLatencyBuckets() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(TimeUnit.MICROSECONDS.toNanos(100));
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(1));
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(3));
+        recorder.record(TimeUnit.SECONDS.toNanos(30));
+
+        Assert.assertEquals(recorder.getCount(), 4);
+        Assert.assertEquals(recorder.getBucketCount(0), 1);
+        // Bounds are inclusive
+        Assert.assertEquals(recorder.getBucketCount(1), 1);
+        Assert.assertEquals(recorder.getBucketCount(3), 1);
+        Assert.assertEquals(recorder.getBucketCount(LatencyRecorder.getBucketBoundCount()), 1);
+        Assert.assertEquals(recorder.getMaxNanos(), TimeUnit.SECONDS.toNanos(30));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Assert.assertEquals(recorder.getPercentileNanos(99), 0);
+        for (int i = 0; i < 98; i++) {
+            recorder.record(TimeUnit.MICROSECONDS.toNanos(200));
+        }
+        recorder.record(TimeUnit.MILLISECONDS.toNanos(40));
+        recorder.record(TimeUnit.SECONDS.toNanos(12));
+
+        Assert.assertEquals(recorder.getPercentileNanos(50), TimeUnit.MICROSECONDS.toNanos(500));
+        Assert.assertEquals(recorder.getPercentileNanos(99), TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(recorder.getPercentileNanos(100), TimeUnit.SECONDS.toNanos(12));
+    }
+
+    @Test
+    public void testStatusClassesAndBytes() {
+        RequestMetrics metrics = new RequestMetrics("0.0.0.0:9090", null);
+        metrics.requestStarted();
+        metrics.requestStarted();
+        metrics.requestStarted();
+        Assert.assertEquals(metrics.getInFlightCount(), 3);
+
+        metrics.requestCompleted(200, 1000, 10, 20);
+        metrics.requestCompleted(503, 1000, 0, 5);
+        metrics.requestCompleted(0, 1000, 0, 0);
+
+        Assert.assertEquals(metrics.getInFlightCount(), 0);
+        Assert.assertEquals(metrics.getRequestCount(), 3);
+        Assert.assertEquals(metrics.getSuccessCount(), 1);
+        Assert.assertEquals(metrics.getServerErrorCount(), 1);
+        Assert.assertEquals(metrics.getAbortedCount(), 1);
+        Assert.assertEquals(metrics.getBytesReceived(), 10);
+        Assert.assertEquals(metrics.getBytesSent(), 25);
+    }
+
+    @Test
+    public void testCarbonMessageRecordsOnce() {
+        RequestMetricsRegistry registry = RequestMetricsRegistry.getInstance();
+        RequestMetrics listenerMetrics = registry.getListenerMetrics("localhost:9191");
+        RequestMetrics resourceMetrics = registry.getResourceMetrics("localhost:9191", "GET /hello");
+        HttpCarbonMessage request = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/hello"));
+
+        request.startRequestMetrics(listenerMetrics);
+        request.setResourceMetrics(resourceMetrics);
+        request.addHttpContent(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[16])));
+        Assert.assertEquals(resourceMetrics.getInFlightCount(), 1);
+
+        request.completeRequestMetrics(404, 32);
+        request.completeRequestMetrics(0, 0);
+
+        Assert.assertEquals(listenerMetrics.getRequestCount(), 1);
+        Assert.assertEquals(listenerMetrics.getClientErrorCount(), 1);
+        Assert.assertEquals(listenerMetrics.getAbortedCount(), 0);
+        Assert.assertEquals(resourceMetrics.getBytesReceived(), 16);
+        Assert.assertEquals(resourceMetrics.getBytesSent(), 32);
+        Assert.assertEquals(resourceMetrics.getInFlightCount(), 0);
+    }
+
+    @Test
+    public void testPrometheusText() {
+        RequestMetricsRegistry registry = RequestMetricsRegistry.getInstance();
+        RequestMetrics metrics = registry.getResourceMetrics("localhost:9292", "POST /say\"hi\"");
+        metrics.requestStarted();
+        metrics.requestCompleted(201, TimeUnit.MILLISECONDS.toNanos(2), 0, 0);
+
+        String text = registry.toPrometheusText();
+        String labels = "listener=\"localhost:9292\",resource=\"POST /say\\\"hi\\\"\"";
+        Assert.assertTrue(text.contains("# TYPE http_resource_request_duration_seconds histogram\n"));
+        Assert.assertTrue(text.contains("http_resource_requests_total{" + labels + ",status_class=\"2xx\"} 1\n"));
+        Assert.assertTrue(text.contains("http_resource_request_duration_seconds_bucket{" + labels
+                                                + ",le=\"0.001\"} 0\n"));
+        Assert.assertTrue(text.contains("http_resource_request_duration_seconds_bucket{" + labels
+                                                + ",le=\"0.0025\"} 1\n"));
+        Assert.assertTrue(text.contains("http_resource_request_duration_seconds_bucket{" + labels
+                                                + ",le=\"+Inf\"} 1\n"));
+        Assert.assertTrue(text.contains("http_resource_request_duration_seconds_sum{" + labels + "} 0.002\n"));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.metrics;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.HttpRoute;
+import io.netty.channel.DefaultEventLoop;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the connection pool and event loop statistics of the transport.
+ */
+public class TransportMetricsTest {
+
+    @Test
+    public void testPoolUsage() {
+        PoolUsage usage = new PoolUsage();
+        usage.addConnections(2, 3);
+        usage.addConnections(-1, 1);
+        usage.addHttp2Connection(4);
+        usage.addHttp2Connection(0);
+
+        Assert.assertEquals(usage.getActiveConnections(), 2);
+        Assert.assertEquals(usage.getIdleConnections(), 4);
+        Assert.assertEquals(usage.getHttp2Connections(), 2);
+        Assert.assertEquals(usage.getHttp2ActiveStreams(), 4);
+    }
+
+    @Test
+    public void testConnectionPoolStats() {
+        HttpRoute route = new HttpRoute("http", "localhost", 9090, 1);
+        ConnectionPoolStats stats = TransportMetrics.getInstance().getConnectionPoolStats(route);
+        Assert.assertSame(TransportMetrics.getInstance().getConnectionPoolStats(route), stats);
+
+        PoolUsageSource source = (routeKey, usage) -> {
+            if (routeKey.equals(route.toString())) {
+                usage.addConnections(1, 2);
+                usage.addHttp2Connection(3);
+            }
+        };
+        TransportMetrics.getInstance().addPoolUsageSource(source);
+        stats.recordBorrow(TimeUnit.MILLISECONDS.toNanos(2));
+        stats.recordBorrow(TimeUnit.MILLISECONDS.toNanos(4));
+        stats.recordExhausted();
+
+        Assert.assertEquals(stats.getActiveConnections(), 1);
+        Assert.assertEquals(stats.getIdleConnections(), 2);
+        Assert.assertEquals(stats.getHttp2Connections(), 1);
+        Assert.assertEquals(stats.getHttp2ActiveStreams(), 3);
+        Assert.assertEquals(stats.getBorrowCount(), 2);
+        Assert.assertEquals(stats.getExhaustedCount(), 1);
+        Assert.assertEquals(stats.getMeanBorrowWaitMillis(), 3.0);
+        Assert.assertEquals(stats.getMaxBorrowWaitMillis(), 4.0);
+    }
+
+    @Test
+    public void testEventLoopLag() throws InterruptedException {
+        DefaultEventLoop eventLoop = new DefaultEventLoop();
+        try {
+            EventLoopStats stats = new EventLoopStats("test-0", eventLoop);
+            stats.scheduleProbe(TimeUnit.MILLISECONDS.toNanos(10));
+            // Keep the event loop busy past the time the probe is due
+            CountDownLatch blocked = new CountDownLatch(1);
+            eventLoop.execute(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                blocked.countDown();
+            });
+            Assert.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (stats.getLag().getCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(stats.getLag().getCount() > 0);
+            Assert.assertTrue(stats.getMaxLagMillis() >= 50);
+            Assert.assertTrue(stats.getPendingTasks() >= 0);
+        } finally {
+            eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.common.tracelog;
+
+import io.ballerina.stdlib.http.transport.contractimpl.listener.HttpTraceLoggingHandler;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Tests the binary trace log mode of {@link HttpTraceLoggingHandler}.
+ */
+public class BinaryTraceRecorderTest {
+
+    private File traceFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        traceFile = File.createTempFile("http-trace", ".bin");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        BinaryTraceConfig.reset();
+        Files.deleteIfExists(traceFile.toPath());
+    }
+
+    @Test
+    public void testFailingConnectionIsDumped() throws Exception {
+        BinaryTraceConfig.configure(traceFile.getPath(), 1, null, 4, 16);
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpTraceLoggingHandler("http.tracelog.downstream"));
+
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/orders",
+                Unpooled.copiedBuffer("{\"id\": 1}", StandardCharsets.UTF_8));
+        channel.writeInbound(request);
+        channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                HttpResponseStatus.INTERNAL_SERVER_ERROR,
+                Unpooled.copiedBuffer("a rather long error message", StandardCharsets.UTF_8)));
+        channel.finishAndReleaseAll();
+
+        String decoded = awaitDump();
+        Assert.assertTrue(decoded.contains("DUMP: HTTP 500, 4 events"), decoded);
+        Assert.assertTrue(decoded.contains("INBOUND REQUEST: POST /orders, 0 headers"), decoded);
+        Assert.assertTrue(decoded.contains("INBOUND LAST_CONTENT: 9B {\"id\": 1}"), decoded);
+        Assert.assertTrue(decoded.contains("OUTBOUND RESPONSE: 500"), decoded);
+        Assert.assertTrue(decoded.contains("OUTBOUND LAST_CONTENT: 27B a rather long er"), decoded);
+        // Only the most recent events fit in the ring buffer
+        Assert.assertFalse(decoded.contains("ACTIVE"), decoded);
+    }
+
+    @Test
+    public void testHealthyConnectionIsNotDumped() throws Exception {
+        BinaryTraceConfig.configure(traceFile.getPath(), 1, null, 8, 16);
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpTraceLoggingHandler("http.tracelog.downstream"));
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/orders"));
+        channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        channel.finishAndReleaseAll();
+
+        // Submit a marker dump through the same writer so that anything queued before it has been written
+        BinaryTraceWriter.submit(traceFile.getPath(), new BinaryTraceWriter.Dump("marker", "test", "n/a", "local",
+                "remote", 0, "marker", BinaryTraceRecorder.SLOT_HEADER_SIZE, 0, new byte[0]));
+        String decoded = awaitDump();
+        Assert.assertFalse(decoded.contains("0x" + channel.id().asShortText()), decoded);
+        Assert.assertTrue(decoded.contains("DUMP: marker"), decoded);
+    }
+
+    @Test
+    public void testSamplingHeaderForcesTracing() throws Exception {
+        BinaryTraceConfig.configure(traceFile.getPath(), 0, "x-trace", 8, 64);
+        EmbeddedChannel channel = new EmbeddedChannel(new HttpTraceLoggingHandler("http.tracelog.downstream"));
+        FullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/orders");
+        request.headers().set("x-trace", "1");
+        channel.writeInbound(request);
+        channel.pipeline().fireExceptionCaught(new IllegalStateException("boom"));
+        Assert.expectThrows(IllegalStateException.class, channel::checkException);
+        channel.finishAndReleaseAll();
+
+        String decoded = awaitDump();
+        Assert.assertTrue(decoded.contains("DUMP: java.lang.IllegalStateException, 3 events"), decoded);
+        Assert.assertTrue(decoded.contains("INBOUND REQUEST: GET /orders, 1 headers"), decoded);
+        Assert.assertTrue(decoded.contains("EXCEPTION: java.lang.IllegalStateException: boom"), decoded);
+    }
+
+    private String awaitDump() throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (traceFile.length() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        try (InputStream in = new FileInputStream(traceFile);
+             PrintStream out = new PrintStream(decoded, true, StandardCharsets.UTF_8.name())) {
+            BinaryTraceDecoder.decode(in, out);
+        }
+        return decoded.toString(StandardCharsets.UTF_8.name());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.AdmissionConfig;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the limits applied by the {@link AdmissionController}.
+ */
+public class AdmissionControllerTest {
+
+    @Test
+    public void testStaticLimit() {
+        AdmissionController controller = new AdmissionController(createConfig(2, 1, false));
+        Assert.assertTrue(controller.tryAcquire());
+        Assert.assertTrue(controller.tryAcquire());
+        Assert.assertFalse(controller.tryAcquire(), "Limit is reached");
+        Assert.assertEquals(controller.getInFlightRequests(), 2);
+        Assert.assertEquals(controller.getRejectedRequests(), 1);
+
+        controller.release(TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertTrue(controller.tryAcquire());
+        controller.acquire();
+        Assert.assertEquals(controller.getInFlightRequests(), 3, "Forced admissions are accounted for");
+        Assert.assertFalse(controller.tryAcquire());
+
+        controller.release();
+        controller.release();
+        controller.release();
+        Assert.assertEquals(controller.getInFlightRequests(), 0);
+        Assert.assertEquals(controller.getLimit(), 2, "Static limit does not change");
+    }
+
+    @Test
+    public void testAdaptiveLimit() {
+        AdmissionController controller = new AdmissionController(createConfig(20, 10, true));
+        Assert.assertEquals(controller.getLimit(), 20);
+
+        serveWindow(controller, 20, TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertEquals(controller.getLimit(), 20, "Limit does not exceed the maximum");
+
+        // Requests start to queue, so the limit is cut by a tenth per window down to the minimum
+        serveWindow(controller, 20, TimeUnit.MILLISECONDS.toNanos(10));
+        Assert.assertEquals(controller.getLimit(), 18);
+        for (int i = 0; i < 10; i++) {
+            serveWindow(controller, controller.getLimit(), TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        Assert.assertEquals(controller.getLimit(), 10);
+
+        // The latency is back to normal, so the limit grows one by one while it is used
+        serveWindow(controller, 10, TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertEquals(controller.getLimit(), 11);
+        serveWindow(controller, 11, TimeUnit.MILLISECONDS.toNanos(1));
+        Assert.assertEquals(controller.getLimit(), 12);
+    }
+
+    private static void serveWindow(AdmissionController controller, int requests, long latencyNanos) {
+        for (int i = 0; i < requests; i++) {
+            Assert.assertTrue(controller.tryAcquire());
+        }
+        for (int i = 0; i < requests; i++) {
+            controller.release(latencyNanos);
+        }
+    }
+
+    private static AdmissionConfig createConfig(int max, int min, boolean adaptive) {
+        AdmissionConfig config = new AdmissionConfig();
+        config.setMaxInFlightRequests(max);
+        config.setMinInFlightRequests(min);
+        config.setAdaptive(adaptive);
+        return config;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contractimpl.common.certificatevalidation.Constants;
+import io.ballerina.stdlib.http.transport.util.TestUtil;
+import io.ballerina.stdlib.http.transport.util.server.HttpServer;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.Req;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests fetching, refreshing and expiry of the OCSP staple of a listener against a local OCSP responder.
+ */
+public class OCSPStaplingManagerTest {
+
+    private static final int RESPONDER_PORT = 9394;
+    private static final String RESPONDER_URL = "http://" + TestUtil.TEST_HOST + ":" + RESPONDER_PORT + "/ocsp";
+    private static final long WAIT_TIMEOUT_MILLIS = 10000;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong responseValidityMillis = new AtomicLong();
+    private final AtomicLong responseAgeMillis = new AtomicLong();
+    private final AtomicBoolean responderFailing = new AtomicBoolean();
+    private final X500Name caName = new X500Name("CN=Test CA Certificate");
+    private HttpServer responder;
+    private X509Certificate caCert;
+    private KeyPair caKeyPair;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        caKeyPair = generateRSAKeyPair();
+        caCert = buildCertificate(new X509v3CertificateBuilder(caName, BigInteger.ONE, new Date(),
+                new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)), caName,
+                SubjectPublicKeyInfo.getInstance(caKeyPair.getPublic().getEncoded())));
+        responder = new HttpServer(RESPONDER_PORT, new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel ch) {
+                ch.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(64 * 1024),
+                                      new OCSPResponderHandler());
+            }
+        }, 1, 1);
+        responder.start();
+    }
+
+    @Test
+    public void testStapleFetchedWhenStarted() throws Exception {
+        resetResponder();
+        OCSPStaplingManager manager = startManager("staple-fetched", BigInteger.valueOf(3001));
+        try {
+            waitFor(() -> manager.getStaple() != null);
+            assertTrue(manager.isStapleAvailable());
+            assertEquals(manager.getRefreshFailureCount(), 0);
+            assertTrue(manager.getStapleRemainingSeconds() > 0);
+            assertEquals(requestCount.get(), 1);
+        } finally {
+            manager.stop();
+        }
+    }
+
+    @Test
+    public void testStapleReplacedOnRefresh() throws Exception {
+        resetResponder();
+        // Most of the validity period of the first response has already passed
+        responseAgeMillis.set(TimeUnit.MINUTES.toMillis(50));
+        OCSPStaplingManager manager = startManager("staple-refreshed", BigInteger.valueOf(3002));
+        try {
+            waitFor(() -> manager.getStaple() != null);
+            byte[] first = manager.getStaple();
+            assertTrue(manager.getStapleAgeSeconds() >= TimeUnit.MINUTES.toSeconds(50));
+
+            responseAgeMillis.set(0);
+            manager.refresh();
+            waitFor(() -> manager.getStaple() != first);
+            assertNotNull(manager.getStaple());
+            assertTrue(manager.getStapleAgeSeconds() < TimeUnit.MINUTES.toSeconds(50));
+            assertEquals(requestCount.get(), 2);
+        } finally {
+            manager.stop();
+        }
+    }
+
+    @Test
+    public void testExpiredStapleNotServed() throws Exception {
+        resetResponder();
+        responseValidityMillis.set(TimeUnit.SECONDS.toMillis(2));
+        OCSPStaplingManager manager = startManager("staple-expired", BigInteger.valueOf(3003));
+        try {
+            waitFor(() -> manager.getStaple() != null);
+            // The next refresh is at least half a minute away, so nothing replaces the staple before it expires
+            waitFor(() -> manager.getStaple() == null);
+            assertFalse(manager.isStapleAvailable());
+            assertEquals(manager.getStapleRemainingSeconds(), 0);
+            assertEquals(requestCount.get(), 1);
+        } finally {
+            manager.stop();
+        }
+    }
+
+    @Test
+    public void testLastGoodStapleKeptOnFetchFailure() throws Exception {
+        resetResponder();
+        OCSPStaplingManager manager = startManager("staple-kept", BigInteger.valueOf(3004));
+        try {
+            waitFor(() -> manager.getStaple() != null);
+            byte[] first = manager.getStaple();
+
+            responderFailing.set(true);
+            manager.refresh();
+            waitFor(() -> manager.getRefreshFailureCount() == 1);
+            assertSame(manager.getStaple(), first, "The last good response should still be stapled");
+            assertTrue(manager.isStapleAvailable());
+        } finally {
+            manager.stop();
+        }
+    }
+
+    @Test
+    public void testNoStapleWhileResponderFails() throws Exception {
+        resetResponder();
+        responderFailing.set(true);
+        OCSPStaplingManager manager = startManager("staple-unavailable", BigInteger.valueOf(3005));
+        try {
+            waitFor(() -> manager.getRefreshFailureCount() == 1);
+            assertNull(manager.getStaple());
+            assertFalse(manager.isStapleAvailable());
+            assertEquals(manager.getStapleAgeSeconds(), -1);
+            assertEquals(manager.getStapleRemainingSeconds(), -1);
+        } finally {
+            manager.stop();
+        }
+    }
+
+    @Test
+    public void testNoRefreshAfterStop() throws Exception {
+        resetResponder();
+        OCSPStaplingManager manager = startManager("staple-stopped", BigInteger.valueOf(3006));
+        waitFor(() -> manager.getStaple() != null);
+        byte[] first = manager.getStaple();
+        manager.stop();
+
+        manager.refresh();
+        assertEquals(requestCount.get(), 1, "A stopped manager should not contact the responder");
+        assertSame(manager.getStaple(), first);
+    }
+
+    @Test
+    public void testMBeanRegisteredForHostAndPortListenerId() throws Exception {
+        resetResponder();
+        String listenerId = "localhost:9443";
+        ObjectName objectName = new ObjectName("ballerina:Type=OCSPStapling,Name=" + ObjectName.quote(listenerId));
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        OCSPStaplingManager manager = startManager(listenerId, BigInteger.valueOf(3007));
+        try {
+            assertTrue(mBeanServer.isRegistered(objectName));
+            waitFor(() -> manager.getStaple() != null);
+            assertEquals(mBeanServer.getAttribute(objectName, "StapleAvailable"), true);
+            assertEquals(mBeanServer.getAttribute(objectName, "RefreshFailureCount"), 0L);
+        } finally {
+            manager.stop();
+        }
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        responder.shutdown();
+    }
+
+    private void resetResponder() {
+        requestCount.set(0);
+        responseValidityMillis.set(TimeUnit.HOURS.toMillis(1));
+        responseAgeMillis.set(0);
+        responderFailing.set(false);
+    }
+
+    private OCSPStaplingManager startManager(String listenerId, BigInteger serialNumber) throws Exception {
+        SubjectPublicKeyInfo publicKeyInfo = SubjectPublicKeyInfo.getInstance(
+                generateRSAKeyPair().getPublic().getEncoded());
+        X509v3CertificateBuilder builder = new X509v3CertificateBuilder(caName, serialNumber, new Date(),
+                new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)),
+                new X500Name("CN=Test End Certificate"), publicKeyInfo);
+        // Points the manager at the local responder
+        builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(
+                new AccessDescription(AccessDescription.id_ad_ocsp,
+                                      new GeneralName(GeneralName.uniformResourceIdentifier, RESPONDER_URL))));
+        OCSPStaplingManager manager = new OCSPStaplingManager(listenerId, buildCertificate(builder), caCert);
+        manager.start();
+        return manager;
+    }
+
+    private X509Certificate buildCertificate(X509v3CertificateBuilder builder) throws Exception {
+        ContentSigner signer = new JcaContentSignerBuilder("SHA256withRSA")
+                .setProvider(Constants.BOUNCY_CASTLE_PROVIDER).build(caKeyPair.getPrivate());
+        return new JcaX509CertificateConverter().setProvider(Constants.BOUNCY_CASTLE_PROVIDER)
+                .getCertificate(builder.build(signer));
+    }
+
+    private static KeyPair generateRSAKeyPair() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA", Constants.BOUNCY_CASTLE_PROVIDER);
+        keyPairGenerator.initialize(2048);
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the OCSP staple");
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Answers every OCSP request with a signed GOOD status, or with a server error while the responder is failing.
+     */
+    private class OCSPResponderHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest httpRequest) throws Exception {
+            requestCount.incrementAndGet();
+            if (responderFailing.get()) {
+                FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                                                                        HttpResponseStatus.INTERNAL_SERVER_ERROR);
+                HttpUtil.setContentLength(response, 0);
+                ctx.writeAndFlush(response);
+                return;
+            }
+            OCSPReq request = new OCSPReq(ByteBufUtil.getBytes(httpRequest.content()));
+            X509CertificateHolder certificateHolder = new X509CertificateHolder(caCert.getEncoded());
+            BasicOCSPRespBuilder builder = new BasicOCSPRespBuilder(new RespID(certificateHolder.getSubject()));
+            long thisUpdate = System.currentTimeMillis() - responseAgeMillis.get();
+            for (Req req : request.getRequestList()) {
+                builder.addResponse(req.getCertID(), CertificateStatus.GOOD, new Date(thisUpdate),
+                                    new Date(thisUpdate + responseValidityMillis.get()));
+            }
+            ContentSigner signer = new JcaContentSignerBuilder("SHA256withRSA")
+                    .setProvider(Constants.BOUNCY_CASTLE_PROVIDER).build(caKeyPair.getPrivate());
+            BasicOCSPResp basicResp = builder.build(signer, new X509CertificateHolder[] { certificateHolder },
+                                                    new Date());
+            byte[] encoded = new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, basicResp).getEncoded();
+
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                                                    Unpooled.wrappedBuffer(encoded));
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE, "application/ocsp-response");
+            HttpUtil.setContentLength(response, encoded.length);
+            ctx.writeAndFlush(response);
+        }
+    }
+}
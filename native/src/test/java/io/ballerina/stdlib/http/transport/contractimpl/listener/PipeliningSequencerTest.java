@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the ordering of pipelined responses by the {@link PipeliningSequencer}.
+ */
+public class PipeliningSequencerTest {
+
+    @Test
+    public void testInOrderResponsesClaimedByProducer() {
+        PipeliningSequencer<String> sequencer = new PipeliningSequencer<>(10);
+        Assert.assertTrue(sequencer.tryClaim(1));
+        Assert.assertFalse(sequencer.tryClaim(1), "A response is already being written");
+        Assert.assertFalse(sequencer.tryClaim(2), "Response is not next in line");
+
+        sequencer.complete();
+        Assert.assertEquals(sequencer.getNextSequenceNumber(), 2);
+        Assert.assertTrue(sequencer.tryClaim(2));
+        Assert.assertFalse(sequencer.hasQueuedResponses());
+    }
+
+    @Test
+    public void testOutOfOrderResponsesParkedUntilTheirTurn() {
+        PipeliningSequencer<String> sequencer = new PipeliningSequencer<>(10);
+        Assert.assertTrue(sequencer.tryClaim(1));
+        Assert.assertNull(sequencer.offer(3, "third"));
+        Assert.assertNull(sequencer.offer(2, "second"));
+        Assert.assertTrue(sequencer.hasQueuedResponses());
+        Assert.assertNull(sequencer.claimNext(), "Response 1 is still being written");
+
+        sequencer.complete();
+        Assert.assertEquals(sequencer.claimNext(), "second");
+        Assert.assertNull(sequencer.claimNext(), "Response 2 is still being written");
+
+        sequencer.complete();
+        Assert.assertEquals(sequencer.claimNext(), "third");
+        sequencer.complete();
+        Assert.assertFalse(sequencer.hasQueuedResponses());
+        Assert.assertNull(sequencer.claimNext());
+    }
+
+    @Test
+    public void testOfferClaimsResponseWhenItIsNextInLine() {
+        PipeliningSequencer<String> sequencer = new PipeliningSequencer<>(10);
+        Assert.assertEquals(sequencer.offer(1, "first"), "first");
+        Assert.assertFalse(sequencer.hasQueuedResponses());
+    }
+
+    @Test
+    public void testServedResponseRejected() {
+        PipeliningSequencer<String> sequencer = new PipeliningSequencer<>(10);
+        Assert.assertTrue(sequencer.tryClaim(1));
+        sequencer.complete();
+        Assert.assertTrue(sequencer.isServed(1));
+        Assert.assertFalse(sequencer.isServed(2));
+        Assert.assertThrows(IllegalArgumentException.class, () -> sequencer.offer(1, "first again"));
+        Assert.assertFalse(sequencer.hasQueuedResponses());
+    }
+
+    @Test
+    public void testRingGrowsForResponsesFarAhead() {
+        PipeliningSequencer<String> sequencer = new PipeliningSequencer<>(Long.MAX_VALUE);
+        Assert.assertTrue(sequencer.tryClaim(1));
+        for (long sequenceId = 40; sequenceId >= 2; sequenceId--) {
+            Assert.assertNull(sequencer.offer(sequenceId, Long.toString(sequenceId)));
+        }
+        for (long sequenceId = 2; sequenceId <= 40; sequenceId++) {
+            sequencer.complete();
+            Assert.assertEquals(sequencer.claimNext(), Long.toString(sequenceId));
+        }
+        Assert.assertFalse(sequencer.hasQueuedResponses());
+    }
+
+    @Test
+    public void testThresholdReached() {
+        PipeliningSequencer<String> sequencer = new PipeliningSequencer<>(1);
+        Assert.assertTrue(sequencer.tryClaim(1));
+        sequencer.offer(2, "second");
+        Assert.assertFalse(sequencer.thresholdReached());
+        sequencer.offer(3, "third");
+        Assert.assertTrue(sequencer.thresholdReached());
+
+        PipeliningSequencer<String> unbounded = new PipeliningSequencer<>(-1);
+        Assert.assertTrue(unbounded.tryClaim(1));
+        for (long sequenceId = 2; sequenceId < 10; sequenceId++) {
+            unbounded.offer(sequenceId, Long.toString(sequenceId));
+        }
+        Assert.assertFalse(unbounded.thresholdReached());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.http.transport.contractimpl.listener;
+
+import io.ballerina.stdlib.http.transport.contract.config.KeepAliveConfig;
+import io.ballerina.stdlib.http.transport.contract.config.RateLimitConfig;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the token buckets of the {@link RateLimiter} and the throttling of the {@link RateLimitHandler}.
+ */
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void testBurstAndRefill() {
+        long now = 0;
+        RateLimiter rateLimiter = new RateLimiter(createConfig(10, 3), now);
+        Assert.assertEquals(rateLimiter.tryAcquire("a", now), 0);
+        Assert.assertEquals(rateLimiter.tryAcquire("a", now), 0);
+        Assert.assertEquals(rateLimiter.tryAcquire("a", now), 0);
+        long wait = rateLimiter.tryAcquire("a", now);
+        Assert.assertEquals(wait, SECOND / 10, "A token is refilled every 100ms");
+        Assert.assertEquals(rateLimiter.getResetTime(wait), 3 * SECOND / 10);
+        Assert.assertEquals(rateLimiter.tryAcquire("b", now), 0, "Keys have buckets of their own");
+        Assert.assertEquals(rateLimiter.getThrottledRequests(), 1);
+
+        now += SECOND / 10;
+        Assert.assertEquals(rateLimiter.tryAcquire("a", now), 0);
+        Assert.assertTrue(rateLimiter.tryAcquire("a", now) > 0);
+
+        // Forced acquisitions put the bucket into debt
+        rateLimiter.acquire("a", now);
+        Assert.assertEquals(rateLimiter.tryAcquire("a", now), 2 * SECOND / 10);
+    }
+
+    @Test
+    public void testIdleBucketEviction() {
+        long now = 0;
+        RateLimiter rateLimiter = new RateLimiter(createConfig(100, 5), now);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(rateLimiter.tryAcquire("client-" + i, now), 0);
+        }
+        Assert.assertEquals(rateLimiter.getBuckets(), 100);
+
+        // Each shard is swept at most once a second, by the first request after that, dropping the full buckets
+        now += SECOND / 2;
+        rateLimiter.tryAcquire("client-0", now);
+        Assert.assertEquals(rateLimiter.getBuckets(), 100, "Buckets are not swept before the sweep interval");
+        now += SECOND;
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("active", now);
+        }
+        for (int i = 0; i < 256; i++) {
+            rateLimiter.tryAcquire("other-" + i, now);
+        }
+        Assert.assertEquals(rateLimiter.getBuckets(), 257, "Idle buckets are evicted");
+        Assert.assertTrue(rateLimiter.tryAcquire("active", now) > 0, "Active bucket is kept");
+    }
+
+    @Test
+    public void testBasePathKey() {
+        Assert.assertEquals(RateLimitHandler.getBasePath("/orders/1?x=/y"), "/orders");
+        Assert.assertEquals(RateLimitHandler.getBasePath("/orders?x=1"), "/orders");
+        Assert.assertEquals(RateLimitHandler.getBasePath("/"), "/");
+        Assert.assertEquals(RateLimitHandler.getBasePath("http://localhost:9090/orders/1"), "/orders");
+        Assert.assertEquals(RateLimitHandler.getBasePath("http://localhost:9090"), "/");
+        Assert.assertEquals(RateLimitHandler.getBasePath("*"), "/");
+    }
+
+    @Test
+    public void testRequestNotThrottledWhileResponseBodyIsWritten() {
+        RateLimitConfig config = createConfig(0.001, 1);
+        EmbeddedChannel channel = new EmbeddedChannel(
+                new RateLimitHandler(new RateLimiter(config), config, KeepAliveConfig.AUTO, null));
+
+        Assert.assertTrue(channel.writeInbound(createRequest()));
+        Assert.assertNotNull(channel.readInbound());
+        channel.writeOutbound(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        // The bucket is empty, but the pipelined request must not be answered in the middle of the pending body
+        Assert.assertTrue(channel.writeInbound(createRequest()));
+        Assert.assertNotNull(channel.readInbound());
+        channel.writeOutbound(new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[] {1})));
+        channel.writeOutbound(LastHttpContent.EMPTY_LAST_CONTENT);
+        channel.writeOutbound(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        releaseOutbound(channel);
+
+        Assert.assertFalse(channel.writeInbound(createRequest()));
+        HttpResponse response = channel.readOutbound();
+        Assert.assertEquals(response.status(), HttpResponseStatus.TOO_MANY_REQUESTS);
+        channel.finishAndReleaseAll();
+    }
+
+    private static FullHttpRequest createRequest() {
+        return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+    }
+
+    private static void releaseOutbound(EmbeddedChannel channel) {
+        Object msg;
+        while ((msg = channel.readOutbound()) != null) {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    private static RateLimitConfig createConfig(double requestsPerSecond, int burst) {
+        RateLimitConfig config = new RateLimitConfig();
+        config.setRequestsPerSecond(requestsPerSecond);
+        config.setBurst(burst);
+        return config;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.contractimpl.sender.channel;
+
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponseCode;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.DefaultAddressResolverGroup;
+import io.netty.resolver.dns.SingletonDnsServerAddressStreamProvider;
+import io.netty.util.concurrent.Future;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link ClientAddressResolverGroups} against a local name server.
+ */
+public class ClientAddressResolverGroupsTest {
+
+    private static final String KNOWN_HOST = "known.test";
+    private static final String UNKNOWN_HOST = "missing.test";
+
+    private final AtomicInteger knownHostQueries = new AtomicInteger();
+    private final AtomicInteger unknownHostQueries = new AtomicInteger();
+    private EventLoopGroup eventLoopGroup;
+    private Channel nameServer;
+    private AddressResolverGroup<InetSocketAddress> resolverGroup;
+    private AddressResolver<InetSocketAddress> resolver;
+
+    @BeforeClass
+    public void setUp() throws InterruptedException {
+        eventLoopGroup = new NioEventLoopGroup(1);
+        nameServer = new Bootstrap().group(eventLoopGroup).channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<DatagramChannel>() {
+                    @Override
+                    protected void initChannel(DatagramChannel ch) {
+                        ch.pipeline().addLast(new DatagramDnsQueryDecoder(), new DatagramDnsResponseEncoder(),
+                                              new NameServerHandler());
+                    }
+                }).bind(new InetSocketAddress("127.0.0.1", 0)).sync().channel();
+        resolverGroup = ClientAddressResolverGroups.createResolverGroup(
+                0, Integer.MAX_VALUE, 10,
+                new SingletonDnsServerAddressStreamProvider((InetSocketAddress) nameServer.localAddress()));
+        resolver = resolverGroup.getResolver(eventLoopGroup.next());
+    }
+
+    @Test
+    public void testResolvedAddressesAreCached() throws InterruptedException {
+        Set<String> addresses = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            Future<InetSocketAddress> future =
+                    resolver.resolve(InetSocketAddress.createUnresolved(KNOWN_HOST, 9090)).sync();
+            assertEquals(future.getNow().getPort(), 9090);
+            addresses.add(future.getNow().getAddress().getHostAddress());
+        }
+        assertEquals(knownHostQueries.get(), 1, "Cached answer should not be looked up again");
+        assertTrue(addresses.contains("10.0.0.1") && addresses.contains("10.0.0.2"),
+                   "Connections should rotate through all the addresses: " + addresses);
+    }
+
+    @Test
+    public void testFailedResolutionIsCached() throws InterruptedException {
+        Future<InetSocketAddress> first = resolver.resolve(
+                InetSocketAddress.createUnresolved(UNKNOWN_HOST, 9090)).await();
+        assertFalse(first.isSuccess());
+        assertTrue(first.cause() instanceof UnknownHostException, String.valueOf(first.cause()));
+        int queries = unknownHostQueries.get();
+
+        Future<InetSocketAddress> second = resolver.resolve(
+                InetSocketAddress.createUnresolved(UNKNOWN_HOST, 9090)).await();
+        assertFalse(second.isSuccess());
+        assertEquals(unknownHostQueries.get(), queries, "Failed resolution should be cached");
+    }
+
+    @Test
+    public void testResolverGroupSelection() {
+        Map<String, Object> properties = new HashMap<>();
+        assertSame(ClientAddressResolverGroups.getResolverGroup(new BootstrapConfiguration(properties)),
+                   ClientAddressResolverGroups.getResolverGroup(new BootstrapConfiguration(properties)));
+
+        properties.put(Constants.CLIENT_BOOTSTRAP_DNS_ASYNC, false);
+        assertSame(ClientAddressResolverGroups.getResolverGroup(new BootstrapConfiguration(properties)),
+                   DefaultAddressResolverGroup.INSTANCE);
+    }
+
+    @AfterClass
+    public void tearDown() throws InterruptedException {
+        resolverGroup.close();
+        nameServer.close().sync();
+        eventLoopGroup.shutdownGracefully().sync();
+    }
+
+    private class NameServerHandler extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramDnsQuery query) {
+            DnsRecord question = query.recordAt(DnsSection.QUESTION);
+            DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+            response.addRecord(DnsSection.QUESTION, question);
+            if (question.name().startsWith(KNOWN_HOST + ".")) {
+                if (question.type() == DnsRecordType.A) {
+                    knownHostQueries.incrementAndGet();
+                    response.addRecord(DnsSection.ANSWER, aRecord(question.name(), 10, 0, 0, 1));
+                    response.addRecord(DnsSection.ANSWER, aRecord(question.name(), 10, 0, 0, 2));
+                }
+            } else {
+                if (question.name().startsWith(UNKNOWN_HOST + ".")) {
+                    unknownHostQueries.incrementAndGet();
+                }
+                response.setCode(DnsResponseCode.NXDOMAIN);
+            }
+            ctx.writeAndFlush(response);
+        }
+
+        private DnsRecord aRecord(String name, int... octets) {
+            byte[] address = new byte[octets.length];
+            for (int i = 0; i < octets.length; i++) {
+                address[i] = (byte) octets[i];
+            }
+            return new DefaultDnsRawRecord(name, DnsRecordType.A, 60, Unpooled.wrappedBuffer(address));
+        }
+    }
+}
@@ -59,8 +59,9 @@ public class HttpPipeliningListener implements HttpConnectorListener {
                 httpResponse.setSequenceId(httpRequest.getSequenceId());
                 httpResponse.setPipeliningEnabled(httpRequest.isPipeliningEnabled());
                 ChannelHandlerContext sourceContext = httpRequest.getSourceContext();
-                Long nextSequenceNumber = sourceContext.channel().attr(Constants.NEXT_SEQUENCE_NUMBER).get();
-                httpResponse.setHeader("x-sequence-number", nextSequenceNumber.toString());
+                long nextSequenceNumber = sourceContext.channel().attr(Constants.PIPELINING_SEQUENCER).get()
+                        .getNextSequenceNumber();
+                httpResponse.setHeader("x-sequence-number", Long.toString(nextSequenceNumber));
                 do {
                     HttpContent httpContent = httpRequest.getHttpContent();
                     httpResponse.addHttpContent(httpContent);
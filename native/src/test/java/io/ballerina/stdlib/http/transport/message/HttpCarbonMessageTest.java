@@ -18,15 +18,20 @@
 
 package io.ballerina.stdlib.http.transport.message;
 
+import com.sun.management.ThreadMXBean;
 import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.ByteBuffer;
 
 import static org.mockito.Mockito.mock;
@@ -36,6 +41,8 @@ import static org.mockito.Mockito.mock;
  */
 public class HttpCarbonMessageTest {
 
+    private static final int MEASURED_MESSAGES = 1000;
+
     @Test
     public void testGetMessageBodyWithMockObjects() {
         HttpMessage httpMessage = mock(HttpMessage.class);
@@ -124,4 +131,43 @@ public class HttpCarbonMessageTest {
         httpCarbonMessage.notifyContentFailure(new Exception());
     }
 
+    @Test
+    public void testLazyCollaboratorsAreCreatedOnce() {
+        HttpCarbonMessage httpCarbonMessage = new HttpCarbonMessage(mock(HttpRequest.class));
+        Assert.assertSame(httpCarbonMessage.getHttpResponseFuture(), httpCarbonMessage.getHttpResponseFuture());
+        Assert.assertSame(httpCarbonMessage.getHttpOutboundRespStatusFuture(),
+                          httpCarbonMessage.getHttpOutboundRespStatusFuture());
+        Assert.assertSame(httpCarbonMessage.getTrailerHeaders(), httpCarbonMessage.getTrailerHeaders());
+    }
+
+    @Test
+    public void testUntouchedMessageAllocatesNoCollaborators() {
+        ThreadMXBean threadMXBean = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+        Assert.assertTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        HttpRequest httpRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        // Warm up class loading so that it is not accounted to either of the measured loops
+        allocateMessages(threadMXBean, httpRequest, true);
+        long untouched = allocateMessages(threadMXBean, httpRequest, false);
+        long touched = allocateMessages(threadMXBean, httpRequest, true);
+        // Each of the three collaborators takes at least an object header and a field, i.e. 16 bytes
+        Assert.assertTrue((touched - untouched) / MEASURED_MESSAGES >= 3 * 16);
+    }
+
+    private static long allocateMessages(ThreadMXBean threadMXBean, HttpRequest httpRequest,
+                                         boolean touchCollaborators) {
+        // Keeps the messages reachable so that none of the allocations are optimized away
+        HttpCarbonMessage[] messages = new HttpCarbonMessage[MEASURED_MESSAGES];
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_MESSAGES; i++) {
+            messages[i] = new HttpCarbonMessage(httpRequest);
+            if (touchCollaborators) {
+                messages[i].getHttpResponseFuture();
+                messages[i].getHttpOutboundRespStatusFuture();
+                messages[i].getTrailerHeaders();
+            }
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+    }
 }
@@ -19,11 +19,19 @@
 package io.ballerina.stdlib.http.transport.message;
 
 import io.ballerina.stdlib.http.transport.util.client.http2.MessageGenerator;
+import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.InflaterInputStream;
 
 /**
@@ -57,4 +65,89 @@ public class HttpMessageDataStreamerTest {
 
     }
 
+    @Test
+    public void testFlushingOutputStreamWritesEachElement() throws Exception {
+        HttpCarbonMessage httpCarbonMessage = createResponse();
+        List<String> chunks = collectChunks(httpCarbonMessage);
+        OutputStream outputStream = new HttpMessageDataStreamer(httpCarbonMessage).getFlushingOutputStream(0, 0);
+
+        outputStream.write("data: first\n\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(1, chunks.size());
+        outputStream.write("data: second\n\n".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(2, chunks.size());
+        outputStream.close();
+
+        Assert.assertEquals(3, chunks.size());
+        Assert.assertEquals("data: first\n\n", chunks.get(0));
+        Assert.assertEquals("data: second\n\n", chunks.get(1));
+        Assert.assertEquals("", chunks.get(2));
+    }
+
+    @Test
+    public void testFlushingOutputStreamCoalescesSmallElements() throws Exception {
+        HttpCarbonMessage httpCarbonMessage = createResponse();
+        List<String> chunks = collectChunks(httpCarbonMessage);
+        OutputStream outputStream = new HttpMessageDataStreamer(httpCarbonMessage)
+                .getFlushingOutputStream(8, TimeUnit.MINUTES.toNanos(1));
+
+        outputStream.write("abc".getBytes(StandardCharsets.UTF_8));
+        outputStream.write("def".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(0, chunks.size());
+        outputStream.write("ghi".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(1, chunks.size());
+        Assert.assertEquals("abcdefghi", chunks.get(0));
+        outputStream.write("jk".getBytes(StandardCharsets.UTF_8));
+        outputStream.close();
+
+        Assert.assertEquals(2, chunks.size());
+        Assert.assertEquals("jk", chunks.get(1));
+    }
+
+    @Test
+    public void testFlushingOutputStreamCoalescesBySizeOnly() throws Exception {
+        HttpCarbonMessage httpCarbonMessage = createResponse();
+        List<String> chunks = collectChunks(httpCarbonMessage);
+        OutputStream outputStream = new HttpMessageDataStreamer(httpCarbonMessage).getFlushingOutputStream(8, 0);
+
+        outputStream.write("abc".getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+        outputStream.write("def".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(0, chunks.size());
+        outputStream.write("ghi".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(1, chunks.size());
+        Assert.assertEquals("abcdefghi", chunks.get(0));
+        outputStream.close();
+
+        Assert.assertEquals(2, chunks.size());
+        Assert.assertEquals("", chunks.get(1));
+    }
+
+    @Test
+    public void testFlushingOutputStreamCoalescesByWindowOnly() throws Exception {
+        HttpCarbonMessage httpCarbonMessage = createResponse();
+        List<String> chunks = collectChunks(httpCarbonMessage);
+        OutputStream outputStream = new HttpMessageDataStreamer(httpCarbonMessage)
+                .getFlushingOutputStream(0, TimeUnit.MINUTES.toNanos(1));
+
+        for (int i = 0; i < 100; i++) {
+            outputStream.write("abc".getBytes(StandardCharsets.UTF_8));
+        }
+        Assert.assertEquals(0, chunks.size());
+        outputStream.close();
+
+        Assert.assertEquals(300, chunks.get(0).length());
+    }
+
+    private static HttpCarbonMessage createResponse() {
+        return new HttpCarbonMessage(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+    }
+
+    private static List<String> collectChunks(HttpCarbonMessage httpCarbonMessage) {
+        List<String> chunks = new ArrayList<>();
+        httpCarbonMessage.getHttpContentAsync().setMessageListener(httpContent -> {
+            chunks.add(httpContent.content().toString(StandardCharsets.UTF_8));
+            httpContent.release();
+        });
+        return chunks;
+    }
 }
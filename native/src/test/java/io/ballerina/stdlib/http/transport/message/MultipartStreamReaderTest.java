@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.http.transport.message;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A unit test class for Transport module MultipartStreamReader class functions.
+ */
+public class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "e3a0b532ab2d4b8e";
+    private static final String BODY = "preamble\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Type: text/plain\r\n"
+            + "Content-Disposition: form-data; name=\"first\"\r\n"
+            + "\r\n"
+            + "first part with a line break\r\nand a partial --" + BOUNDARY.substring(0, 6) + " delimiter\r\n"
+            + "--" + BOUNDARY + "\r\n"
+            + "Content-Type: application/octet-stream\r\n"
+            + "\r\n"
+            + "second part\r\n"
+            + "--" + BOUNDARY + "--\r\n"
+            + "epilogue";
+
+    @Test
+    public void testPartsSplitAcrossChunks() throws IOException {
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        for (int chunkSize = 1; chunkSize <= body.length; chunkSize++) {
+            MultipartStreamReader reader = new MultipartStreamReader(createMessage(body, chunkSize), BOUNDARY);
+
+            MultipartStreamReader.Part part = reader.nextPart();
+            Assert.assertNotNull(part);
+            Assert.assertEquals(part.getHeaders().get("Content-Type"), "text/plain");
+            Assert.assertEquals(part.getHeaders().get("content-disposition"), "form-data; name=\"first\"");
+            Assert.assertEquals(readFully(part.getContent()), "first part with a line break\r\nand a partial --"
+                    + BOUNDARY.substring(0, 6) + " delimiter", "Chunk size " + chunkSize);
+
+            part = reader.nextPart();
+            Assert.assertNotNull(part);
+            Assert.assertEquals(part.getHeaders().get("Content-Type"), "application/octet-stream");
+            Assert.assertEquals(readFully(part.getContent()), "second part", "Chunk size " + chunkSize);
+
+            Assert.assertNull(reader.nextPart());
+            Assert.assertNull(reader.nextPart());
+        }
+    }
+
+    @Test
+    public void testUnreadPartIsSkipped() throws IOException {
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        MultipartStreamReader reader = new MultipartStreamReader(createMessage(body, 7), BOUNDARY);
+        Assert.assertNotNull(reader.nextPart());
+        MultipartStreamReader.Part part = reader.nextPart();
+        Assert.assertNotNull(part);
+        Assert.assertEquals(readFully(part.getContent()), "second part");
+        Assert.assertNull(reader.nextPart());
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testTruncatedBody() throws IOException {
+        byte[] body = BODY.substring(0, BODY.indexOf("second part")).getBytes(StandardCharsets.UTF_8);
+        MultipartStreamReader reader = new MultipartStreamReader(createMessage(body, 16), BOUNDARY);
+        reader.nextPart();
+        MultipartStreamReader.Part part = reader.nextPart();
+        readFully(part.getContent());
+    }
+
+    private static HttpCarbonMessage createMessage(byte[] body, int chunkSize) {
+        HttpCarbonMessage message = new HttpCarbonMessage(
+                new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/"));
+        for (int offset = 0; offset < body.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, body.length - offset);
+            message.addHttpContent(new DefaultHttpContent(Unpooled.copiedBuffer(body, offset, length)));
+        }
+        message.addHttpContent(new DefaultLastHttpContent());
+        return message;
+    }
+
+    private static String readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] bytes = new byte[5];
+        int count;
+        while ((count = inputStream.read(bytes)) != -1) {
+            outputStream.write(bytes, 0, count);
+        }
+        return outputStream.toString(StandardCharsets.UTF_8.name());
+    }
+}